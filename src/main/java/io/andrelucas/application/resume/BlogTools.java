@@ -0,0 +1,34 @@
+package io.andrelucas.application.resume;
+
+import io.andrelucas.business.BlogPublishResponse;
+import io.andrelucas.business.usecases.PublishBlogUseCase;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class BlogTools {
+    private final PublishBlogUseCase publishBlogUseCase;
+
+    public BlogTools(final PublishBlogUseCase publishBlogUseCase) {
+        this.publishBlogUseCase = publishBlogUseCase;
+    }
+
+    @Tool(name = "publishToBlog", description = "Publish resumes to the static blog as HTML and Markdown posts listed on the index and topic pages. Only resumes that are new or changed since they were last published are rendered again; with no resumeIds, every published resume is checked for changes")
+    public BlogPublishResponse publishToBlog(@ToolParam(required = false) List<String> resumeIds) {
+        return publishBlogUseCase.publish(ids(resumeIds));
+    }
+
+    @Tool(name = "unpublishFromBlog", description = "Take resumes off the static blog, removing their posts and updating the index and topic pages they were listed on")
+    public BlogPublishResponse unpublishFromBlog(List<String> resumeIds) {
+        return publishBlogUseCase.unpublish(ids(resumeIds));
+    }
+
+    private static List<UUID> ids(List<String> resumeIds) {
+        return resumeIds == null ? List.of() : resumeIds.stream().map(UUID::fromString).toList();
+    }
+}
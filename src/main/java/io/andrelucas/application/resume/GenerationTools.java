@@ -0,0 +1,56 @@
+package io.andrelucas.application.resume;
+
+import io.andrelucas.business.GenerationJob;
+import io.andrelucas.business.Platform;
+import io.andrelucas.business.ResumeResponse;
+import io.andrelucas.business.VariantGenerationResponse;
+import io.andrelucas.business.usecases.GenerateResumeUseCase;
+import io.andrelucas.business.usecases.GenerateVariantsUseCase;
+import io.andrelucas.business.usecases.GetVariantGroupUseCase;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class GenerationTools {
+    private final GenerateResumeUseCase generateResumeUseCase;
+    private final GenerateVariantsUseCase generateVariantsUseCase;
+    private final GetVariantGroupUseCase getVariantGroupUseCase;
+
+    public GenerationTools(final GenerateResumeUseCase generateResumeUseCase,
+                           final GenerateVariantsUseCase generateVariantsUseCase,
+                           final GetVariantGroupUseCase getVariantGroupUseCase) {
+        this.generateResumeUseCase = generateResumeUseCase;
+        this.generateVariantsUseCase = generateVariantsUseCase;
+        this.getVariantGroupUseCase = getVariantGroupUseCase;
+    }
+
+    @Tool(name = "submitGeneration", description = "Queue the generation of a new resume about a topic, optionally following instructions on tone, length or audience. Returns at once with a job id; poll getGenerationStatus until the status is SUCCEEDED, then read the resume with the returned resumeId")
+    public GenerationJob submitGeneration(String topic, @ToolParam(required = false) String instructions) {
+        return generateResumeUseCase.submit(topic, instructions);
+    }
+
+    @Tool(name = "getGenerationStatus", description = "Get the status of a generation job: QUEUED, RUNNING, SUCCEEDED with the resumeId of the generated resume, or FAILED with an error. While RUNNING, a resumeId means the resume can already be read with readResumeContent as a draft that grows as it is generated; searches show it with draft set until it is finished, and drop it if the job FAILED")
+    public GenerationJob getGenerationStatus(String jobId) {
+        return generateResumeUseCase.getStatus(UUID.fromString(jobId));
+    }
+
+    @Tool(name = "generateVariants", description = "Queue one variant per target platform (BLOG, LINKEDIN; all of them when none are given) about a topic, or adapted from an existing resume given by sourceResumeId, each written with that platform's template. The variants are generated at the same time and saved as resumes sharing the returned groupId; poll getGenerationStatus for each job, or read the whole group with getVariantGroup")
+    public VariantGenerationResponse generateVariants(@ToolParam(required = false) String topic,
+                                                      @ToolParam(required = false) String sourceResumeId,
+                                                      @ToolParam(required = false) List<Platform> platforms,
+                                                      @ToolParam(required = false) String instructions) {
+        return generateVariantsUseCase.generate(topic,
+            sourceResumeId != null && !sourceResumeId.isEmpty() ? UUID.fromString(sourceResumeId) : null,
+            platforms, instructions);
+    }
+
+    @Tool(name = "getVariantGroup", description = "Get every variant generated so far in a group, oldest first, each with the platform it was written for")
+    public List<ResumeResponse> getVariantGroup(String groupId) {
+        return getVariantGroupUseCase.get(UUID.fromString(groupId));
+    }
+}
@@ -1,31 +1,51 @@
 package io.andrelucas.application.resume;
 
+import io.andrelucas.business.BatchSearchQuery;
+import io.andrelucas.business.BatchSearchResponse;
+import io.andrelucas.business.CreateResumeResponse;
 import io.andrelucas.business.DateRangeQuery;
+import io.andrelucas.business.DuplicateCluster;
+import io.andrelucas.business.PagedResumeHitResponse;
 import io.andrelucas.business.PagedResumeResponse;
-import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeContentSlice;
 import io.andrelucas.business.ResumeRequest;
 import io.andrelucas.business.ResumeSearchQuery;
+import io.andrelucas.business.SemanticSearchHit;
 import io.andrelucas.business.SortDirection;
+import io.andrelucas.business.usecases.BatchSearchUseCase;
 import io.andrelucas.business.usecases.CreateResumeUseCase;
+import io.andrelucas.business.usecases.FindDuplicateClustersUseCase;
 import io.andrelucas.business.usecases.FindResumesByContentKeywordUseCase;
 import io.andrelucas.business.usecases.FindResumesByCustomCriteriaUseCase;
 import io.andrelucas.business.usecases.FindResumesByDateRangeUseCase;
 import io.andrelucas.business.usecases.FindResumesByTopicUseCase;
 import io.andrelucas.business.usecases.GetLatestResumesUseCase;
+import io.andrelucas.business.usecases.ReadResumeContentRangeUseCase;
+import io.andrelucas.business.usecases.SemanticSearchResumesUseCase;
 
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
 
 @Service
 public class ResumeTools {
+
+    private static final String LARGE_BODIES = ". With MongoDB storage, keywords only reach the first part of a body larger than the offload threshold, 1 MiB by default";
+
     private final CreateResumeUseCase createResumeUseCase;
     private final FindResumesByTopicUseCase findResumesByTopicUseCase;
     private final FindResumesByDateRangeUseCase findResumesByDateRangeUseCase;
     private final FindResumesByContentKeywordUseCase findResumesByContentKeywordUseCase;
     private final GetLatestResumesUseCase getLatestResumesUseCase;
     private final FindResumesByCustomCriteriaUseCase findResumesByCustomCriteriaUseCase;
+    private final ReadResumeContentRangeUseCase readResumeContentRangeUseCase;
+    private final SemanticSearchResumesUseCase semanticSearchResumesUseCase;
+    private final FindDuplicateClustersUseCase findDuplicateClustersUseCase;
+    private final BatchSearchUseCase batchSearchUseCase;
 
     public ResumeTools(
             final CreateResumeUseCase createResumeUseCase,
@@ -33,17 +53,25 @@ public class ResumeTools {
             final FindResumesByDateRangeUseCase findResumesByDateRangeUseCase,
             final FindResumesByContentKeywordUseCase findResumesByContentKeywordUseCase,
             final GetLatestResumesUseCase getLatestResumesUseCase,
-            final FindResumesByCustomCriteriaUseCase findResumesByCustomCriteriaUseCase) {
+            final FindResumesByCustomCriteriaUseCase findResumesByCustomCriteriaUseCase,
+            final ReadResumeContentRangeUseCase readResumeContentRangeUseCase,
+            final SemanticSearchResumesUseCase semanticSearchResumesUseCase,
+            final FindDuplicateClustersUseCase findDuplicateClustersUseCase,
+            final BatchSearchUseCase batchSearchUseCase) {
         this.createResumeUseCase = createResumeUseCase;
         this.findResumesByTopicUseCase = findResumesByTopicUseCase;
         this.findResumesByDateRangeUseCase = findResumesByDateRangeUseCase;
         this.findResumesByContentKeywordUseCase = findResumesByContentKeywordUseCase;
         this.getLatestResumesUseCase = getLatestResumesUseCase;
         this.findResumesByCustomCriteriaUseCase = findResumesByCustomCriteriaUseCase;
+        this.readResumeContentRangeUseCase = readResumeContentRangeUseCase;
+        this.semanticSearchResumesUseCase = semanticSearchResumesUseCase;
+        this.findDuplicateClustersUseCase = findDuplicateClustersUseCase;
+        this.batchSearchUseCase = batchSearchUseCase;
     }
 
-    @Tool(name = "createResume", description = "Creates a new resume with the given topic and content")
-    public Resume createResume(String topic, String content) {
+    @Tool(name = "createResume", description = "Creates a new resume with the given topic and content. The response lists existing resumes whose content is nearly identical")
+    public CreateResumeResponse createResume(String topic, String content) {
         final ResumeRequest resumeRequest = new ResumeRequest(topic, content);
         return createResumeUseCase.create(resumeRequest);
     }
@@ -63,17 +91,22 @@ public class ResumeTools {
         return findResumesByDateRangeUseCase.findByDateRange(dateRange, page, size);
     }
     
-    @Tool(name = "searchResumesByKeyword", description = "Search resumes by content keywords")
+    @Tool(name = "searchResumesByKeyword", description = "Search resumes by content keywords" + LARGE_BODIES)
     public PagedResumeResponse searchResumesByKeyword(String keyword, int page, int size) {
         return findResumesByContentKeywordUseCase.findByContentKeyword(keyword, page, size);
     }
     
+    @Tool(name = "searchResumeSnippets", description = "Search resumes by content keywords, returning a few short windows around the matches of each resume, with highlight offsets, instead of whole contents. Use readResumeContent to read more of a hit" + LARGE_BODIES)
+    public PagedResumeHitResponse searchResumeSnippets(String keyword, int page, int size) {
+        return findResumesByContentKeywordUseCase.findSnippetsByContentKeyword(keyword, page, size);
+    }
+    
     @Tool(name = "getLatestResumes", description = "Get latest resumes with pagination")
     public PagedResumeResponse getLatestResumes(int page, int size) {
         return getLatestResumesUseCase.getLatest(page, size);
     }
     
-    @Tool(name = "advancedSearch", description = "Advanced search with multiple criteria")
+    @Tool(name = "advancedSearch", description = "Advanced search with multiple criteria" + LARGE_BODIES)
     public PagedResumeResponse advancedSearch(
             String topic,
             String fromDate,
@@ -83,14 +116,61 @@ public class ResumeTools {
             String sortDirection,
             int page,
             int size) {
-        
+        return findResumesByCustomCriteriaUseCase.findByCustomCriteria(
+            toSearchQuery(topic, fromDate, toDate, keyword, sortBy, sortDirection, page, size));
+    }
+
+    @Tool(name = "advancedSearchSnippets", description = "Advanced search with multiple criteria, returning a few short windows around the keyword matches of each resume, with highlight offsets, instead of whole contents" + LARGE_BODIES)
+    public PagedResumeHitResponse advancedSearchSnippets(
+            String topic,
+            String fromDate,
+            String toDate,
+            String keyword,
+            String sortBy,
+            String sortDirection,
+            int page,
+            int size) {
+        return findResumesByCustomCriteriaUseCase.findSnippetsByCustomCriteria(
+            toSearchQuery(topic, fromDate, toDate, keyword, sortBy, sortDirection, page, size));
+    }
+
+    @Tool(name = "batchSearch", description = "Run several searches in one call, e.g. by topic, by keyword and the latest resumes. Each query has a type (TOPIC, KEYWORD, DATE_RANGE, LATEST or ADVANCED) and the fields that type uses. Results come back per query, in order, with the ids of the resumes found; each resume is listed once in resumes. A query that fails or times out does not affect the others")
+    public BatchSearchResponse batchSearch(BatchSearchQuery[] queries) {
+        // An array rather than a list, so the tool's arguments are bound to BatchSearchQuery and not to maps
+        return batchSearchUseCase.search(queries != null ? Arrays.asList(queries) : null);
+    }
+
+    @Tool(name = "readResumeContent", description = "Read a char range of a resume's content. Use offset and length to page through very large resumes; hasMore tells whether content remains after the slice")
+    public ResumeContentSlice readResumeContent(String id, long offset, int length) {
+        return readResumeContentRangeUseCase.read(UUID.fromString(id), offset, length);
+    }
+
+    @Tool(name = "semanticSearch", description = "Find resumes by meaning rather than exact words, e.g. 'posts about backpressure'. Returns the closest resumes with a similarity score")
+    public List<SemanticSearchHit> semanticSearch(String query, int limit) {
+        return semanticSearchResumesUseCase.search(query, limit);
+    }
+
+    @Tool(name = "listDuplicateClusters", description = "List groups of resumes whose contents are near-duplicates of each other across the whole corpus")
+    public List<DuplicateCluster> listDuplicateClusters() {
+        return findDuplicateClustersUseCase.findClusters();
+    }
+
+    private static ResumeSearchQuery toSearchQuery(
+            String topic,
+            String fromDate,
+            String toDate,
+            String keyword,
+            String sortBy,
+            String sortDirection,
+            int page,
+            int size) {
         LocalDateTime from = fromDate != null ? LocalDateTime.parse(fromDate) : null;
         LocalDateTime to = toDate != null ? LocalDateTime.parse(toDate) : null;
         SortDirection direction = sortDirection != null 
             ? SortDirection.valueOf(sortDirection.toUpperCase()) 
             : SortDirection.DESC;
             
-        ResumeSearchQuery query = new ResumeSearchQuery(
+        return new ResumeSearchQuery(
             topic,
             from,
             to,
@@ -100,7 +180,5 @@ public class ResumeTools {
             page,
             size
         );
-        
-        return findResumesByCustomCriteriaUseCase.findByCustomCriteria(query);
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
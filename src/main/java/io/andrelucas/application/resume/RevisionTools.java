@@ -0,0 +1,40 @@
+package io.andrelucas.application.resume;
+
+import io.andrelucas.business.ResumeResponse;
+import io.andrelucas.business.ResumeRevisionResponse;
+import io.andrelucas.business.ResumeVersionResponse;
+import io.andrelucas.business.usecases.ResumeHistory;
+import io.andrelucas.business.usecases.UpdateResumeUseCase;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class RevisionTools {
+    private final UpdateResumeUseCase updateResumeUseCase;
+    private final ResumeHistory resumeHistory;
+
+    public RevisionTools(final UpdateResumeUseCase updateResumeUseCase, final ResumeHistory resumeHistory) {
+        this.updateResumeUseCase = updateResumeUseCase;
+        this.resumeHistory = resumeHistory;
+    }
+
+    @Tool(name = "updateResume", description = "Replace the content of a resume, and its topic if given, keeping the previous version in its revision history")
+    public ResumeResponse updateResume(String resumeId, String content, @ToolParam(required = false) String topic) {
+        return updateResumeUseCase.update(UUID.fromString(resumeId), topic, content);
+    }
+
+    @Tool(name = "listResumeRevisions", description = "List the revisions of a resume, oldest first, with their number, length and whether each is stored whole or as edits")
+    public List<ResumeRevisionResponse> listResumeRevisions(String resumeId) {
+        return resumeHistory.list(UUID.fromString(resumeId));
+    }
+
+    @Tool(name = "getResumeRevision", description = "Get a resume as it was at a revision number from listResumeRevisions")
+    public ResumeVersionResponse getResumeRevision(String resumeId, int number) {
+        return resumeHistory.materialize(UUID.fromString(resumeId), number);
+    }
+}
@@ -0,0 +1,34 @@
+package io.andrelucas.application.resume;
+
+import io.andrelucas.business.ScheduledPost;
+import io.andrelucas.business.usecases.SchedulePostUseCase;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+public class SchedulingTools {
+    private final SchedulePostUseCase schedulePostUseCase;
+
+    public SchedulingTools(final SchedulePostUseCase schedulePostUseCase) {
+        this.schedulePostUseCase = schedulePostUseCase;
+    }
+
+    @Tool(name = "schedulePost", description = "Schedule a resume to be posted on LinkedIn at a date and time (ISO format: yyyy-MM-ddTHH:mm:ss), or as soon as possible if it has passed. Returns the scheduled post; poll getScheduledPost to see when it is PUBLISHED")
+    public ScheduledPost schedulePost(String resumeId, String publishAt) {
+        return schedulePostUseCase.schedule(UUID.fromString(resumeId), LocalDateTime.parse(publishAt));
+    }
+
+    @Tool(name = "cancelScheduledPost", description = "Cancel a scheduled post that has not been published yet")
+    public ScheduledPost cancelScheduledPost(String scheduleId) {
+        return schedulePostUseCase.cancel(UUID.fromString(scheduleId));
+    }
+
+    @Tool(name = "getScheduledPost", description = "Get a scheduled post: SCHEDULED with the time it is due, PUBLISHED with the platform's postId, FAILED with an error, or CANCELLED")
+    public ScheduledPost getScheduledPost(String scheduleId) {
+        return schedulePostUseCase.get(UUID.fromString(scheduleId));
+    }
+}
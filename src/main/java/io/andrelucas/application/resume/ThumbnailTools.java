@@ -0,0 +1,23 @@
+package io.andrelucas.application.resume;
+
+import io.andrelucas.business.ThumbnailResponse;
+import io.andrelucas.business.usecases.GetThumbnailUseCase;
+
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+@Service
+public class ThumbnailTools {
+    private final GetThumbnailUseCase getThumbnailUseCase;
+
+    public ThumbnailTools(final GetThumbnailUseCase getThumbnailUseCase) {
+        this.getThumbnailUseCase = getThumbnailUseCase;
+    }
+
+    @Tool(name = "getThumbnail", description = "Get the title card thumbnail of a resume, showing its topic and headline, as a Base64-encoded image. Thumbnails are rendered in the background shortly after a resume is saved")
+    public ThumbnailResponse getThumbnail(String resumeId) {
+        return getThumbnailUseCase.get(UUID.fromString(resumeId));
+    }
+}
@@ -0,0 +1,156 @@
+package io.andrelucas.application.resume.configs;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Bounds how many calls of one compartment run at once and how many wait, with an AIMD limit driven by their
+ * latency. Calls over both bounds, or that wait too long, fail at once with a message telling the caller to
+ * retry later rather than piling up.
+ *
+ * <p>As TCP backs off once per round trip, the limit shrinks once per window of calls: a slow call only shrinks
+ * it if it was admitted after the last decrease, so a burst of slow calls that ran together counts as one signal
+ * rather than shrinking the limit once each. Calls that throw never grow the limit.
+ *
+ * <ul>
+ *   <li>{@code mcp.bulkhead.limit}, {@code mcp.bulkhead.in-flight}, {@code mcp.bulkhead.waiting}: current state
+ *       by compartment</li>
+ *   <li>{@code mcp.bulkhead.rejected}: calls turned away by compartment and reason</li>
+ * </ul>
+ */
+final class Bulkhead {
+
+    private static final double BACKOFF = 0.9;
+
+    private final String name;
+    private final BulkheadProperties.Limits limits;
+    private final long maxWaitNanos;
+    private final long latencyTargetNanos;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition released = lock.newCondition();
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    private volatile double limit;
+    private long decreasedAt;
+    private volatile int inFlight;
+    private volatile int waiting;
+
+    Bulkhead(final ToolCompartment compartment, final BulkheadProperties.Limits limits, final MeterRegistry registry) {
+        this.name = compartment.name().toLowerCase();
+        this.limits = limits;
+        this.maxWaitNanos = limits.maxWait().toNanos();
+        this.latencyTargetNanos = limits.latencyTarget().toNanos();
+        this.limit = Math.max(limits.minLimit(), Math.min(limits.maxLimit(), limits.initialLimit()));
+        this.decreasedAt = System.nanoTime();
+
+        Gauge.builder("mcp.bulkhead.limit", this, Bulkhead::limit)
+            .description("Tool calls allowed to run at once").tag("compartment", name).register(registry);
+        Gauge.builder("mcp.bulkhead.in-flight", this, bulkhead -> bulkhead.inFlight)
+            .description("Tool calls running").tag("compartment", name).register(registry);
+        Gauge.builder("mcp.bulkhead.waiting", this, bulkhead -> bulkhead.waiting)
+            .description("Tool calls waiting to run").tag("compartment", name).register(registry);
+        this.queueFull = rejected(registry, "queue-full");
+        this.timedOut = rejected(registry, "timed-out");
+    }
+
+    <T> T run(Supplier<T> call) {
+        final long admitted = acquire();
+        final long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            final T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            release(admitted, System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Takes a slot, waiting for one if needed, and returns when the call was admitted.
+     */
+    long acquire() {
+        lock.lock();
+        try {
+            // Calls already waiting go first
+            if (waiting == 0 && inFlight < limit()) {
+                inFlight++;
+                return System.nanoTime();
+            }
+            if (waiting >= limits.maxQueue()) {
+                queueFull.increment();
+                throw busy();
+            }
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= limit()) {
+                    if (remaining <= 0) {
+                        timedOut.increment();
+                        throw busy();
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting to run a " + name + " tool", e);
+            } finally {
+                waiting--;
+            }
+            inFlight++;
+            if (inFlight < limit()) {
+                // The limit may have grown by more than one slot since this call started waiting
+                released.signal();
+            }
+            return System.nanoTime();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees the slot of a call admitted at {@code admitted} that ran for {@code latencyNanos}.
+     */
+    void release(long admitted, long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            final boolean full = inFlight >= limit() || waiting > 0;
+            inFlight--;
+            if (latencyNanos > latencyTargetNanos) {
+                // Calls that were already running when the limit last shrank reported the same congestion
+                if (admitted - decreasedAt > 0) {
+                    limit = Math.max(limits.minLimit(), limit * BACKOFF);
+                    decreasedAt = System.nanoTime();
+                }
+            } else if (full && !failed) {
+                limit = Math.min(limits.maxLimit(), limit + 1 / limit);
+            }
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        return (int) limit;
+    }
+
+    private IllegalStateException busy() {
+        return new IllegalStateException("Too many " + name + " tool calls in progress (" + inFlight + " running, "
+            + waiting + " waiting), retry later");
+    }
+
+    private Counter rejected(MeterRegistry registry, String reason) {
+        return Counter.builder("mcp.bulkhead.rejected")
+            .description("Tool calls turned away because their compartment was full")
+            .tags("compartment", name, "reason", reason)
+            .register(registry);
+    }
+}
@@ -0,0 +1,64 @@
+package io.andrelucas.application.resume.configs;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Concurrency limits of the MCP tools, by compartment.
+ *
+ * @param enabled limit concurrent tool calls per compartment
+ * @param write limits of the tools that change resumes
+ * @param read limits of the cheap, indexed reads
+ * @param search limits of the scans and searches
+ * @param longRunning limits of the tools that generate or publish content, kept apart so their latency does not
+ *                    shrink the limit of the quick writes
+ * @param tools compartment by tool name, e.g. {@code createResume: write}; tools left out are searches
+ */
+@ConfigurationProperties(prefix = "content-generator.bulkhead")
+public record BulkheadProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue Limits write,
+    @DefaultValue Limits read,
+    @DefaultValue Limits search,
+    @DefaultValue Limits longRunning,
+    Map<String, ToolCompartment> tools
+) {
+
+    /**
+     * Calls of a compartment run at once up to a limit that adapts to their latency: it grows by one for every
+     * limit's worth of calls that succeed within {@code latencyTarget} while the compartment is full, and shrinks
+     * by a tenth when one takes longer, at most once for all the calls that were running together.
+     *
+     * @param initialLimit calls run at once before any latency is observed
+     * @param minLimit lowest the limit may shrink to
+     * @param maxLimit highest the limit may grow to
+     * @param maxQueue calls that may wait for a slot; any more are turned away at once
+     * @param maxWait how long a call may wait for a slot before it is turned away
+     * @param latencyTarget calls slower than this shrink the limit
+     */
+    public record Limits(
+        @DefaultValue("8") int initialLimit,
+        @DefaultValue("1") int minLimit,
+        @DefaultValue("32") int maxLimit,
+        @DefaultValue("16") int maxQueue,
+        @DefaultValue("PT0.2S") Duration maxWait,
+        @DefaultValue("PT1S") Duration latencyTarget
+    ) {}
+
+    public Limits limitsOf(ToolCompartment compartment) {
+        return switch (compartment) {
+            case WRITE -> write;
+            case READ -> read;
+            case SEARCH -> search;
+            case LONG_RUNNING -> longRunning;
+        };
+    }
+
+    public ToolCompartment compartmentOf(String tool) {
+        final ToolCompartment compartment = tools != null ? tools.get(tool) : null;
+        return compartment != null ? compartment : ToolCompartment.SEARCH;
+    }
+}
@@ -0,0 +1,41 @@
+package io.andrelucas.application.resume.configs;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+/**
+ * Runs a tool within the bulkhead of its compartment. A call turned away fails, which the MCP server reports to
+ * the client as a tool error.
+ */
+class BulkheadToolCallback implements ToolCallback {
+
+    private final ToolCallback delegate;
+    private final Bulkhead bulkhead;
+
+    BulkheadToolCallback(final ToolCallback delegate, final Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return bulkhead.run(() -> delegate.call(toolInput));
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        return bulkhead.run(() -> delegate.call(toolInput, toolContext));
+    }
+}
@@ -0,0 +1,19 @@
+package io.andrelucas.application.resume.configs;
+
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.andrelucas.third_party.ai.EmbeddingProperties;
+import io.andrelucas.third_party.ai.HashingEmbeddingModel;
+
+@Configuration
+public class EmbeddingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "content-generator.embedding", name = "provider", havingValue = "hashing", matchIfMissing = true)
+    public EmbeddingModel hashingEmbeddingModel(final EmbeddingProperties properties) {
+        return new HashingEmbeddingModel(properties.dimensions());
+    }
+}
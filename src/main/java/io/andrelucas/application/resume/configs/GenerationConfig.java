@@ -0,0 +1,35 @@
+package io.andrelucas.application.resume.configs;
+
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.andrelucas.business.GenerationCacheProperties;
+import io.andrelucas.business.repositories.ContentGenerator;
+import io.andrelucas.business.repositories.GenerationCache;
+import io.andrelucas.third_party.ai.CachingChatModel;
+import io.andrelucas.third_party.ai.ChatModelContentGenerator;
+import io.andrelucas.third_party.ai.StubChatModel;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class GenerationConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "content-generator.generation", name = "provider", havingValue = "stub", matchIfMissing = true)
+    public ChatModel stubChatModel() {
+        return new StubChatModel(3);
+    }
+
+    @Bean
+    public ContentGenerator contentGenerator(final ChatModel chatModel,
+                                             final GenerationCacheProperties cacheProperties,
+                                             final ObjectProvider<GenerationCache> generationCache,
+                                             final MeterRegistry meterRegistry) {
+        return new ChatModelContentGenerator(cacheProperties.enabled()
+            ? new CachingChatModel(chatModel, generationCache.getIfAvailable(), cacheProperties, meterRegistry)
+            : chatModel);
+    }
+}
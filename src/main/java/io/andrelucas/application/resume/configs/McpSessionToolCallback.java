@@ -0,0 +1,78 @@
+package io.andrelucas.application.resume.configs;
+
+import java.lang.reflect.Field;
+
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.mcp.McpToolUtils;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+
+import io.andrelucas.data_provider.routing.CallerSession;
+
+/**
+ * Runs a tool on behalf of the MCP session that called it, so the data providers can tell sessions apart and
+ * attribute their work to the tool.
+ *
+ * <p>Each call gets a new {@link McpSyncServerExchange}, but every one of them wraps the same
+ * {@link McpAsyncServerExchange}, which the session creates once when it is initialized, so that is the identity of
+ * the session. The SDK does not expose it, so it is read from the wrapper's field, and the application fails to start
+ * if a new SDK version no longer has it rather than quietly giving up read-your-writes routing for every tool call.
+ */
+class McpSessionToolCallback implements ToolCallback {
+
+    private static final Field ASYNC_EXCHANGE = asyncExchangeField();
+
+    private final ToolCallback delegate;
+
+    McpSessionToolCallback(final ToolCallback delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return CallerSession.callAs(null, getToolDefinition().name(), () -> delegate.call(toolInput));
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        final Object session = McpToolUtils.getMcpExchange(toolContext)
+            .map(McpSessionToolCallback::session)
+            .orElse(null);
+        return CallerSession.callAs(session, getToolDefinition().name(), () -> delegate.call(toolInput, toolContext));
+    }
+
+    static Object session(final McpSyncServerExchange exchange) {
+        try {
+            return ASYNC_EXCHANGE.get(exchange);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read the MCP session of a tool call", e);
+        }
+    }
+
+    private static Field asyncExchangeField() {
+        try {
+            final Field field = McpSyncServerExchange.class.getDeclaredField("exchange");
+            if (!McpAsyncServerExchange.class.equals(field.getType())) {
+                throw new NoSuchFieldException("exchange is a " + field.getType().getName());
+            }
+            field.setAccessible(true);
+            return field;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Cannot tell MCP sessions apart, this MCP SDK version is not supported", e);
+        }
+    }
+}
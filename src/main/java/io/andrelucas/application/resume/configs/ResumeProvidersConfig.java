@@ -1,19 +1,49 @@
 package io.andrelucas.application.resume.configs;
 
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.ToolCallbackProvider;
 import org.springframework.ai.tool.method.MethodToolCallbackProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.andrelucas.application.resume.BlogTools;
+import io.andrelucas.application.resume.GenerationTools;
 import io.andrelucas.application.resume.ResumeTools;
+import io.andrelucas.application.resume.RevisionTools;
+import io.andrelucas.application.resume.SchedulingTools;
+import io.andrelucas.application.resume.ThumbnailTools;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Configuration
 public class ResumeProvidersConfig {
     
     @Bean
-    public ToolCallbackProvider resumeToolsCallbackProvider(final ResumeTools resumeTools) {
-        return MethodToolCallbackProvider.builder()
-            .toolObjects(resumeTools)
+    public ToolCallbackProvider resumeToolsCallbackProvider(final ResumeTools resumeTools,
+                                                            final GenerationTools generationTools,
+                                                            final ThumbnailTools thumbnailTools,
+                                                            final BlogTools blogTools,
+                                                            final SchedulingTools schedulingTools,
+                                                            final RevisionTools revisionTools,
+                                                            final BulkheadProperties bulkheadProperties,
+                                                            final MeterRegistry meterRegistry) {
+        final ToolCallbackProvider tools = MethodToolCallbackProvider.builder()
+            .toolObjects(resumeTools, generationTools, thumbnailTools, blogTools, schedulingTools, revisionTools)
             .build();
+        final Map<ToolCompartment, Bulkhead> bulkheads = new EnumMap<>(ToolCompartment.class);
+        if (bulkheadProperties.enabled()) {
+            for (ToolCompartment compartment : ToolCompartment.values()) {
+                bulkheads.put(compartment, new Bulkhead(compartment, bulkheadProperties.limitsOf(compartment), meterRegistry));
+            }
+        }
+        return ToolCallbackProvider.from(Arrays.stream(tools.getToolCallbacks())
+            .map(ToolCallback.class::cast)
+            .map(tool -> new McpSessionToolCallback(bulkheadProperties.enabled()
+                ? new BulkheadToolCallback(tool, bulkheads.get(bulkheadProperties.compartmentOf(tool.getToolDefinition().name())))
+                : tool))
+            .toList());
     }
 }
@@ -0,0 +1,16 @@
+package io.andrelucas.application.resume.configs;
+
+/**
+ * Groups of tools that get their own concurrency and queue limits, so one group cannot take the capacity of
+ * another.
+ */
+public enum ToolCompartment {
+    /** Tools that change resumes. */
+    WRITE,
+    /** Indexed lookups that answer in a few milliseconds. */
+    READ,
+    /** Scans and searches whose cost grows with the corpus. */
+    SEARCH,
+    /** Tools that wait on a model or rebuild the blog, taking seconds rather than milliseconds. */
+    LONG_RUNNING
+}
@@ -0,0 +1,20 @@
+package io.andrelucas.business;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits of the batched search tool.
+ *
+ * @param maxQueries searches accepted in one batch
+ * @param parallelism searches run at once, across all batches
+ * @param timeout how long each search of a batch may take, counted from the start of the batch
+ */
+@ConfigurationProperties(prefix = "content-generator.batch-search")
+public record BatchSearchProperties(
+    @DefaultValue("10") int maxQueries,
+    @DefaultValue("4") int parallelism,
+    @DefaultValue("PT2S") Duration timeout
+) {}
@@ -0,0 +1,21 @@
+package io.andrelucas.business;
+
+import java.time.LocalDateTime;
+
+import org.springframework.ai.tool.annotation.ToolParam;
+
+/**
+ * One search of a batch. {@code type} picks which of the other fields are read: {@code topic} for TOPIC,
+ * {@code keyword} for KEYWORD, both dates for DATE_RANGE, none for LATEST and any of them for ADVANCED.
+ */
+public record BatchSearchQuery(
+    SearchType type,
+    @ToolParam(required = false) String topic,
+    @ToolParam(required = false) String keyword,
+    @ToolParam(required = false) LocalDateTime fromDate,
+    @ToolParam(required = false) LocalDateTime toDate,
+    @ToolParam(required = false) String sortBy,
+    @ToolParam(required = false) SortDirection sortDirection,
+    @ToolParam(required = false) Integer page,
+    @ToolParam(required = false) Integer size
+) {}
@@ -0,0 +1,30 @@
+package io.andrelucas.business;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of one search of a batch, in the order it was asked. The resumes themselves are listed once per batch.
+ *
+ * @param status {@code OK}, {@code TIMED_OUT} or {@code FAILED}; only {@code OK} results carry resume ids
+ */
+public record BatchSearchResult(
+    int index,
+    SearchType type,
+    String status,
+    List<UUID> resumeIds,
+    long totalElements,
+    String error
+) {
+    public static BatchSearchResult ok(int index, SearchType type, List<UUID> resumeIds, long totalElements) {
+        return new BatchSearchResult(index, type, "OK", resumeIds, totalElements, null);
+    }
+
+    public static BatchSearchResult timedOut(int index, SearchType type) {
+        return new BatchSearchResult(index, type, "TIMED_OUT", List.of(), 0, "search did not finish in time");
+    }
+
+    public static BatchSearchResult failed(int index, SearchType type, String error) {
+        return new BatchSearchResult(index, type, "FAILED", List.of(), 0, error);
+    }
+}
@@ -0,0 +1,50 @@
+package io.andrelucas.business;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A resume as published on the blog, with what it was rendered from.
+ *
+ * @param contentHash SHA-256 of the topic and content the post was rendered from
+ * @param updatedAt the resume's {@code updatedAt} when it was last checked; while it stays the same the resume's
+ *                  body is not even read
+ */
+public record BlogEntry(
+    UUID resumeId,
+    String slug,
+    String title,
+    String topic,
+    String topicSlug,
+    String contentHash,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    public String htmlPath() {
+        return "posts/" + slug + ".html";
+    }
+
+    public String markdownPath() {
+        return "posts/" + slug + ".md";
+    }
+
+    public String topicPath() {
+        return topicPath(topicSlug);
+    }
+
+    public static String topicPath(String topicSlug) {
+        return "topics/" + topicSlug + ".html";
+    }
+
+    /**
+     * Whether index and topic pages list this entry the same way as {@code other}.
+     */
+    public boolean listedAs(BlogEntry other) {
+        return other != null
+            && slug.equals(other.slug)
+            && title.equals(other.title)
+            && topic.equals(other.topic)
+            && Objects.equals(createdAt, other.createdAt);
+    }
+}
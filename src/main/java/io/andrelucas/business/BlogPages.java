@@ -0,0 +1,203 @@
+package io.andrelucas.business;
+
+import java.text.Normalizer;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders the blog's pages: one HTML and one Markdown file per post, the index and a page per topic.
+ *
+ * <p>Every page is a pure function of the entries and content it is given, so a page whose inputs did not change
+ * never needs rendering again. Resume content is treated as Markdown and escaped before its inline markers are
+ * turned into tags, so nothing in it ends up as markup of its own.
+ */
+public final class BlogPages {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+    private static final Comparator<BlogEntry> NEWEST_FIRST =
+        Comparator.comparing(BlogEntry::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(BlogEntry::slug);
+    private static final Pattern HEADING = Pattern.compile("^(#{1,6})\\s+(.*)$");
+    private static final Pattern BULLET = Pattern.compile("^\\s*[-*+]\\s+(.*)$");
+    private static final Pattern NUMBERED = Pattern.compile("^\\s*\\d+[.)]\\s+(.*)$");
+    private static final Pattern CODE = Pattern.compile("`([^`]+)`");
+    private static final Pattern BOLD = Pattern.compile("\\*\\*(.+?)\\*\\*");
+    private static final Pattern EMPHASIS = Pattern.compile("(?<![*\\w])\\*(?!\\s)(.+?)(?<!\\s)\\*(?![*\\w])");
+    private static final Pattern LINK = Pattern.compile("\\[([^\\]]+)]\\((https?://[^\\s)]+)\\)");
+
+    private BlogPages() {
+        // Utility class
+    }
+
+    public static String slug(String text) {
+        final String slug = Normalizer.normalize(text, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .toLowerCase(Locale.ROOT)
+            .replaceAll("[^a-z0-9]+", "-")
+            .replaceAll("^-+|-+$", "");
+        return slug.isEmpty() ? "untitled" : slug.substring(0, Math.min(slug.length(), 60)).replaceAll("-+$", "");
+    }
+
+    public static String postMarkdown(BlogEntry entry, String content) {
+        return "---\n"
+            + "title: \"" + entry.title().replace("\\", "\\\\").replace("\"", "\\\"") + "\"\n"
+            + "topic: \"" + entry.topic().replace("\\", "\\\\").replace("\"", "\\\"") + "\"\n"
+            + "date: " + date(entry) + "\n"
+            + "resume: " + entry.resumeId() + "\n"
+            + "---\n\n"
+            + content
+            + (content.endsWith("\n") ? "" : "\n");
+    }
+
+    public static String postHtml(String siteTitle, BlogEntry entry, String content) {
+        return page(siteTitle, entry.title(), "../",
+            "<article>\n"
+                + "<h1>" + escape(entry.title()) + "</h1>\n"
+                + "<p class=\"meta\"><a href=\"../" + entry.topicPath() + "\">" + escape(entry.topic()) + "</a>"
+                + " &middot; <time>" + date(entry) + "</time></p>\n"
+                + html(content)
+                + "</article>\n");
+    }
+
+    public static String indexHtml(String siteTitle, List<BlogEntry> entries) {
+        return page(siteTitle, siteTitle, "", listing(entries, ""));
+    }
+
+    public static String topicHtml(String siteTitle, String topic, List<BlogEntry> entries) {
+        return page(siteTitle, topic, "../", "<h1>" + escape(topic) + "</h1>\n" + listing(entries, "../"));
+    }
+
+    /**
+     * The HTML of {@code markdown}'s headings, lists, fenced code blocks and paragraphs, with bold, emphasis,
+     * inline code and http(s) links inside them.
+     */
+    static String html(String markdown) {
+        final StringBuilder html = new StringBuilder(markdown.length() + markdown.length() / 4);
+        final StringBuilder paragraph = new StringBuilder();
+        String list = null;
+        boolean code = false;
+
+        for (String line : markdown.split("\\R", -1)) {
+            if (line.strip().startsWith("```")) {
+                flush(html, paragraph);
+                list = closeList(html, list);
+                html.append(code ? "</code></pre>\n" : "<pre><code>");
+                code = !code;
+                continue;
+            }
+            if (code) {
+                html.append(escape(line)).append('\n');
+                continue;
+            }
+
+            final Matcher heading = HEADING.matcher(line);
+            final Matcher bullet = BULLET.matcher(line);
+            final Matcher numbered = NUMBERED.matcher(line);
+            if (line.isBlank()) {
+                flush(html, paragraph);
+                list = closeList(html, list);
+            } else if (heading.matches()) {
+                flush(html, paragraph);
+                list = closeList(html, list);
+                // The page title is the only h1
+                final int level = Math.min(6, heading.group(1).length() + 1);
+                html.append("<h").append(level).append('>').append(inline(heading.group(2).strip()))
+                    .append("</h").append(level).append(">\n");
+            } else if (bullet.matches() || numbered.matches()) {
+                flush(html, paragraph);
+                final String kind = bullet.matches() ? "ul" : "ol";
+                if (!kind.equals(list)) {
+                    closeList(html, list);
+                    html.append('<').append(kind).append(">\n");
+                    list = kind;
+                }
+                html.append("<li>").append(inline((bullet.matches() ? bullet : numbered).group(1).strip())).append("</li>\n");
+            } else {
+                list = closeList(html, list);
+                if (!paragraph.isEmpty()) {
+                    paragraph.append('\n');
+                }
+                paragraph.append(line.strip());
+            }
+        }
+        flush(html, paragraph);
+        closeList(html, list);
+        if (code) {
+            html.append("</code></pre>\n");
+        }
+        return html.toString();
+    }
+
+    static String escape(String text) {
+        final StringBuilder escaped = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            switch (c) {
+                case '&' -> escaped.append("&amp;");
+                case '<' -> escaped.append("&lt;");
+                case '>' -> escaped.append("&gt;");
+                case '"' -> escaped.append("&quot;");
+                case '\'' -> escaped.append("&#39;");
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static String listing(List<BlogEntry> entries, String root) {
+        final StringBuilder html = new StringBuilder("<ul class=\"posts\">\n");
+        entries.stream().sorted(NEWEST_FIRST).forEach(entry -> html
+            .append("<li><time>").append(date(entry)).append("</time> ")
+            .append("<a href=\"").append(root).append(entry.htmlPath()).append("\">").append(escape(entry.title())).append("</a>")
+            .append(" <a class=\"topic\" href=\"").append(root).append(entry.topicPath()).append("\">")
+            .append(escape(entry.topic())).append("</a></li>\n"));
+        return html.append("</ul>\n").toString();
+    }
+
+    private static String page(String siteTitle, String title, String root, String body) {
+        return "<!DOCTYPE html>\n"
+            + "<html lang=\"en\">\n"
+            + "<head>\n"
+            + "<meta charset=\"utf-8\">\n"
+            + "<meta name=\"viewport\" content=\"width=device-width, initial-scale=1\">\n"
+            + "<title>" + escape(title.equals(siteTitle) ? title : title + " | " + siteTitle) + "</title>\n"
+            + "</head>\n"
+            + "<body>\n"
+            + "<header><a href=\"" + root + "index.html\">" + escape(siteTitle) + "</a></header>\n"
+            + "<main>\n"
+            + body
+            + "</main>\n"
+            + "</body>\n"
+            + "</html>\n";
+    }
+
+    private static String inline(String text) {
+        String html = escape(text);
+        html = CODE.matcher(html).replaceAll("<code>$1</code>");
+        html = BOLD.matcher(html).replaceAll("<strong>$1</strong>");
+        html = EMPHASIS.matcher(html).replaceAll("<em>$1</em>");
+        return LINK.matcher(html).replaceAll("<a href=\"$2\">$1</a>");
+    }
+
+    private static void flush(StringBuilder html, StringBuilder paragraph) {
+        if (!paragraph.isEmpty()) {
+            html.append("<p>").append(inline(paragraph.toString())).append("</p>\n");
+            paragraph.setLength(0);
+        }
+    }
+
+    private static String closeList(StringBuilder html, String list) {
+        if (list != null) {
+            html.append("</").append(list).append(">\n");
+        }
+        return null;
+    }
+
+    private static String date(BlogEntry entry) {
+        return entry.createdAt() != null ? DATE.format(entry.createdAt()) : "";
+    }
+}
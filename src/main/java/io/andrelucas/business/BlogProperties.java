@@ -0,0 +1,24 @@
+package io.andrelucas.business;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * The static blog rendered from published resumes.
+ *
+ * @param directory where the site is written; the live version is always under {@code current}
+ * @param renderThreads pages rendered at once, or {@code 0} for one per available processor
+ * @param keepVersions versions of the site's top-level pages and manifest kept on disk, the live one included,
+ *                     so a reader that opened the previous index can still finish; pages below it are shared
+ */
+@ConfigurationProperties(prefix = "content-generator.blog")
+public record BlogProperties(
+    @DefaultValue("./data/blog") String directory,
+    @DefaultValue("Content Generator") String siteTitle,
+    @DefaultValue("0") int renderThreads,
+    @DefaultValue("2") int keepVersions
+) {
+    public int threads() {
+        return renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors();
+    }
+}
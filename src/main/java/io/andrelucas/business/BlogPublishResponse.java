@@ -0,0 +1,21 @@
+package io.andrelucas.business;
+
+/**
+ * What a publish changed on the blog.
+ *
+ * @param version the site version now live
+ * @param published posts on the blog after the publish
+ * @param rendered posts rendered because they were new or their content changed
+ * @param unchanged posts checked and left as they were
+ * @param removed posts taken off the blog
+ * @param listingPagesRendered index and topic pages rendered again
+ */
+public record BlogPublishResponse(
+    String version,
+    int published,
+    int rendered,
+    int unchanged,
+    int removed,
+    int listingPagesRendered,
+    long durationMillis
+) {}
@@ -0,0 +1,17 @@
+package io.andrelucas.business;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * A model answer kept to be served again for the same prompt, with what it cost to produce.
+ *
+ * @param tokens prompt and completion tokens the model call used
+ * @param latency how long the model took to answer
+ */
+public record CachedGeneration(
+    String content,
+    long tokens,
+    Duration latency,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,8 @@
+package io.andrelucas.business;
+
+import java.util.List;
+
+public record CreateResumeResponse(
+    Resume resume,
+    List<NearDuplicate> nearDuplicates
+) {}
@@ -0,0 +1,7 @@
+package io.andrelucas.business;
+
+import java.util.List;
+
+public record DuplicateCluster(
+    List<DuplicateClusterMember> members
+) {}
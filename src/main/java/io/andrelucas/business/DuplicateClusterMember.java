@@ -0,0 +1,10 @@
+package io.andrelucas.business;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record DuplicateClusterMember(
+    UUID id,
+    String topic,
+    LocalDateTime createdAt
+) {}
@@ -0,0 +1,18 @@
+package io.andrelucas.business;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled answer prompts already answered from the cache instead of calling the model
+ * @param memoryMaxBytes size of the in-process tier, weighed by the chars of the cached answers
+ * @param ttl how long answers are kept after they were generated, in memory and in the persistent tier
+ */
+@ConfigurationProperties(prefix = "content-generator.generation.cache")
+public record GenerationCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("67108864") long memoryMaxBytes,
+    @DefaultValue("P7D") Duration ttl
+) {}
@@ -0,0 +1,49 @@
+package io.andrelucas.business;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * A request to generate a resume, and how far it got.
+ *
+ * <p>The resume it produces is saved under the job's own id, so generating it again after a worker died between
+ * saving and reporting success replaces the resume instead of adding a second one.
+ *
+ * @param groupId variant group the resume is linked to, {@code null} for a single resume
+ * @param platform what the variant is written for, {@code null} for a single resume
+ * @param attempts generations started so far, including the running one
+ * @param nextAttemptAt when a queued job may be claimed; while running, when its claim expires and another worker
+ *                      may take it over
+ */
+public record GenerationJob(
+    UUID id,
+    String topic,
+    String instructions,
+    UUID groupId,
+    Platform platform,
+    GenerationStatus status,
+    int attempts,
+    UUID resumeId,
+    String error,
+    @JsonIgnore LocalDateTime nextAttemptAt,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    public static GenerationJob queue(String topic, String instructions) {
+        return queue(topic, instructions, null, null);
+    }
+
+    /**
+     * Queues the variant of {@code groupId} written for {@code platform}.
+     */
+    public static GenerationJob queue(String topic, String instructions, UUID groupId, Platform platform) {
+        if (topic == null || topic.isEmpty()) {
+            throw new IllegalArgumentException("topic cannot be null or empty");
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        return new GenerationJob(UUID.randomUUID(), topic, instructions, groupId, platform, GenerationStatus.QUEUED, 0,
+            null, null, now, now, now);
+    }
+}
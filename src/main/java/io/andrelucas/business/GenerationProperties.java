@@ -0,0 +1,35 @@
+package io.andrelucas.business;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Content generation workers.
+ *
+ * @param provider {@code stub} for the offline, deterministic chat model; any other value leaves the
+ *                 {@code ChatModel} bean to a Spring AI provider starter
+ * @param workers generations run at once by this instance
+ * @param pollInterval how often idle workers look for jobs submitted to other instances or due for a retry
+ * @param lease how long a worker may take over a job before another one takes it over
+ * @param maxAttempts generations tried per job before it fails
+ * @param initialBackoff wait before the first retry; each further retry waits twice as long, with jitter
+ * @param maxBackoff longest wait between retries
+ * @param streaming save the resume as a draft while the model writes it rather than once it is done
+ * @param draftFlushChars streamed text is saved to the draft once this many chars are pending, or
+ * @param draftFlushInterval once this long has passed since the last save; the first text is saved at once
+ */
+@ConfigurationProperties(prefix = "content-generator.generation")
+public record GenerationProperties(
+    @DefaultValue("stub") String provider,
+    @DefaultValue("2") int workers,
+    @DefaultValue("PT1S") Duration pollInterval,
+    @DefaultValue("PT5M") Duration lease,
+    @DefaultValue("3") int maxAttempts,
+    @DefaultValue("PT2S") Duration initialBackoff,
+    @DefaultValue("PT1M") Duration maxBackoff,
+    @DefaultValue("true") boolean streaming,
+    @DefaultValue("1024") int draftFlushChars,
+    @DefaultValue("PT0.5S") Duration draftFlushInterval
+) {}
@@ -0,0 +1,12 @@
+package io.andrelucas.business;
+
+public enum GenerationStatus {
+    /** Waiting for a worker, for the first time or to be retried. */
+    QUEUED,
+    /** Claimed by a worker. */
+    RUNNING,
+    /** Generated and saved as {@code resumeId}. */
+    SUCCEEDED,
+    /** Gave up after its last attempt, see {@code error}. */
+    FAILED
+}
@@ -0,0 +1,129 @@
+package io.andrelucas.business;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * MinHash signature of the word 3-shingles of a text. The fraction of positions two signatures agree on
+ * estimates the Jaccard similarity of their shingle sets. Hash functions are derived from fixed seeds, so
+ * signatures are stable across restarts and can be compared with ones computed earlier.
+ */
+public final class MinHashSignature {
+
+    public static final int SIZE = 128;
+
+    private static final int SHINGLE_WORDS = 3;
+    private static final long[] MULTIPLIERS = new long[SIZE];
+    private static final long[] INCREMENTS = new long[SIZE];
+
+    static {
+        long seed = 0x9E3779B97F4A7C15L;
+        for (int i = 0; i < SIZE; i++) {
+            seed = splitMix(seed);
+            MULTIPLIERS[i] = seed | 1;
+            seed = splitMix(seed);
+            INCREMENTS[i] = seed;
+        }
+    }
+
+    private final long[] values;
+
+    private MinHashSignature(long[] values) {
+        this.values = values;
+    }
+
+    public static MinHashSignature of(String content) {
+        final long[] values = new long[SIZE];
+        Arrays.fill(values, Long.MAX_VALUE);
+
+        final String text = content.toLowerCase(Locale.ROOT);
+        final long[] window = new long[SHINGLE_WORDS];
+        int words = 0;
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            final boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                window[words % SHINGLE_WORDS] = wordHash(text, start, i);
+                words++;
+                start = -1;
+                if (words >= SHINGLE_WORDS) {
+                    update(values, shingleHash(window, words));
+                }
+            }
+        }
+
+        // Texts shorter than one shingle are represented by the words they have
+        if (words > 0 && words < SHINGLE_WORDS) {
+            update(values, shingleHash(window, words));
+        }
+        return new MinHashSignature(values);
+    }
+
+    public double similarity(MinHashSignature other) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (values[i] == other.values[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+
+    /**
+     * Hash of the {@code rows} values starting at {@code band * rows}, used as an LSH bucket key.
+     */
+    public long bandHash(int band, int rows) {
+        long hash = band;
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            hash = splitMix(hash ^ values[i]);
+        }
+        return hash;
+    }
+
+    private static void update(long[] values, long shingle) {
+        for (int i = 0; i < SIZE; i++) {
+            // Multiply-shift hashing; the top bit is dropped so signed comparison orders correctly
+            final long hash = (MULTIPLIERS[i] * shingle + INCREMENTS[i]) >>> 1;
+            if (hash < values[i]) {
+                values[i] = hash;
+            }
+        }
+    }
+
+    private static long shingleHash(long[] window, int words) {
+        final int count = Math.min(words, SHINGLE_WORDS);
+        long hash = 0;
+        for (int i = words - count; i < words; i++) {
+            hash = splitMix(hash ^ window[i % SHINGLE_WORDS]);
+        }
+        return hash;
+    }
+
+    private static long wordHash(String text, int from, int to) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long splitMix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof MinHashSignature other && Arrays.equals(values, other.values));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+}
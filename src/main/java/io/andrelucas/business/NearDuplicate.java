@@ -0,0 +1,8 @@
+package io.andrelucas.business;
+
+import java.util.UUID;
+
+public record NearDuplicate(
+    UUID resumeId,
+    double similarity
+) {}
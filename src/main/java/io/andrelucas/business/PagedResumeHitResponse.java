@@ -0,0 +1,11 @@
+package io.andrelucas.business;
+
+import java.util.List;
+
+public record PagedResumeHitResponse(
+    List<ResumeHit> content,
+    int pageNumber,
+    int pageSize,
+    long totalElements,
+    int totalPages
+) {}
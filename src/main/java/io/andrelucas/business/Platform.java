@@ -0,0 +1,9 @@
+package io.andrelucas.business;
+
+/**
+ * Where a resume is meant to be published, which decides the prompt template its variant is generated with.
+ */
+public enum Platform {
+    BLOG,
+    LINKEDIN
+}
@@ -1,21 +1,45 @@
 package io.andrelucas.business;
 
+import java.util.Objects;
 import java.util.UUID;
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 public record Resume(
     UUID id,
     String topic,
-    String content,
+    @JsonIgnore ResumeContent body,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    UUID groupId,
+    Platform platform,
+    boolean draft
 ) {
+    public Resume(UUID id, String topic, String content, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, topic, ResumeContent.of(content), createdAt, updatedAt);
+    }
+
+    public Resume(UUID id, String topic, ResumeContent body, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, topic, body, createdAt, updatedAt, null, null);
+    }
+
+    public Resume(UUID id, String topic, ResumeContent body, LocalDateTime createdAt, LocalDateTime updatedAt,
+                  UUID groupId, Platform platform) {
+        this(id, topic, body, createdAt, updatedAt, groupId, platform, false);
+    }
+
     public static Resume create(String topic, String content) {
+        return create(UUID.randomUUID(), topic, content);
+    }
+
+    public static Resume create(UUID id, String topic, String content) {
         validateTopic(topic);
         validateContent(content);
 
         return new Resume(
-            UUID.randomUUID(),
+            id,
             topic,
             content,
             LocalDateTime.now(),
@@ -35,7 +59,63 @@ public record Resume(
         }
     }
 
+    /**
+     * Returns the body, loading it on first access when it was deferred by the repository.
+     */
+    public String content() {
+        return body.get();
+    }
+
+    /**
+     * Bean-style view of {@link #content()} so serializers and property-based tooling keep seeing a
+     * {@code content} property now that the record component is the {@link ResumeContent} holder.
+     */
+    @JsonProperty("content")
+    public String getContent() {
+        return content();
+    }
+
     public Resume withUpdatedAt(LocalDateTime newUpdatedAt) {
-        return new Resume(id, topic, content, createdAt, newUpdatedAt);
+        return new Resume(id, topic, body, createdAt, newUpdatedAt, groupId, platform, draft);
+    }
+
+    /**
+     * Compares the body last, so resumes with different ids are told apart without loading a deferred one.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Resume other)) {
+            return false;
+        }
+        return Objects.equals(id, other.id)
+            && Objects.equals(topic, other.topic)
+            && Objects.equals(createdAt, other.createdAt)
+            && Objects.equals(updatedAt, other.updatedAt)
+            && Objects.equals(groupId, other.groupId)
+            && platform == other.platform
+            && draft == other.draft
+            && Objects.equals(body, other.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, topic, createdAt, updatedAt, groupId, platform, draft);
+    }
+
+    /**
+     * Links this resume to the other variants of {@code groupId}, as the one written for {@code platform}.
+     */
+    public Resume inGroup(UUID newGroupId, Platform newPlatform) {
+        return new Resume(id, topic, body, createdAt, updatedAt, newGroupId, newPlatform, draft);
+    }
+
+    /**
+     * Marks this resume as a draft still being generated, which the finished resume replaces once it is saved.
+     */
+    public Resume asDraft() {
+        return new Resume(id, topic, body, createdAt, updatedAt, groupId, platform, true);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,74 @@
+package io.andrelucas.business;
+
+import java.util.Objects;
+
+/**
+ * Holder for the body of a {@link Resume}. The body is either known up front or deferred to a
+ * {@link ResumeContentBatch}, in which case it is fetched on first access together with the
+ * bodies of every other resume of the same page.
+ */
+public final class ResumeContent {
+
+    private volatile String value;
+    private volatile ResumeContentBatch batch;
+
+    private ResumeContent(String value, ResumeContentBatch batch) {
+        this.value = value;
+        this.batch = batch;
+    }
+
+    public static ResumeContent of(String value) {
+        return new ResumeContent(value, null);
+    }
+
+    static ResumeContent deferred(ResumeContentBatch batch) {
+        return new ResumeContent(null, batch);
+    }
+
+    public String get() {
+        final ResumeContentBatch pending = batch;
+        if (pending != null) {
+            pending.resolve();
+        }
+        return value;
+    }
+
+    public boolean isLoaded() {
+        return batch == null;
+    }
+
+    void complete(String loaded) {
+        value = loaded;
+        // Drop the batch so a resolved resume no longer keeps the rest of its page reachable
+        batch = null;
+    }
+
+    /**
+     * Compares the bodies, loading deferred ones. A {@link Resume} compares them last, so only resumes that are
+     * otherwise equal get here.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ResumeContent other)) {
+            return false;
+        }
+        return Objects.equals(get(), other.get());
+    }
+
+    /**
+     * Constant, so hashing a {@link Resume}, as putting it in a set or map does, never loads its body: the other
+     * components of the resume, starting with its id, already spread them.
+     */
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+
+    @Override
+    public String toString() {
+        return isLoaded() ? String.valueOf(value) : "<deferred>";
+    }
+}
@@ -0,0 +1,40 @@
+package io.andrelucas.business;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Groups the deferred bodies of one page of resumes so the first access to any of them loads
+ * all of them with a single call to the loader. Once resolved the batch forgets both the loader
+ * and its holders.
+ */
+public final class ResumeContentBatch {
+
+    private Function<Collection<UUID>, Map<UUID, String>> loader;
+    private Map<UUID, ResumeContent> pending = new LinkedHashMap<>();
+
+    public ResumeContentBatch(final Function<Collection<UUID>, Map<UUID, String>> loader) {
+        this.loader = loader;
+    }
+
+    public synchronized ResumeContent defer(UUID id) {
+        if (pending == null) {
+            throw new IllegalStateException("batch already resolved");
+        }
+        return pending.computeIfAbsent(id, ignored -> ResumeContent.deferred(this));
+    }
+
+    synchronized void resolve() {
+        if (pending == null) {
+            return;
+        }
+
+        final Map<UUID, String> contents = loader.apply(pending.keySet());
+        pending.forEach((id, content) -> content.complete(contents.get(id)));
+        pending = null;
+        loader = null;
+    }
+}
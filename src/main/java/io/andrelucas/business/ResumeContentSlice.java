@@ -0,0 +1,34 @@
+package io.andrelucas.business;
+
+import java.util.UUID;
+
+public record ResumeContentSlice(
+    UUID resumeId,
+    long offset,
+    int length,
+    long totalLength,
+    boolean hasMore,
+    String content
+) {
+    public static ResumeContentSlice of(UUID resumeId, long offset, String content, long totalLength) {
+        return new ResumeContentSlice(
+            resumeId,
+            offset,
+            content.length(),
+            totalLength,
+            offset + content.length() < totalLength,
+            content
+        );
+    }
+
+    /**
+     * Cuts {@code [offset, offset + length)} out of a body that is already in memory.
+     */
+    public static ResumeContentSlice slice(UUID resumeId, String content, long offset, int length) {
+        final long totalLength = content.length();
+        if (offset >= totalLength) {
+            return of(resumeId, offset, "", totalLength);
+        }
+        return of(resumeId, offset, content.substring((int) offset, (int) Math.min(totalLength, offset + length)), totalLength);
+    }
+}
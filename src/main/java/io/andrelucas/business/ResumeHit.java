@@ -0,0 +1,15 @@
+package io.andrelucas.business;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public record ResumeHit(
+    UUID id,
+    String topic,
+    List<ResumeSnippet> snippets,
+    long contentLength,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    boolean draft
+) {}
@@ -1,6 +1,8 @@
 package io.andrelucas.business;
 
 import java.util.List;
+import java.util.regex.Pattern;
+
 import org.springframework.data.domain.Page;
 
 import io.andrelucas.data_provider.document.ResumeDocument;
@@ -16,7 +18,10 @@ public class ResumeMapper {
             resume.topic(),
             resume.content(),
             resume.createdAt(),
-            resume.updatedAt()
+            resume.updatedAt(),
+            resume.groupId(),
+            resume.platform(),
+            resume.draft()
         );
     }
     
@@ -34,6 +39,33 @@ public class ResumeMapper {
         );
     }
 
+    public static ResumeHit toHit(Resume resume, Pattern keyword) {
+        final String content = resume.content();
+        return new ResumeHit(
+            resume.id(),
+            resume.topic(),
+            ResumeSnippets.extract(content, keyword),
+            content != null ? content.length() : 0,
+            resume.createdAt(),
+            resume.updatedAt(),
+            resume.draft()
+        );
+    }
+
+    public static PagedResumeHitResponse toPagedHitResponse(Page<Resume> page, Pattern keyword) {
+        List<ResumeHit> content = page.getContent().stream()
+            .map(resume -> toHit(resume, keyword))
+            .toList();
+
+        return new PagedResumeHitResponse(
+            content,
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages()
+        );
+    }
+
     public static ResumeDocument toDocument(Resume resume) {
         return new ResumeDocument(
                 resume.id(),
@@ -41,16 +73,39 @@ public class ResumeMapper {
                 resume.content(),
                 resume.createdAt(),
                 resume.updatedAt()
-        );
+        ).inGroup(resume.groupId(), resume.platform());
+    }
+
+    public static ResumeDocument toOffloadedDocument(Resume resume, String contentRef) {
+        return new ResumeDocument(
+                resume.id(),
+                resume.topic(),
+                null,
+                contentRef,
+                resume.content().length(),
+                resume.createdAt(),
+                resume.updatedAt()
+        ).inGroup(resume.groupId(), resume.platform());
     }
 
     public static  Resume toDomain(ResumeDocument document) {
+        return toDomain(document, document.getContent());
+    }
+
+    public static Resume toDomain(ResumeDocument document, String content) {
+        return toDomain(document, ResumeContent.of(content));
+    }
+
+    public static Resume toDomain(ResumeDocument document, ResumeContent content) {
         return new Resume(
             document.getId(),
             document.getTopic(),
-            document.getContent(),
+            content,
             document.getCreatedAt(),
-            document.getUpdatedAt()
+            document.getUpdatedAt(),
+            document.getGroupId(),
+            document.getPlatform(),
+            document.isDraft()
         );
     }
 } 
\ No newline at end of file
@@ -8,5 +8,8 @@ public record ResumeResponse(
     String topic,
     String content,
     LocalDateTime createdAt,
-    LocalDateTime updatedAt
+    LocalDateTime updatedAt,
+    UUID groupId,
+    Platform platform,
+    boolean draft
 ) {} 
\ No newline at end of file
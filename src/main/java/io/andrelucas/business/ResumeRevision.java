@@ -0,0 +1,38 @@
+package io.andrelucas.business;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One saved version of a resume, stored either whole or as the edits from the version before it.
+ *
+ * @param snapshotNumber the version stored whole that this one is rebuilt from; its own number for a snapshot
+ * @param snapshot the whole content, for a snapshot
+ * @param delta the edits from the previous version, for every other revision
+ * @param length length of the content of this version
+ * @param storedChars roughly what storing this revision costs, in chars
+ * @param contentHash SHA-256 of the content of this version, to tell whether an edit applies on top of it
+ */
+public record ResumeRevision(
+    UUID resumeId,
+    int number,
+    String topic,
+    int snapshotNumber,
+    String snapshot,
+    TextDelta delta,
+    int length,
+    int storedChars,
+    String contentHash,
+    LocalDateTime createdAt
+) {
+    public boolean isSnapshot() {
+        return number == snapshotNumber;
+    }
+
+    /**
+     * This revision without its snapshot or delta, as revisions are listed.
+     */
+    public ResumeRevision withoutContent() {
+        return new ResumeRevision(resumeId, number, topic, snapshotNumber, null, null, length, storedChars, contentHash, createdAt);
+    }
+}
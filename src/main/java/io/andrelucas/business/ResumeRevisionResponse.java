@@ -0,0 +1,23 @@
+package io.andrelucas.business;
+
+import java.time.LocalDateTime;
+
+/**
+ * A revision as listed: what it holds, without its content.
+ *
+ * @param snapshot whether the revision is stored whole rather than as edits from the one before
+ * @param storedChars roughly what storing the revision costs, in chars
+ */
+public record ResumeRevisionResponse(
+    int number,
+    String topic,
+    boolean snapshot,
+    int length,
+    int storedChars,
+    LocalDateTime createdAt
+) {
+    public static ResumeRevisionResponse of(ResumeRevision revision) {
+        return new ResumeRevisionResponse(revision.number(), revision.topic(), revision.isSnapshot(), revision.length(),
+            revision.storedChars(), revision.createdAt());
+    }
+}
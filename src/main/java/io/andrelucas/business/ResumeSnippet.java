@@ -0,0 +1,17 @@
+package io.andrelucas.business;
+
+import java.util.List;
+
+/**
+ * A window of a resume's content around one or more keyword matches.
+ *
+ * @param offset where {@code text} starts in the content
+ * @param highlights the matches, as {@code [start, end)} offsets into {@code text}
+ */
+public record ResumeSnippet(
+    long offset,
+    String text,
+    List<Highlight> highlights
+) {
+    public record Highlight(int start, int end) {}
+}
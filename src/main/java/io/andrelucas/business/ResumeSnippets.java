@@ -0,0 +1,113 @@
+package io.andrelucas.business;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cuts the windows around keyword matches out of a resume's content, so search results can show why a resume
+ * matched without carrying its whole body.
+ *
+ * <p>The content is scanned once; matches whose windows touch share a snippet, up to {@link #MAX_LENGTH} chars,
+ * and only the snippets themselves are copied out of it. A match longer than that, as a broad regex can make, is
+ * cut at the end of its window and so is its highlight.
+ */
+public final class ResumeSnippets {
+
+    public static final int MAX_SNIPPETS = 3;
+    public static final int RADIUS = 80;
+    public static final int MAX_LENGTH = 4 * RADIUS;
+
+    private ResumeSnippets() {
+        // Utility class
+    }
+
+    /**
+     * Matches {@code keyword} literally, ignoring case, as keyword search does.
+     */
+    public static Pattern literal(String keyword) {
+        return Pattern.compile(Pattern.quote(keyword), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    /**
+     * Matches {@code keyword} as a case-insensitive regex, as advanced search does.
+     */
+    public static Pattern regex(String keyword) {
+        return Pattern.compile(keyword, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    /**
+     * Up to {@link #MAX_SNIPPETS} windows around the matches of {@code pattern}, or the opening of the content when
+     * there is no pattern or nothing matches.
+     */
+    public static List<ResumeSnippet> extract(String content, Pattern pattern) {
+        if (content == null || content.isEmpty()) {
+            return List.of();
+        }
+
+        final List<ResumeSnippet> snippets = new ArrayList<>(MAX_SNIPPETS);
+        if (pattern != null) {
+            final Matcher matcher = pattern.matcher(content);
+            final List<int[]> matches = new ArrayList<>();
+            int start = 0;
+            int end = 0;
+            while (matcher.find()) {
+                if (matcher.end() == matcher.start()) {
+                    continue;
+                }
+                final int from = startOfWindow(content, matcher.start() - RADIUS);
+                final int to = matcher.end() + RADIUS - from > MAX_LENGTH
+                    ? cutWindow(content, from + MAX_LENGTH)
+                    : endOfWindow(content, matcher.end() + RADIUS);
+                if (!matches.isEmpty() && from <= end && to - start <= MAX_LENGTH) {
+                    end = Math.max(end, to);
+                } else {
+                    if (!matches.isEmpty()) {
+                        snippets.add(snippet(content, start, end, matches));
+                        matches.clear();
+                        if (snippets.size() == MAX_SNIPPETS) {
+                            break;
+                        }
+                    }
+                    start = from;
+                    end = to;
+                }
+                matches.add(new int[] {matcher.start(), matcher.end()});
+            }
+            if (!matches.isEmpty()) {
+                snippets.add(snippet(content, start, end, matches));
+            }
+        }
+
+        if (snippets.isEmpty()) {
+            snippets.add(new ResumeSnippet(0, content.substring(0, endOfWindow(content, 2 * RADIUS)), List.of()));
+        }
+        return snippets;
+    }
+
+    private static ResumeSnippet snippet(String content, int start, int end, List<int[]> matches) {
+        final List<ResumeSnippet.Highlight> highlights = new ArrayList<>(matches.size());
+        for (int[] match : matches) {
+            highlights.add(new ResumeSnippet.Highlight(match[0] - start, Math.min(match[1], end) - start));
+        }
+        return new ResumeSnippet(start, content.substring(start, end), highlights);
+    }
+
+    private static int startOfWindow(String content, int index) {
+        final int start = Math.max(0, index);
+        // Never split a surrogate pair
+        return start > 0 && Character.isLowSurrogate(content.charAt(start)) ? start - 1 : start;
+    }
+
+    private static int endOfWindow(String content, int index) {
+        final int end = Math.min(content.length(), index);
+        return end < content.length() && Character.isLowSurrogate(content.charAt(end)) ? end + 1 : end;
+    }
+
+    private static int cutWindow(String content, int index) {
+        final int end = Math.min(content.length(), index);
+        // Step back rather than past the cap
+        return end < content.length() && Character.isLowSurrogate(content.charAt(end)) ? end - 1 : end;
+    }
+}
@@ -0,0 +1,15 @@
+package io.andrelucas.business;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A resume as it was at one revision.
+ */
+public record ResumeVersionResponse(
+    UUID resumeId,
+    int number,
+    String topic,
+    String content,
+    LocalDateTime createdAt
+) {}
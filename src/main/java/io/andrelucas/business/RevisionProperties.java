@@ -0,0 +1,15 @@
+package io.andrelucas.business;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Revision history of resumes.
+ *
+ * @param snapshotEvery revisions between two stored whole, so rebuilding a version applies at most this many
+ *                      deltas; a revision is also stored whole when its delta would be over half its length
+ */
+@ConfigurationProperties(prefix = "content-generator.revisions")
+public record RevisionProperties(
+    @DefaultValue("20") int snapshotEvery
+) {}
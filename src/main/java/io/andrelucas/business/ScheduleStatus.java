@@ -0,0 +1,8 @@
+package io.andrelucas.business;
+
+public enum ScheduleStatus {
+    SCHEDULED,
+    PUBLISHED,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,40 @@
+package io.andrelucas.business;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A resume to be posted on a platform at a given time, and whether it was.
+ *
+ * @param attempts publishes tried and failed so far
+ * @param postId what the platform calls the post once it is published
+ * @param nextAttemptAt when the post is due: {@code publishAt} at first, then the time of the next retry
+ */
+public record ScheduledPost(
+    UUID id,
+    UUID resumeId,
+    Platform platform,
+    LocalDateTime publishAt,
+    ScheduleStatus status,
+    int attempts,
+    String postId,
+    String error,
+    LocalDateTime nextAttemptAt,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    public static ScheduledPost schedule(UUID resumeId, Platform platform, LocalDateTime publishAt) {
+        if (resumeId == null) {
+            throw new IllegalArgumentException("resumeId cannot be null");
+        }
+        if (platform == null) {
+            throw new IllegalArgumentException("platform cannot be null");
+        }
+        if (publishAt == null) {
+            throw new IllegalArgumentException("publishAt cannot be null");
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        return new ScheduledPost(UUID.randomUUID(), resumeId, platform, publishAt, ScheduleStatus.SCHEDULED, 0, null, null,
+            publishAt, now, now);
+    }
+}
@@ -0,0 +1,37 @@
+package io.andrelucas.business;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Scheduled posts and the instance that publishes them.
+ *
+ * @param publisher {@code stub} to log posts instead of sending them to the platform
+ * @param tick precision of the timing wheel; posts are published up to one tick late
+ * @param wheelSize slots per level of the timing wheel, a power of two
+ * @param levels levels of the timing wheel; together they span {@code tick * wheelSize ^ levels}, and posts due
+ *               further out are placed again once they get within range
+ * @param leaderLease how long the publishing instance holds its lease; if it stops renewing it, another instance
+ *                    takes over once it expires
+ * @param syncInterval how often the publishing instance picks up posts scheduled or cancelled on other instances
+ * @param threads posts published at once
+ * @param maxAttempts publishes tried per post before it fails
+ * @param initialBackoff wait before the first retry; each further retry waits twice as long, with jitter
+ * @param maxBackoff longest wait between retries
+ */
+@ConfigurationProperties(prefix = "content-generator.scheduling")
+public record SchedulingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("stub") String publisher,
+    @DefaultValue("PT1S") Duration tick,
+    @DefaultValue("512") int wheelSize,
+    @DefaultValue("4") int levels,
+    @DefaultValue("PT15S") Duration leaderLease,
+    @DefaultValue("PT5S") Duration syncInterval,
+    @DefaultValue("4") int threads,
+    @DefaultValue("5") int maxAttempts,
+    @DefaultValue("PT30S") Duration initialBackoff,
+    @DefaultValue("PT30M") Duration maxBackoff
+) {}
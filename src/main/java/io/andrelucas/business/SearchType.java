@@ -0,0 +1,5 @@
+package io.andrelucas.business;
+
+public enum SearchType {
+    TOPIC, KEYWORD, DATE_RANGE, LATEST, ADVANCED
+}
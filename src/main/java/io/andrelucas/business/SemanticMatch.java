@@ -0,0 +1,8 @@
+package io.andrelucas.business;
+
+import java.util.UUID;
+
+public record SemanticMatch(
+    UUID resumeId,
+    double score
+) {}
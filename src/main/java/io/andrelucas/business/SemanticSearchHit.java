@@ -0,0 +1,6 @@
+package io.andrelucas.business;
+
+public record SemanticSearchHit(
+    ResumeResponse resume,
+    double score
+) {}
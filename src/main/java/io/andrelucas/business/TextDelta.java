@@ -0,0 +1,220 @@
+package io.andrelucas.business;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The edits that turn one text into another, holding only the inserted text and the lengths of what is kept and
+ * removed.
+ *
+ * <p>Texts are compared line by line with Myers' algorithm, after trimming what they start and end with in
+ * common, so an edit to a long draft costs about the lines it touched. Past {@link #MAX_LINE_EDITS} changed lines
+ * the middle of the text is replaced whole, which stays correct but is no longer minimal.
+ *
+ * @param baseLength length of the text the edits apply to
+ * @param length length of the text they produce
+ */
+public record TextDelta(int baseLength, int length, List<Edit> edits) {
+
+    static final int MAX_LINE_EDITS = 2_000;
+    private static final int EDIT_OVERHEAD_CHARS = 8;
+
+    /**
+     * Keeps the next {@code skip} chars, then removes {@code delete} chars and puts {@code insert} in their place.
+     */
+    public record Edit(int skip, int delete, String insert) {}
+
+    public static TextDelta between(String from, String to) {
+        final int prefix = commonPrefix(from, to);
+        final int suffix = commonSuffix(from, to, prefix);
+        final String removed = from.substring(prefix, from.length() - suffix);
+        final String added = to.substring(prefix, to.length() - suffix);
+
+        final List<Edit> edits = new ArrayList<>();
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            final List<Edit> lines = removed.isEmpty() || added.isEmpty() ? null : lineEdits(removed, added, prefix);
+            if (lines != null) {
+                edits.addAll(lines);
+            } else {
+                edits.add(new Edit(prefix, removed.length(), added));
+            }
+        }
+        return new TextDelta(from.length(), to.length(), List.copyOf(edits));
+    }
+
+    public String applyTo(String base) {
+        if (base.length() != baseLength) {
+            throw new IllegalStateException("delta expects a base of " + baseLength + " chars, got " + base.length());
+        }
+        final StringBuilder text = new StringBuilder(length);
+        int position = 0;
+        for (Edit edit : edits) {
+            text.append(base, position, position + edit.skip());
+            text.append(edit.insert());
+            position += edit.skip() + edit.delete();
+        }
+        text.append(base, position, base.length());
+        return text.toString();
+    }
+
+    /**
+     * Roughly what storing the delta costs, in chars.
+     */
+    public int size() {
+        int size = 0;
+        for (Edit edit : edits) {
+            size += EDIT_OVERHEAD_CHARS + edit.insert().length();
+        }
+        return size;
+    }
+
+    /**
+     * Edits turning the lines of {@code from} into those of {@code to}, the first one skipping {@code offset} more
+     * chars, or {@code null} when they differ by more than {@link #MAX_LINE_EDITS} lines.
+     */
+    private static List<Edit> lineEdits(String from, String to, int offset) {
+        final List<String> a = lines(from);
+        final List<String> b = lines(to);
+        final Map<String, Integer> ids = new HashMap<>();
+        final int[] x = ids(a, ids);
+        final int[] y = ids(b, ids);
+
+        final List<int[]> trace = shortestEdit(x, y);
+        if (trace == null) {
+            return null;
+        }
+
+        // Walk the edit path backwards, then turn it into edits from the start
+        final List<int[]> steps = new ArrayList<>();
+        int i = x.length;
+        int j = y.length;
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            final int[] v = trace.get(d);
+            final int k = i - j;
+            final int previousK;
+            final int previousI;
+            if (d == 0) {
+                previousK = 0;
+                previousI = 0;
+            } else {
+                previousK = k == -d || (k != d && v[k - 1 + d] < v[k + 1 + d]) ? k + 1 : k - 1;
+                previousI = v[previousK + d];
+            }
+            final int previousJ = previousI - previousK;
+            while (i > previousI && j > previousJ) {
+                steps.add(new int[] {0, --i});
+                j--;
+            }
+            if (d > 0) {
+                if (i == previousI) {
+                    steps.add(new int[] {1, --j});
+                } else {
+                    steps.add(new int[] {-1, --i});
+                }
+            }
+            i = previousI;
+            j = previousJ;
+        }
+
+        final List<Edit> edits = new ArrayList<>();
+        int skip = offset;
+        int delete = 0;
+        final StringBuilder insert = new StringBuilder();
+        for (int s = steps.size() - 1; s >= 0; s--) {
+            final int[] step = steps.get(s);
+            if (step[0] == 0) {
+                if (delete > 0 || !insert.isEmpty()) {
+                    edits.add(new Edit(skip, delete, insert.toString()));
+                    skip = 0;
+                    delete = 0;
+                    insert.setLength(0);
+                }
+                skip += a.get(step[1]).length();
+            } else if (step[0] < 0) {
+                delete += a.get(step[1]).length();
+            } else {
+                insert.append(b.get(step[1]));
+            }
+        }
+        if (delete > 0 || !insert.isEmpty()) {
+            edits.add(new Edit(skip, delete, insert.toString()));
+        }
+        return edits;
+    }
+
+    /**
+     * Myers' greedy search for the shortest edit script: for each number of edits {@code d}, the furthest point
+     * reached on every diagonal before that round, trimmed to the diagonals {@code -d..d}.
+     */
+    private static List<int[]> shortestEdit(int[] a, int[] b) {
+        final int n = a.length;
+        final int m = b.length;
+        final int limit = Math.min(n + m, MAX_LINE_EDITS);
+        final int offset = limit + 1;
+        final int[] v = new int[2 * limit + 3];
+        final List<int[]> trace = new ArrayList<>();
+        for (int d = 0; d <= limit; d++) {
+            trace.add(Arrays.copyOfRange(v, offset - d, offset + d + 1));
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])
+                    ? v[offset + k + 1]
+                    : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[x] == b[y]) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return trace;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static List<String> lines(String text) {
+        final List<String> lines = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                lines.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            lines.add(text.substring(start));
+        }
+        return lines;
+    }
+
+    private static int[] ids(List<String> lines, Map<String, Integer> ids) {
+        final int[] result = new int[lines.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ids.computeIfAbsent(lines.get(i), ignored -> ids.size());
+        }
+        return result;
+    }
+
+    private static int commonPrefix(String a, String b) {
+        final int max = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < max && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        // Do not split a surrogate pair between kept and edited text
+        return i > 0 && Character.isHighSurrogate(a.charAt(i - 1)) ? i - 1 : i;
+    }
+
+    private static int commonSuffix(String a, String b, int prefix) {
+        final int max = Math.min(a.length(), b.length()) - prefix;
+        int i = 0;
+        while (i < max && a.charAt(a.length() - 1 - i) == b.charAt(b.length() - 1 - i)) {
+            i++;
+        }
+        return i > 0 && Character.isLowSurrogate(a.charAt(a.length() - i)) ? i - 1 : i;
+    }
+}
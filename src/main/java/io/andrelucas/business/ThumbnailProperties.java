@@ -0,0 +1,20 @@
+package io.andrelucas.business;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Title card thumbnails rendered for every saved resume.
+ *
+ * @param threads thumbnails rendered at once
+ * @param maxQueue thumbnails waiting for a thread; resumes saved while it is full get no thumbnail rather than
+ *                 slowing the save down
+ */
+@ConfigurationProperties(prefix = "content-generator.thumbnail")
+public record ThumbnailProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1200") int width,
+    @DefaultValue("630") int height,
+    @DefaultValue("2") int threads,
+    @DefaultValue("64") int maxQueue
+) {}
@@ -0,0 +1,13 @@
+package io.andrelucas.business;
+
+import java.util.UUID;
+
+/**
+ * @param data the image, Base64-encoded
+ */
+public record ThumbnailResponse(
+    UUID resumeId,
+    String thumbnailRef,
+    String contentType,
+    String data
+) {}
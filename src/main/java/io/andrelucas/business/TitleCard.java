@@ -0,0 +1,34 @@
+package io.andrelucas.business;
+
+/**
+ * What a resume's thumbnail shows: its topic and a headline taken from the first line of its content.
+ */
+public record TitleCard(
+    String topic,
+    String headline,
+    int width,
+    int height
+) {
+    private static final int MAX_HEADLINE_CHARS = 140;
+
+    public static TitleCard of(Resume resume, int width, int height) {
+        return new TitleCard(resume.topic(), headline(resume.content()), width, height);
+    }
+
+    /**
+     * First non-blank line of {@code content} without its Markdown heading or list marker, shortened to
+     * {@value #MAX_HEADLINE_CHARS} chars.
+     */
+    public static String headline(String content) {
+        if (content == null) {
+            return "";
+        }
+        for (String line : content.split("\\R", 16)) {
+            final String text = line.replaceFirst("^\\s*(#+|[-*>]|\\d+\\.)?\\s*", "").strip();
+            if (!text.isEmpty()) {
+                return text.length() <= MAX_HEADLINE_CHARS ? text : text.substring(0, MAX_HEADLINE_CHARS - 1).strip() + "…";
+            }
+        }
+        return "";
+    }
+}
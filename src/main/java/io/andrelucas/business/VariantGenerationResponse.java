@@ -0,0 +1,12 @@
+package io.andrelucas.business;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The variant group being generated and the job generating each of its variants.
+ */
+public record VariantGenerationResponse(
+    UUID groupId,
+    List<GenerationJob> jobs
+) {}
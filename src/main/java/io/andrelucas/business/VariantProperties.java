@@ -0,0 +1,20 @@
+package io.andrelucas.business;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Prompt templates for the variants generated for each {@link Platform}, added to the instructions of its job.
+ */
+@ConfigurationProperties(prefix = "content-generator.generation.variants")
+public record VariantProperties(
+    @DefaultValue("Write it as a long-form blog post with a title, an introduction, sections with headings and a conclusion.") String blog,
+    @DefaultValue("Write it as a LinkedIn post of at most 1300 characters: a strong first line, short paragraphs, no headings and up to three hashtags at the end.") String linkedin
+) {
+    public String templateFor(Platform platform) {
+        return switch (platform) {
+            case BLOG -> blog;
+            case LINKEDIN -> linkedin;
+        };
+    }
+}
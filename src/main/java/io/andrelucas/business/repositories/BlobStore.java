@@ -0,0 +1,42 @@
+package io.andrelucas.business.repositories;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+/**
+ * Binary objects such as images and large resume bodies, addressed by a key of {@code /}-separated segments. Keys
+ * are chosen by the callers, usually from a hash of what the object was made from, so writing a key again stores
+ * the same bytes.
+ */
+public interface BlobStore {
+    /**
+     * Stores the {@code length} bytes of {@code data} under {@code key}, replacing what was there, without
+     * holding them all in memory.
+     */
+    void put(String key, InputStream data, long length, String contentType);
+
+    default void put(String key, byte[] data, String contentType) {
+        put(key, new ByteArrayInputStream(data), data.length, contentType);
+    }
+
+    boolean exists(String key);
+
+    Optional<byte[]> get(String key);
+
+    /**
+     * Streams the object from its first byte; the caller closes the stream.
+     */
+    Optional<InputStream> open(String key);
+
+    /**
+     * Writes at most {@code count} bytes of the object, starting at {@code position}, to {@code target} and
+     * returns how many were written, reading only that range from the backend.
+     *
+     * @throws IllegalStateException when there is no object under {@code key}
+     */
+    long transferTo(String key, long position, long count, WritableByteChannel target);
+
+    void delete(String key);
+}
@@ -0,0 +1,25 @@
+package io.andrelucas.business.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.andrelucas.business.BlogEntry;
+
+/**
+ * The rendered blog, changed a page at a time so a publish costs what it changes, with the listing of each
+ * publish going live at once so readers never see a half-written page or a link to one not written yet.
+ */
+public interface BlogSite {
+    /**
+     * The entries of the live version, or none before the first publish.
+     */
+    List<BlogEntry> load();
+
+    /**
+     * Makes live a version holding the live version's files minus {@code removed}, plus {@code pages} by path,
+     * listing {@code entries}; the version's name is returned. Unchanged pages are not written again.
+     */
+    String publish(Collection<BlogEntry> entries, Map<String, String> pages, Set<String> removed);
+}
@@ -0,0 +1,25 @@
+package io.andrelucas.business.repositories;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Carries whoever a call is made on behalf of over to the threads that do part of its work, so the data providers
+ * still see the work as theirs.
+ */
+public interface CallContext {
+
+    /**
+     * Runs nothing on behalf of anyone, for callers that have no one to carry.
+     */
+    CallContext NONE = new CallContext() {
+        @Override
+        public <T> Callable<T> propagate(Callable<T> task) {
+            return task;
+        }
+    };
+
+    /**
+     * {@code task}, bound to the call running on this thread, to be run on another one.
+     */
+    <T> Callable<T> propagate(Callable<T> task);
+}
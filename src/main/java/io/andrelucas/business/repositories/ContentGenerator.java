@@ -0,0 +1,19 @@
+package io.andrelucas.business.repositories;
+
+import java.util.function.Consumer;
+
+public interface ContentGenerator {
+    /**
+     * Writes the content of a resume about {@code topic}, following {@code instructions} when there are any.
+     */
+    String generate(String topic, String instructions);
+
+    /**
+     * Same, handing each piece of the content to {@code onText} as soon as it is written, in order.
+     */
+    default String generate(String topic, String instructions, Consumer<String> onText) {
+        final String content = generate(topic, instructions);
+        onText.accept(content);
+        return content;
+    }
+}
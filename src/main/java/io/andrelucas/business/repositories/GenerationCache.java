@@ -0,0 +1,14 @@
+package io.andrelucas.business.repositories;
+
+import java.util.Optional;
+
+import io.andrelucas.business.CachedGeneration;
+
+/**
+ * Persistent store of model answers by prompt key, shared by every instance and kept for a limited time.
+ */
+public interface GenerationCache {
+    Optional<CachedGeneration> find(String key);
+
+    void put(String key, CachedGeneration generation);
+}
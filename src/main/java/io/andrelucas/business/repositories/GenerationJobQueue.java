@@ -0,0 +1,45 @@
+package io.andrelucas.business.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import io.andrelucas.business.GenerationJob;
+
+/**
+ * Durable queue of generation jobs shared by every worker. Claims are leases: a job whose worker stops reporting
+ * before {@code leaseUntil} becomes claimable again.
+ *
+ * <p>Each claim is told apart by the attempt it started, so everything reported about a claimed job is taken by
+ * the {@code claim} returned from {@link #claimNext} and ignored once another worker has claimed the job since.
+ */
+public interface GenerationJobQueue {
+    GenerationJob enqueue(GenerationJob job);
+
+    Optional<GenerationJob> findById(UUID id);
+
+    /**
+     * Marks the oldest job due at {@code now} as running until {@code leaseUntil}, counting an attempt, and
+     * returns it.
+     */
+    Optional<GenerationJob> claimNext(LocalDateTime now, LocalDateTime leaseUntil);
+
+    /**
+     * Keeps {@code claim} running until {@code leaseUntil}; returns whether it was still held.
+     */
+    boolean extendLease(GenerationJob claim, LocalDateTime leaseUntil);
+
+    /**
+     * Records the resume a running job is writing, so it can be read while it is generated.
+     */
+    void attachResume(GenerationJob claim, UUID resumeId);
+
+    void succeed(GenerationJob claim, UUID resumeId);
+
+    /**
+     * Puts a running job back in the queue, claimable from {@code retryAt}.
+     */
+    void retry(GenerationJob claim, String error, LocalDateTime retryAt);
+
+    void fail(GenerationJob claim, String error);
+}
@@ -0,0 +1,20 @@
+package io.andrelucas.business.repositories;
+
+import java.time.Duration;
+
+/**
+ * Named leases that at most one instance holds at a time, so work that must not run twice runs on one of them.
+ */
+public interface LeaderLease {
+    /**
+     * Takes the lease {@code name} for {@code owner}, or extends it when {@code owner} already holds it, until
+     * {@code ttl} from now; returns whether {@code owner} holds it.
+     */
+    boolean acquire(String name, String owner, Duration ttl);
+
+    /**
+     * Gives the lease up, if {@code owner} holds it, so another instance can take it without waiting for it to
+     * expire.
+     */
+    void release(String name, String owner);
+}
@@ -0,0 +1,19 @@
+package io.andrelucas.business.repositories;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ScheduledPost;
+
+/**
+ * Sends a scheduled post to its platform.
+ *
+ * <p>Posts are published at least once: a post whose publish succeeded but was not recorded, because the instance
+ * stopped in between, is published again. Implementations should use the post's id as an idempotency key where
+ * the platform allows it.
+ */
+public interface PostPublisher {
+    /**
+     * Publishes {@code resume} as {@code post} and returns the platform's id for it. Throws
+     * {@link IllegalArgumentException} when the post can never be published, so it is not retried.
+     */
+    String publish(ScheduledPost post, Resume resume);
+}
@@ -0,0 +1,20 @@
+package io.andrelucas.business.repositories;
+
+/**
+ * Decides where each read use case is served from, such as the primary or a secondary, on behalf of the current
+ * caller.
+ */
+public interface ReadPreferencePolicy {
+
+    String FIND_BY_TOPIC = "find-resumes-by-topic";
+    String FIND_BY_DATE_RANGE = "find-resumes-by-date-range";
+    String FIND_BY_CONTENT_KEYWORD = "find-resumes-by-content-keyword";
+    String FIND_BY_CUSTOM_CRITERIA = "find-resumes-by-custom-criteria";
+    String GET_LATEST = "get-latest-resumes";
+
+    /**
+     * Where reads of {@code useCase} go for the current caller, compared by equality only, or {@code null} for
+     * wherever the connection sends them.
+     */
+    Object preferenceFor(String useCase);
+}
@@ -0,0 +1,23 @@
+package io.andrelucas.business.repositories;
+
+import java.util.UUID;
+
+/**
+ * Resumes being written while they are generated, readable by id and by every search as soon as their first
+ * text is appended, flagged as {@link io.andrelucas.business.Resume#draft() drafts}. The finished resume is saved
+ * through {@link ResumeRepository} as usual and is not one.
+ */
+public interface ResumeDrafts {
+    /**
+     * Starts an empty draft under {@code id}, replacing any draft left there by an earlier attempt.
+     */
+    void start(UUID id, String topic);
+
+    void append(UUID id, String text);
+
+    /**
+     * Drops what is left of the draft once the finished resume has been saved, or the whole draft when the
+     * generation failed for good. A finished resume saved under {@code id} is kept.
+     */
+    void finish(UUID id);
+}
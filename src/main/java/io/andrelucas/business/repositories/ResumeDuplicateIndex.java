@@ -0,0 +1,16 @@
+package io.andrelucas.business.repositories;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import io.andrelucas.business.MinHashSignature;
+import io.andrelucas.business.NearDuplicate;
+
+public interface ResumeDuplicateIndex {
+    void add(UUID resumeId, MinHashSignature signature);
+
+    List<NearDuplicate> findNearDuplicates(MinHashSignature signature);
+
+    List<Set<UUID>> findClusters();
+}
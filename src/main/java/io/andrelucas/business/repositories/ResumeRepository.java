@@ -1,10 +1,17 @@
 package io.andrelucas.business.repositories;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeContentSlice;
 import io.andrelucas.business.ResumeSearchQuery;
 
 public interface ResumeRepository {
@@ -15,4 +22,18 @@ public interface ResumeRepository {
     Page<Resume> findByContentContainingIgnoreCase(String keyword, Pageable pageable);
     Page<Resume> findAllByOrderByCreatedAtDesc(Pageable pageable);
     Page<Resume> findByCustomCriteria(ResumeSearchQuery query, Pageable pageable);
+
+    Optional<ResumeContentSlice> readContent(UUID id, long offset, int length);
+
+    List<Resume> findAllByIds(Collection<UUID> ids);
+
+    /**
+     * Every variant of {@code groupId}, oldest first.
+     */
+    List<Resume> findByGroupId(UUID groupId);
+
+    /**
+     * Visits every stored resume with its body, one at a time, to rebuild in-memory indexes.
+     */
+    void forEach(Consumer<Resume> action);
 } 
\ No newline at end of file
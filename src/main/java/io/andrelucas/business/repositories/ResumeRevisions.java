@@ -0,0 +1,33 @@
+package io.andrelucas.business.repositories;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import io.andrelucas.business.ResumeRevision;
+
+/**
+ * Revisions of every resume, numbered from 1 in the order they were saved.
+ */
+public interface ResumeRevisions {
+    /**
+     * Adds {@code revision}, or returns {@code false} when another writer took its number meanwhile.
+     */
+    boolean append(ResumeRevision revision);
+
+    /**
+     * The newest revision of {@code resumeId}, which may come {@link ResumeRevision#withoutContent() without content}.
+     */
+    Optional<ResumeRevision> latest(UUID resumeId);
+
+    /**
+     * Every revision of {@code resumeId}, oldest first, {@link ResumeRevision#withoutContent() without content}.
+     */
+    List<ResumeRevision> list(UUID resumeId);
+
+    /**
+     * The snapshot revision {@code number} is rebuilt from and every revision after it up to {@code number},
+     * oldest first, or none when there is no such revision.
+     */
+    List<ResumeRevision> chain(UUID resumeId, int number);
+}
@@ -0,0 +1,12 @@
+package io.andrelucas.business.repositories;
+
+import java.util.List;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.SemanticMatch;
+
+public interface ResumeSemanticIndex {
+    void index(Resume resume);
+
+    List<SemanticMatch> search(String query, int limit);
+}
@@ -0,0 +1,13 @@
+package io.andrelucas.business.repositories;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Which image in the {@link BlobStore} is the thumbnail of each resume.
+ */
+public interface ResumeThumbnails {
+    void attach(UUID resumeId, String thumbnailRef);
+
+    Optional<String> find(UUID resumeId);
+}
@@ -0,0 +1,42 @@
+package io.andrelucas.business.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import io.andrelucas.business.ScheduledPost;
+
+/**
+ * Durable record of scheduled posts, from which the publishing instance rebuilds its schedule when it takes over.
+ * Changes only apply to posts still {@code SCHEDULED}, so a post once published, failed or cancelled stays so.
+ */
+public interface ScheduleStore {
+    ScheduledPost save(ScheduledPost post);
+
+    Optional<ScheduledPost> findById(UUID id);
+
+    /**
+     * Streams every post still scheduled, without holding them all in memory.
+     */
+    void forEachScheduled(Consumer<ScheduledPost> action);
+
+    /**
+     * Streams every post changed at or after {@code since}, whatever its status.
+     */
+    void forEachUpdatedSince(LocalDateTime since, Consumer<ScheduledPost> action);
+
+    /**
+     * Cancels a scheduled post, returning whether it was still scheduled.
+     */
+    boolean cancel(UUID id);
+
+    void published(UUID id, String postId);
+
+    /**
+     * Counts a failed attempt and makes the post due again at {@code retryAt}.
+     */
+    void retry(UUID id, String error, LocalDateTime retryAt);
+
+    void fail(UUID id, String error);
+}
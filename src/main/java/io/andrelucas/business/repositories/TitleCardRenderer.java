@@ -0,0 +1,14 @@
+package io.andrelucas.business.repositories;
+
+import io.andrelucas.business.TitleCard;
+
+public interface TitleCardRenderer {
+    /**
+     * Changes whenever the same card would be drawn differently, so images drawn before are not reused.
+     */
+    String version();
+
+    String contentType();
+
+    byte[] render(TitleCard card);
+}
@@ -0,0 +1,173 @@
+package io.andrelucas.business.usecases;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.BatchSearchProperties;
+import io.andrelucas.business.BatchSearchQuery;
+import io.andrelucas.business.BatchSearchResponse;
+import io.andrelucas.business.BatchSearchResult;
+import io.andrelucas.business.DateRangeQuery;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeMapper;
+import io.andrelucas.business.ResumeResponse;
+import io.andrelucas.business.ResumeSearchQuery;
+import io.andrelucas.business.SortDirection;
+import io.andrelucas.business.repositories.CallContext;
+import io.andrelucas.business.repositories.ResumeRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs several searches of different kinds at once and answers them together, listing each resume once however
+ * many of the searches found it.
+ *
+ * <p>Searches share a pool of {@code parallelism} threads across all batches. Each one may take up to
+ * {@code timeout} from the start of its batch; one that fails or runs late is reported on its own and does not
+ * hold back the others. A late search is left to finish on its thread rather than interrupted, which would close
+ * the connection it holds.
+ */
+@Component
+public class BatchSearchUseCase {
+
+    private static final int DEFAULT_SIZE = 10;
+
+    private final ResumeRepository repository;
+    private final CallContext callContext;
+    private final BatchSearchProperties properties;
+    private final ThreadPoolExecutor executor;
+
+    public BatchSearchUseCase(final ResumeRepository repository,
+                              final CallContext callContext,
+                              final BatchSearchProperties properties) {
+        this.repository = repository;
+        this.callContext = callContext;
+        this.properties = properties;
+        final AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.parallelism(), properties.parallelism(), 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.parallelism() * properties.maxQueries()),
+            task -> {
+                final Thread thread = new Thread(task, "batch-search-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    public BatchSearchResponse search(List<BatchSearchQuery> queries) {
+        if (queries == null || queries.isEmpty()) {
+            throw new IllegalArgumentException("queries cannot be null or empty");
+        }
+        if (queries.size() > properties.maxQueries()) {
+            throw new IllegalArgumentException("at most " + properties.maxQueries() + " queries per batch");
+        }
+
+        final long deadline = System.nanoTime() + properties.timeout().toNanos();
+
+        final List<Future<Found>> futures = new ArrayList<>(queries.size());
+        for (BatchSearchQuery query : queries) {
+            Future<Found> future;
+            try {
+                // Searches run on the pool's threads, on behalf of whoever called the batch
+                future = executor.submit(callContext.propagate(() -> run(query)));
+            } catch (RejectedExecutionException e) {
+                future = null;
+            }
+            futures.add(future);
+        }
+
+        final List<BatchSearchResult> results = new ArrayList<>(queries.size());
+        final Map<UUID, ResumeResponse> resumes = new LinkedHashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            final BatchSearchQuery query = queries.get(i);
+            final Future<Found> future = futures.get(i);
+            if (future == null) {
+                results.add(BatchSearchResult.failed(i, query.type(), "too many searches in progress"));
+                continue;
+            }
+            try {
+                final Found found = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                found.resumes().forEach(resume -> resumes.putIfAbsent(resume.id(), resume));
+                results.add(BatchSearchResult.ok(i, query.type(),
+                    found.resumes().stream().map(ResumeResponse::id).toList(), found.totalElements()));
+            } catch (TimeoutException e) {
+                future.cancel(false);
+                results.add(BatchSearchResult.timedOut(i, query.type()));
+            } catch (ExecutionException e) {
+                results.add(BatchSearchResult.failed(i, query.type(), e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(pending -> {
+                    if (pending != null) {
+                        pending.cancel(false);
+                    }
+                });
+                throw new IllegalStateException("batch search interrupted", e);
+            }
+        }
+        return new BatchSearchResponse(results, List.copyOf(resumes.values()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Found run(BatchSearchQuery query) {
+        if (query == null || query.type() == null) {
+            throw new IllegalArgumentException("type cannot be null");
+        }
+        final int page = query.page() != null ? query.page() : 0;
+        final int size = query.size() != null ? query.size() : DEFAULT_SIZE;
+        final Pageable pageable = PageRequest.of(page, size);
+
+        final Page<Resume> results = switch (query.type()) {
+            case TOPIC -> {
+                if (query.topic() == null || query.topic().isEmpty()) {
+                    throw new IllegalArgumentException("topic cannot be null or empty");
+                }
+                yield repository.findByTopic(query.topic(), pageable);
+            }
+            case KEYWORD -> {
+                if (query.keyword() == null || query.keyword().isEmpty()) {
+                    throw new IllegalArgumentException("keyword cannot be null or empty");
+                }
+                yield repository.findByContentContainingIgnoreCase(query.keyword(), pageable);
+            }
+            case DATE_RANGE -> {
+                final DateRangeQuery range = new DateRangeQuery(query.fromDate(), query.toDate());
+                yield repository.findByCreatedAtBetween(range.fromDate(), range.toDate(), pageable);
+            }
+            case LATEST -> repository.findAllByOrderByCreatedAtDesc(pageable);
+            case ADVANCED -> repository.findByCustomCriteria(new ResumeSearchQuery(
+                query.topic(),
+                query.fromDate(),
+                query.toDate(),
+                query.keyword(),
+                query.sortBy(),
+                query.sortDirection() != null ? query.sortDirection() : SortDirection.DESC,
+                page,
+                size
+            ), pageable);
+        };
+
+        // Bodies are loaded here too, so they are fetched in parallel rather than by the caller
+        return new Found(results.getContent().stream().map(ResumeMapper::toResponse).toList(), results.getTotalElements());
+    }
+
+    private record Found(List<ResumeResponse> resumes, long totalElements) {}
+}
@@ -1,22 +1,68 @@
 package io.andrelucas.business.usecases;
 
+import java.util.UUID;
+
 import org.springframework.stereotype.Component;
 
+import io.andrelucas.business.CreateResumeResponse;
+import io.andrelucas.business.MinHashSignature;
+import io.andrelucas.business.Platform;
 import io.andrelucas.business.Resume;
 import io.andrelucas.business.ResumeRequest;
+import io.andrelucas.business.repositories.ResumeDuplicateIndex;
 import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ResumeSemanticIndex;
 
 @Component
 public class CreateResumeUseCase {
     
     private final ResumeRepository repository;
+    private final ResumeSemanticIndex semanticIndex;
+    private final ResumeDuplicateIndex duplicateIndex;
+    private final SingleFlight singleFlight;
+    private final ThumbnailPipeline thumbnails;
 
-    public CreateResumeUseCase(final ResumeRepository repository) {
+    public CreateResumeUseCase(final ResumeRepository repository,
+                               final ResumeSemanticIndex semanticIndex,
+                               final ResumeDuplicateIndex duplicateIndex,
+                               final SingleFlight singleFlight,
+                               final ThumbnailPipeline thumbnails) {
         this.repository = repository;
+        this.semanticIndex = semanticIndex;
+        this.duplicateIndex = duplicateIndex;
+        this.singleFlight = singleFlight;
+        this.thumbnails = thumbnails;
+    }
+
+    public CreateResumeResponse create(final ResumeRequest resumeRequest) {
+        return create(UUID.randomUUID(), resumeRequest);
     }
 
-    public Resume create(final ResumeRequest resumeRequest) {
-        final var resume = Resume.create(resumeRequest.topic(), resumeRequest.content());
-        return repository.save(resume);
+    /**
+     * Creates the resume under {@code id}, replacing the one already saved under it, if any.
+     */
+    public CreateResumeResponse create(final UUID id, final ResumeRequest resumeRequest) {
+        return create(id, resumeRequest, null, null);
+    }
+
+    /**
+     * Creates the resume under {@code id} as the variant of {@code groupId} written for {@code platform}, or as a
+     * single resume when {@code groupId} is {@code null}.
+     */
+    public CreateResumeResponse create(final UUID id, final ResumeRequest resumeRequest,
+                                       final UUID groupId, final Platform platform) {
+        final var resume = Resume.create(id, resumeRequest.topic(), resumeRequest.content()).inGroup(groupId, platform);
+        final var signature = MinHashSignature.of(resume.content());
+        // A re-create under the same id, e.g. a retried generation, is not a duplicate of itself
+        final var nearDuplicates = duplicateIndex.findNearDuplicates(signature).stream()
+            .filter(duplicate -> !duplicate.resumeId().equals(id))
+            .toList();
+
+        final var saved = repository.save(resume);
+        singleFlight.writeCompleted();
+        semanticIndex.index(saved);
+        duplicateIndex.add(saved.id(), signature);
+        thumbnails.request(saved);
+        return new CreateResumeResponse(saved, nearDuplicates);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,51 @@
+package io.andrelucas.business.usecases;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.DuplicateCluster;
+import io.andrelucas.business.DuplicateClusterMember;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.ResumeDuplicateIndex;
+import io.andrelucas.business.repositories.ResumeRepository;
+
+@Component
+public class FindDuplicateClustersUseCase {
+
+    private final ResumeDuplicateIndex duplicateIndex;
+    private final ResumeRepository repository;
+
+    public FindDuplicateClustersUseCase(final ResumeDuplicateIndex duplicateIndex, final ResumeRepository repository) {
+        this.duplicateIndex = duplicateIndex;
+        this.repository = repository;
+    }
+
+    public List<DuplicateCluster> findClusters() {
+        List<Set<UUID>> clusters = duplicateIndex.findClusters();
+        if (clusters.isEmpty()) {
+            return List.of();
+        }
+
+        // Bodies are never touched here, so only the summary fields are read
+        Map<UUID, Resume> resumes = repository.findAllByIds(clusters.stream().flatMap(Set::stream).toList())
+            .stream()
+            .collect(Collectors.toMap(Resume::id, Function.identity()));
+
+        return clusters.stream()
+            .map(cluster -> new DuplicateCluster(cluster.stream()
+                .map(resumes::get)
+                .filter(resume -> resume != null)
+                .sorted(Comparator.comparing(Resume::createdAt))
+                .map(resume -> new DuplicateClusterMember(resume.id(), resume.topic(), resume.createdAt()))
+                .toList()))
+            .filter(cluster -> cluster.members().size() > 1)
+            .toList();
+    }
+}
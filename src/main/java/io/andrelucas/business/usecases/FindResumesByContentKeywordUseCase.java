@@ -1,31 +1,51 @@
 package io.andrelucas.business.usecases;
 
+import java.util.List;
+import java.util.Locale;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import io.andrelucas.business.PagedResumeHitResponse;
 import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
 import io.andrelucas.business.ResumeMapper;
+import io.andrelucas.business.ResumeSnippets;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
 import io.andrelucas.business.repositories.ResumeRepository;
 
 @Component
 public class FindResumesByContentKeywordUseCase {
     
     private final ResumeRepository repository;
+    private final SingleFlight singleFlight;
 
-    public FindResumesByContentKeywordUseCase(final ResumeRepository repository) {
+    public FindResumesByContentKeywordUseCase(final ResumeRepository repository, final SingleFlight singleFlight) {
         this.repository = repository;
+        this.singleFlight = singleFlight;
     }
 
     public PagedResumeResponse findByContentKeyword(String keyword, int page, int size) {
+        return ResumeMapper.toPagedResponse(search(keyword, page, size));
+    }
+
+    /**
+     * Same search, returning the windows around the matches instead of whole bodies.
+     */
+    public PagedResumeHitResponse findSnippetsByContentKeyword(String keyword, int page, int size) {
+        return ResumeMapper.toPagedHitResponse(search(keyword, page, size), ResumeSnippets.literal(keyword));
+    }
+
+    private Page<Resume> search(String keyword, int page, int size) {
         if (keyword == null || keyword.isEmpty()) {
             throw new IllegalArgumentException("keyword cannot be null or empty");
         }
-        
+
         Pageable pageable = PageRequest.of(page, size);
-        Page<Resume> results = repository.findByContentContainingIgnoreCase(keyword, pageable);
-        return ResumeMapper.toPagedResponse(results);
+        // The match ignores case, so differently cased keywords share one read, as do full and snippet searches
+        return singleFlight.execute(ReadPreferencePolicy.FIND_BY_CONTENT_KEYWORD, List.of(keyword.toLowerCase(Locale.ROOT), pageable),
+            () -> repository.findByContentContainingIgnoreCase(keyword, pageable));
     }
 } 
\ No newline at end of file
@@ -1,28 +1,49 @@
 package io.andrelucas.business.usecases;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import io.andrelucas.business.PagedResumeHitResponse;
 import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
 import io.andrelucas.business.ResumeMapper;
 import io.andrelucas.business.ResumeSearchQuery;
+import io.andrelucas.business.ResumeSnippets;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
 import io.andrelucas.business.repositories.ResumeRepository;
 
 @Component
 public class FindResumesByCustomCriteriaUseCase {
     
     private final ResumeRepository repository;
+    private final SingleFlight singleFlight;
 
-    public FindResumesByCustomCriteriaUseCase(final ResumeRepository repository) {
+    public FindResumesByCustomCriteriaUseCase(final ResumeRepository repository, final SingleFlight singleFlight) {
         this.repository = repository;
+        this.singleFlight = singleFlight;
     }
 
     public PagedResumeResponse findByCustomCriteria(ResumeSearchQuery query) {
+        return ResumeMapper.toPagedResponse(search(query));
+    }
+
+    /**
+     * Same search, returning the windows around the keyword's matches, or the opening of each resume without a
+     * keyword, instead of whole bodies.
+     */
+    public PagedResumeHitResponse findSnippetsByCustomCriteria(ResumeSearchQuery query) {
+        final String keyword = query.contentKeyword();
+        return ResumeMapper.toPagedHitResponse(search(query),
+            keyword != null && !keyword.isEmpty() ? ResumeSnippets.regex(keyword) : null);
+    }
+
+    private Page<Resume> search(ResumeSearchQuery query) {
         Pageable pageable = PageRequest.of(query.page(), query.size());
-        Page<Resume> results = repository.findByCustomCriteria(query, pageable);
-        return ResumeMapper.toPagedResponse(results);
+        return singleFlight.execute(ReadPreferencePolicy.FIND_BY_CUSTOM_CRITERIA, List.of(query, pageable),
+            () -> repository.findByCustomCriteria(query, pageable));
     }
 } 
\ No newline at end of file
@@ -1,5 +1,7 @@
 package io.andrelucas.business.usecases;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -9,15 +11,18 @@ import io.andrelucas.business.DateRangeQuery;
 import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
 import io.andrelucas.business.ResumeMapper;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
 import io.andrelucas.business.repositories.ResumeRepository;
 
 @Component
 public class FindResumesByDateRangeUseCase {
     
     private final ResumeRepository repository;
+    private final SingleFlight singleFlight;
 
-    public FindResumesByDateRangeUseCase(final ResumeRepository repository) {
+    public FindResumesByDateRangeUseCase(final ResumeRepository repository, final SingleFlight singleFlight) {
         this.repository = repository;
+        this.singleFlight = singleFlight;
     }
 
     public PagedResumeResponse findByDateRange(DateRangeQuery dateRange, int page, int size) {
@@ -26,11 +31,12 @@ public class FindResumesByDateRangeUseCase {
         }
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<Resume> results = repository.findByCreatedAtBetween(
-            dateRange.fromDate(), 
-            dateRange.toDate(), 
-            pageable
-        );
+        Page<Resume> results = singleFlight.execute(ReadPreferencePolicy.FIND_BY_DATE_RANGE, List.of(dateRange, pageable),
+            () -> repository.findByCreatedAtBetween(
+                dateRange.fromDate(),
+                dateRange.toDate(),
+                pageable
+            ));
         return ResumeMapper.toPagedResponse(results);
     }
 } 
\ No newline at end of file
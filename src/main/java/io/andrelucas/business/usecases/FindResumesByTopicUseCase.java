@@ -1,5 +1,7 @@
 package io.andrelucas.business.usecases;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -8,15 +10,18 @@ import org.springframework.stereotype.Component;
 import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
 import io.andrelucas.business.ResumeMapper;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
 import io.andrelucas.business.repositories.ResumeRepository;
 
 @Component
 public class FindResumesByTopicUseCase {
     
     private final ResumeRepository repository;
+    private final SingleFlight singleFlight;
 
-    public FindResumesByTopicUseCase(final ResumeRepository repository) {
+    public FindResumesByTopicUseCase(final ResumeRepository repository, final SingleFlight singleFlight) {
         this.repository = repository;
+        this.singleFlight = singleFlight;
     }
 
     public PagedResumeResponse findByTopic(String topic, int page, int size) {
@@ -25,7 +30,8 @@ public class FindResumesByTopicUseCase {
         }
         
         Pageable pageable = PageRequest.of(page, size);
-        Page<Resume> results = repository.findByTopic(topic, pageable);
+        Page<Resume> results = singleFlight.execute(ReadPreferencePolicy.FIND_BY_TOPIC, List.of(topic, pageable),
+            () -> repository.findByTopic(topic, pageable));
         return ResumeMapper.toPagedResponse(results);
     }
 } 
\ No newline at end of file
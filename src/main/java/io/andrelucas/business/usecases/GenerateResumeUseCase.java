@@ -0,0 +1,38 @@
+package io.andrelucas.business.usecases;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.GenerationJob;
+import io.andrelucas.business.repositories.GenerationJobQueue;
+
+/**
+ * Queues resumes to be generated in the background by {@link GenerationWorkers}, so callers get a job to poll
+ * instead of waiting for the model.
+ */
+@Component
+public class GenerateResumeUseCase {
+
+    private final GenerationJobQueue queue;
+    private final GenerationWorkers workers;
+
+    public GenerateResumeUseCase(final GenerationJobQueue queue, final GenerationWorkers workers) {
+        this.queue = queue;
+        this.workers = workers;
+    }
+
+    public GenerationJob submit(String topic, String instructions) {
+        final GenerationJob job = queue.enqueue(GenerationJob.queue(topic, instructions));
+        workers.wakeUp();
+        return job;
+    }
+
+    public GenerationJob getStatus(UUID jobId) {
+        if (jobId == null) {
+            throw new IllegalArgumentException("jobId cannot be null");
+        }
+        return queue.findById(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("Generation job not found: " + jobId));
+    }
+}
@@ -0,0 +1,92 @@
+package io.andrelucas.business.usecases;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.GenerationJob;
+import io.andrelucas.business.Platform;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.VariantGenerationResponse;
+import io.andrelucas.business.VariantProperties;
+import io.andrelucas.business.repositories.GenerationJobQueue;
+import io.andrelucas.business.repositories.ResumeRepository;
+
+/**
+ * Generates one variant of a topic, or of an existing resume, for each target platform. Every variant is its own
+ * generation job, prompted with the platform's template, so {@link GenerationWorkers} write them at the same time
+ * and the group takes as long as its slowest variant rather than the sum of them.
+ *
+ * <p>The variants are saved as resumes sharing a group id. Adapting a resume that is itself a variant adds the new
+ * ones to its group.
+ */
+@Component
+public class GenerateVariantsUseCase {
+
+    private final GenerationJobQueue queue;
+    private final GenerationWorkers workers;
+    private final ResumeRepository repository;
+    private final VariantProperties properties;
+
+    public GenerateVariantsUseCase(final GenerationJobQueue queue,
+                                   final GenerationWorkers workers,
+                                   final ResumeRepository repository,
+                                   final VariantProperties properties) {
+        this.queue = queue;
+        this.workers = workers;
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    /**
+     * Queues a variant about {@code topic}, or adapted from the resume {@code sourceResumeId}, for each of
+     * {@code platforms}, or for every platform when there are none.
+     */
+    public VariantGenerationResponse generate(String topic, UUID sourceResumeId, List<Platform> platforms, String instructions) {
+        if (sourceResumeId == null && (topic == null || topic.isEmpty())) {
+            throw new IllegalArgumentException("topic or sourceResumeId is required");
+        }
+        final Resume source = sourceResumeId != null ? findSource(sourceResumeId) : null;
+        final String variantTopic = topic != null && !topic.isEmpty() ? topic : source.topic();
+        final UUID groupId = source != null && source.groupId() != null ? source.groupId() : UUID.randomUUID();
+
+        final Set<Platform> targets = platforms == null || platforms.isEmpty()
+            ? new LinkedHashSet<>(List.of(Platform.values()))
+            : new LinkedHashSet<>(platforms);
+        final List<GenerationJob> jobs = new ArrayList<>(targets.size());
+        for (Platform platform : targets) {
+            if (platform == null) {
+                throw new IllegalArgumentException("platforms cannot contain null");
+            }
+            jobs.add(queue.enqueue(GenerationJob.queue(variantTopic, prompt(platform, source, instructions), groupId, platform)));
+        }
+        // Every variant is queued before any worker is woken, so idle workers each take one of them
+        workers.wakeUp();
+        return new VariantGenerationResponse(groupId, jobs);
+    }
+
+    private Resume findSource(UUID sourceResumeId) {
+        final Resume source = repository.findAllByIds(List.of(sourceResumeId)).stream()
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Resume not found: " + sourceResumeId));
+        if (source.draft()) {
+            throw new IllegalArgumentException("Resume is still being generated: " + sourceResumeId);
+        }
+        return source;
+    }
+
+    private String prompt(Platform platform, Resume source, String instructions) {
+        final StringBuilder prompt = new StringBuilder(properties.templateFor(platform));
+        if (instructions != null && !instructions.isBlank()) {
+            prompt.append("\n\n").append(instructions);
+        }
+        if (source != null) {
+            prompt.append("\n\nAdapt this existing resume:\n\n").append(source.content());
+        }
+        return prompt.toString();
+    }
+}
@@ -0,0 +1,292 @@
+package io.andrelucas.business.usecases;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.GenerationJob;
+import io.andrelucas.business.GenerationProperties;
+import io.andrelucas.business.ResumeRequest;
+import io.andrelucas.business.repositories.ContentGenerator;
+import io.andrelucas.business.repositories.GenerationJobQueue;
+import io.andrelucas.business.repositories.ResumeDrafts;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Pool of {@code workers} threads that take jobs off the {@link GenerationJobQueue}, generate their content and
+ * save it as a resume. Throughput grows with the number of workers, across instances too since they share the
+ * queue.
+ *
+ * <p>When {@code streaming}, the resume is written as a draft while the model produces it, in batches of
+ * {@code draftFlushChars} or every {@code draftFlushInterval}, so readers see it grow from the first words and a
+ * crash keeps what was written so far. The finished resume then replaces the draft.
+ *
+ * <p>While a job runs, its lease is extended every half lease, so a generation that takes longer than the lease is
+ * not taken over while it is still making progress. The lease is extended once more before the resume is saved or
+ * the draft dropped: a worker whose job was taken over leaves both to the new owner, and stops streaming at its
+ * next batch.
+ *
+ * <p>A generation that fails is retried with exponential backoff and jitter until {@code maxAttempts}; invalid
+ * input fails the job at once. A job that fails for good takes its draft with it.
+ */
+@Component
+public class GenerationWorkers {
+
+    private static final Logger logger = LoggerFactory.getLogger(GenerationWorkers.class);
+
+    private final GenerationJobQueue queue;
+    private final ContentGenerator generator;
+    private final ResumeDrafts drafts;
+    private final CreateResumeUseCase createResumeUseCase;
+    private final GenerationProperties properties;
+    private final Object idle = new Object();
+    private final List<Thread> threads = new ArrayList<>();
+    private final ScheduledThreadPoolExecutor renewals = new ScheduledThreadPoolExecutor(1, task -> {
+        final Thread thread = new Thread(task, "generation-lease-renewal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean running;
+
+    public GenerationWorkers(final GenerationJobQueue queue,
+                             final ContentGenerator generator,
+                             final ResumeDrafts drafts,
+                             final CreateResumeUseCase createResumeUseCase,
+                             final GenerationProperties properties) {
+        this.queue = queue;
+        this.generator = generator;
+        this.drafts = drafts;
+        this.createResumeUseCase = createResumeUseCase;
+        this.properties = properties;
+        this.renewals.setRemoveOnCancelPolicy(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        for (int i = 1; i <= properties.workers(); i++) {
+            final Thread thread = new Thread(this::work, "generation-worker-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            threads.add(thread);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        threads.clear();
+        renewals.shutdownNow();
+    }
+
+    /**
+     * Lets idle workers look for a job now rather than at their next poll.
+     */
+    public void wakeUp() {
+        synchronized (idle) {
+            idle.notifyAll();
+        }
+    }
+
+    /**
+     * Claims the next due job and runs it, returning whether there was one.
+     */
+    public boolean runNext() {
+        final LocalDateTime now = LocalDateTime.now();
+        final Optional<GenerationJob> claimed = queue.claimNext(now, now.plus(properties.lease()));
+        claimed.ifPresent(this::run);
+        return claimed.isPresent();
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                if (!runNext()) {
+                    synchronized (idle) {
+                        idle.wait(properties.pollInterval().toMillis());
+                    }
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                // The queue itself failed; back off rather than spin on it
+                logger.warn("Generation worker could not claim a job", e);
+                try {
+                    Thread.sleep(properties.pollInterval().toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void run(GenerationJob job) {
+        final Lease lease = new Lease(job);
+        try {
+            final String content = properties.streaming()
+                ? generateDraft(job, lease)
+                : generator.generate(job.topic(), job.instructions());
+            if (!lease.renew()) {
+                logger.info("Generation job {} was taken over by another worker, dropping its content", job.id());
+                return;
+            }
+            createResumeUseCase.create(job.id(), new ResumeRequest(job.topic(), content), job.groupId(), job.platform());
+            if (properties.streaming()) {
+                drafts.finish(job.id());
+            }
+            queue.succeed(job, job.id());
+        } catch (IllegalArgumentException e) {
+            discardDraft(job, lease);
+            queue.fail(job, e.getMessage());
+        } catch (RuntimeException e) {
+            if (job.attempts() >= properties.maxAttempts()) {
+                logger.warn("Generation job {} failed after {} attempts", job.id(), job.attempts(), e);
+                discardDraft(job, lease);
+                queue.fail(job, e.getMessage());
+            } else {
+                queue.retry(job, e.getMessage(), LocalDateTime.now().plus(backoff(job.attempts())));
+            }
+        } finally {
+            lease.release();
+        }
+    }
+
+    private String generateDraft(GenerationJob job, Lease lease) {
+        drafts.start(job.id(), job.topic());
+        queue.attachResume(job, job.id());
+        final Draft draft = new Draft(job, lease);
+        final String content = generator.generate(job.topic(), job.instructions(), draft::add);
+        draft.flush();
+        return content;
+    }
+
+    /**
+     * Drops the draft of a job that will not be retried, so searches stop showing a resume that is never finished.
+     * A retry starts its draft over instead, and a job taken over keeps the new owner's.
+     */
+    private void discardDraft(GenerationJob job, Lease lease) {
+        if (!properties.streaming() || !lease.renew()) {
+            return;
+        }
+        try {
+            drafts.finish(job.id());
+        } catch (RuntimeException e) {
+            logger.warn("Could not discard the draft of failed generation job {}", job.id(), e);
+        }
+    }
+
+    /**
+     * Wait before retrying after {@code attempts} tries: half of the exponential delay plus a random share of the
+     * other half, so jobs that failed together do not all come back together.
+     */
+    Duration backoff(int attempts) {
+        final long initial = properties.initialBackoff().toMillis();
+        final long exponential = Math.min(properties.maxBackoff().toMillis(), initial << Math.min(attempts - 1, 20));
+        return Duration.ofMillis(exponential / 2 + ThreadLocalRandom.current().nextLong(exponential / 2 + 1));
+    }
+
+    /**
+     * The claim of a running job, extended in the background every half lease until it is released or another
+     * worker takes the job over.
+     */
+    private final class Lease {
+
+        private final GenerationJob job;
+        private final ScheduledFuture<?> renewal;
+        private long renewedAt = System.nanoTime();
+        private boolean lost;
+
+        private Lease(final GenerationJob job) {
+            this.job = job;
+            final long half = Math.max(1, properties.lease().toNanos() / 2);
+            this.renewal = renewals.scheduleAtFixedRate(this::renewInBackground, half, half, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Extends the lease if half of it has passed, returning whether the job is still this worker's.
+         */
+        private synchronized boolean renewIfDue() {
+            if (!lost && System.nanoTime() - renewedAt >= properties.lease().toNanos() / 2) {
+                renew();
+            }
+            return !lost;
+        }
+
+        /**
+         * Extends the lease now, returning whether the job is still this worker's.
+         */
+        private synchronized boolean renew() {
+            if (!lost) {
+                lost = !queue.extendLease(job, LocalDateTime.now().plus(properties.lease()));
+                renewedAt = System.nanoTime();
+            }
+            return !lost;
+        }
+
+        private void renewInBackground() {
+            try {
+                renewIfDue();
+            } catch (RuntimeException e) {
+                // Tried again at the next period, and by the worker itself before it saves
+                logger.warn("Could not extend the lease of generation job {}", job.id(), e);
+            }
+        }
+
+        private void release() {
+            renewal.cancel(false);
+        }
+    }
+
+    /**
+     * Text streamed by the model and not saved to the draft yet. Saving it stops the generation if the job was
+     * taken over, so two workers never write the same draft.
+     */
+    private final class Draft {
+
+        private final GenerationJob job;
+        private final Lease lease;
+        private final StringBuilder pending = new StringBuilder();
+        private long lastFlush = System.nanoTime() - properties.draftFlushInterval().toNanos();
+
+        private Draft(final GenerationJob job, final Lease lease) {
+            this.job = job;
+            this.lease = lease;
+        }
+
+        private void add(String text) {
+            pending.append(text);
+            if (pending.length() >= properties.draftFlushChars()
+                || System.nanoTime() - lastFlush >= properties.draftFlushInterval().toNanos()) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!lease.renewIfDue()) {
+                throw new IllegalStateException("generation job " + job.id() + " was taken over by another worker");
+            }
+            if (!pending.isEmpty()) {
+                drafts.append(job.id(), pending.toString());
+                pending.setLength(0);
+            }
+            lastFlush = System.nanoTime();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package io.andrelucas.business.usecases;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -8,20 +10,24 @@ import org.springframework.stereotype.Component;
 import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
 import io.andrelucas.business.ResumeMapper;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
 import io.andrelucas.business.repositories.ResumeRepository;
 
 @Component
 public class GetLatestResumesUseCase {
     
     private final ResumeRepository repository;
+    private final SingleFlight singleFlight;
 
-    public GetLatestResumesUseCase(final ResumeRepository repository) {
+    public GetLatestResumesUseCase(final ResumeRepository repository, final SingleFlight singleFlight) {
         this.repository = repository;
+        this.singleFlight = singleFlight;
     }
 
     public PagedResumeResponse getLatest(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Resume> results = repository.findAllByOrderByCreatedAtDesc(pageable);
+        Page<Resume> results = singleFlight.execute(ReadPreferencePolicy.GET_LATEST, List.of(pageable),
+            () -> repository.findAllByOrderByCreatedAtDesc(pageable));
         return ResumeMapper.toPagedResponse(results);
     }
 } 
\ No newline at end of file
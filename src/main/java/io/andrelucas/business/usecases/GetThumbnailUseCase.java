@@ -0,0 +1,36 @@
+package io.andrelucas.business.usecases;
+
+import java.util.Base64;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.ThumbnailResponse;
+import io.andrelucas.business.repositories.BlobStore;
+import io.andrelucas.business.repositories.ResumeThumbnails;
+import io.andrelucas.business.repositories.TitleCardRenderer;
+
+@Component
+public class GetThumbnailUseCase {
+
+    private final ResumeThumbnails thumbnails;
+    private final BlobStore blobs;
+    private final TitleCardRenderer renderer;
+
+    public GetThumbnailUseCase(final ResumeThumbnails thumbnails, final BlobStore blobs, final TitleCardRenderer renderer) {
+        this.thumbnails = thumbnails;
+        this.blobs = blobs;
+        this.renderer = renderer;
+    }
+
+    public ThumbnailResponse get(UUID resumeId) {
+        if (resumeId == null) {
+            throw new IllegalArgumentException("resumeId cannot be null");
+        }
+        final String ref = thumbnails.find(resumeId)
+            .orElseThrow(() -> new IllegalArgumentException("No thumbnail for resume " + resumeId + " yet"));
+        final byte[] image = blobs.get(ref)
+            .orElseThrow(() -> new IllegalStateException("Thumbnail " + ref + " is missing from the blob store"));
+        return new ThumbnailResponse(resumeId, ref, renderer.contentType(), Base64.getEncoder().encodeToString(image));
+    }
+}
@@ -0,0 +1,29 @@
+package io.andrelucas.business.usecases;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.ResumeMapper;
+import io.andrelucas.business.ResumeResponse;
+import io.andrelucas.business.repositories.ResumeRepository;
+
+@Component
+public class GetVariantGroupUseCase {
+
+    private final ResumeRepository repository;
+
+    public GetVariantGroupUseCase(final ResumeRepository repository) {
+        this.repository = repository;
+    }
+
+    public List<ResumeResponse> get(UUID groupId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId cannot be null");
+        }
+        return repository.findByGroupId(groupId).stream()
+            .map(ResumeMapper::toResponse)
+            .toList();
+    }
+}
@@ -0,0 +1,362 @@
+package io.andrelucas.business.usecases;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ScheduleStatus;
+import io.andrelucas.business.ScheduledPost;
+import io.andrelucas.business.SchedulingProperties;
+import io.andrelucas.business.repositories.LeaderLease;
+import io.andrelucas.business.repositories.PostPublisher;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ScheduleStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Publishes scheduled posts when they are due, from the one instance holding the scheduler's {@link LeaderLease}.
+ *
+ * <p>The leader keeps every scheduled post in a {@link TimingWheel} and advances it once per {@code tick}, so a due
+ * post is found without querying the {@link ScheduleStore}. It loads the wheel from the store when it takes the
+ * lease, adds posts scheduled on this instance at once, and every {@code syncInterval} picks up posts scheduled or
+ * cancelled on the others by reading only what changed since. An instance that loses the lease drops its wheel.
+ *
+ * <p>A post is marked published only after the {@link PostPublisher} returns, so one whose instance stopped in
+ * between is published again by the next leader. Failed publishes are retried with exponential backoff and jitter
+ * until {@code maxAttempts}.
+ *
+ * <ul>
+ *   <li>{@code scheduling.pending}: posts waiting in the leader's wheel</li>
+ *   <li>{@code scheduling.leader}: 1 on the instance publishing posts</li>
+ *   <li>{@code scheduling.publishes}: publishes by outcome, {@code published}, {@code retried} or
+ *       {@code failed}</li>
+ * </ul>
+ */
+@Component
+public class PostScheduler {
+
+    static final String LEASE = "post-scheduler";
+
+    private static final Logger logger = LoggerFactory.getLogger(PostScheduler.class);
+
+    private final ScheduleStore store;
+    private final LeaderLease lease;
+    private final PostPublisher publisher;
+    private final ResumeRepository repository;
+    private final SchedulingProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final String owner = UUID.randomUUID().toString();
+    private final Set<UUID> publishing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService executor;
+
+    // Only the leader has a wheel
+    private TimingWheel<UUID> wheel;
+    private LocalDateTime syncedSince;
+    private Thread thread;
+    private volatile boolean running;
+
+    public PostScheduler(final ScheduleStore store,
+                         final LeaderLease lease,
+                         final PostPublisher publisher,
+                         final ResumeRepository repository,
+                         final SchedulingProperties properties,
+                         final MeterRegistry registry) {
+        this.store = store;
+        this.lease = lease;
+        this.publisher = publisher;
+        this.repository = repository;
+        this.properties = properties;
+        this.registry = registry;
+        final AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.threads(), task -> {
+            final Thread thread = new Thread(task, "post-publisher-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("scheduling.pending", this, PostScheduler::pending)
+            .description("Scheduled posts waiting to be published").register(registry);
+        Gauge.builder("scheduling.leader", this, scheduler -> scheduler.isLeader() ? 1 : 0)
+            .description("Whether this instance publishes scheduled posts").register(registry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running || !properties.enabled()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "post-scheduler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        synchronized (this) {
+            running = false;
+            if (thread != null) {
+                thread.interrupt();
+                thread = null;
+            }
+            wheel = null;
+        }
+        executor.shutdownNow();
+        try {
+            lease.release(LEASE, owner);
+        } catch (RuntimeException e) {
+            logger.warn("Could not release the post scheduler lease", e);
+        }
+    }
+
+    /**
+     * Adds a post just scheduled on this instance to the wheel, or leaves it for the leader to pick up.
+     */
+    public void schedule(ScheduledPost post) {
+        track(post);
+    }
+
+    public synchronized void cancel(UUID id) {
+        if (wheel != null) {
+            wheel.cancel(id);
+        }
+    }
+
+    public synchronized boolean isLeader() {
+        return wheel != null;
+    }
+
+    /**
+     * Takes or renews the lease, loading the wheel when this instance becomes the leader and dropping it when it
+     * stops being one.
+     */
+    boolean keepLeadership() {
+        boolean held;
+        try {
+            held = lease.acquire(LEASE, owner, properties.leaderLease());
+        } catch (RuntimeException e) {
+            // The lease may run out before it can be renewed, so stop publishing rather than risk doing it twice
+            logger.warn("Could not renew the post scheduler lease", e);
+            held = false;
+        }
+        if (held && !isLeader()) {
+            reload();
+        } else if (!held && isLeader()) {
+            synchronized (this) {
+                wheel = null;
+            }
+            logger.info("Stopped publishing scheduled posts, another instance holds the lease");
+        }
+        return held;
+    }
+
+    /**
+     * Picks up posts scheduled, rescheduled or cancelled on other instances since the last sync.
+     */
+    void sync() {
+        final LocalDateTime since;
+        synchronized (this) {
+            since = syncedSince;
+        }
+        if (since == null) {
+            return;
+        }
+        // Overlap with the previous sync, for writes made in the meantime and for clocks running slightly apart
+        final LocalDateTime next = LocalDateTime.now().minus(properties.syncInterval());
+        store.forEachUpdatedSince(since, this::track);
+        synchronized (this) {
+            if (syncedSince != null) {
+                syncedSince = next;
+            }
+        }
+    }
+
+    /**
+     * Advances the wheel to {@code nowMillis} and starts publishing every post now due.
+     */
+    void tick(long nowMillis) {
+        final List<UUID> due = new ArrayList<>();
+        synchronized (this) {
+            if (wheel == null) {
+                return;
+            }
+            wheel.advance(nowMillis, due::add);
+            publishing.addAll(due);
+        }
+        for (UUID id : due) {
+            try {
+                executor.execute(() -> publish(id));
+            } catch (RejectedExecutionException e) {
+                // Shutting down: the post stays scheduled in the store for the next leader
+                publishing.remove(id);
+            }
+        }
+    }
+
+    void publish(UUID id) {
+        LocalDateTime retryAt = null;
+        try {
+            // The store has the last word: the post may have been published, cancelled or moved meanwhile
+            final ScheduledPost post = store.findById(id).orElse(null);
+            if (post == null || post.status() != ScheduleStatus.SCHEDULED) {
+                return;
+            }
+            final LocalDateTime now = LocalDateTime.now();
+            if (post.nextAttemptAt().isAfter(now)) {
+                retryAt = post.nextAttemptAt();
+                return;
+            }
+            retryAt = attempt(post, now);
+        } catch (RuntimeException e) {
+            // The store failed: keep the post in the wheel, to be checked again later
+            logger.warn("Could not publish scheduled post {}", id, e);
+            retryAt = LocalDateTime.now().plus(properties.initialBackoff());
+        } finally {
+            publishing.remove(id);
+        }
+        if (retryAt != null) {
+            reschedule(id, retryAt);
+        }
+    }
+
+    /**
+     * Publishes {@code post} and records the outcome, returning when to try again if it should be.
+     */
+    private LocalDateTime attempt(ScheduledPost post, LocalDateTime now) {
+        try {
+            final Resume resume = repository.findAllByIds(List.of(post.resumeId())).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Resume not found: " + post.resumeId()));
+            if (resume.draft()) {
+                // Scheduled before a regeneration started: retried until the finished resume replaces the draft
+                throw new IllegalStateException("Resume is still being generated: " + post.resumeId());
+            }
+            store.published(post.id(), publisher.publish(post, resume));
+            count("published");
+            return null;
+        } catch (IllegalArgumentException e) {
+            store.fail(post.id(), e.getMessage());
+            count("failed");
+            return null;
+        } catch (RuntimeException e) {
+            final int attempts = post.attempts() + 1;
+            if (attempts >= properties.maxAttempts()) {
+                logger.warn("Scheduled post {} failed after {} attempts", post.id(), attempts, e);
+                store.fail(post.id(), e.getMessage());
+                count("failed");
+                return null;
+            }
+            final LocalDateTime retryAt = now.plus(backoff(attempts));
+            store.retry(post.id(), e.getMessage(), retryAt);
+            count("retried");
+            return retryAt;
+        }
+    }
+
+    /**
+     * Wait before retrying after {@code attempts} tries: half of the exponential delay plus a random share of the
+     * other half.
+     */
+    Duration backoff(int attempts) {
+        final long initial = properties.initialBackoff().toMillis();
+        final long exponential = Math.min(properties.maxBackoff().toMillis(), initial << Math.min(attempts - 1, 20));
+        return Duration.ofMillis(exponential / 2 + ThreadLocalRandom.current().nextLong(exponential / 2 + 1));
+    }
+
+    private void run() {
+        long nextLeaseCheck = 0;
+        long nextSync = 0;
+        while (running) {
+            try {
+                final long now = System.currentTimeMillis();
+                if (now >= nextLeaseCheck) {
+                    keepLeadership();
+                    nextLeaseCheck = now + properties.leaderLease().toMillis() / 3;
+                }
+                if (now >= nextSync) {
+                    sync();
+                    nextSync = now + properties.syncInterval().toMillis();
+                }
+                tick(now);
+                final long tickMillis = properties.tick().toMillis();
+                Thread.sleep(tickMillis - System.currentTimeMillis() % tickMillis);
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Post scheduler failed, retrying", e);
+                try {
+                    Thread.sleep(properties.tick().toMillis());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void reload() {
+        final LocalDateTime since = LocalDateTime.now().minus(properties.syncInterval());
+        final TimingWheel<UUID> loaded = new TimingWheel<>(properties.tick().toMillis(), properties.wheelSize(),
+            properties.levels(), System.currentTimeMillis());
+        store.forEachScheduled(post -> loaded.schedule(post.id(), millis(post.nextAttemptAt())));
+        synchronized (this) {
+            wheel = loaded;
+            syncedSince = since;
+        }
+        logger.info("Publishing scheduled posts from this instance, {} pending", loaded.size());
+    }
+
+    private synchronized void track(ScheduledPost post) {
+        if (wheel == null || publishing.contains(post.id())) {
+            return;
+        }
+        if (post.status() == ScheduleStatus.SCHEDULED) {
+            wheel.schedule(post.id(), millis(post.nextAttemptAt()));
+        } else {
+            wheel.cancel(post.id());
+        }
+    }
+
+    private synchronized void reschedule(UUID id, LocalDateTime at) {
+        if (wheel != null) {
+            wheel.schedule(id, millis(at));
+        }
+    }
+
+    private synchronized int pending() {
+        return wheel != null ? wheel.size() : 0;
+    }
+
+    private void count(String outcome) {
+        counters.computeIfAbsent(outcome, key -> Counter.builder("scheduling.publishes")
+                .description("Scheduled post publishes, by outcome")
+                .tag("outcome", key)
+                .register(registry))
+            .increment();
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,261 @@
+package io.andrelucas.business.usecases;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.BlogEntry;
+import io.andrelucas.business.BlogPages;
+import io.andrelucas.business.BlogProperties;
+import io.andrelucas.business.BlogPublishResponse;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.Sha256;
+import io.andrelucas.business.TitleCard;
+import io.andrelucas.business.repositories.BlogSite;
+import io.andrelucas.business.repositories.CallContext;
+import io.andrelucas.business.repositories.ResumeRepository;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Publishes resumes to the static blog, rendering only what changed since the live version.
+ *
+ * <p>Each published resume is remembered with the {@code updatedAt} and content hash it was rendered from. A
+ * resume whose {@code updatedAt} did not move is skipped without reading its body; one whose body hashes the same
+ * is not rendered again. The index and topic pages are rendered again only when a post is added, removed or
+ * listed differently, and only for the topics involved, and the site writes only the pages handed to it. The
+ * pages rendered and written therefore follow what changed rather than the size of the blog; only the index,
+ * which lists every post, is rendered whole whenever the listing changes.
+ *
+ * <p>Posts and listing pages are rendered on a pool of {@code renderThreads} threads, and the new listing goes
+ * live at once as a new version of the site. Publishes run one at a time.
+ */
+@Component
+public class PublishBlogUseCase {
+
+    private final ResumeRepository repository;
+    private final BlogSite site;
+    private final CallContext callContext;
+    private final BlogProperties properties;
+    private final ExecutorService executor;
+
+    public PublishBlogUseCase(final ResumeRepository repository,
+                              final BlogSite site,
+                              final CallContext callContext,
+                              final BlogProperties properties) {
+        this.repository = repository;
+        this.site = site;
+        this.callContext = callContext;
+        this.properties = properties;
+        final AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(properties.threads(), task -> {
+            final Thread thread = new Thread(task, "blog-render-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds {@code resumeIds} to the blog, or renders again those already on it that changed, then refreshes
+     * every published resume when none are given.
+     */
+    public BlogPublishResponse publish(List<UUID> resumeIds) {
+        return update(resumeIds == null || resumeIds.isEmpty() ? null : resumeIds, List.of());
+    }
+
+    /**
+     * Takes {@code resumeIds} off the blog.
+     */
+    public BlogPublishResponse unpublish(List<UUID> resumeIds) {
+        if (resumeIds == null || resumeIds.isEmpty()) {
+            throw new IllegalArgumentException("resumeIds cannot be null or empty");
+        }
+        return update(List.of(), resumeIds);
+    }
+
+    private synchronized BlogPublishResponse update(List<UUID> toPublish, List<UUID> toRemove) {
+        final long start = System.nanoTime();
+        final Map<UUID, BlogEntry> live = new LinkedHashMap<>();
+        site.load().forEach(entry -> live.put(entry.resumeId(), entry));
+        final Collection<UUID> requested = toPublish != null ? new LinkedHashSet<>(toPublish) : List.copyOf(live.keySet());
+
+        // Metadata only: bodies are read below for the resumes that may have changed
+        final Map<UUID, Resume> found = new HashMap<>();
+        repository.findAllByIds(requested).forEach(resume -> found.put(resume.id(), resume));
+        final List<UUID> missing = requested.stream().filter(id -> !found.containsKey(id) && !live.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("resumes not found: " + missing);
+        }
+        final List<UUID> drafts = requested.stream().filter(id -> found.containsKey(id) && found.get(id).draft()).toList();
+        if (!drafts.isEmpty()) {
+            throw new IllegalArgumentException("resumes still being generated: " + drafts);
+        }
+
+        final Set<UUID> removed = new LinkedHashSet<>();
+        toRemove.stream().filter(live::containsKey).forEach(removed::add);
+        // Resumes deleted since they were published go with them
+        requested.stream().filter(id -> !found.containsKey(id)).forEach(removed::add);
+
+        final List<UUID> stale = requested.stream()
+            .filter(found::containsKey)
+            .filter(id -> !live.containsKey(id) || !Objects.equals(live.get(id).updatedAt(), found.get(id).updatedAt()))
+            .toList();
+
+        final Map<String, String> pages = new HashMap<>();
+        final Set<String> deleted = new HashSet<>();
+        final Map<UUID, BlogEntry> entries = new LinkedHashMap<>(live);
+        final Set<String> affectedTopics = new HashSet<>();
+        boolean indexChanged = false;
+        int rendered = 0;
+
+        for (Rendered post : renderPosts(stale, live)) {
+            final BlogEntry before = live.get(post.entry().resumeId());
+            entries.put(post.entry().resumeId(), post.entry());
+            if (post.pages().isEmpty()) {
+                continue;
+            }
+            rendered++;
+            pages.putAll(post.pages());
+            if (!post.entry().listedAs(before)) {
+                indexChanged = true;
+                affectedTopics.add(post.entry().topicSlug());
+                if (before != null) {
+                    affectedTopics.add(before.topicSlug());
+                    if (!before.slug().equals(post.entry().slug())) {
+                        deleted.add(before.htmlPath());
+                        deleted.add(before.markdownPath());
+                    }
+                }
+            }
+        }
+        for (UUID id : removed) {
+            final BlogEntry entry = entries.remove(id);
+            if (entry != null) {
+                indexChanged = true;
+                affectedTopics.add(entry.topicSlug());
+                deleted.add(entry.htmlPath());
+                deleted.add(entry.markdownPath());
+            }
+        }
+
+        final int listingPages = renderListings(entries.values(), indexChanged || live.isEmpty(), affectedTopics, pages, deleted);
+        deleted.removeAll(pages.keySet());
+        final String version = site.publish(entries.values(), pages, deleted);
+
+        return new BlogPublishResponse(
+            version,
+            entries.size(),
+            rendered,
+            found.size() - rendered,
+            removed.size(),
+            listingPages,
+            (System.nanoTime() - start) / 1_000_000
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Every stale resume with its pages rendered in parallel, or with no pages when its content hashes the same
+     * as what is live.
+     */
+    private List<Rendered> renderPosts(List<UUID> stale, Map<UUID, BlogEntry> live) {
+        if (stale.isEmpty()) {
+            return List.of();
+        }
+        // Fetched again on their own so only the bodies of these resumes are loaded
+        final List<Callable<Rendered>> tasks = repository.findAllByIds(stale).stream()
+            .map(resume -> callContext.propagate(() -> render(resume, live.get(resume.id()))))
+            .toList();
+        return await(tasks);
+    }
+
+    private Rendered render(Resume resume, BlogEntry before) {
+        final String content = resume.content();
+        final String hash = Sha256.hex(resume.topic() + '\u0000' + content);
+        if (before != null && before.contentHash().equals(hash)) {
+            return new Rendered(withUpdatedAt(before, resume), Map.of());
+        }
+
+        final String headline = TitleCard.headline(content);
+        final String topicSlug = BlogPages.slug(resume.topic());
+        final BlogEntry entry = new BlogEntry(
+            resume.id(),
+            // A post keeps its address while its topic stays the same
+            before != null && before.topicSlug().equals(topicSlug) ? before.slug() : topicSlug + "-" + resume.id().toString().substring(0, 8),
+            headline.isEmpty() ? resume.topic() : headline,
+            resume.topic(),
+            topicSlug,
+            hash,
+            resume.createdAt(),
+            resume.updatedAt()
+        );
+        return new Rendered(entry, Map.of(
+            entry.htmlPath(), BlogPages.postHtml(properties.siteTitle(), entry, content),
+            entry.markdownPath(), BlogPages.postMarkdown(entry, content)
+        ));
+    }
+
+    private int renderListings(Collection<BlogEntry> entries, boolean indexChanged, Set<String> affectedTopics,
+                               Map<String, String> pages, Set<String> deleted) {
+        final List<Callable<Rendered>> tasks = new ArrayList<>();
+        if (indexChanged) {
+            final List<BlogEntry> all = List.copyOf(entries);
+            tasks.add(() -> new Rendered(null, Map.of("index.html", BlogPages.indexHtml(properties.siteTitle(), all))));
+        }
+        for (String topicSlug : affectedTopics) {
+            final List<BlogEntry> listed = entries.stream().filter(entry -> entry.topicSlug().equals(topicSlug)).toList();
+            if (listed.isEmpty()) {
+                deleted.add(BlogEntry.topicPath(topicSlug));
+            } else {
+                tasks.add(() -> new Rendered(null, Map.of(BlogEntry.topicPath(topicSlug),
+                    BlogPages.topicHtml(properties.siteTitle(), listed.get(0).topic(), listed))));
+            }
+        }
+        await(tasks).forEach(page -> pages.putAll(page.pages()));
+        return tasks.size();
+    }
+
+    private <T> List<T> await(List<Callable<T>> tasks) {
+        try {
+            final List<T> results = new ArrayList<>(tasks.size());
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("blog publish interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("blog rendering failed", e.getCause());
+        }
+    }
+
+    private static BlogEntry withUpdatedAt(BlogEntry entry, Resume resume) {
+        return new BlogEntry(entry.resumeId(), entry.slug(), entry.title(), entry.topic(), entry.topicSlug(),
+            entry.contentHash(), entry.createdAt(), resume.updatedAt());
+    }
+
+    private record Rendered(BlogEntry entry, Map<String, String> pages) {}
+}
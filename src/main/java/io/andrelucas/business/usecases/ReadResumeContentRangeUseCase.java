@@ -0,0 +1,37 @@
+package io.andrelucas.business.usecases;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.ResumeContentSlice;
+import io.andrelucas.business.repositories.ResumeRepository;
+
+@Component
+public class ReadResumeContentRangeUseCase {
+
+    public static final int MAX_SLICE_LENGTH = 65536;
+
+    private final ResumeRepository repository;
+
+    public ReadResumeContentRangeUseCase(final ResumeRepository repository) {
+        this.repository = repository;
+    }
+
+    public ResumeContentSlice read(UUID id, long offset, int length) {
+        if (id == null) {
+            throw new IllegalArgumentException("id cannot be null");
+        }
+
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be less than zero");
+        }
+
+        if (length < 1 || length > MAX_SLICE_LENGTH) {
+            throw new IllegalArgumentException("length must be between 1 and " + MAX_SLICE_LENGTH);
+        }
+
+        return repository.readContent(id, offset, length)
+            .orElseThrow(() -> new IllegalArgumentException("Resume " + id + " not found"));
+    }
+}
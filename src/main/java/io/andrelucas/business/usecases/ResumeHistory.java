@@ -0,0 +1,184 @@
+package io.andrelucas.business.usecases;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeRevision;
+import io.andrelucas.business.ResumeRevisionResponse;
+import io.andrelucas.business.ResumeVersionResponse;
+import io.andrelucas.business.RevisionProperties;
+import io.andrelucas.business.Sha256;
+import io.andrelucas.business.TextDelta;
+import io.andrelucas.business.repositories.ResumeRevisions;
+
+/**
+ * Keeps every saved version of a resume, storing each one as the {@link TextDelta} from the version before it.
+ *
+ * <p>Every {@code snapshotEvery} revisions one is stored whole, as is any revision whose delta would be over half
+ * its length, so rebuilding a version never applies more than {@code snapshotEvery} deltas and the history of a
+ * draft grows with the size of its edits rather than with its length times the number of edits.
+ *
+ * <p>History starts at the first update: a new resume has nothing to keep yet, and its update records the version
+ * it replaced as revision 1. Revisions follow the times the versions were saved, so a save recorded after a later
+ * one, by another instance, is left out rather than put on top of it.
+ */
+@Component
+public class ResumeHistory {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumeHistory.class);
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final ResumeRevisions revisions;
+    private final RevisionProperties properties;
+    private final Map<UUID, RecordLock> locks = new ConcurrentHashMap<>();
+
+    public ResumeHistory(final ResumeRevisions revisions, final RevisionProperties properties) {
+        if (properties.snapshotEvery() < 1) {
+            throw new IllegalArgumentException("snapshotEvery must be at least 1");
+        }
+        this.revisions = revisions;
+        this.properties = properties;
+    }
+
+    /**
+     * Records {@code saved} as the next revision of its resume, unless neither its topic nor its content changed.
+     * {@code previous} is the resume it replaced, when known: it saves rebuilding the latest revision to diff
+     * against, and a resume saved before its history was kept gets it as its first revision.
+     *
+     * <p>The resume is already saved, so nothing that goes wrong here fails the save: it is logged and the revision
+     * is left out. Losing the next number to another instance recording the same resume rebuilds the revision on top
+     * of the new latest one and appends it again, up to {@link #MAX_ATTEMPTS} times. Recordings of one resume wait
+     * for each other; those of different resumes do not.
+     */
+    public void record(Resume saved, Resume previous) {
+        final RecordLock lock = locks.compute(saved.id(), (id, held) -> held != null ? held.join() : new RecordLock());
+        try {
+            synchronized (lock) {
+                recordWithRetries(saved, previous);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not record a revision of resume {}", saved.id(), e);
+        } finally {
+            locks.computeIfPresent(saved.id(), (id, held) -> held.leave() ? null : held);
+        }
+    }
+
+    private void recordWithRetries(Resume saved, Resume previous) {
+        final String content = saved.content();
+        final String hash = Sha256.hex(content);
+        final String previousHash = previous != null ? Sha256.hex(previous.content()) : null;
+        for (int attempt = 1; !tryRecord(saved, content, hash, previous, previousHash); attempt++) {
+            // Lost the number to another instance: re-read the latest revision and try again
+            if (attempt == MAX_ATTEMPTS) {
+                logger.warn("Gave up recording a revision of resume {} after {} numbers were taken by other instances",
+                    saved.id(), attempt);
+                return;
+            }
+        }
+    }
+
+    private boolean tryRecord(Resume saved, String content, String hash, Resume previous, String previousHash) {
+        ResumeRevision latest = revisions.latest(saved.id()).orElse(null);
+
+        if (latest == null) {
+            if (previous == null || previousHash.equals(hash) && previous.topic().equals(saved.topic())) {
+                return revisions.append(snapshot(saved.id(), 1, saved.topic(), content, hash, saved.updatedAt()));
+            }
+            latest = snapshot(saved.id(), 1, previous.topic(), previous.content(), previousHash, previous.updatedAt());
+            if (!revisions.append(latest)) {
+                return false;
+            }
+        }
+        if (saved.updatedAt() != null && latest.createdAt().isAfter(saved.updatedAt())) {
+            // Another instance recorded a later save first
+            return true;
+        }
+        if (latest.contentHash().equals(hash) && latest.topic().equals(saved.topic())) {
+            return true;
+        }
+
+        final int number = latest.number() + 1;
+        if (number - latest.snapshotNumber() >= properties.snapshotEvery()) {
+            return revisions.append(snapshot(saved.id(), number, saved.topic(), content, hash, saved.updatedAt()));
+        }
+        // The resume may have been saved without being recorded, e.g. as a streamed draft: diff against the history
+        final String base = latest.contentHash().equals(previousHash) ? previous.content() : content(saved.id(), latest.number());
+        final TextDelta delta = TextDelta.between(base, content);
+        if (delta.size() * 2L > content.length()) {
+            return revisions.append(snapshot(saved.id(), number, saved.topic(), content, hash, saved.updatedAt()));
+        }
+        return revisions.append(new ResumeRevision(saved.id(), number, saved.topic(), latest.snapshotNumber(), null, delta,
+            content.length(), delta.size(), hash, saved.updatedAt()));
+    }
+
+    public List<ResumeRevisionResponse> list(UUID resumeId) {
+        if (resumeId == null) {
+            throw new IllegalArgumentException("resumeId cannot be null");
+        }
+        return revisions.list(resumeId).stream()
+            .map(ResumeRevisionResponse::of)
+            .toList();
+    }
+
+    /**
+     * The resume as it was at revision {@code number}, rebuilt from the snapshot before it.
+     */
+    public ResumeVersionResponse materialize(UUID resumeId, int number) {
+        if (resumeId == null) {
+            throw new IllegalArgumentException("resumeId cannot be null");
+        }
+        final List<ResumeRevision> chain = revisions.chain(resumeId, number);
+        if (chain.isEmpty()) {
+            throw new IllegalArgumentException("Revision not found: " + number + " of resume " + resumeId);
+        }
+        final ResumeRevision revision = chain.get(chain.size() - 1);
+        return new ResumeVersionResponse(resumeId, revision.number(), revision.topic(), rebuild(chain), revision.createdAt());
+    }
+
+    private String content(UUID resumeId, int number) {
+        final List<ResumeRevision> chain = revisions.chain(resumeId, number);
+        if (chain.isEmpty()) {
+            throw new IllegalStateException("Revision " + number + " of resume " + resumeId + " is missing");
+        }
+        return rebuild(chain);
+    }
+
+    private static String rebuild(List<ResumeRevision> chain) {
+        String content = chain.get(0).snapshot();
+        for (ResumeRevision revision : chain.subList(1, chain.size())) {
+            content = revision.delta().applyTo(content);
+        }
+        return content;
+    }
+
+    private static ResumeRevision snapshot(UUID resumeId, int number, String topic, String content, String hash,
+                                           LocalDateTime createdAt) {
+        return new ResumeRevision(resumeId, number, topic, number, content, null, content.length(), content.length(), hash,
+            createdAt != null ? createdAt : LocalDateTime.now());
+    }
+
+    /**
+     * Monitor of the recordings of one resume, dropped once none of them holds it.
+     */
+    private static final class RecordLock {
+
+        private int holders = 1;
+
+        private RecordLock join() {
+            holders++;
+            return this;
+        }
+
+        private boolean leave() {
+            return --holders == 0;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.andrelucas.business.usecases;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.Platform;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ScheduledPost;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ScheduleStore;
+
+@Component
+public class SchedulePostUseCase {
+
+    private final ScheduleStore store;
+    private final PostScheduler scheduler;
+    private final ResumeRepository repository;
+
+    public SchedulePostUseCase(final ScheduleStore store, final PostScheduler scheduler, final ResumeRepository repository) {
+        this.store = store;
+        this.scheduler = scheduler;
+        this.repository = repository;
+    }
+
+    /**
+     * Schedules {@code resumeId} to be posted on LinkedIn at {@code publishAt}, or as soon as possible when that
+     * has already passed.
+     */
+    public ScheduledPost schedule(UUID resumeId, LocalDateTime publishAt) {
+        final ScheduledPost post = ScheduledPost.schedule(resumeId, Platform.LINKEDIN, publishAt);
+        final Resume resume = repository.findAllByIds(List.of(resumeId)).stream()
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Resume not found: " + resumeId));
+        if (resume.draft()) {
+            throw new IllegalArgumentException("Resume is still being generated: " + resumeId);
+        }
+        final ScheduledPost saved = store.save(post);
+        scheduler.schedule(saved);
+        return saved;
+    }
+
+    public ScheduledPost cancel(UUID id) {
+        final ScheduledPost post = get(id);
+        if (!store.cancel(id)) {
+            throw new IllegalArgumentException("Scheduled post is no longer scheduled: " + id + " is " + post.status());
+        }
+        scheduler.cancel(id);
+        return get(id);
+    }
+
+    public ScheduledPost get(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("id cannot be null");
+        }
+        return store.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Scheduled post not found: " + id));
+    }
+}
@@ -0,0 +1,54 @@
+package io.andrelucas.business.usecases;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeMapper;
+import io.andrelucas.business.SemanticMatch;
+import io.andrelucas.business.SemanticSearchHit;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ResumeSemanticIndex;
+
+@Component
+public class SemanticSearchResumesUseCase {
+
+    public static final int MAX_LIMIT = 100;
+
+    private final ResumeSemanticIndex semanticIndex;
+    private final ResumeRepository repository;
+
+    public SemanticSearchResumesUseCase(final ResumeSemanticIndex semanticIndex, final ResumeRepository repository) {
+        this.semanticIndex = semanticIndex;
+        this.repository = repository;
+    }
+
+    public List<SemanticSearchHit> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("query cannot be null or empty");
+        }
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<SemanticMatch> matches = semanticIndex.search(query, limit);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Resume> resumes = repository.findAllByIds(matches.stream().map(SemanticMatch::resumeId).toList())
+            .stream()
+            .collect(Collectors.toMap(Resume::id, Function.identity()));
+
+        return matches.stream()
+            .filter(match -> resumes.containsKey(match.resumeId()))
+            .map(match -> new SemanticSearchHit(ResumeMapper.toResponse(resumes.get(match.resumeId())), match.score()))
+            .toList();
+    }
+}
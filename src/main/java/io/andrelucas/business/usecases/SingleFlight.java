@@ -0,0 +1,105 @@
+package io.andrelucas.business.usecases;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Lets identical reads that arrive while one is already running wait for that one instead of querying again.
+ *
+ * <p>Nothing is kept once a read finishes, so a result is only ever shared with callers that asked while it was
+ * being fetched. Reads only join one started after the last write completed and routed to the same read
+ * preference, so a caller never gets an answer older than one it could have fetched itself.
+ *
+ * <p>{@code resume.reads} counts reads by use case and by whether they {@code queried} or {@code joined}; the
+ * share of {@code joined} is the coalescing ratio.
+ */
+@Component
+public class SingleFlight {
+
+    private final MeterRegistry registry;
+    private final ReadPreferencePolicy routing;
+    private final Map<List<String>, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<Key, CompletableFuture<Object>> flights = new ConcurrentHashMap<>();
+    private final AtomicLong writes = new AtomicLong();
+
+    @Autowired
+    public SingleFlight(final MeterRegistry registry, final ObjectProvider<ReadPreferencePolicy> routing) {
+        this(registry, routing.getIfAvailable());
+    }
+
+    public SingleFlight(final MeterRegistry registry, final ReadPreferencePolicy routing) {
+        this.registry = registry;
+        this.routing = routing;
+    }
+
+    /**
+     * Runs {@code read} unless the same read of {@code useCase}, with equal {@code arguments}, is already running,
+     * in which case waits for and returns its result.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String useCase, List<?> arguments, Supplier<T> read) {
+        final Key key = new Key(useCase, routing != null ? routing.preferenceFor(useCase) : null, arguments, writes.get());
+        final CompletableFuture<Object> flight = new CompletableFuture<>();
+        final CompletableFuture<Object> running = flights.putIfAbsent(key, flight);
+        if (running != null) {
+            count(useCase, "joined");
+            return (T) await(running);
+        }
+
+        count(useCase, "queried");
+        try {
+            final T result = read.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * Stops reads that started before now from being joined, so callers see what was just written.
+     */
+    public void writeCompleted() {
+        writes.incrementAndGet();
+    }
+
+    private void count(String useCase, String outcome) {
+        counters.computeIfAbsent(List.of(useCase, outcome), key -> Counter.builder("resume.reads")
+                .description("Read use case calls, by whether they queried or joined an identical running read")
+                .tags("use-case", key.get(0), "outcome", key.get(1))
+                .register(registry))
+            .increment();
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for an identical read", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw (Error) e.getCause();
+        }
+    }
+
+    private record Key(String useCase, Object readPreference, List<?> arguments, long writes) {}
+}
@@ -0,0 +1,135 @@
+package io.andrelucas.business.usecases;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.Sha256;
+import io.andrelucas.business.ThumbnailProperties;
+import io.andrelucas.business.TitleCard;
+import io.andrelucas.business.repositories.BlobStore;
+import io.andrelucas.business.repositories.ResumeThumbnails;
+import io.andrelucas.business.repositories.TitleCardRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Renders a title card thumbnail for each saved resume on a pool of {@code threads}, after the save has
+ * returned.
+ *
+ * <p>Images are stored in the {@link BlobStore} under a hash of everything they are drawn from, so resumes whose
+ * card looks the same share one image and saving a resume again without changing its topic or first line costs a
+ * lookup rather than a render. When {@code maxQueue} renders are already waiting, new ones are dropped.
+ *
+ * <p>{@code thumbnail.renders} counts requests by outcome: {@code rendered}, {@code cached}, {@code rejected}
+ * or {@code failed}.
+ */
+@Component
+public class ThumbnailPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailPipeline.class);
+
+    private final BlobStore blobs;
+    private final TitleCardRenderer renderer;
+    private final ResumeThumbnails thumbnails;
+    private final ThumbnailProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+
+    public ThumbnailPipeline(final BlobStore blobs,
+                             final TitleCardRenderer renderer,
+                             final ResumeThumbnails thumbnails,
+                             final ThumbnailProperties properties,
+                             final MeterRegistry registry) {
+        this.blobs = blobs;
+        this.renderer = renderer;
+        this.thumbnails = thumbnails;
+        this.properties = properties;
+        this.registry = registry;
+        final AtomicInteger threads = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.threads(), properties.threads(), 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.maxQueue()),
+            task -> {
+                final Thread thread = new Thread(task, "thumbnail-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+    }
+
+    /**
+     * Queues the thumbnail of {@code resume} and returns at once.
+     */
+    public void request(Resume resume) {
+        if (!properties.enabled()) {
+            return;
+        }
+        final TitleCard card = TitleCard.of(resume, properties.width(), properties.height());
+        try {
+            executor.execute(() -> render(resume.id(), card));
+        } catch (RejectedExecutionException e) {
+            count("rejected");
+        }
+    }
+
+    /**
+     * Stores the image of {@code card} unless an identical one is stored already and makes it the thumbnail of
+     * {@code resumeId}, returning its reference.
+     */
+    String render(UUID resumeId, TitleCard card) {
+        try {
+            final String key = key(card);
+            if (blobs.exists(key)) {
+                count("cached");
+            } else {
+                blobs.put(key, renderer.render(card), renderer.contentType());
+                count("rendered");
+            }
+            thumbnails.attach(resumeId, key);
+            return key;
+        } catch (RuntimeException e) {
+            count("failed");
+            logger.warn("Could not render the thumbnail of resume {}", resumeId, e);
+            return null;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    String key(TitleCard card) {
+        final String inputs = String.join("\u0000", renderer.version(), renderer.contentType(),
+            String.valueOf(card.width()), String.valueOf(card.height()), card.topic(), card.headline());
+        return "thumbnails/" + Sha256.hex(inputs) + extension(renderer.contentType());
+    }
+
+    private void count(String outcome) {
+        counters.computeIfAbsent(outcome, key -> Counter.builder("thumbnail.renders")
+                .description("Thumbnail requests by outcome")
+                .tag("outcome", key)
+                .register(registry))
+            .increment();
+    }
+
+    private static String extension(String contentType) {
+        return switch (contentType) {
+            case "image/png" -> ".png";
+            case "image/jpeg" -> ".jpg";
+            default -> "";
+        };
+    }
+}
@@ -0,0 +1,209 @@
+package io.andrelucas.business.usecases;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: keys expire once the wheel is advanced past their deadline, rounded up to a tick.
+ *
+ * <p>Level {@code n} has {@code wheelSize} slots of {@code tick * wheelSize ^ n} each. A key goes to the lowest
+ * level whose current rotation holds its deadline, and is moved one level down each time the wheel reaches its
+ * slot, until it expires from level 0. Scheduling and cancelling a key are O(1), and each key is moved at most
+ * {@code levels} times, so the cost of advancing follows the ticks passed and the keys expired rather than how
+ * many keys are waiting. Deadlines beyond the top level wait in an overflow list until they get within range.
+ *
+ * <p>Not thread-safe.
+ */
+final class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final Slot<K>[][] slots;
+    private final Slot<K> overflow = new Slot<>();
+    private final Slot<K> due = new Slot<>();
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(final long tickMillis, final int wheelSize, final int levels, final long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        if (levels < 1 || bits * levels > 62) {
+            throw new IllegalArgumentException("levels must be between 1 and " + 62 / bits);
+        }
+        this.tickMillis = tickMillis;
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.slots = new Slot[levels][wheelSize];
+        for (Slot<K>[] level : slots) {
+            for (int i = 0; i < level.length; i++) {
+                level[i] = new Slot<>();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedules {@code key} to expire at {@code deadlineMillis}, replacing its earlier deadline if it had one. A
+     * deadline already passed expires at the next {@link #advance}.
+     */
+    void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        final Node<K> node = new Node<>(key, -Math.floorDiv(-deadlineMillis, tickMillis));
+        nodes.put(key, node);
+        place(node);
+    }
+
+    /**
+     * Removes {@code key}, returning whether it was waiting.
+     */
+    boolean cancel(K key) {
+        final Node<K> node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        node.unlink();
+        return true;
+    }
+
+    boolean contains(K key) {
+        return nodes.containsKey(key);
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis}, handing every key whose deadline has passed to {@code expired}, in
+     * deadline order to the tick.
+     */
+    void advance(long nowMillis, Consumer<K> expired) {
+        expire(due, expired);
+        final long target = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < target) {
+            if (nodes.isEmpty()) {
+                currentTick = target;
+                return;
+            }
+            currentTick++;
+            // Higher levels first, so what comes down from them can be moved again or expired in the same tick
+            if ((currentTick & ((1L << bits * levels) - 1)) == 0) {
+                replace(overflow);
+            }
+            for (int level = levels - 1; level >= 1; level--) {
+                if ((currentTick & ((1L << bits * level) - 1)) == 0) {
+                    replace(slots[level][index(currentTick, level)]);
+                }
+            }
+            expire(slots[0][index(currentTick, 0)], expired);
+            expire(due, expired);
+        }
+    }
+
+    private void place(Node<K> node) {
+        final long deadline = node.deadlineTick;
+        if (deadline <= currentTick) {
+            due.add(node);
+            return;
+        }
+        for (int level = 0; level < levels; level++) {
+            final int shift = bits * (level + 1);
+            if ((deadline >>> shift) == (currentTick >>> shift)) {
+                slots[level][index(deadline, level)].add(node);
+                return;
+            }
+        }
+        overflow.add(node);
+    }
+
+    private void replace(Slot<K> slot) {
+        for (Node<K> node : slot.drain()) {
+            if (nodes.get(node.key) == node) {
+                place(node);
+            }
+        }
+    }
+
+    private void expire(Slot<K> slot, Consumer<K> expired) {
+        for (Node<K> node : slot.drain()) {
+            // Skips keys cancelled or scheduled again by an earlier call to expired
+            if (nodes.remove(node.key, node)) {
+                expired.accept(node.key);
+            }
+        }
+    }
+
+    private int index(long tick, int level) {
+        return (int) ((tick >>> bits * level) & mask);
+    }
+
+    private static final class Node<K> {
+
+        private final K key;
+        private final long deadlineTick;
+        private Node<K> prev;
+        private Node<K> next;
+
+        private Node(final K key, final long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+                prev = null;
+                next = null;
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the nodes in one slot, so any of them can be unlinked in O(1).
+     */
+    private static final class Slot<K> {
+
+        private final Node<K> head = new Node<>(null, 0);
+
+        private Slot() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        private void add(Node<K> node) {
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+        }
+
+        private List<Node<K>> drain() {
+            if (head.next == head) {
+                return List.of();
+            }
+            final List<Node<K>> drained = new ArrayList<>();
+            for (Node<K> node = head.next; node != head; node = node.next) {
+                drained.add(node);
+            }
+            head.prev = head;
+            head.next = head;
+            drained.forEach(node -> {
+                node.prev = null;
+                node.next = null;
+            });
+            return drained;
+        }
+    }
+}
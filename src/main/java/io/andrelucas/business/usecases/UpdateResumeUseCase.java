@@ -0,0 +1,72 @@
+package io.andrelucas.business.usecases;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.MinHashSignature;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeContent;
+import io.andrelucas.business.ResumeMapper;
+import io.andrelucas.business.ResumeResponse;
+import io.andrelucas.business.repositories.ResumeDuplicateIndex;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ResumeSemanticIndex;
+
+@Component
+public class UpdateResumeUseCase {
+
+    private final ResumeRepository repository;
+    private final ResumeSemanticIndex semanticIndex;
+    private final ResumeDuplicateIndex duplicateIndex;
+    private final SingleFlight singleFlight;
+    private final ThumbnailPipeline thumbnails;
+    private final ResumeHistory history;
+
+    public UpdateResumeUseCase(final ResumeRepository repository,
+                               final ResumeSemanticIndex semanticIndex,
+                               final ResumeDuplicateIndex duplicateIndex,
+                               final SingleFlight singleFlight,
+                               final ThumbnailPipeline thumbnails,
+                               final ResumeHistory history) {
+        this.repository = repository;
+        this.semanticIndex = semanticIndex;
+        this.duplicateIndex = duplicateIndex;
+        this.singleFlight = singleFlight;
+        this.thumbnails = thumbnails;
+        this.history = history;
+    }
+
+    /**
+     * Replaces the content of resume {@code id}, and its topic unless {@code topic} is empty, recording the new
+     * version in its history.
+     */
+    public ResumeResponse update(UUID id, String topic, String content) {
+        if (id == null) {
+            throw new IllegalArgumentException("id cannot be null");
+        }
+        if (content == null || content.isEmpty()) {
+            throw new IllegalArgumentException("Content cannot be null or empty");
+        }
+        final Resume current = repository.findAllByIds(List.of(id)).stream()
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Resume not found: " + id));
+        if (current.draft()) {
+            throw new IllegalArgumentException("Resume is still being generated: " + id);
+        }
+        // Read before the save, which may drop an offloaded body
+        current.content();
+
+        final Resume updated = new Resume(id, topic != null && !topic.isEmpty() ? topic : current.topic(),
+            ResumeContent.of(content), current.createdAt(), LocalDateTime.now(), current.groupId(), current.platform());
+        final Resume saved = repository.save(updated);
+        singleFlight.writeCompleted();
+        semanticIndex.index(saved);
+        duplicateIndex.add(saved.id(), MinHashSignature.of(content));
+        thumbnails.request(saved);
+        history.record(saved, current);
+        return ResumeMapper.toResponse(saved);
+    }
+}
@@ -0,0 +1,32 @@
+package io.andrelucas.data_provider.blob;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Where binary objects are kept.
+ *
+ * @param type {@code local} for a directory on this machine, {@code s3} for an S3-compatible service such as
+ *             MinIO
+ * @param directory root of the {@code local} store
+ * @param s3 bucket and credentials of the {@code s3} store
+ */
+@ConfigurationProperties(prefix = "content-generator.blob-store")
+public record BlobStoreProperties(
+    @DefaultValue("local") String type,
+    @DefaultValue("./data/blobs") String directory,
+    @DefaultValue S3 s3
+) {
+    /**
+     * @param endpoint base URL of the service, e.g. {@code https://s3.eu-west-1.amazonaws.com} or
+     *                 {@code http://localhost:9000}; buckets are addressed by path
+     * @param region region requests are signed for
+     */
+    public record S3(
+        @DefaultValue("http://localhost:9000") String endpoint,
+        @DefaultValue("us-east-1") String region,
+        @DefaultValue("content-generator") String bucket,
+        String accessKey,
+        String secretKey
+    ) {}
+}
@@ -0,0 +1,124 @@
+package io.andrelucas.data_provider.blob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.repositories.BlobStore;
+
+/**
+ * {@link BlobStore} in a local directory, one file per key. Objects are written to a temporary file and moved
+ * into place, so a reader never sees half of one. Transfers use {@link FileChannel#transferTo} to read only the
+ * requested range.
+ */
+@Component
+@ConditionalOnProperty(prefix = "content-generator.blob-store", name = "type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+    private final Path root;
+
+    @Autowired
+    public LocalBlobStore(final BlobStoreProperties properties) {
+        this(Path.of(properties.directory()));
+    }
+
+    public LocalBlobStore(final Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, InputStream data, long length, String contentType) {
+        final Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            final Path temporary = Files.createTempFile(target.getParent(), ".blob-", ".tmp");
+            try {
+                Files.copy(data, temporary, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store blob " + key, e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public Optional<byte[]> get(String key) {
+        try {
+            return Optional.of(Files.readAllBytes(resolve(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read blob " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<InputStream> open(String key) {
+        try {
+            return Optional.of(Files.newInputStream(resolve(key)));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open blob " + key, e);
+        }
+    }
+
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) {
+        try (FileChannel file = FileChannel.open(resolve(key), StandardOpenOption.READ)) {
+            final long end = Math.min(file.size(), position + Math.min(count, Long.MAX_VALUE - position));
+            long transferred = 0;
+            while (position + transferred < end) {
+                final long sent = file.transferTo(position + transferred, end - position - transferred, target);
+                if (sent <= 0) {
+                    break;
+                }
+                transferred += sent;
+            }
+            return transferred;
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("Blob " + key + " not found", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read blob " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete blob " + key, e);
+        }
+    }
+
+    private Path resolve(String key) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("key cannot be null or empty");
+        }
+        final Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,187 @@
+package io.andrelucas.data_provider.blob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.repositories.BlobStore;
+
+/**
+ * {@link BlobStore} in a bucket of an S3-compatible service, AWS S3 or MinIO among them, spoken to over plain
+ * HTTP with signed requests so no SDK is needed. The bucket is created at startup if it does not exist.
+ *
+ * <p>Objects are streamed both ways; a transfer of part of an object asks only for that range.
+ */
+@Component
+@ConditionalOnProperty(prefix = "content-generator.blob-store", name = "type", havingValue = "s3")
+public class S3BlobStore implements BlobStore {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(TIMEOUT).build();
+    private final String bucketUrl;
+    private final S3RequestSigner signer;
+
+    public S3BlobStore(final BlobStoreProperties properties) {
+        final BlobStoreProperties.S3 s3 = properties.s3();
+        if (s3.accessKey() == null || s3.secretKey() == null) {
+            throw new IllegalArgumentException("content-generator.blob-store.s3 access-key and secret-key are required");
+        }
+        this.bucketUrl = s3.endpoint().replaceAll("/+$", "") + "/" + s3.bucket() + "/";
+        this.signer = new S3RequestSigner(s3.accessKey(), s3.secretKey(), s3.region());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createBucketIfMissing() {
+        final URI bucket = URI.create(bucketUrl);
+        if (send("HEAD", bucket, Map.of(), null, HttpResponse.BodyHandlers.discarding()).statusCode() != 404) {
+            return;
+        }
+        final HttpResponse<Void> response = send("PUT", bucket, Map.of(), null, HttpResponse.BodyHandlers.discarding());
+        // Another instance may have created it in the meantime
+        if (response.statusCode() != 409) {
+            expectSuccess(response, "create bucket", bucketUrl);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] data, String contentType) {
+        final HttpResponse<Void> response = send("PUT", uri(key), Map.of("Content-Type", contentType),
+            new Payload(HttpRequest.BodyPublishers.ofByteArray(data), S3RequestSigner.sha256Hex(data)),
+            HttpResponse.BodyHandlers.discarding());
+        expectSuccess(response, "store", key);
+    }
+
+    @Override
+    public void put(String key, InputStream data, long length, String contentType) {
+        // Signing the payload would mean reading it twice, so streamed uploads are sent unsigned over the signed headers
+        final HttpResponse<Void> response = send("PUT", uri(key), Map.of("Content-Type", contentType),
+            new Payload(HttpRequest.BodyPublishers.fromPublisher(HttpRequest.BodyPublishers.ofInputStream(() -> data), length),
+                UNSIGNED_PAYLOAD),
+            HttpResponse.BodyHandlers.discarding());
+        expectSuccess(response, "store", key);
+    }
+
+    @Override
+    public boolean exists(String key) {
+        final HttpResponse<Void> response = send("HEAD", uri(key), Map.of(), null, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == 404) {
+            return false;
+        }
+        expectSuccess(response, "check", key);
+        return true;
+    }
+
+    @Override
+    public Optional<byte[]> get(String key) {
+        final HttpResponse<byte[]> response = send("GET", uri(key), Map.of(), null, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() == 404) {
+            return Optional.empty();
+        }
+        expectSuccess(response, "read", key);
+        return Optional.of(response.body());
+    }
+
+    @Override
+    public Optional<InputStream> open(String key) {
+        final HttpResponse<InputStream> response = send("GET", uri(key), Map.of(), null, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() == 404) {
+            close(response.body());
+            return Optional.empty();
+        }
+        if (response.statusCode() / 100 != 2) {
+            close(response.body());
+            expectSuccess(response, "read", key);
+        }
+        return Optional.of(response.body());
+    }
+
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) {
+        if (count <= 0) {
+            return 0;
+        }
+        final long last = count > Long.MAX_VALUE - position ? -1 : position + count - 1;
+        final Map<String, String> range = position == 0 && last == -1
+            ? Map.of()
+            : Map.of("Range", "bytes=" + position + "-" + (last == -1 ? "" : String.valueOf(last)));
+        final HttpResponse<InputStream> response = send("GET", uri(key), range, null, HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream body = response.body()) {
+            if (response.statusCode() == 404) {
+                throw new IllegalStateException("Blob " + key + " not found");
+            }
+            if (response.statusCode() == 416) {
+                // The range starts past the end of the object
+                return 0;
+            }
+            expectSuccess(response, "read", key);
+            return body.transferTo(Channels.newOutputStream(target));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read blob " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        final HttpResponse<Void> response = send("DELETE", uri(key), Map.of(), null, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 404) {
+            expectSuccess(response, "delete", key);
+        }
+    }
+
+    private URI uri(String key) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("key cannot be null or empty");
+        }
+        return URI.create(bucketUrl + S3RequestSigner.encodePath(key));
+    }
+
+    private <T> HttpResponse<T> send(String method, URI uri, Map<String, String> headers, Payload payload,
+                                     HttpResponse.BodyHandler<T> handler) {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+            .timeout(TIMEOUT)
+            .method(method, payload != null ? payload.publisher() : HttpRequest.BodyPublishers.noBody());
+        final String payloadSha256 = payload != null ? payload.sha256() : S3RequestSigner.EMPTY_PAYLOAD_SHA256;
+        signer.sign(method, uri, headers, payloadSha256, Instant.now()).forEach(request::header);
+        try {
+            return client.send(request.build(), handler);
+        } catch (IOException e) {
+            throw new UncheckedIOException("S3 " + method + " of " + uri.getPath() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during S3 " + method + " of " + uri.getPath(), e);
+        }
+    }
+
+    private static void expectSuccess(HttpResponse<?> response, String action, String key) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Could not " + action + " " + key + ": S3 answered " + response.statusCode());
+        }
+    }
+
+    private static void close(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // Nothing was read from it
+        }
+    }
+
+    private record Payload(HttpRequest.BodyPublisher publisher, String sha256) {}
+}
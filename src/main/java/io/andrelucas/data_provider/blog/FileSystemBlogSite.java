@@ -0,0 +1,250 @@
+package io.andrelucas.data_provider.blog;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.andrelucas.business.BlogEntry;
+import io.andrelucas.business.BlogProperties;
+import io.andrelucas.business.repositories.BlogSite;
+
+/**
+ * {@link BlogSite} as directories of files under {@code directory}, served from its {@code current} link.
+ *
+ * <p>Pages below the top level, the posts and topic pages, live once in the shared {@code pages} tree: a publish
+ * writes each changed page to a temporary file and renames it over the old one, so a reader never sees a page
+ * half-written, and removes the pages it drops only once the new version is live. Each publish then writes a
+ * new {@code versions/<n>} directory holding its top-level pages, hard links to the unchanged ones of the live
+ * version, a link to each shared directory and {@code manifest.json}, which records what the version lists.
+ * A publish therefore costs one operation per changed page plus one per top-level entry, however large the blog.
+ *
+ * <p>The {@code current} link is swapped to the new version with an atomic rename, so the index a reader sees
+ * never lists a page not written yet, and all but the newest {@code keepVersions} are deleted. Older versions
+ * keep their own index but share the pages below it. A live version written before the shared tree existed
+ * has its directories linked into it once, by the first publish that finds them.
+ */
+@Component
+public class FileSystemBlogSite implements BlogSite {
+
+    static final String MANIFEST = "manifest.json";
+    static final String CURRENT = "current";
+
+    private final Path root;
+    private final Path versions;
+    private final Path shared;
+    private final int keepVersions;
+    private final ObjectMapper mapper;
+
+    public FileSystemBlogSite(final BlogProperties properties, final ObjectMapper mapper) {
+        this.root = Path.of(properties.directory()).toAbsolutePath().normalize();
+        this.versions = root.resolve("versions");
+        this.shared = root.resolve("pages");
+        this.keepVersions = Math.max(1, properties.keepVersions());
+        this.mapper = mapper;
+    }
+
+    @Override
+    public synchronized List<BlogEntry> load() {
+        final Path manifest = root.resolve(CURRENT).resolve(MANIFEST);
+        if (!Files.exists(manifest)) {
+            return List.of();
+        }
+        try {
+            return mapper.readValue(manifest.toFile(), Manifest.class).entries();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the blog manifest", e);
+        }
+    }
+
+    @Override
+    public synchronized String publish(Collection<BlogEntry> entries, Map<String, String> pages, Set<String> removed) {
+        try {
+            final Path live = live();
+            final long number = latest() + 1;
+            final Path version = versions.resolve(Long.toString(number));
+            Files.createDirectories(version);
+
+            if (live != null) {
+                carryOver(live, version, pages.keySet(), removed);
+            }
+            for (Map.Entry<String, String> page : pages.entrySet()) {
+                final Path target = resolve(shared, page.getKey());
+                if (target.getParent().equals(shared)) {
+                    Files.writeString(resolve(version, page.getKey()), page.getValue(), StandardCharsets.UTF_8);
+                } else {
+                    replace(target, page.getValue());
+                    share(version, shared.relativize(target).getName(0));
+                }
+            }
+            mapper.writeValue(version.resolve(MANIFEST).toFile(), new Manifest(List.copyOf(entries)));
+
+            swap(version);
+            for (String path : removed) {
+                final Path target = resolve(shared, path);
+                if (!target.getParent().equals(shared)) {
+                    Files.deleteIfExists(target);
+                }
+            }
+            prune();
+            return Long.toString(number);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to publish the blog", e);
+        }
+    }
+
+    /**
+     * Points {@code current} at {@code version} by renaming a new link over it, which replaces it atomically.
+     */
+    private void swap(Path version) throws IOException {
+        final Path next = root.resolve(CURRENT + ".next");
+        Files.deleteIfExists(next);
+        Files.createSymbolicLink(next, root.relativize(version));
+        Files.move(next, root.resolve(CURRENT), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Deletes all but the newest versions; the links to shared directories go, the pages they point at stay.
+     */
+    private void prune() throws IOException {
+        final List<Path> old;
+        try (Stream<Path> dirs = Files.list(versions)) {
+            old = dirs.filter(dir -> number(dir) >= 0)
+                .sorted(Comparator.comparingLong(FileSystemBlogSite::number).reversed())
+                .skip(keepVersions)
+                .toList();
+        }
+        for (Path dir : old) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private Path live() throws IOException {
+        final Path current = root.resolve(CURRENT);
+        return Files.exists(current) ? current.toRealPath() : null;
+    }
+
+    private long latest() throws IOException {
+        if (!Files.isDirectory(versions)) {
+            return 0;
+        }
+        try (Stream<Path> dirs = Files.list(versions)) {
+            return dirs.mapToLong(FileSystemBlogSite::number).max().orElse(0);
+        }
+    }
+
+    /**
+     * Brings the top level of {@code live} into {@code version}: unchanged files as hard links, directories as
+     * links to the shared tree, adopting those the live version still holds a copy of.
+     */
+    private void carryOver(Path live, Path version, Set<String> written, Set<String> removed) throws IOException {
+        try (Stream<Path> children = Files.list(live)) {
+            for (Path child : (Iterable<Path>) children::iterator) {
+                final String name = child.getFileName().toString();
+                if (Files.isSymbolicLink(child)) {
+                    share(version, Path.of(name));
+                } else if (Files.isDirectory(child)) {
+                    adopt(live, child, written, removed);
+                    share(version, Path.of(name));
+                } else if (!name.equals(MANIFEST) && !written.contains(name) && !removed.contains(name)) {
+                    link(child, version.resolve(name));
+                }
+            }
+        }
+    }
+
+    /**
+     * Links the files of a directory a live version holds its own copy of into the shared tree, once.
+     */
+    private void adopt(Path live, Path dir, Set<String> written, Set<String> removed) throws IOException {
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path visited, BasicFileAttributes attributes) throws IOException {
+                Files.createDirectories(shared.resolve(live.relativize(visited)));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                final String path = live.relativize(file).toString().replace('\\', '/');
+                final Path target = resolve(shared, path);
+                if (attributes.isRegularFile() && !written.contains(path) && !removed.contains(path) && !Files.exists(target)) {
+                    link(file, target);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * Links {@code dir} of the shared tree into {@code version}, relative so the site can be moved whole.
+     */
+    private void share(Path version, Path dir) throws IOException {
+        final Path link = version.resolve(dir);
+        if (!Files.exists(link, LinkOption.NOFOLLOW_LINKS)) {
+            Files.createSymbolicLink(link, version.relativize(shared.resolve(dir)));
+        }
+    }
+
+    /**
+     * Writes {@code content} beside the shared tree and renames it over {@code target}, which replaces it atomically.
+     */
+    private void replace(Path target, String content) throws IOException {
+        Files.createDirectories(target.getParent());
+        final Path temp = Files.createTempFile(root, ".page", ".tmp");
+        try {
+            Files.writeString(temp, content, StandardCharsets.UTF_8);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void link(Path existing, Path target) throws IOException {
+        try {
+            Files.createLink(target, existing);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            // Not every file system has hard links, or allows them across devices
+            Files.copy(existing, target);
+        }
+    }
+
+    private static Path resolve(Path base, String path) {
+        final Path target = base.resolve(path).normalize();
+        if (!target.startsWith(base) || target.equals(base)) {
+            throw new IllegalArgumentException("Invalid page path: " + path);
+        }
+        return target;
+    }
+
+    private static long number(Path dir) {
+        try {
+            return Long.parseLong(dir.getFileName().toString());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    record Manifest(List<BlogEntry> entries) {}
+}
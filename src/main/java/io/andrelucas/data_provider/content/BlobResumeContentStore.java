@@ -0,0 +1,103 @@
+package io.andrelucas.data_provider.content;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.Sha256;
+import io.andrelucas.business.repositories.BlobStore;
+
+/**
+ * {@link ResumeContentStore} in the {@link BlobStore}, under a key made of the resume id and a hash of the body,
+ * so saving an unchanged body again keeps its reference and leaves nothing behind to delete.
+ *
+ * <p>Bodies are written and read as streams, but a whole body is still decoded into one string on the heap, since
+ * that is what the repository and the tools hand on; a range read stops at the end of its range. References that
+ * are not blob keys were offloaded to GridFS before this store existed and are still read and deleted there.
+ */
+@Primary
+@Component
+@Profile("!embedded")
+@ConditionalOnProperty(prefix = "content-generator.resume.content", name = "backend", havingValue = "blob", matchIfMissing = true)
+public class BlobResumeContentStore implements ResumeContentStore {
+
+    private static final String PREFIX = "resume-content/";
+    private static final String CONTENT_TYPE = "text/plain; charset=utf-8";
+
+    private final BlobStore blobs;
+    private final ResumeContentProperties properties;
+    private final ResumeContentStore legacy;
+
+    public BlobResumeContentStore(final BlobStore blobs,
+                                  final ResumeContentProperties properties,
+                                  final GridFsResumeContentStore legacy) {
+        this.blobs = blobs;
+        this.properties = properties;
+        this.legacy = legacy;
+    }
+
+    @Override
+    public boolean shouldOffload(String content) {
+        return properties.shouldOffload(content);
+    }
+
+    @Override
+    public String searchablePrefix(String content) {
+        return properties.searchablePrefix(content);
+    }
+
+    @Override
+    public String store(UUID resumeId, String content) {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        final String key = PREFIX + resumeId + "/" + Sha256.hex(bytes) + ".txt";
+        blobs.put(key, new ByteArrayInputStream(bytes), bytes.length, CONTENT_TYPE);
+        return key;
+    }
+
+    @Override
+    public String read(String contentRef) {
+        if (!isBlob(contentRef)) {
+            return legacy.read(contentRef);
+        }
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        blobs.transferTo(contentRef, 0, Long.MAX_VALUE, Channels.newChannel(content));
+        return content.toString(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String read(String contentRef, long offset, int length) {
+        if (!isBlob(contentRef)) {
+            return legacy.read(contentRef, offset, length);
+        }
+        final InputStream in = blobs.open(contentRef)
+            .orElseThrow(() -> new IllegalStateException("Content " + contentRef + " not found"));
+        try {
+            return Utf8Text.read(in, offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read content " + contentRef, e);
+        }
+    }
+
+    @Override
+    public void delete(String contentRef) {
+        if (isBlob(contentRef)) {
+            blobs.delete(contentRef);
+        } else {
+            legacy.delete(contentRef);
+        }
+    }
+
+    private static boolean isBlob(String contentRef) {
+        return contentRef.startsWith(PREFIX);
+    }
+}
@@ -0,0 +1,94 @@
+package io.andrelucas.data_provider.content;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import com.mongodb.client.gridfs.model.GridFSFile;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ResumeContentStore} in GridFS, one UTF-8 file per resume, used when the {@code backend} is
+ * {@code gridfs} and to read bodies offloaded there before the blob store took over.
+ */
+@Component
+@Profile("!embedded")
+public class GridFsResumeContentStore implements ResumeContentStore {
+
+    private static final String CONTENT_TYPE = "text/plain; charset=utf-8";
+
+    private final GridFsTemplate gridFsTemplate;
+    private final ResumeContentProperties properties;
+
+    public GridFsResumeContentStore(final GridFsTemplate gridFsTemplate, final ResumeContentProperties properties) {
+        this.gridFsTemplate = gridFsTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean shouldOffload(String content) {
+        return properties.shouldOffload(content);
+    }
+
+    @Override
+    public String searchablePrefix(String content) {
+        return properties.searchablePrefix(content);
+    }
+
+    @Override
+    public String store(UUID resumeId, String content) {
+        final byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        final ObjectId fileId = gridFsTemplate.store(
+            new ByteArrayInputStream(bytes),
+            resumeId.toString(),
+            CONTENT_TYPE,
+            new Document("resumeId", resumeId.toString())
+        );
+        return fileId.toHexString();
+    }
+
+    @Override
+    public String read(String contentRef) {
+        try {
+            return Utf8Text.readAll(open(contentRef));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read content " + contentRef, e);
+        }
+    }
+
+    @Override
+    public String read(String contentRef, long offset, int length) {
+        try {
+            return Utf8Text.read(open(contentRef), offset, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read content " + contentRef, e);
+        }
+    }
+
+    @Override
+    public void delete(String contentRef) {
+        gridFsTemplate.delete(byId(contentRef));
+    }
+
+    private InputStream open(String contentRef) throws IOException {
+        final GridFSFile file = gridFsTemplate.findOne(byId(contentRef));
+        if (file == null) {
+            throw new IllegalStateException("Content " + contentRef + " not found");
+        }
+        return gridFsTemplate.getResource(file).getInputStream();
+    }
+
+    private static Query byId(String contentRef) {
+        return Query.query(Criteria.where("_id").is(new ObjectId(contentRef)));
+    }
+}
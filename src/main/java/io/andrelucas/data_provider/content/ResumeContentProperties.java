@@ -0,0 +1,57 @@
+package io.andrelucas.data_provider.content;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Controls when and where a resume body is moved out of the {@code resumes} document.
+ *
+ * @param offloadThresholdBytes UTF-8 size above which the content is stored outside the document
+ * @param backend {@code blob} for the configured blob store, {@code gridfs} for GridFS in the same database
+ */
+@ConfigurationProperties(prefix = "content-generator.resume.content")
+public record ResumeContentProperties(
+    @DefaultValue("1048576") int offloadThresholdBytes,
+    @DefaultValue("blob") String backend
+) {
+    public ResumeContentProperties {
+        if (offloadThresholdBytes < 1) {
+            throw new IllegalArgumentException("offloadThresholdBytes must be greater than zero");
+        }
+    }
+
+    public boolean shouldOffload(String content) {
+        if (content == null) {
+            return false;
+        }
+
+        // A char never takes more than 3 UTF-8 bytes, so most bodies are decided without encoding them
+        if ((long) content.length() * 3 <= offloadThresholdBytes) {
+            return false;
+        }
+        if (content.length() > offloadThresholdBytes) {
+            return true;
+        }
+        return content.getBytes(StandardCharsets.UTF_8).length > offloadThresholdBytes;
+    }
+
+    /**
+     * The leading part of {@code content} that fits in {@code offloadThresholdBytes} of UTF-8, so an offloaded
+     * body keeps as much inline for searching as the largest body that is not offloaded.
+     */
+    public String searchablePrefix(String content) {
+        long bytes = 0;
+        int end = 0;
+        while (end < content.length()) {
+            final int codePoint = content.codePointAt(end);
+            bytes += codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (bytes > offloadThresholdBytes) {
+                break;
+            }
+            end += Character.charCount(codePoint);
+        }
+        return content.substring(0, end);
+    }
+}
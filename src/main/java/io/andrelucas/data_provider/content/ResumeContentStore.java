@@ -0,0 +1,31 @@
+package io.andrelucas.data_provider.content;
+
+import java.util.UUID;
+
+/**
+ * Keeps resume bodies that are too large to live inline in the {@code resumes} collection, as UTF-8 text
+ * readable whole or as a char range.
+ */
+public interface ResumeContentStore {
+    boolean shouldOffload(String content);
+
+    /**
+     * The part of an offloaded body kept inline on its document, where keyword searches can match it.
+     */
+    String searchablePrefix(String content);
+
+    /**
+     * Stores the body of {@code resumeId} and returns the reference to keep on its document.
+     */
+    String store(UUID resumeId, String content);
+
+    String read(String contentRef);
+
+    /**
+     * Reads at most {@code length} chars starting at {@code offset}, without keeping the rest of the body in
+     * memory.
+     */
+    String read(String contentRef, long offset, int length);
+
+    void delete(String contentRef);
+}
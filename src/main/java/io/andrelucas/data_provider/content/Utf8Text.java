@@ -0,0 +1,58 @@
+package io.andrelucas.data_provider.content;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes UTF-8 bodies as they stream in.
+ */
+final class Utf8Text {
+
+    private Utf8Text() {
+    }
+
+    static String readAll(InputStream in) throws IOException {
+        try (Reader reader = reader(in)) {
+            final StringBuilder content = new StringBuilder();
+            final char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                content.append(buffer, 0, read);
+            }
+            return content.toString();
+        }
+    }
+
+    /**
+     * Reads at most {@code length} chars starting at {@code offset}. Only the requested slice is kept in memory;
+     * the preceding chars are decoded and discarded as the bytes stream by.
+     */
+    static String read(InputStream in, long offset, int length) throws IOException {
+        try (Reader reader = reader(in)) {
+            long toSkip = offset;
+            while (toSkip > 0) {
+                final long skipped = reader.skip(toSkip);
+                if (skipped <= 0) {
+                    return "";
+                }
+                toSkip -= skipped;
+            }
+
+            final char[] slice = new char[length];
+            int filled = 0;
+            int read;
+            while (filled < length && (read = reader.read(slice, filled, length - filled)) != -1) {
+                filled += read;
+            }
+            return new String(slice, 0, filled);
+        }
+    }
+
+    private static Reader reader(InputStream in) {
+        return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,42 @@
+package io.andrelucas.data_provider.document;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import io.andrelucas.business.CachedGeneration;
+
+@Document(collection = "generation_cache")
+public class GenerationCacheDocument {
+    @Id
+    private String key;
+    private String content;
+    private long tokens;
+    private long latencyMillis;
+    private LocalDateTime createdAt;
+    @Indexed(expireAfterSeconds = 0)
+    private LocalDateTime expiresAt;
+
+    public GenerationCacheDocument() {
+    }
+
+    public GenerationCacheDocument(String key, CachedGeneration generation, LocalDateTime expiresAt) {
+        this.key = key;
+        this.content = generation.content();
+        this.tokens = generation.tokens();
+        this.latencyMillis = generation.latency().toMillis();
+        this.createdAt = generation.createdAt();
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public CachedGeneration toGeneration() {
+        return new CachedGeneration(content, tokens, Duration.ofMillis(latencyMillis), createdAt);
+    }
+}
@@ -0,0 +1,54 @@
+package io.andrelucas.data_provider.document;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import io.andrelucas.business.GenerationJob;
+import io.andrelucas.business.GenerationStatus;
+import io.andrelucas.business.Platform;
+
+@Document(collection = "generation_jobs")
+@CompoundIndex(name = "status_nextAttemptAt", def = "{'status': 1, 'nextAttemptAt': 1}")
+public class GenerationJobDocument {
+    @Id
+    private UUID id;
+    private String topic;
+    private String instructions;
+    private UUID groupId;
+    private Platform platform;
+    private GenerationStatus status;
+    private int attempts;
+    private UUID resumeId;
+    private String error;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public GenerationJobDocument() {
+    }
+
+    public static GenerationJobDocument from(GenerationJob job) {
+        final GenerationJobDocument document = new GenerationJobDocument();
+        document.id = job.id();
+        document.topic = job.topic();
+        document.instructions = job.instructions();
+        document.groupId = job.groupId();
+        document.platform = job.platform();
+        document.status = job.status();
+        document.attempts = job.attempts();
+        document.resumeId = job.resumeId();
+        document.error = job.error();
+        document.nextAttemptAt = job.nextAttemptAt();
+        document.createdAt = job.createdAt();
+        document.updatedAt = job.updatedAt();
+        return document;
+    }
+
+    public GenerationJob toJob() {
+        return new GenerationJob(id, topic, instructions, groupId, platform, status, attempts, resumeId, error, nextAttemptAt, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,17 @@
+package io.andrelucas.data_provider.document;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document(collection = "leases")
+public class LeaseDocument {
+    @Id
+    private String name;
+    private String owner;
+    private LocalDateTime expiresAt;
+
+    public LeaseDocument() {
+    }
+}
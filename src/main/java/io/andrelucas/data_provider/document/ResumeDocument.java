@@ -1,7 +1,11 @@
 package io.andrelucas.data_provider.document;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+
+import io.andrelucas.business.Platform;
+
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -11,20 +15,53 @@ public class ResumeDocument {
     private UUID id;
     private String topic;
     private String content;
+    private String contentRef;
+    private String contentPrefix;
+    private long contentLength;
+    private float[] embedding;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @Indexed(sparse = true)
+    private UUID groupId;
+    private Platform platform;
+    private String thumbnailRef;
+    private boolean draft;
 
     public ResumeDocument() {
     }
 
     public ResumeDocument(UUID id, String topic, String content, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, topic, content, null, content != null ? content.length() : 0, createdAt, updatedAt);
+    }
+
+    public ResumeDocument(UUID id, String topic, String content, String contentRef, long contentLength,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.topic = topic;
         this.content = content;
+        this.contentRef = contentRef;
+        this.contentLength = contentLength;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Links the document to the other variants of {@code groupId}, as the one written for {@code platform}.
+     */
+    public ResumeDocument inGroup(UUID groupId, Platform platform) {
+        this.groupId = groupId;
+        this.platform = platform;
+        return this;
+    }
+
+    /**
+     * Keeps {@code contentPrefix}, the leading part of an offloaded body, inline for keyword searches.
+     */
+    public ResumeDocument withContentPrefix(String contentPrefix) {
+        this.contentPrefix = contentPrefix;
+        return this;
+    }
+
     public UUID getId() {
         return id;
     }
@@ -37,6 +74,38 @@ public class ResumeDocument {
         return content;
     }
 
+    /**
+     * Reference to the externally stored body when the content was offloaded, {@code null} when inline.
+     */
+    public String getContentRef() {
+        return contentRef;
+    }
+
+    /**
+     * Leading part of an offloaded body that keyword searches match, {@code null} when the content is inline.
+     */
+    public String getContentPrefix() {
+        return contentPrefix;
+    }
+
+    /**
+     * Length of the content in chars, whether it is stored inline or offloaded.
+     */
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public boolean isContentOffloaded() {
+        return contentRef != null;
+    }
+
+    /**
+     * Normalized embedding of the content, maintained by the semantic index and never written by a save.
+     */
+    public float[] getEmbedding() {
+        return embedding;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -44,4 +113,29 @@ public class ResumeDocument {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Variant group the resume belongs to, {@code null} when it was not generated as a variant.
+     */
+    public UUID getGroupId() {
+        return groupId;
+    }
+
+    public Platform getPlatform() {
+        return platform;
+    }
+
+    /**
+     * Blob store key of the title card, set once it has been rendered and never written by a save.
+     */
+    public String getThumbnailRef() {
+        return thumbnailRef;
+    }
+
+    /**
+     * Whether this is a resume still being generated, written by the drafts adapter and never by a save.
+     */
+    public boolean isDraft() {
+        return draft;
+    }
+}
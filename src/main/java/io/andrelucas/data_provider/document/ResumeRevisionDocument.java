@@ -0,0 +1,83 @@
+package io.andrelucas.data_provider.document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import io.andrelucas.business.ResumeRevision;
+import io.andrelucas.business.TextDelta;
+
+@Document(collection = "resume_revisions")
+@CompoundIndex(name = "resumeId_number", def = "{'resumeId': 1, 'number': 1}", unique = true)
+public class ResumeRevisionDocument {
+    @Id
+    private String id;
+    private UUID resumeId;
+    private int number;
+    private String topic;
+    private int snapshotNumber;
+    private String snapshot;
+    private String snapshotRef;
+    private Integer baseLength;
+    private List<TextDelta.Edit> edits;
+    private int length;
+    private int storedChars;
+    private String contentHash;
+    private LocalDateTime createdAt;
+
+    public ResumeRevisionDocument() {
+    }
+
+    public static ResumeRevisionDocument from(ResumeRevision revision) {
+        final ResumeRevisionDocument document = new ResumeRevisionDocument();
+        document.id = revision.resumeId() + ":" + revision.number();
+        document.resumeId = revision.resumeId();
+        document.number = revision.number();
+        document.topic = revision.topic();
+        document.snapshotNumber = revision.snapshotNumber();
+        document.snapshot = revision.snapshot();
+        if (revision.delta() != null) {
+            document.baseLength = revision.delta().baseLength();
+            document.edits = revision.delta().edits();
+        }
+        document.length = revision.length();
+        document.storedChars = revision.storedChars();
+        document.contentHash = revision.contentHash();
+        document.createdAt = revision.createdAt();
+        return document;
+    }
+
+    /**
+     * Keeps the snapshot in the content store under {@code ref} instead of inline.
+     */
+    public ResumeRevisionDocument offloadSnapshot(String ref) {
+        this.snapshot = null;
+        this.snapshotRef = ref;
+        return this;
+    }
+
+    /**
+     * Reference to the snapshot in the content store when it was offloaded, {@code null} when inline or not a
+     * snapshot.
+     */
+    public String getSnapshotRef() {
+        return snapshotRef;
+    }
+
+    public ResumeRevision toRevision() {
+        return toRevision(snapshot);
+    }
+
+    /**
+     * The revision with {@code snapshot}, read from the content store when it was offloaded.
+     */
+    public ResumeRevision toRevision(String snapshot) {
+        final TextDelta delta = edits != null ? new TextDelta(baseLength, length, List.copyOf(edits)) : null;
+        return new ResumeRevision(resumeId, number, topic, snapshotNumber, snapshot, delta, length, storedChars,
+            contentHash, createdAt);
+    }
+}
@@ -0,0 +1,54 @@
+package io.andrelucas.data_provider.document;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import io.andrelucas.business.Platform;
+import io.andrelucas.business.ScheduleStatus;
+import io.andrelucas.business.ScheduledPost;
+
+@Document(collection = "schedules")
+@CompoundIndex(name = "status_nextAttemptAt", def = "{'status': 1, 'nextAttemptAt': 1}")
+public class ScheduledPostDocument {
+    @Id
+    private UUID id;
+    private UUID resumeId;
+    private Platform platform;
+    private LocalDateTime publishAt;
+    private ScheduleStatus status;
+    private int attempts;
+    private String postId;
+    private String error;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime createdAt;
+    @Indexed
+    private LocalDateTime updatedAt;
+
+    public ScheduledPostDocument() {
+    }
+
+    public static ScheduledPostDocument from(ScheduledPost post) {
+        final ScheduledPostDocument document = new ScheduledPostDocument();
+        document.id = post.id();
+        document.resumeId = post.resumeId();
+        document.platform = post.platform();
+        document.publishAt = post.publishAt();
+        document.status = post.status();
+        document.attempts = post.attempts();
+        document.postId = post.postId();
+        document.error = post.error();
+        document.nextAttemptAt = post.nextAttemptAt();
+        document.createdAt = post.createdAt();
+        document.updatedAt = post.updatedAt();
+        return document;
+    }
+
+    public ScheduledPost toPost() {
+        return new ScheduledPost(id, resumeId, platform, publishAt, status, attempts, postId, error, nextAttemptAt, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,28 @@
+package io.andrelucas.data_provider.duplicates;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import io.andrelucas.business.MinHashSignature;
+
+/**
+ * LSH banding of MinHash signatures. Pairs become candidates when all rows of at least one band agree,
+ * which happens with high probability above roughly {@code (1/bands)^(1/rows)} similarity; candidates
+ * are then kept only if their estimated Jaccard similarity reaches {@code threshold}.
+ */
+@ConfigurationProperties(prefix = "content-generator.duplicates")
+public record DuplicateDetectionProperties(
+    @DefaultValue("0.8") double threshold,
+    @DefaultValue("16") int bands,
+    @DefaultValue("8") int rows
+) {
+    public DuplicateDetectionProperties {
+        if (threshold <= 0 || threshold > 1) {
+            throw new IllegalArgumentException("threshold must be in (0, 1]");
+        }
+
+        if (bands < 1 || rows < 1 || bands * rows > MinHashSignature.SIZE) {
+            throw new IllegalArgumentException("bands * rows must be between 1 and " + MinHashSignature.SIZE);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package io.andrelucas.data_provider.duplicates;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.MinHashSignature;
+import io.andrelucas.business.NearDuplicate;
+import io.andrelucas.business.repositories.ResumeDuplicateIndex;
+import io.andrelucas.business.repositories.ResumeRepository;
+
+/**
+ * {@link ResumeDuplicateIndex} holding every signature in memory with one bucket map per LSH band.
+ * Signatures are not persisted: they are recomputed from the stored content when the application starts.
+ */
+@Component
+public class InMemoryLshResumeDuplicateIndex implements ResumeDuplicateIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryLshResumeDuplicateIndex.class);
+
+    private final ResumeRepository repository;
+    private final DuplicateDetectionProperties properties;
+    private final Map<UUID, MinHashSignature> signatures = new ConcurrentHashMap<>();
+    private final List<Map<Long, Set<UUID>>> bands;
+
+    public InMemoryLshResumeDuplicateIndex(final ResumeRepository repository,
+                                           final DuplicateDetectionProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+        this.bands = new ArrayList<>(properties.bands());
+        for (int band = 0; band < properties.bands(); band++) {
+            bands.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    @Override
+    public void add(UUID resumeId, MinHashSignature signature) {
+        final MinHashSignature previous = signatures.put(resumeId, signature);
+        for (int band = 0; band < properties.bands(); band++) {
+            final Map<Long, Set<UUID>> buckets = bands.get(band);
+            if (previous != null) {
+                final Set<UUID> bucket = buckets.get(previous.bandHash(band, properties.rows()));
+                if (bucket != null) {
+                    bucket.remove(resumeId);
+                }
+            }
+            buckets.computeIfAbsent(signature.bandHash(band, properties.rows()), ignored -> ConcurrentHashMap.newKeySet())
+                .add(resumeId);
+        }
+    }
+
+    @Override
+    public List<NearDuplicate> findNearDuplicates(MinHashSignature signature) {
+        final Set<UUID> candidates = new HashSet<>();
+        for (int band = 0; band < properties.bands(); band++) {
+            final Set<UUID> bucket = bands.get(band).get(signature.bandHash(band, properties.rows()));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+
+        final List<NearDuplicate> nearDuplicates = new ArrayList<>();
+        for (UUID candidate : candidates) {
+            final MinHashSignature other = signatures.get(candidate);
+            if (other != null) {
+                final double similarity = signature.similarity(other);
+                if (similarity >= properties.threshold()) {
+                    nearDuplicates.add(new NearDuplicate(candidate, similarity));
+                }
+            }
+        }
+        nearDuplicates.sort(Comparator.comparingDouble(NearDuplicate::similarity).reversed());
+        return nearDuplicates;
+    }
+
+    /**
+     * Groups resumes connected by at least one near-duplicate pair. Only pairs sharing a bucket are compared.
+     */
+    @Override
+    public List<Set<UUID>> findClusters() {
+        final Map<UUID, UUID> parents = new HashMap<>();
+        for (Map<Long, Set<UUID>> buckets : bands) {
+            for (Set<UUID> bucket : buckets.values()) {
+                if (bucket.size() < 2) {
+                    continue;
+                }
+
+                final List<UUID> members = List.copyOf(bucket);
+                for (int i = 0; i < members.size(); i++) {
+                    for (int j = i + 1; j < members.size(); j++) {
+                        final UUID first = members.get(i);
+                        final UUID second = members.get(j);
+                        if (find(parents, first).equals(find(parents, second))) {
+                            continue;
+                        }
+                        final MinHashSignature a = signatures.get(first);
+                        final MinHashSignature b = signatures.get(second);
+                        if (a != null && b != null && a.similarity(b) >= properties.threshold()) {
+                            parents.put(find(parents, first), find(parents, second));
+                        }
+                    }
+                }
+            }
+        }
+
+        final Map<UUID, Set<UUID>> clusters = new HashMap<>();
+        for (UUID member : List.copyOf(parents.keySet())) {
+            clusters.computeIfAbsent(find(parents, member), ignored -> new LinkedHashSet<>()).add(member);
+        }
+        return clusters.values().stream()
+            .filter(cluster -> cluster.size() > 1)
+            .sorted(Comparator.comparingInt(Set<UUID>::size).reversed())
+            .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        repository.forEach(resume -> {
+            if (resume.content() != null) {
+                add(resume.id(), MinHashSignature.of(resume.content()));
+            }
+        });
+        logger.info("Duplicate index loaded with {} resumes", signatures.size());
+    }
+
+    private static UUID find(Map<UUID, UUID> parents, UUID member) {
+        UUID root = member;
+        UUID parent;
+        while ((parent = parents.get(root)) != null && !parent.equals(root)) {
+            root = parent;
+        }
+        parents.putIfAbsent(member, root);
+        if (!root.equals(member)) {
+            parents.put(member, root);
+        }
+        parents.putIfAbsent(root, root);
+        return root;
+    }
+}
@@ -0,0 +1,71 @@
+package io.andrelucas.data_provider.embedded;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.ResumeDrafts;
+
+/**
+ * {@link ResumeDrafts} for the embedded profile. Records are immutable in the segment log, so saving a draft writes
+ * all of its text again. Drafts are therefore kept in memory and saved on their first text, then again only once
+ * the text has grown by {@link #GROWTH} of what was last saved: a draft of n chars costs O(n) bytes of log rather
+ * than a record per append, and searches see at least all but the last fifth of it.
+ */
+@Repository
+@Profile("embedded")
+public class EmbeddedResumeDrafts implements ResumeDrafts {
+
+    static final double GROWTH = 0.25;
+
+    private final EmbeddedResumeRepository repository;
+    private final Map<UUID, Draft> drafts = new ConcurrentHashMap<>();
+
+    public EmbeddedResumeDrafts(final EmbeddedResumeRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void start(UUID id, String topic) {
+        final LocalDateTime now = LocalDateTime.now();
+        repository.save(new Resume(id, topic, "", now, now).asDraft());
+        drafts.put(id, new Draft(topic, now));
+    }
+
+    @Override
+    public void append(UUID id, String text) {
+        drafts.computeIfPresent(id, (ignored, draft) -> {
+            draft.text.append(text);
+            if (draft.saved == 0 || draft.text.length() - draft.saved >= draft.saved * GROWTH) {
+                repository.save(new Resume(id, draft.topic, draft.text.toString(), draft.createdAt, LocalDateTime.now())
+                    .asDraft());
+                draft.saved = draft.text.length();
+            }
+            return draft;
+        });
+    }
+
+    @Override
+    public void finish(UUID id) {
+        drafts.remove(id);
+        repository.removeDraft(id);
+    }
+
+    private static final class Draft {
+
+        private final String topic;
+        private final LocalDateTime createdAt;
+        private final StringBuilder text = new StringBuilder();
+        private int saved;
+
+        Draft(String topic, LocalDateTime createdAt) {
+            this.topic = topic;
+            this.createdAt = createdAt;
+        }
+    }
+}
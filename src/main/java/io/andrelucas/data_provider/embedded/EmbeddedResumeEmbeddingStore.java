@@ -0,0 +1,37 @@
+package io.andrelucas.data_provider.embedded;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.data_provider.vector.ResumeEmbeddingStore;
+
+/**
+ * Embedded deployments keep no embeddings on disk: every resume is embedded again when the application starts,
+ * which is cheap with the default hashing model.
+ */
+@Component
+@Profile("embedded")
+public class EmbeddedResumeEmbeddingStore implements ResumeEmbeddingStore {
+
+    private final EmbeddedResumeRepository repository;
+
+    public EmbeddedResumeEmbeddingStore(final EmbeddedResumeRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public void forEachEmbedding(int dimensions, BiConsumer<UUID, float[]> action) {
+    }
+
+    @Override
+    public void forEachMissing(int dimensions, BiConsumer<UUID, String> action) {
+        repository.forEach(resume -> action.accept(resume.id(), resume.content()));
+    }
+
+    @Override
+    public void save(UUID resumeId, float[] embedding) {
+    }
+}
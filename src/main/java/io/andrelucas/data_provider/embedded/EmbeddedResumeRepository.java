@@ -0,0 +1,271 @@
+package io.andrelucas.data_provider.embedded;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeContentSlice;
+import io.andrelucas.business.ResumeSearchQuery;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.data_provider.embedded.SegmentLog.Location;
+import io.andrelucas.data_provider.memory.ResumeIndex;
+
+/**
+ * {@link ResumeRepository} for deployments without Mongo, selected by the {@code embedded} profile. Every save
+ * appends a checksummed record to a {@link SegmentLog} of memory-mapped files; an in-memory {@link ResumeIndex}
+ * maps ids, topics, variant groups and creation times to record locations and is rebuilt by replaying the log on startup.
+ *
+ * <p>Reads are lock-free: records are never modified once written, so a location stays valid until its segment
+ * is compacted and, because it holds the mapping, even after that. Saves are serialized. A sealed segment whose
+ * share of superseded records reaches the compaction threshold has its live records copied to the end of the log
+ * and is deleted, on a background thread that takes the write lock one record at a time, so a compaction never
+ * holds up a save for longer than copying a record.
+ */
+@Repository
+@Profile("embedded")
+public class EmbeddedResumeRepository implements ResumeRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedResumeRepository.class);
+
+    private final SegmentLog log;
+    private final double compactionThreshold;
+    private final ResumeIndex<Location> index = new ResumeIndex<>(location -> ResumeRecordCodec.decode(location.read()));
+    private final Set<Long> scheduled = ConcurrentHashMap.newKeySet();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(task -> {
+        final Thread thread = new Thread(task, "embedded-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public EmbeddedResumeRepository(final EmbeddedStoreProperties properties) {
+        this.log = new SegmentLog(Path.of(properties.directory()), properties.segmentSizeBytes(), properties.syncOnWrite());
+        this.compactionThreshold = properties.compactionThreshold();
+        log.open(this::replay);
+        synchronized (this) {
+            log.sealed().forEach(this::compactIfSparse);
+        }
+        logger.info("Embedded resume store opened in {} with {} resumes", properties.directory(), index.size());
+    }
+
+    @Override
+    public synchronized Resume save(Resume resume) {
+        final Location location = log.append(ResumeRecordCodec.encode(resume));
+        location.segment().addLiveBytes(location.size());
+        final Location previous = index.put(resume.id(), resume.topic(), resume.groupId(), resume.createdAt(), location);
+        if (previous != null) {
+            previous.segment().addLiveBytes(-previous.size());
+            scheduleIfSparse(previous.segment());
+        }
+        return resume;
+    }
+
+    /**
+     * Removes the resume under {@code id} if it is still a draft, leaving a finished resume saved over it in place.
+     * The removal is logged as a tombstone, which compactions keep for as long as the resume stays removed since an
+     * older segment may still hold the draft.
+     */
+    public synchronized void removeDraft(UUID id) {
+        final Location current = index.get(id);
+        if (current == null || !ResumeRecordCodec.decode(current.read()).draft()) {
+            return;
+        }
+        log.append(ResumeRecordCodec.encodeTombstone(id));
+        index.remove(id);
+        current.segment().addLiveBytes(-current.size());
+        scheduleIfSparse(current.segment());
+    }
+
+    @Override
+    public Page<Resume> findByTopic(String topic, Pageable pageable) {
+        return index.findByTopic(topic, pageable);
+    }
+
+    @Override
+    public Page<Resume> findByCreatedAtBetween(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return index.findByCreatedAtBetween(from, to, pageable);
+    }
+
+    @Override
+    public Page<Resume> findByContentContainingIgnoreCase(String keyword, Pageable pageable) {
+        return index.findByContentContainingIgnoreCase(keyword, pageable);
+    }
+
+    @Override
+    public Page<Resume> findAllByOrderByCreatedAtDesc(Pageable pageable) {
+        return index.findAllByOrderByCreatedAtDesc(pageable);
+    }
+
+    @Override
+    public Page<Resume> findByCustomCriteria(ResumeSearchQuery query, Pageable pageable) {
+        return index.findByCustomCriteria(query, pageable);
+    }
+
+    @Override
+    public Optional<ResumeContentSlice> readContent(UUID id, long offset, int length) {
+        return Optional.ofNullable(index.get(id))
+            .map(location -> ResumeRecordCodec.decode(location.read()))
+            .map(resume -> ResumeContentSlice.slice(id, resume.content(), offset, length));
+    }
+
+    @Override
+    public List<Resume> findAllByIds(Collection<UUID> ids) {
+        return index.findAllByIds(ids);
+    }
+
+    @Override
+    public List<Resume> findByGroupId(UUID groupId) {
+        return index.findByGroupId(groupId);
+    }
+
+    @Override
+    public void forEach(Consumer<Resume> action) {
+        index.values().map(location -> ResumeRecordCodec.decode(location.read())).forEach(action);
+    }
+
+    /**
+     * Rewrites every sealed segment that has any superseded record, after the compactions already scheduled.
+     */
+    public void compact() {
+        final Future<?> done = compactor.submit(() -> {
+            final List<Segment> sparse;
+            synchronized (this) {
+                sparse = log.sealed().stream()
+                    .filter(segment -> segment.liveBytes() < segment.writePosition())
+                    .toList();
+            }
+            sparse.forEach(this::compactSegment);
+        });
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while compacting", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Compaction failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            log.flush();
+        }
+    }
+
+    private void replay(Segment segment, int offset, int size, ByteBuffer payload) {
+        if (ResumeRecordCodec.isTombstone(payload)) {
+            final Location removed = index.remove(new UUID(payload.getLong(), payload.getLong()));
+            if (removed != null) {
+                removed.segment().addLiveBytes(-removed.size());
+            }
+            return;
+        }
+        final ResumeRecordCodec.Metadata metadata = ResumeRecordCodec.decodeMetadata(payload);
+        segment.addLiveBytes(size);
+        final Location previous = index.put(metadata.id(), metadata.topic(), metadata.groupId(), metadata.createdAt(),
+            new Location(segment, offset, size));
+        if (previous != null) {
+            previous.segment().addLiveBytes(-previous.size());
+        }
+    }
+
+    private void compactIfSparse(Segment segment) {
+        if (isSparse(segment)) {
+            compactSegment(segment);
+        }
+    }
+
+    private void scheduleIfSparse(Segment segment) {
+        if (!isSparse(segment) || !scheduled.add(segment.id())) {
+            return;
+        }
+        try {
+            compactor.execute(() -> {
+                try {
+                    compactSegment(segment);
+                } catch (RuntimeException e) {
+                    logger.warn("Could not compact segment {}", segment.id(), e);
+                } finally {
+                    scheduled.remove(segment.id());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Closing: the segment is compacted when the store is opened again
+            scheduled.remove(segment.id());
+        }
+    }
+
+    private boolean isSparse(Segment segment) {
+        return log.isSealed(segment) && segment.liveBytes() <= segment.writePosition() * (1 - compactionThreshold);
+    }
+
+    /**
+     * Copies the live records of {@code segment} to the end of the log and deletes it. The segment is sealed, so it
+     * is read without the lock; each record is moved under it, after checking it was not superseded meanwhile.
+     */
+    private void compactSegment(Segment segment) {
+        synchronized (this) {
+            if (!log.contains(segment)) {
+                return;
+            }
+        }
+        segment.forEach((source, offset, size, payload) -> {
+            if (ResumeRecordCodec.isTombstone(payload)) {
+                final UUID id = new UUID(payload.getLong(payload.position()), payload.getLong(payload.position() + 8));
+                synchronized (this) {
+                    if (!index.contains(id)) {
+                        log.append(ResumeRecordCodec.encodeTombstone(id));
+                    }
+                }
+                return;
+            }
+            final ResumeRecordCodec.Metadata metadata = ResumeRecordCodec.decodeMetadata(payload.duplicate());
+            synchronized (this) {
+                final Location current = index.get(metadata.id());
+                if (current == null || current.segment() != source || current.offset() != offset) {
+                    return;
+                }
+                final byte[] bytes = new byte[payload.remaining()];
+                payload.get(bytes);
+                final Location moved = log.append(bytes);
+                moved.segment().addLiveBytes(moved.size());
+                index.put(metadata.id(), metadata.topic(), metadata.groupId(), metadata.createdAt(), moved);
+            }
+        });
+        synchronized (this) {
+            // Copies are durable before the original goes away; a crash in between only leaves duplicates to replay
+            log.flush();
+            log.drop(segment);
+        }
+        logger.debug("Compacted segment {}", segment.id());
+    }
+}
@@ -0,0 +1,38 @@
+package io.andrelucas.data_provider.embedded;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.repositories.BlobStore;
+import io.andrelucas.business.repositories.ResumeThumbnails;
+
+/**
+ * {@link ResumeThumbnails} for the {@code embedded} profile, where there is no resume document to hold the
+ * reference: each one is a tiny object of its own in the {@link BlobStore}, next to the images.
+ */
+@Repository
+@Profile("embedded")
+public class EmbeddedResumeThumbnails implements ResumeThumbnails {
+
+    private static final String PREFIX = "resume-thumbnails/";
+
+    private final BlobStore blobs;
+
+    public EmbeddedResumeThumbnails(final BlobStore blobs) {
+        this.blobs = blobs;
+    }
+
+    @Override
+    public void attach(UUID resumeId, String thumbnailRef) {
+        blobs.put(PREFIX + resumeId, thumbnailRef.getBytes(StandardCharsets.UTF_8), "text/plain; charset=utf-8");
+    }
+
+    @Override
+    public Optional<String> find(UUID resumeId) {
+        return blobs.get(PREFIX + resumeId).map(ref -> new String(ref, StandardCharsets.UTF_8));
+    }
+}
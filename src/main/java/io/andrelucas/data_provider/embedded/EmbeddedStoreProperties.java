@@ -0,0 +1,21 @@
+package io.andrelucas.data_provider.embedded;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Embedded storage used by the {@code embedded} profile instead of Mongo.
+ *
+ * @param directory where the segment files live
+ * @param segmentSizeBytes size of each memory-mapped segment; a larger record gets a segment of its own
+ * @param compactionThreshold share of dead bytes at which a sealed segment is rewritten
+ * @param syncOnWrite flush every record to disk before acknowledging it; without it records survive a process
+ *                    crash but not a power loss
+ */
+@ConfigurationProperties(prefix = "content-generator.embedded-store")
+public record EmbeddedStoreProperties(
+    @DefaultValue("./data/resumes") String directory,
+    @DefaultValue("67108864") int segmentSizeBytes,
+    @DefaultValue("0.5") double compactionThreshold,
+    @DefaultValue("false") boolean syncOnWrite
+) {}
@@ -0,0 +1,135 @@
+package io.andrelucas.data_provider.embedded;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import io.andrelucas.business.Platform;
+import io.andrelucas.business.Resume;
+
+/**
+ * Binary layout of a resume record: id, createdAt, updatedAt, topic and content, strings as length-prefixed UTF-8,
+ * then the variant group id and platform when the resume has them, then a {@link #DRAFT} byte when it is a draft.
+ * Records written before variants existed end after the content. A record of only an id is a tombstone: the resume
+ * was removed.
+ */
+final class ResumeRecordCodec {
+
+    private static final long NO_TIME = Long.MIN_VALUE;
+    private static final int NO_STRING = -1;
+    private static final int NO_PLATFORM = -1;
+    private static final int ID_BYTES = 16;
+    private static final int VARIANT_BYTES = 16 + 4;
+    private static final byte DRAFT = 1;
+
+    private ResumeRecordCodec() {
+    }
+
+    static byte[] encode(Resume resume) {
+        final byte[] topic = resume.topic() != null ? resume.topic().getBytes(StandardCharsets.UTF_8) : null;
+        final byte[] content = resume.content() != null ? resume.content().getBytes(StandardCharsets.UTF_8) : null;
+        final boolean variant = resume.groupId() != null;
+        final ByteBuffer buffer = ByteBuffer.allocate(ID_BYTES + 12 + 12 + 4 + length(topic) + 4 + length(content)
+            + (variant ? VARIANT_BYTES : 0) + (resume.draft() ? 1 : 0));
+        buffer.putLong(resume.id().getMostSignificantBits());
+        buffer.putLong(resume.id().getLeastSignificantBits());
+        putTime(buffer, resume.createdAt());
+        putTime(buffer, resume.updatedAt());
+        putString(buffer, topic);
+        putString(buffer, content);
+        if (variant) {
+            buffer.putLong(resume.groupId().getMostSignificantBits());
+            buffer.putLong(resume.groupId().getLeastSignificantBits());
+            buffer.putInt(resume.platform() != null ? resume.platform().ordinal() : NO_PLATFORM);
+        }
+        if (resume.draft()) {
+            buffer.put(DRAFT);
+        }
+        return buffer.array();
+    }
+
+    static byte[] encodeTombstone(UUID id) {
+        return ByteBuffer.allocate(ID_BYTES)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+
+    static boolean isTombstone(ByteBuffer record) {
+        return record.remaining() == ID_BYTES;
+    }
+
+    static Resume decode(ByteBuffer record) {
+        final UUID id = new UUID(record.getLong(), record.getLong());
+        final LocalDateTime createdAt = getTime(record);
+        final LocalDateTime updatedAt = getTime(record);
+        final String topic = getString(record);
+        final String content = getString(record);
+        Resume resume = new Resume(id, topic, content, createdAt, updatedAt);
+        if (record.remaining() >= VARIANT_BYTES) {
+            final UUID groupId = new UUID(record.getLong(), record.getLong());
+            final int platform = record.getInt();
+            resume = resume.inGroup(groupId, platform != NO_PLATFORM ? Platform.values()[platform] : null);
+        }
+        return record.hasRemaining() && record.get() == DRAFT ? resume.asDraft() : resume;
+    }
+
+    /**
+     * Reads what the in-memory index needs and skips the content.
+     */
+    static Metadata decodeMetadata(ByteBuffer record) {
+        final UUID id = new UUID(record.getLong(), record.getLong());
+        final LocalDateTime createdAt = getTime(record);
+        getTime(record);
+        final String topic = getString(record);
+        final int contentLength = record.getInt();
+        if (contentLength != NO_STRING) {
+            record.position(record.position() + contentLength);
+        }
+        final UUID groupId = record.remaining() >= VARIANT_BYTES ? new UUID(record.getLong(), record.getLong()) : null;
+        return new Metadata(id, topic, groupId, createdAt);
+    }
+
+    record Metadata(UUID id, String topic, UUID groupId, LocalDateTime createdAt) {}
+
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private static void putTime(ByteBuffer buffer, LocalDateTime time) {
+        buffer.putLong(time != null ? time.toEpochSecond(ZoneOffset.UTC) : NO_TIME);
+        buffer.putInt(time != null ? time.getNano() : 0);
+    }
+
+    private static LocalDateTime getTime(ByteBuffer buffer) {
+        final long seconds = buffer.getLong();
+        final int nanos = buffer.getInt();
+        return seconds == NO_TIME ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes != null ? bytes.length : NO_STRING);
+        if (bytes != null) {
+            buffer.put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length == NO_STRING) {
+            return null;
+        }
+        final String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        } else {
+            final byte[] bytes = new byte[length];
+            buffer.get(buffer.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,163 @@
+package io.andrelucas.data_provider.embedded;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped file of the log. Records are {@code [int length][int crc32c][payload]}, written back to back;
+ * the zero-filled tail of the file reads as a length of zero, which marks the end of the data.
+ */
+final class Segment {
+
+    static final int HEADER_BYTES = 8;
+
+    private final long id;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private int writePosition;
+    private long liveBytes;
+
+    private Segment(long id, Path path, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Maps an existing file at its own size, or creates one of {@code capacity} bytes.
+     */
+    static Segment open(long id, Path path, int capacity) {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final long size = channel.size() > 0 ? channel.size() : capacity;
+            return new Segment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not map segment " + path, e);
+        }
+    }
+
+    long id() {
+        return id;
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    long liveBytes() {
+        return liveBytes;
+    }
+
+    void addLiveBytes(long bytes) {
+        liveBytes += bytes;
+    }
+
+    boolean fits(int payloadLength) {
+        return (long) writePosition + HEADER_BYTES + payloadLength <= buffer.capacity();
+    }
+
+    /**
+     * Appends a record and returns its offset. The caller checks {@link #fits} first and serializes appends.
+     */
+    int append(byte[] payload, boolean sync) {
+        final int offset = writePosition;
+        final CRC32C crc = new CRC32C();
+        crc.update(payload);
+        buffer.put(offset + HEADER_BYTES, payload);
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        // The length goes last: until it is written the record reads as the end of the data
+        buffer.putInt(offset, payload.length);
+        if (sync) {
+            buffer.force(offset, HEADER_BYTES + payload.length);
+        }
+        writePosition = offset + HEADER_BYTES + payload.length;
+        return offset;
+    }
+
+    /**
+     * The payload of the record at {@code offset}, as an independent view of the mapping.
+     */
+    ByteBuffer read(int offset) {
+        final int length = buffer.getInt(offset);
+        return buffer.slice(offset + HEADER_BYTES, length);
+    }
+
+    /**
+     * Walks the records written so far.
+     */
+    void forEach(RecordVisitor visitor) {
+        int position = 0;
+        while (position < writePosition) {
+            final int length = buffer.getInt(position);
+            visitor.visit(this, position, HEADER_BYTES + length, buffer.slice(position + HEADER_BYTES, length));
+            position += HEADER_BYTES + length;
+        }
+    }
+
+    /**
+     * Walks the records from the start, stopping at the end of the data or at the first record whose length or
+     * checksum does not hold. Whatever follows a bad record is zeroed, so a torn write at the tail is dropped and
+     * the next append overwrites it. Returns {@code false} when a bad record was found.
+     */
+    boolean recover(RecordVisitor visitor) {
+        int position = 0;
+        boolean intact = true;
+        while (position + HEADER_BYTES <= buffer.capacity()) {
+            final int length = buffer.getInt(position);
+            if (length == 0) {
+                break;
+            }
+            if (length < 0 || (long) position + HEADER_BYTES + length > buffer.capacity()
+                    || !checksumMatches(position, length)) {
+                intact = false;
+                break;
+            }
+            visitor.visit(this, position, HEADER_BYTES + length, buffer.slice(position + HEADER_BYTES, length));
+            position += HEADER_BYTES + length;
+        }
+
+        writePosition = position;
+        if (!intact) {
+            for (int i = position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+        return intact;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void delete() {
+        try {
+            // The mapping itself is released by the garbage collector; readers holding a view keep working
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not delete segment " + path, e);
+        }
+    }
+
+    private boolean checksumMatches(int position, int length) {
+        final CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position + HEADER_BYTES, length));
+        return (int) crc.getValue() == buffer.getInt(position + 4);
+    }
+
+    @FunctionalInterface
+    interface RecordVisitor {
+        void visit(Segment segment, int offset, int size, ByteBuffer payload);
+    }
+}
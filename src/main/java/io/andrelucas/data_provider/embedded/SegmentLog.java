@@ -0,0 +1,124 @@
+package io.andrelucas.data_provider.embedded;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only log of records spread over memory-mapped segment files. Only the last segment takes appends;
+ * the others are sealed and only read, until compaction drops them. Appends must be serialized by the caller.
+ */
+final class SegmentLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SegmentLog.class);
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d{10})\\.log");
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean syncOnWrite;
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    SegmentLog(Path directory, int segmentSize, boolean syncOnWrite) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncOnWrite = syncOnWrite;
+    }
+
+    /**
+     * Maps every segment in the directory and replays their intact records, oldest first.
+     */
+    void open(Segment.RecordVisitor visitor) {
+        final TreeMap<Long, Path> files = new TreeMap<>();
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> paths = Files.list(directory)) {
+                paths.forEach(path -> {
+                    final Matcher matcher = SEGMENT_FILE.matcher(path.getFileName().toString());
+                    if (matcher.matches()) {
+                        files.put(Long.parseLong(matcher.group(1)), path);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open segment log in " + directory, e);
+        }
+
+        files.forEach((id, path) -> {
+            final Segment segment = Segment.open(id, path, segmentSize);
+            segments.put(id, segment);
+            if (!segment.recover(visitor)) {
+                logger.warn("Segment {} has a torn or corrupt record at offset {}; the rest of it was discarded",
+                    path, segment.writePosition());
+            }
+        });
+        if (segments.isEmpty()) {
+            roll(segmentSize);
+        }
+    }
+
+    Location append(byte[] payload) {
+        Segment active = segments.lastEntry().getValue();
+        if (!active.fits(payload.length)) {
+            active.force();
+            active = roll(Math.max(segmentSize, Segment.HEADER_BYTES + payload.length));
+        }
+        final int offset = active.append(payload, syncOnWrite);
+        return new Location(active, offset, Segment.HEADER_BYTES + payload.length);
+    }
+
+    boolean isSealed(Segment segment) {
+        return segment.id() != segments.lastKey();
+    }
+
+    /**
+     * Segments that no longer take appends.
+     */
+    List<Segment> sealed() {
+        final List<Segment> sealed = new ArrayList<>(segments.values());
+        sealed.remove(sealed.size() - 1);
+        return sealed;
+    }
+
+    boolean contains(Segment segment) {
+        return segments.get(segment.id()) == segment;
+    }
+
+    void drop(Segment segment) {
+        segments.remove(segment.id());
+        segment.delete();
+    }
+
+    void flush() {
+        segments.values().forEach(Segment::force);
+    }
+
+    private Segment roll(int capacity) {
+        final long id = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        final Segment segment = Segment.open(id, directory.resolve(String.format("segment-%010d.log", id)), capacity);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    /**
+     * Where a record lives. It keeps its segment mapped, so it stays readable after compaction drops the file.
+     */
+    record Location(Segment segment, int offset, int size) {
+
+        ByteBuffer read() {
+            return segment.read(offset);
+        }
+    }
+}
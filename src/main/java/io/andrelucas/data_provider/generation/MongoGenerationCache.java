@@ -0,0 +1,42 @@
+package io.andrelucas.data_provider.generation;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.CachedGeneration;
+import io.andrelucas.business.GenerationCacheProperties;
+import io.andrelucas.business.repositories.GenerationCache;
+import io.andrelucas.data_provider.document.GenerationCacheDocument;
+
+/**
+ * {@link GenerationCache} in the {@code generation_cache} collection. Entries carry their expiry, which a TTL
+ * index acts on; since Mongo only sweeps expired documents once a minute, reads check it too.
+ */
+@Repository
+@Profile("!embedded")
+public class MongoGenerationCache implements GenerationCache {
+
+    private final MongoTemplate mongoTemplate;
+    private final GenerationCacheProperties properties;
+
+    public MongoGenerationCache(final MongoTemplate mongoTemplate, final GenerationCacheProperties properties) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Optional<CachedGeneration> find(String key) {
+        return Optional.ofNullable(mongoTemplate.findById(key, GenerationCacheDocument.class))
+            .filter(document -> document.getExpiresAt().isAfter(LocalDateTime.now()))
+            .map(GenerationCacheDocument::toGeneration);
+    }
+
+    @Override
+    public void put(String key, CachedGeneration generation) {
+        mongoTemplate.save(new GenerationCacheDocument(key, generation, generation.createdAt().plus(properties.ttl())));
+    }
+}
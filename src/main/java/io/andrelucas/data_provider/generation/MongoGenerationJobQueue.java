@@ -0,0 +1,105 @@
+package io.andrelucas.data_provider.generation;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.GenerationJob;
+import io.andrelucas.business.GenerationStatus;
+import io.andrelucas.business.repositories.GenerationJobQueue;
+import io.andrelucas.data_provider.document.GenerationJobDocument;
+
+/**
+ * {@link GenerationJobQueue} in the {@code generation_jobs} collection. Jobs are claimed with a single
+ * {@code findAndModify}, so however many workers and instances poll it each job goes to one of them at a time.
+ */
+@Repository
+@Profile("!embedded")
+public class MongoGenerationJobQueue implements GenerationJobQueue {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoGenerationJobQueue(final MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public GenerationJob enqueue(GenerationJob job) {
+        return mongoTemplate.insert(GenerationJobDocument.from(job)).toJob();
+    }
+
+    @Override
+    public Optional<GenerationJob> findById(UUID id) {
+        return Optional.ofNullable(mongoTemplate.findById(id, GenerationJobDocument.class))
+            .map(GenerationJobDocument::toJob);
+    }
+
+    @Override
+    public Optional<GenerationJob> claimNext(LocalDateTime now, LocalDateTime leaseUntil) {
+        // Running jobs whose lease ran out were left behind by a worker that stopped
+        final Query due = Query.query(Criteria.where("status").in(GenerationStatus.QUEUED, GenerationStatus.RUNNING)
+                .and("nextAttemptAt").lte(now))
+            .with(Sort.by(Sort.Direction.ASC, "nextAttemptAt"));
+        final Update claim = new Update()
+            .set("status", GenerationStatus.RUNNING)
+            .set("nextAttemptAt", leaseUntil)
+            .set("updatedAt", now)
+            .inc("attempts", 1);
+        return Optional.ofNullable(mongoTemplate.findAndModify(due, claim,
+                FindAndModifyOptions.options().returnNew(true), GenerationJobDocument.class))
+            .map(GenerationJobDocument::toJob);
+    }
+
+    @Override
+    public boolean extendLease(GenerationJob claim, LocalDateTime leaseUntil) {
+        return update(claim, new Update().set("nextAttemptAt", leaseUntil));
+    }
+
+    @Override
+    public void attachResume(GenerationJob claim, UUID resumeId) {
+        update(claim, new Update().set("resumeId", resumeId));
+    }
+
+    @Override
+    public void succeed(GenerationJob claim, UUID resumeId) {
+        update(claim, new Update()
+            .set("status", GenerationStatus.SUCCEEDED)
+            .set("resumeId", resumeId)
+            .unset("error")
+            .unset("nextAttemptAt"));
+    }
+
+    @Override
+    public void retry(GenerationJob claim, String error, LocalDateTime retryAt) {
+        update(claim, new Update()
+            .set("status", GenerationStatus.QUEUED)
+            .set("error", error)
+            .set("nextAttemptAt", retryAt));
+    }
+
+    @Override
+    public void fail(GenerationJob claim, String error) {
+        update(claim, new Update()
+            .set("status", GenerationStatus.FAILED)
+            .set("error", error)
+            .unset("nextAttemptAt"));
+    }
+
+    private boolean update(GenerationJob claim, Update update) {
+        // Every claim counts an attempt, so a worker whose job was taken over no longer matches, finished or not
+        final Query claimed = Query.query(Criteria.where("_id").is(claim.id())
+            .and("status").is(GenerationStatus.RUNNING)
+            .and("attempts").is(claim.attempts()));
+        return mongoTemplate.updateFirst(claimed, update.set("updatedAt", LocalDateTime.now()), GenerationJobDocument.class)
+            .getMatchedCount() > 0;
+    }
+}
@@ -0,0 +1,92 @@
+package io.andrelucas.data_provider.memory;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.GenerationJob;
+import io.andrelucas.business.GenerationStatus;
+import io.andrelucas.business.repositories.GenerationJobQueue;
+
+/**
+ * {@link GenerationJobQueue} for the embedded profile, where there is a single instance and no Mongo. Jobs still
+ * queued or running when the process stops are lost.
+ */
+@Repository
+@Profile("embedded")
+public class InMemoryGenerationJobQueue implements GenerationJobQueue {
+
+    private final Map<UUID, GenerationJob> jobs = new LinkedHashMap<>();
+
+    @Override
+    public synchronized GenerationJob enqueue(GenerationJob job) {
+        jobs.put(job.id(), job);
+        return job;
+    }
+
+    @Override
+    public synchronized Optional<GenerationJob> findById(UUID id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    @Override
+    public synchronized Optional<GenerationJob> claimNext(LocalDateTime now, LocalDateTime leaseUntil) {
+        final Optional<GenerationJob> due = jobs.values().stream()
+            .filter(job -> job.status() == GenerationStatus.QUEUED || job.status() == GenerationStatus.RUNNING)
+            .filter(job -> !job.nextAttemptAt().isAfter(now))
+            .min(Comparator.comparing(GenerationJob::nextAttemptAt));
+        return due.map(job -> put(new GenerationJob(job.id(), job.topic(), job.instructions(), job.groupId(), job.platform(),
+            GenerationStatus.RUNNING, job.attempts() + 1, job.resumeId(), job.error(), leaseUntil, job.createdAt(), now)));
+    }
+
+    @Override
+    public boolean extendLease(GenerationJob claim, LocalDateTime leaseUntil) {
+        return update(claim, job -> new GenerationJob(job.id(), job.topic(), job.instructions(), job.groupId(), job.platform(),
+            job.status(), job.attempts(), job.resumeId(), job.error(), leaseUntil, job.createdAt(), LocalDateTime.now()));
+    }
+
+    @Override
+    public void attachResume(GenerationJob claim, UUID resumeId) {
+        update(claim, job -> new GenerationJob(job.id(), job.topic(), job.instructions(), job.groupId(), job.platform(),
+            job.status(), job.attempts(), resumeId, job.error(), job.nextAttemptAt(), job.createdAt(), LocalDateTime.now()));
+    }
+
+    @Override
+    public void succeed(GenerationJob claim, UUID resumeId) {
+        update(claim, job -> new GenerationJob(job.id(), job.topic(), job.instructions(), job.groupId(), job.platform(),
+            GenerationStatus.SUCCEEDED, job.attempts(), resumeId, null, null, job.createdAt(), LocalDateTime.now()));
+    }
+
+    @Override
+    public void retry(GenerationJob claim, String error, LocalDateTime retryAt) {
+        update(claim, job -> new GenerationJob(job.id(), job.topic(), job.instructions(), job.groupId(), job.platform(),
+            GenerationStatus.QUEUED, job.attempts(), job.resumeId(), error, retryAt, job.createdAt(), LocalDateTime.now()));
+    }
+
+    @Override
+    public void fail(GenerationJob claim, String error) {
+        update(claim, job -> new GenerationJob(job.id(), job.topic(), job.instructions(), job.groupId(), job.platform(),
+            GenerationStatus.FAILED, job.attempts(), job.resumeId(), error, null, job.createdAt(), LocalDateTime.now()));
+    }
+
+    private synchronized boolean update(GenerationJob claim, UnaryOperator<GenerationJob> change) {
+        final GenerationJob job = jobs.get(claim.id());
+        if (job == null || job.status() != GenerationStatus.RUNNING || job.attempts() != claim.attempts()) {
+            return false;
+        }
+        put(change.apply(job));
+        return true;
+    }
+
+    private GenerationJob put(GenerationJob job) {
+        jobs.put(job.id(), job);
+        return job;
+    }
+}
@@ -0,0 +1,61 @@
+package io.andrelucas.data_provider.memory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.ResumeRevision;
+import io.andrelucas.business.repositories.ResumeRevisions;
+
+/**
+ * {@link ResumeRevisions} for the embedded profile, where there is no Mongo. The history is lost when the process
+ * stops, and the first edit after a restart records the version it replaced as a new first revision.
+ */
+@Repository
+@Profile("embedded")
+public class InMemoryResumeRevisions implements ResumeRevisions {
+
+    private final Map<UUID, List<ResumeRevision>> revisions = new HashMap<>();
+
+    @Override
+    public synchronized boolean append(ResumeRevision revision) {
+        final List<ResumeRevision> history = revisions.computeIfAbsent(revision.resumeId(), ignored -> new ArrayList<>());
+        if (revision.number() <= history.size()) {
+            return false;
+        }
+        if (revision.number() != history.size() + 1) {
+            throw new IllegalStateException("Revision " + revision.number() + " of resume " + revision.resumeId()
+                + " does not follow revision " + history.size());
+        }
+        history.add(revision);
+        return true;
+    }
+
+    @Override
+    public synchronized Optional<ResumeRevision> latest(UUID resumeId) {
+        final List<ResumeRevision> history = revisions.getOrDefault(resumeId, List.of());
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(history.size() - 1));
+    }
+
+    @Override
+    public synchronized List<ResumeRevision> list(UUID resumeId) {
+        return revisions.getOrDefault(resumeId, List.of()).stream()
+            .map(ResumeRevision::withoutContent)
+            .toList();
+    }
+
+    @Override
+    public synchronized List<ResumeRevision> chain(UUID resumeId, int number) {
+        final List<ResumeRevision> history = revisions.getOrDefault(resumeId, List.of());
+        if (number < 1 || number > history.size()) {
+            return List.of();
+        }
+        return List.copyOf(history.subList(history.get(number - 1).snapshotNumber() - 1, number));
+    }
+}
@@ -0,0 +1,89 @@
+package io.andrelucas.data_provider.memory;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.ScheduleStatus;
+import io.andrelucas.business.ScheduledPost;
+import io.andrelucas.business.repositories.ScheduleStore;
+
+/**
+ * {@link ScheduleStore} for the embedded profile, where there is a single instance and no Mongo. Posts still
+ * scheduled when the process stops are lost.
+ */
+@Repository
+@Profile("embedded")
+public class InMemoryScheduleStore implements ScheduleStore {
+
+    private final Map<UUID, ScheduledPost> posts = new LinkedHashMap<>();
+
+    @Override
+    public synchronized ScheduledPost save(ScheduledPost post) {
+        posts.put(post.id(), post);
+        return post;
+    }
+
+    @Override
+    public synchronized Optional<ScheduledPost> findById(UUID id) {
+        return Optional.ofNullable(posts.get(id));
+    }
+
+    @Override
+    public void forEachScheduled(Consumer<ScheduledPost> action) {
+        select(post -> post.status() == ScheduleStatus.SCHEDULED).forEach(action);
+    }
+
+    @Override
+    public void forEachUpdatedSince(LocalDateTime since, Consumer<ScheduledPost> action) {
+        select(post -> !post.updatedAt().isBefore(since)).forEach(action);
+    }
+
+    @Override
+    public boolean cancel(UUID id) {
+        return update(id, post -> new ScheduledPost(post.id(), post.resumeId(), post.platform(), post.publishAt(),
+            ScheduleStatus.CANCELLED, post.attempts(), post.postId(), post.error(), post.nextAttemptAt(), post.createdAt(),
+            LocalDateTime.now()));
+    }
+
+    @Override
+    public void published(UUID id, String postId) {
+        update(id, post -> new ScheduledPost(post.id(), post.resumeId(), post.platform(), post.publishAt(),
+            ScheduleStatus.PUBLISHED, post.attempts(), postId, null, post.nextAttemptAt(), post.createdAt(), LocalDateTime.now()));
+    }
+
+    @Override
+    public void retry(UUID id, String error, LocalDateTime retryAt) {
+        update(id, post -> new ScheduledPost(post.id(), post.resumeId(), post.platform(), post.publishAt(),
+            ScheduleStatus.SCHEDULED, post.attempts() + 1, post.postId(), error, retryAt, post.createdAt(), LocalDateTime.now()));
+    }
+
+    @Override
+    public void fail(UUID id, String error) {
+        update(id, post -> new ScheduledPost(post.id(), post.resumeId(), post.platform(), post.publishAt(),
+            ScheduleStatus.FAILED, post.attempts() + 1, post.postId(), error, post.nextAttemptAt(), post.createdAt(),
+            LocalDateTime.now()));
+    }
+
+    private synchronized List<ScheduledPost> select(Predicate<ScheduledPost> filter) {
+        return posts.values().stream().filter(filter).toList();
+    }
+
+    private synchronized boolean update(UUID id, UnaryOperator<ScheduledPost> change) {
+        final ScheduledPost post = posts.get(id);
+        if (post == null || post.status() != ScheduleStatus.SCHEDULED) {
+            return false;
+        }
+        posts.put(id, change.apply(post));
+        return true;
+    }
+}
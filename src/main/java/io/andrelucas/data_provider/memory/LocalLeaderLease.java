@@ -0,0 +1,26 @@
+package io.andrelucas.data_provider.memory;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.repositories.LeaderLease;
+
+/**
+ * {@link LeaderLease} for the embedded profile, where the only instance always holds every lease.
+ */
+@Repository
+@Profile("embedded")
+public class LocalLeaderLease implements LeaderLease {
+
+    @Override
+    public boolean acquire(String name, String owner, Duration ttl) {
+        return true;
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        // Nothing to give up
+    }
+}
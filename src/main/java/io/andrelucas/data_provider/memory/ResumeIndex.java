@@ -0,0 +1,284 @@
+package io.andrelucas.data_provider.memory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeSearchQuery;
+import io.andrelucas.business.SortDirection;
+
+/**
+ * Concurrent in-memory index of resumes by id, topic, variant group and creation time, answering the {@code ResumeRepository}
+ * page queries. Each entry holds a value of type {@code T}, either the resume itself or a pointer to where it is
+ * stored, which {@code resolver} turns into a {@link Resume} only for entries the metadata filters kept.
+ *
+ * <p>Query semantics follow the Mongo adapter: the derived {@code Between} is exclusive, custom criteria dates are
+ * inclusive, {@code Containing} matches the keyword literally and the custom criteria keyword is a case-insensitive
+ * regex. Unsorted results come back oldest first. Writers must be serialized by the caller.
+ */
+public final class ResumeIndex<T> {
+
+    private static final UUID LOWEST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID HIGHEST_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    private final Function<T, Resume> resolver;
+    private final Map<UUID, Entry<T>> byId = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<Key>> byTopic = new ConcurrentHashMap<>();
+    private final Map<UUID, NavigableSet<Key>> byGroup = new ConcurrentHashMap<>();
+    private final NavigableMap<Key, Entry<T>> byCreatedAt = new ConcurrentSkipListMap<>();
+
+    public ResumeIndex(Function<T, Resume> resolver) {
+        this.resolver = resolver;
+    }
+
+    /**
+     * Adds or replaces the entry of {@code id}, returning the value it replaced.
+     */
+    public T put(UUID id, String topic, LocalDateTime createdAt, T value) {
+        return put(id, topic, null, createdAt, value);
+    }
+
+    /**
+     * Adds or replaces the entry of {@code id}, a variant of {@code groupId} when that is not {@code null},
+     * returning the value it replaced.
+     */
+    public T put(UUID id, String topic, UUID groupId, LocalDateTime createdAt, T value) {
+        final Entry<T> entry = new Entry<>(new Key(createdAt, id), topic, groupId, value);
+        final Entry<T> previous = byId.put(id, entry);
+        if (previous != null) {
+            byCreatedAt.remove(previous.key());
+            final NavigableSet<Key> topicKeys = previous.topic() != null ? byTopic.get(previous.topic()) : null;
+            if (topicKeys != null) {
+                topicKeys.remove(previous.key());
+            }
+            final NavigableSet<Key> groupKeys = previous.groupId() != null ? byGroup.get(previous.groupId()) : null;
+            if (groupKeys != null) {
+                groupKeys.remove(previous.key());
+            }
+        }
+        byCreatedAt.put(entry.key(), entry);
+        if (topic != null) {
+            byTopic.computeIfAbsent(topic, ignored -> new ConcurrentSkipListSet<>()).add(entry.key());
+        }
+        if (groupId != null) {
+            byGroup.computeIfAbsent(groupId, ignored -> new ConcurrentSkipListSet<>()).add(entry.key());
+        }
+        return previous != null ? previous.value() : null;
+    }
+
+    /**
+     * Drops the entry of {@code id}, returning its value.
+     */
+    public T remove(UUID id) {
+        final Entry<T> previous = byId.remove(id);
+        if (previous == null) {
+            return null;
+        }
+        byCreatedAt.remove(previous.key());
+        final NavigableSet<Key> topicKeys = previous.topic() != null ? byTopic.get(previous.topic()) : null;
+        if (topicKeys != null) {
+            topicKeys.remove(previous.key());
+        }
+        final NavigableSet<Key> groupKeys = previous.groupId() != null ? byGroup.get(previous.groupId()) : null;
+        if (groupKeys != null) {
+            groupKeys.remove(previous.key());
+        }
+        return previous.value();
+    }
+
+    public T get(UUID id) {
+        final Entry<T> entry = byId.get(id);
+        return entry != null ? entry.value() : null;
+    }
+
+    public boolean contains(UUID id) {
+        return byId.containsKey(id);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * Values oldest first.
+     */
+    public Stream<T> values() {
+        return byCreatedAt.values().stream().map(Entry::value);
+    }
+
+    public void clear() {
+        byId.clear();
+        byTopic.clear();
+        byGroup.clear();
+        byCreatedAt.clear();
+    }
+
+    public Page<Resume> findByTopic(String topic, Pageable pageable) {
+        return page(resolve(byTopic(topic)), comparator(pageable.getSort()), pageable);
+    }
+
+    public Page<Resume> findByCreatedAtBetween(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return page(resolve(range(from, false, to, false)), comparator(pageable.getSort()), pageable);
+    }
+
+    public Page<Resume> findByContentContainingIgnoreCase(String keyword, Pageable pageable) {
+        final Pattern pattern = Pattern.compile(Pattern.quote(keyword), Pattern.CASE_INSENSITIVE);
+        final Stream<Resume> matches = resolve(byCreatedAt.values().stream())
+            .filter(resume -> pattern.matcher(resume.content()).find());
+        return page(matches, comparator(pageable.getSort()), pageable);
+    }
+
+    public Page<Resume> findAllByOrderByCreatedAtDesc(Pageable pageable) {
+        return page(resolve(byCreatedAt.descendingMap().values().stream()), comparator(pageable.getSort()), pageable);
+    }
+
+    public Page<Resume> findByCustomCriteria(ResumeSearchQuery query, Pageable pageable) {
+        // Start from the narrowest index and filter the remaining criteria
+        final boolean byTopicIndex = query.topic() != null && !query.topic().isEmpty();
+        Stream<Entry<T>> candidates = byTopicIndex
+            ? byTopic(query.topic())
+            : range(query.fromDate(), true, query.toDate(), true);
+
+        if (byTopicIndex && (query.fromDate() != null || query.toDate() != null)) {
+            candidates = candidates.filter(entry -> inRange(entry.key().createdAt(), query.fromDate(), query.toDate()));
+        }
+
+        Stream<Resume> matches = resolve(candidates);
+        if (query.contentKeyword() != null && !query.contentKeyword().isEmpty()) {
+            final Pattern pattern = Pattern.compile(query.contentKeyword(), Pattern.CASE_INSENSITIVE);
+            matches = matches.filter(resume -> pattern.matcher(resume.content()).find());
+        }
+
+        Sort sort = pageable.getSort();
+        if (query.sortBy() != null && !query.sortBy().isEmpty()) {
+            final Sort.Direction direction = query.sortDirection() == SortDirection.ASC
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+            sort = Sort.by(direction, query.sortBy()).and(sort);
+        }
+        return page(matches, comparator(sort), pageable);
+    }
+
+    public List<Resume> findAllByIds(Collection<UUID> ids) {
+        return resolve(ids.stream().map(byId::get)).toList();
+    }
+
+    /**
+     * Variants of {@code groupId}, oldest first.
+     */
+    public List<Resume> findByGroupId(UUID groupId) {
+        final NavigableSet<Key> keys = groupId != null ? byGroup.get(groupId) : null;
+        return keys == null ? List.of() : resolve(keys.stream().map(byCreatedAt::get)).toList();
+    }
+
+    private Stream<Entry<T>> byTopic(String topic) {
+        final NavigableSet<Key> keys = topic != null ? byTopic.get(topic) : null;
+        return keys == null ? Stream.empty() : keys.stream().map(byCreatedAt::get);
+    }
+
+    private Stream<Entry<T>> range(LocalDateTime from, boolean fromInclusive, LocalDateTime to, boolean toInclusive) {
+        NavigableMap<Key, Entry<T>> range = byCreatedAt;
+        if (from != null) {
+            range = range.tailMap(new Key(from, fromInclusive ? LOWEST_ID : HIGHEST_ID), fromInclusive);
+        }
+        if (to != null) {
+            range = range.headMap(new Key(to, toInclusive ? HIGHEST_ID : LOWEST_ID), toInclusive);
+        }
+        return range.values().stream();
+    }
+
+    private Stream<Resume> resolve(Stream<Entry<T>> entries) {
+        // Entries replaced while the stream runs come back as null from the secondary indexes
+        return entries.filter(Objects::nonNull).map(Entry::value).map(resolver).filter(Objects::nonNull);
+    }
+
+    private static boolean inRange(LocalDateTime createdAt, LocalDateTime from, LocalDateTime to) {
+        return createdAt != null
+            && (from == null || !createdAt.isBefore(from))
+            && (to == null || !createdAt.isAfter(to));
+    }
+
+    /**
+     * Collects only the requested window when the matches are already in order; sorts everything otherwise.
+     */
+    private static Page<Resume> page(Stream<Resume> matches, Comparator<Resume> order, Pageable pageable) {
+        if (order != null) {
+            final List<Resume> sorted = matches.sorted(order).toList();
+            if (pageable.isUnpaged()) {
+                return PageableExecutionUtils.getPage(sorted, pageable, sorted::size);
+            }
+            final int from = (int) Math.min(pageable.getOffset(), sorted.size());
+            final int to = Math.min(from + pageable.getPageSize(), sorted.size());
+            return PageableExecutionUtils.getPage(sorted.subList(from, to), pageable, sorted::size);
+        }
+
+        final long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        final long limit = pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE;
+        final List<Resume> content = new ArrayList<>();
+        final long[] total = {0};
+        matches.forEach(resume -> {
+            final long position = total[0]++;
+            if (position >= offset && position - offset < limit) {
+                content.add(resume);
+            }
+        });
+        return PageableExecutionUtils.getPage(content, pageable, () -> total[0]);
+    }
+
+    private static Comparator<Resume> comparator(Sort sort) {
+        Comparator<Resume> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Resume> next = switch (order.getProperty()) {
+                case "createdAt" -> Comparator.comparing(Resume::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "updatedAt" -> Comparator.comparing(Resume::updatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "topic" -> Comparator.comparing(Resume::topic, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "content" -> Comparator.comparing(Resume::content, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "id", "_id" -> Comparator.comparing(Resume::id);
+                // Mongo treats an unknown field as missing on every document, which leaves the order untouched
+                default -> null;
+            };
+            if (next == null) {
+                continue;
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    private record Entry<T>(Key key, String topic, UUID groupId, T value) {}
+
+    private record Key(LocalDateTime createdAt, UUID id) implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator
+            .comparing(Key::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Key::id);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.andrelucas.data_provider.mirror;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * In-memory read mirror of the {@code resumes} collection.
+ *
+ * @param enabled serve reads from memory; Mongo stays the durable store and receives every write first
+ * @param memoryBudgetBytes estimated heap the mirror may use; past it the mirror is dropped and reads go to Mongo
+ */
+@ConfigurationProperties(prefix = "content-generator.mirror")
+public record MirrorProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("536870912") long memoryBudgetBytes
+) {}
@@ -0,0 +1,66 @@
+package io.andrelucas.data_provider.mirror;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.ResumeDrafts;
+import io.andrelucas.data_provider.repository.MongoResumeDrafts;
+
+/**
+ * {@link ResumeDrafts} that applies every draft write to the {@link MirroredResumeRepository} once Mongo has it, so
+ * reads served from the mirror see drafts grow as they do when served from Mongo.
+ *
+ * <p>The text of each draft is kept here as well, so appends update the mirror without reading the draft back.
+ */
+@Primary
+@Repository
+@Profile("!embedded")
+@ConditionalOnProperty(prefix = "content-generator.mirror", name = "enabled", havingValue = "true")
+public class MirroredResumeDrafts implements ResumeDrafts {
+
+    private final MongoResumeDrafts delegate;
+    private final MirroredResumeRepository mirror;
+    private final Map<UUID, Resume> drafts = new ConcurrentHashMap<>();
+
+    public MirroredResumeDrafts(final MongoResumeDrafts delegate, final MirroredResumeRepository mirror) {
+        this.delegate = delegate;
+        this.mirror = mirror;
+    }
+
+    @Override
+    public void start(UUID id, String topic) {
+        delegate.start(id, topic);
+        final LocalDateTime now = LocalDateTime.now();
+        final Resume draft = new Resume(id, topic, "", now, now).asDraft();
+        drafts.put(id, draft);
+        mirror.putDraft(draft);
+    }
+
+    @Override
+    public void append(UUID id, String text) {
+        delegate.append(id, text);
+        drafts.computeIfPresent(id, (ignored, draft) -> {
+            final Resume grown = new Resume(id, draft.topic(), draft.content() + text, draft.createdAt(), LocalDateTime.now())
+                .asDraft();
+            mirror.putDraft(grown);
+            return grown;
+        });
+    }
+
+    @Override
+    public void finish(UUID id) {
+        delegate.finish(id);
+        final Resume draft = drafts.remove(id);
+        if (draft != null) {
+            mirror.removeDraft(draft);
+        }
+    }
+}
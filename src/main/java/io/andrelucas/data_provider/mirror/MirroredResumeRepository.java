@@ -0,0 +1,190 @@
+package io.andrelucas.data_provider.mirror;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeContentSlice;
+import io.andrelucas.business.ResumeSearchQuery;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.data_provider.memory.ResumeIndex;
+import io.andrelucas.data_provider.repository.MongoResumeRepository;
+
+/**
+ * {@link ResumeRepository} serving every read from an in-memory copy of the {@code resumes} collection, indexed by
+ * id, topic and creation time. Writes go to Mongo first and are applied to the mirror once they are durable.
+ *
+ * <p>Until the startup load finishes, and for good once the estimated size passes the memory budget, every call
+ * is delegated to {@link MongoResumeRepository}.
+ */
+@Primary
+@Repository
+@Profile("!embedded")
+@ConditionalOnProperty(prefix = "content-generator.mirror", name = "enabled", havingValue = "true")
+public class MirroredResumeRepository implements ResumeRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(MirroredResumeRepository.class);
+
+    private static final long ENTRY_OVERHEAD_BYTES = 400;
+
+    private final MongoResumeRepository delegate;
+    private final MirrorProperties properties;
+    private final ResumeIndex<Resume> index = new ResumeIndex<>(Function.identity());
+    private long estimatedBytes;
+
+    private volatile State state = State.LOADING;
+
+    public MirroredResumeRepository(final MongoResumeRepository delegate, final MirrorProperties properties) {
+        this.delegate = delegate;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        delegate.forEach(resume -> put(resume, false));
+        synchronized (this) {
+            if (state == State.LOADING) {
+                state = State.MIRRORING;
+                logger.info("Resume mirror loaded with {} resumes, ~{} MB", index.size(), estimatedBytes >> 20);
+            }
+        }
+    }
+
+    boolean isMirroring() {
+        return state == State.MIRRORING;
+    }
+
+    @Override
+    public Resume save(Resume resume) {
+        final Resume saved = delegate.save(resume);
+        if (state != State.DISABLED) {
+            put(saved, true);
+        }
+        return saved;
+    }
+
+    @Override
+    public Page<Resume> findByTopic(String topic, Pageable pageable) {
+        return isMirroring() ? index.findByTopic(topic, pageable) : delegate.findByTopic(topic, pageable);
+    }
+
+    @Override
+    public Page<Resume> findByCreatedAtBetween(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return isMirroring()
+            ? index.findByCreatedAtBetween(from, to, pageable)
+            : delegate.findByCreatedAtBetween(from, to, pageable);
+    }
+
+    @Override
+    public Page<Resume> findByContentContainingIgnoreCase(String keyword, Pageable pageable) {
+        return isMirroring()
+            ? index.findByContentContainingIgnoreCase(keyword, pageable)
+            : delegate.findByContentContainingIgnoreCase(keyword, pageable);
+    }
+
+    @Override
+    public Page<Resume> findAllByOrderByCreatedAtDesc(Pageable pageable) {
+        return isMirroring()
+            ? index.findAllByOrderByCreatedAtDesc(pageable)
+            : delegate.findAllByOrderByCreatedAtDesc(pageable);
+    }
+
+    @Override
+    public Page<Resume> findByCustomCriteria(ResumeSearchQuery query, Pageable pageable) {
+        return isMirroring()
+            ? index.findByCustomCriteria(query, pageable)
+            : delegate.findByCustomCriteria(query, pageable);
+    }
+
+    @Override
+    public Optional<ResumeContentSlice> readContent(UUID id, long offset, int length) {
+        if (!isMirroring()) {
+            return delegate.readContent(id, offset, length);
+        }
+        return Optional.ofNullable(index.get(id))
+            .map(resume -> ResumeContentSlice.slice(id, resume.content(), offset, length));
+    }
+
+    @Override
+    public List<Resume> findAllByIds(Collection<UUID> ids) {
+        return isMirroring() ? index.findAllByIds(ids) : delegate.findAllByIds(ids);
+    }
+
+    @Override
+    public List<Resume> findByGroupId(UUID groupId) {
+        return isMirroring() ? index.findByGroupId(groupId) : delegate.findByGroupId(groupId);
+    }
+
+    @Override
+    public void forEach(Consumer<Resume> action) {
+        if (isMirroring()) {
+            index.values().forEach(action);
+        } else {
+            delegate.forEach(action);
+        }
+    }
+
+    /**
+     * Shows a resume being generated, as {@link MirroredResumeDrafts} appends to it, until it is saved.
+     */
+    void putDraft(Resume draft) {
+        put(draft, true);
+    }
+
+    /**
+     * Drops {@code draft} unless something, such as the finished resume, replaced it since.
+     */
+    synchronized void removeDraft(Resume draft) {
+        if (state != State.DISABLED && index.get(draft.id()) == draft) {
+            index.remove(draft.id());
+            estimatedBytes -= estimateBytes(draft);
+        }
+    }
+
+    private synchronized void put(Resume resume, boolean replace) {
+        if (state == State.DISABLED) {
+            return;
+        }
+        // A save that raced the startup load is newer than the loaded snapshot
+        if (!replace && index.contains(resume.id())) {
+            return;
+        }
+
+        final Resume previous = index.put(resume.id(), resume.topic(), resume.groupId(), resume.createdAt(), resume);
+        if (previous != null) {
+            estimatedBytes -= estimateBytes(previous);
+        }
+        estimatedBytes += estimateBytes(resume);
+
+        if (estimatedBytes > properties.memoryBudgetBytes()) {
+            logger.warn("Resume mirror exceeded its memory budget of {} bytes, serving reads from Mongo",
+                properties.memoryBudgetBytes());
+            state = State.DISABLED;
+            index.clear();
+            estimatedBytes = 0;
+        }
+    }
+
+    private static long estimateBytes(Resume resume) {
+        final long topicLength = resume.topic() != null ? resume.topic().length() : 0;
+        return ENTRY_OVERHEAD_BYTES + 2L * (topicLength + resume.content().length());
+    }
+
+    private enum State { LOADING, MIRRORING, DISABLED }
+}
@@ -0,0 +1,25 @@
+package io.andrelucas.data_provider.partition;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Hot/cold tiering of resumes.
+ *
+ * @param enabled move old resumes to the {@code resumes_archive} collection in the background
+ * @param maxAge resumes created longer ago than this are archived
+ * @param interval pause between archiver runs
+ * @param batchSize resumes moved per round trip
+ * @param compressor WiredTiger block compressor of the archive collection ({@code zstd}, {@code zlib},
+ *                   {@code snappy} or {@code none}); set when the collection is created
+ */
+@ConfigurationProperties(prefix = "content-generator.archive")
+public record ArchiveProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("P90D") Duration maxAge,
+    @DefaultValue("PT1H") Duration interval,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("zstd") String compressor
+) {}
@@ -0,0 +1,21 @@
+package io.andrelucas.data_provider.partition;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Monthly partitioning of resumes.
+ *
+ * @param enabled write each resume to the collection of its creation month, e.g. {@code resumes_2026_10}, and
+ *                route date-bounded queries only to the months they overlap. Resumes already in the
+ *                unpartitioned {@code resumes} collection keep being read from there.
+ * @param refreshInterval how often the monthly collections are listed again, so months first written by another
+ *                        instance are read here too
+ */
+@ConfigurationProperties(prefix = "content-generator.partitioning")
+public record PartitioningProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("PT30S") Duration refreshInterval
+) {}
@@ -0,0 +1,161 @@
+package io.andrelucas.data_provider.partition;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.repositories.LeaderLease;
+import io.andrelucas.data_provider.document.ResumeDocument;
+
+/**
+ * Moves resumes older than {@code content-generator.archive.max-age} from the hot partitions to
+ * {@code resumes_archive}, a batch at a time, so the hot collections and their indexes stay small.
+ *
+ * <p>Runs on the one instance holding the archiver's {@link LeaderLease}. Each batch is copied before it is
+ * removed, so a resume is always in at least one tier; while a run is in progress queries look in both and new
+ * writes for the range already go to the archive. A hot copy is only removed if it is still the version that was
+ * copied: one saved again in between, by an instance that had not yet seen the cutoff, is copied again first. The
+ * archive keeps whichever copy was updated last.
+ */
+@Component
+@Profile("!embedded")
+@ConditionalOnProperty(prefix = "content-generator.archive", name = "enabled", havingValue = "true")
+public class ResumeArchiver {
+
+    static final String LEASE = "resume-archiver";
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeArchiver.class);
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int MAX_MOVE_ATTEMPTS = 3;
+    private static final Duration LEASE_TTL = Duration.ofMinutes(5);
+
+    private final MongoTemplate mongoTemplate;
+    private final ResumePartitions partitions;
+    private final ArchiveProperties properties;
+    private final LeaderLease lease;
+    private final String owner = UUID.randomUUID().toString();
+
+    public ResumeArchiver(final MongoTemplate mongoTemplate,
+                          final ResumePartitions partitions,
+                          final ArchiveProperties properties,
+                          final LeaderLease lease) {
+        this.mongoTemplate = mongoTemplate;
+        this.partitions = partitions;
+        this.properties = properties;
+        this.lease = lease;
+    }
+
+    @Scheduled(initialDelayString = "PT1M", fixedDelayString = "${content-generator.archive.interval:PT1H}")
+    public void archiveExpired() {
+        if (!lease.acquire(LEASE, owner, LEASE_TTL)) {
+            return;
+        }
+        try {
+            archive(LocalDateTime.now().minus(properties.maxAge()));
+        } finally {
+            lease.release(LEASE, owner);
+        }
+    }
+
+    /**
+     * Moves every resume created before {@code cutoff} to the archive and returns how many were moved. The run
+     * stops early if this instance loses the lease, and the cutoff is only recorded as reached when nothing
+     * before it was left behind.
+     */
+    public synchronized long archive(LocalDateTime cutoff) {
+        // Mongo keeps milliseconds, so the cutoff compares the same here and on the server
+        final LocalDateTime limit = cutoff.truncatedTo(ChronoUnit.MILLIS);
+        partitions.startArchiving(limit);
+
+        long moved = 0;
+        boolean complete = true;
+        final Query expired = Query.query(Criteria.where("createdAt").lt(limit))
+            .with(Sort.by(Sort.Direction.ASC, "createdAt"))
+            .limit(properties.batchSize());
+        partitions:
+        for (ResumePartition partition : partitions.hot()) {
+            if (!partition.overlaps(null, limit)) {
+                continue;
+            }
+            List<ResumeDocument> batch;
+            while (!(batch = mongoTemplate.find(expired, ResumeDocument.class, partition.collection())).isEmpty()) {
+                if (!lease.acquire(LEASE, owner, LEASE_TTL)) {
+                    log.warn("Lost the archiver lease, stopping after {} resumes", moved);
+                    complete = false;
+                    break partitions;
+                }
+                final List<ResumeDocument> left = move(batch, partition.collection());
+                moved += batch.size() - left.size();
+                if (!left.isEmpty()) {
+                    // Saved again on every attempt: leave them to the next run rather than spin on them
+                    log.warn("{} resumes in {} kept changing while being archived", left.size(), partition.collection());
+                    complete = false;
+                    break;
+                }
+            }
+        }
+
+        if (complete) {
+            partitions.finishArchiving(limit);
+        }
+        if (moved > 0) {
+            log.info("Archived {} resumes created before {}", moved, limit);
+        }
+        return moved;
+    }
+
+    /**
+     * Copies {@code batch} to the archive and removes each hot copy that was not saved again since it was read,
+     * copying those that were once more. Returns the resumes still in {@code collection} after the last attempt.
+     */
+    private List<ResumeDocument> move(List<ResumeDocument> batch, String collection) {
+        List<ResumeDocument> pending = batch;
+        for (int attempt = 0; attempt < MAX_MOVE_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            copyToArchive(pending);
+            final BulkOperations remove = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ResumeDocument.class, collection);
+            for (ResumeDocument document : pending) {
+                remove.remove(Query.query(Criteria.where("_id").is(document.getId()).and("updatedAt").is(document.getUpdatedAt())));
+            }
+            remove.execute();
+            final List<Object> ids = pending.stream().<Object>map(ResumeDocument::getId).toList();
+            pending = mongoTemplate.find(Query.query(Criteria.where("_id").in(ids)), ResumeDocument.class, collection);
+        }
+        return pending;
+    }
+
+    private void copyToArchive(List<ResumeDocument> batch) {
+        final BulkOperations copy = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ResumeDocument.class,
+            ResumePartitions.ARCHIVE);
+        for (ResumeDocument document : batch) {
+            // Replaces an older archived copy; a newer one makes the upsert collide on _id and is kept
+            final Criteria older = document.getUpdatedAt() != null
+                ? Criteria.where("updatedAt").lt(document.getUpdatedAt())
+                : Criteria.where("updatedAt").is(null);
+            copy.replaceOne(Query.query(Criteria.where("_id").is(document.getId()).andOperator(older)), document,
+                FindAndReplaceOptions.options().upsert());
+        }
+        try {
+            copy.execute();
+        } catch (BulkOperationException e) {
+            if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                throw e;
+            }
+        }
+    }
+}
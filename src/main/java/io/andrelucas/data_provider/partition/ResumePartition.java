@@ -0,0 +1,26 @@
+package io.andrelucas.data_provider.partition;
+
+import java.time.LocalDateTime;
+
+/**
+ * A collection holding resumes created in {@code [start, end)}; a {@code null} bound is open. The unpartitioned
+ * {@code resumes} collection is open on both ends, a month is bounded by its first and last day and the archive
+ * holds everything before its end.
+ */
+public record ResumePartition(String collection, LocalDateTime start, LocalDateTime end) {
+
+    /**
+     * Whether the partition may hold resumes created in {@code [from, to]}; open ends are {@code null}.
+     */
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        return (from == null || end == null || from.isBefore(end))
+            && (to == null || start == null || !to.isBefore(start));
+    }
+
+    /**
+     * Whether everything in this partition was created before everything in {@code next}.
+     */
+    boolean precedes(ResumePartition next) {
+        return end != null && next.start != null && !end.isAfter(next.start);
+    }
+}
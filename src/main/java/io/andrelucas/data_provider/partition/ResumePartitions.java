@@ -0,0 +1,533 @@
+package io.andrelucas.data_provider.partition;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.bson.BsonBinary;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.codecs.Codec;
+import org.bson.codecs.UuidCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.data_provider.document.ResumeDocument;
+import io.andrelucas.data_provider.repository.ConcurrentPageQuery;
+
+/**
+ * Knows which collections hold resumes and runs page queries across several of them.
+ *
+ * <p>With partitioning on, every month that received a resume has its own collection, created with its indexes on
+ * first write, and the {@code resumes} collection is kept as an open-ended partition while it still holds
+ * documents from before. With tiering on, resumes created before {@code archivedBefore} live in
+ * {@code resumes_archive}, which queries only reach when their date range or page does. Without either there is a
+ * single partition, the {@code resumes} collection.
+ *
+ * <p>The archive cutoffs are kept in the {@code resume_partitions} collection, so every instance writes and reads a
+ * range being archived in the same tier; they are read again with the months. While a run is in progress a resume
+ * may briefly be in both tiers, so merged pages skip a resume already seen.
+ */
+@Component
+@Profile("!embedded")
+public class ResumePartitions {
+
+    public static final String UNPARTITIONED = "resumes";
+    public static final String ARCHIVE = "resumes_archive";
+    static final String STATE = "resume_partitions";
+
+    private static final String ARCHIVE_STATE = "archive";
+
+    private static final Pattern MONTHLY = Pattern.compile("resumes_(\\d{4})_(\\d{2})");
+
+    private static final Logger logger = LoggerFactory.getLogger(ResumePartitions.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final ConcurrentPageQuery pageQuery;
+    private final boolean partitioned;
+    private final ArchiveProperties archive;
+    private final long refreshNanos;
+    private final NavigableMap<YearMonth, String> months = new ConcurrentSkipListMap<>();
+    private volatile boolean unpartitionedInUse;
+    private volatile long refreshedAt;
+    private volatile UuidRepresentation uuidRepresentation;
+
+    /**
+     * Hot partitions hold nothing created before this; {@code null} until the archiver has completed a run.
+     */
+    private volatile LocalDateTime archivedBefore;
+
+    /**
+     * The archive holds nothing created from this on; {@code null} while it is empty.
+     */
+    private volatile LocalDateTime archiveEnd;
+
+    public ResumePartitions(final MongoTemplate mongoTemplate,
+                            final ConcurrentPageQuery pageQuery,
+                            final PartitioningProperties partitioning,
+                            final ArchiveProperties archive) {
+        this.mongoTemplate = mongoTemplate;
+        this.pageQuery = pageQuery;
+        this.partitioned = partitioning.enabled();
+        this.archive = archive;
+        this.refreshNanos = partitioning.refreshInterval().toNanos();
+        this.refreshedAt = System.nanoTime();
+        if (partitioned) {
+            listMonths();
+            unpartitionedInUse = mongoTemplate.collectionExists(UNPARTITIONED)
+                && mongoTemplate.estimatedCount(UNPARTITIONED) > 0;
+        }
+        if (archive.enabled()) {
+            readArchiveState();
+        }
+        if (archive.enabled() && archiveEnd == null && mongoTemplate.collectionExists(ARCHIVE)) {
+            // Archived before the cutoffs were shared; hot partitions stay open-ended until the archiver completes a run
+            final Query newest = new Query().with(Sort.by(Sort.Direction.DESC, "createdAt")).limit(1);
+            newest.fields().include("createdAt");
+            final ResumeDocument document = mongoTemplate.findOne(newest, ResumeDocument.class, ARCHIVE);
+            if (document != null && document.getCreatedAt() != null) {
+                archiveEnd = document.getCreatedAt().plusNanos(1);
+            }
+        }
+    }
+
+    /**
+     * Whether resumes may live in more than one collection, which routes queries through {@link #find}.
+     */
+    public boolean spansCollections() {
+        return partitioned || archive.enabled();
+    }
+
+    /**
+     * The collection a resume created at {@code createdAt} is written to.
+     */
+    public String collectionFor(LocalDateTime createdAt) {
+        refreshIfStale();
+        final LocalDateTime end = archiveEnd;
+        if (archive.enabled() && end != null && createdAt.isBefore(end)) {
+            return ARCHIVE;
+        }
+        return hotCollectionFor(createdAt);
+    }
+
+    /**
+     * Collections other than {@link #collectionFor} where an earlier version of a resume created at
+     * {@code createdAt} may still be: the unpartitioned collection, or its hot partition if it is being archived.
+     */
+    public List<String> formerCollectionsFor(LocalDateTime createdAt) {
+        refreshIfStale();
+        final String target = collectionFor(createdAt);
+        final List<String> collections = new ArrayList<>(2);
+        if (partitioned && unpartitionedInUse) {
+            collections.add(UNPARTITIONED);
+        }
+        if (ARCHIVE.equals(target)) {
+            final String hot = partitioned ? monthlyCollection(YearMonth.from(createdAt)) : UNPARTITIONED;
+            if (!collections.contains(hot) && (!partitioned || months.containsValue(hot))) {
+                collections.add(hot);
+            }
+        }
+        return collections;
+    }
+
+    /**
+     * Whether an archiver run has started and not completed, so a resume may be in both tiers.
+     */
+    public boolean archiving() {
+        final LocalDateTime end = archiveEnd;
+        final LocalDateTime before = archivedBefore;
+        return archive.enabled() && end != null && (before == null || end.isAfter(before));
+    }
+
+    /**
+     * Every partition, oldest first: the archive, then the open-ended unpartitioned collection, then the months.
+     */
+    public List<ResumePartition> all() {
+        final List<ResumePartition> partitions = new ArrayList<>();
+        final LocalDateTime end = archiveEnd;
+        if (archive.enabled() && end != null) {
+            partitions.add(new ResumePartition(ARCHIVE, null, end));
+        }
+        partitions.addAll(hot());
+        return partitions;
+    }
+
+    /**
+     * Partitions that may hold resumes created in {@code [from, to]}; open ends are {@code null}.
+     */
+    public List<ResumePartition> overlapping(LocalDateTime from, LocalDateTime to) {
+        return all().stream().filter(partition -> partition.overlaps(from, to)).toList();
+    }
+
+    /**
+     * Partitions the archiver moves resumes out of.
+     */
+    List<ResumePartition> hot() {
+        refreshIfStale();
+        final LocalDateTime lower = archivedBefore;
+        if (!partitioned) {
+            return List.of(new ResumePartition(UNPARTITIONED, lower, null));
+        }
+        final List<ResumePartition> partitions = new ArrayList<>();
+        if (unpartitionedInUse) {
+            partitions.add(new ResumePartition(UNPARTITIONED, lower, null));
+        }
+        months.forEach((month, collection) -> {
+            final LocalDateTime start = month.atDay(1).atStartOfDay();
+            final LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+            if (lower == null || end.isAfter(lower)) {
+                partitions.add(new ResumePartition(collection, lower != null && lower.isAfter(start) ? lower : start, end));
+            }
+        });
+        return partitions;
+    }
+
+    /**
+     * From now on resumes created before {@code cutoff} are written to the archive, and queries look for them in
+     * both tiers until {@link #finishArchiving} is called.
+     */
+    void startArchiving(LocalDateTime cutoff) {
+        if (!mongoTemplate.collectionExists(ARCHIVE)) {
+            createArchive();
+        }
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(ARCHIVE_STATE)), new Update().max("archiveEnd", cutoff), STATE);
+        if (archiveEnd == null || cutoff.isAfter(archiveEnd)) {
+            archiveEnd = cutoff;
+        }
+    }
+
+    /**
+     * Every resume created before {@code cutoff} is in the archive: narrows the hot partitions, so months left
+     * empty are no longer queried. They are not dropped: an instance that has not seen the new cutoff yet could
+     * write to one and have it recreated without its indexes.
+     */
+    void finishArchiving(LocalDateTime cutoff) {
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(ARCHIVE_STATE)), new Update().max("archivedBefore", cutoff), STATE);
+        if (archivedBefore == null || cutoff.isAfter(archivedBefore)) {
+            archivedBefore = cutoff;
+        }
+    }
+
+    /**
+     * Lists the monthly collections and reads the archive cutoffs again once {@code refreshInterval} has passed
+     * since the last time.
+     */
+    private void refreshIfStale() {
+        if (!spansCollections() || System.nanoTime() - refreshedAt < refreshNanos) {
+            return;
+        }
+        synchronized (this) {
+            if (System.nanoTime() - refreshedAt < refreshNanos) {
+                return;
+            }
+            try {
+                if (partitioned) {
+                    listMonths();
+                }
+                if (archive.enabled()) {
+                    readArchiveState();
+                }
+            } catch (RuntimeException e) {
+                // Keep routing with what is known and try again after the next interval
+                logger.warn("Could not list the resume partitions", e);
+            }
+            refreshedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Takes the cutoffs another instance's archiver may have moved; they only ever move forward.
+     */
+    private void readArchiveState() {
+        final Document state = mongoTemplate.findById(ARCHIVE_STATE, Document.class, STATE);
+        if (state == null) {
+            return;
+        }
+        final LocalDateTime end = toLocalDateTime(state.get("archiveEnd"));
+        if (end != null && (archiveEnd == null || end.isAfter(archiveEnd))) {
+            archiveEnd = end;
+        }
+        final LocalDateTime before = toLocalDateTime(state.get("archivedBefore"));
+        if (before != null && (archivedBefore == null || before.isAfter(archivedBefore))) {
+            archivedBefore = before;
+        }
+    }
+
+    private void listMonths() {
+        for (String name : mongoTemplate.getCollectionNames()) {
+            final Matcher matcher = MONTHLY.matcher(name);
+            if (matcher.matches()) {
+                months.putIfAbsent(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))), name);
+            }
+        }
+    }
+
+    /**
+     * Runs {@code query} on every partition and merges the results into one page.
+     *
+     * <p>When the order is creation time, or none at all, and the partitions cover disjoint time ranges, they are
+     * already in order among themselves: they are walked oldest or newest first and only those covering the
+     * requested window are read, using counts to skip whole partitions. Any other order is resolved with a k-way
+     * merge of the first {@code offset + size} documents of each partition. The total is counted only when the
+     * page needs it, at the same time as the page is read; except when a walk skips partitions, which counts them
+     * first anyway and so reuses those counts for the total.
+     */
+    public Page<ResumeDocument> find(List<ResumePartition> partitions, Query query, Sort sort, Pageable pageable) {
+        if (canWalk(partitions, sort) && pageable.isPaged() && pageable.getOffset() > 0) {
+            final Map<String, Long> counts = new HashMap<>();
+            final List<ResumeDocument> content = walk(partitions, query, sort, pageable, counts);
+            return PageableExecutionUtils.getPage(content, pageable, () -> total(partitions, query, counts));
+        }
+
+        final Supplier<List<ResumeDocument>> content = canWalk(partitions, sort)
+            ? () -> walk(partitions, query, sort, pageable, new HashMap<>())
+            : () -> merge(partitions, query, sort, pageable, archiving() && partitions.stream().anyMatch(p -> ARCHIVE.equals(p.collection())));
+        return pageQuery.fetch(pageable, content, () -> total(partitions, query, new HashMap<>()));
+    }
+
+    private long total(List<ResumePartition> partitions, Query query, Map<String, Long> counts) {
+        return partitions.stream()
+            .mapToLong(partition -> counts.computeIfAbsent(partition.collection(), collection -> count(query, collection)))
+            .sum();
+    }
+
+    private List<ResumeDocument> walk(List<ResumePartition> partitions, Query query, Sort sort, Pageable pageable,
+                                      Map<String, Long> counts) {
+        final List<ResumePartition> ordered = byStart(partitions);
+        final Sort.Order order = sort.getOrderFor("createdAt");
+        if (order != null && order.isDescending()) {
+            Collections.reverse(ordered);
+        }
+
+        long skip = pageable.isPaged() ? pageable.getOffset() : 0;
+        int remaining = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        final List<ResumeDocument> content = new ArrayList<>();
+        for (ResumePartition partition : ordered) {
+            if (remaining == 0) {
+                break;
+            }
+            if (skip > 0) {
+                final long count = counts.computeIfAbsent(partition.collection(), collection -> count(query, collection));
+                if (count <= skip) {
+                    skip -= count;
+                    continue;
+                }
+            }
+            final Query page = copy(query).with(sort).skip(skip);
+            if (remaining != Integer.MAX_VALUE) {
+                page.limit(remaining);
+            }
+            final List<ResumeDocument> documents = mongoTemplate.find(page, ResumeDocument.class, partition.collection());
+            content.addAll(documents);
+            remaining -= Math.min(remaining, documents.size());
+            skip = 0;
+        }
+        return content;
+    }
+
+    /**
+     * With {@code dedupe}, a resume met again in a later partition is skipped, and each partition is read a batch of
+     * the archiver further so skipping does not leave the page short; the total may still count it twice until the
+     * archiver removes the hot copy.
+     */
+    private List<ResumeDocument> merge(List<ResumePartition> partitions, Query query, Sort sort, Pageable pageable,
+                                       boolean dedupe) {
+        final Comparator<ResumeDocument> comparator = comparator(sort, uuidRepresentation());
+        final long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        final long size = pageable.isPaged() ? pageable.getPageSize() : Long.MAX_VALUE;
+        final long extra = dedupe ? archive.batchSize() : 0;
+
+        // Ties go to the partition listed first, so equal documents keep a stable order across pages
+        final PriorityQueue<Cursor> heads = new PriorityQueue<>(Comparator
+            .<Cursor, ResumeDocument>comparing(Cursor::head, comparator)
+            .thenComparingInt(Cursor::partition));
+        for (int i = 0; i < partitions.size(); i++) {
+            final Query top = copy(query).with(sort);
+            if (pageable.isPaged()) {
+                top.limit((int) Math.min(Integer.MAX_VALUE, offset + size + extra));
+            }
+            final List<ResumeDocument> documents = mongoTemplate.find(top, ResumeDocument.class, partitions.get(i).collection());
+            if (!documents.isEmpty()) {
+                heads.add(new Cursor(documents, i));
+            }
+        }
+
+        final List<ResumeDocument> content = new ArrayList<>();
+        final Set<UUID> seen = new HashSet<>();
+        long position = 0;
+        while (!heads.isEmpty() && content.size() < size) {
+            final Cursor cursor = heads.poll();
+            if ((!dedupe || seen.add(cursor.head().getId())) && position++ >= offset) {
+                content.add(cursor.head());
+            }
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        return content;
+    }
+
+    private long count(Query query, String collection) {
+        return query.getQueryObject().isEmpty()
+            ? mongoTemplate.estimatedCount(collection)
+            : mongoTemplate.count(copy(query).skip(0).limit(0), ResumeDocument.class, collection);
+    }
+
+    /**
+     * {@link Query#of} leaves the read preference behind.
+     */
+    private static Query copy(Query query) {
+        final Query copy = Query.of(query);
+        return query.hasReadPreference() ? copy.withReadPreference(query.getReadPreference()) : copy;
+    }
+
+    private String hotCollectionFor(LocalDateTime createdAt) {
+        if (!partitioned) {
+            return UNPARTITIONED;
+        }
+        return months.computeIfAbsent(YearMonth.from(createdAt), month -> {
+            final String collection = monthlyCollection(month);
+            ensureIndexes(collection);
+            return collection;
+        });
+    }
+
+    private void createArchive() {
+        final Document create = new Document("create", ARCHIVE);
+        if (!"none".equals(archive.compressor())) {
+            create.append("storageEngine", new Document("wiredTiger",
+                new Document("configString", "block_compressor=" + archive.compressor())));
+        }
+        mongoTemplate.executeCommand(create);
+        ensureIndexes(ARCHIVE);
+    }
+
+    private void ensureIndexes(String collection) {
+        final var indexes = mongoTemplate.indexOps(collection);
+        indexes.ensureIndex(new Index().on("createdAt", Sort.Direction.DESC));
+        indexes.ensureIndex(new Index().on("topic", Sort.Direction.ASC).on("createdAt", Sort.Direction.DESC));
+        indexes.ensureIndex(new Index().on("groupId", Sort.Direction.ASC).sparse());
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Date date ? LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()) : null;
+    }
+
+    private static String monthlyCollection(YearMonth month) {
+        return String.format("resumes_%04d_%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private static boolean canWalk(List<ResumePartition> partitions, Sort sort) {
+        if (!sort.isUnsorted() && !sort.stream().allMatch(order -> order.getProperty().equals("createdAt"))) {
+            return false;
+        }
+        final List<ResumePartition> ordered = byStart(partitions);
+        for (int i = 1; i < ordered.size(); i++) {
+            if (!ordered.get(i - 1).precedes(ordered.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<ResumePartition> byStart(List<ResumePartition> partitions) {
+        final List<ResumePartition> ordered = new ArrayList<>(partitions);
+        ordered.sort(Comparator.comparing(ResumePartition::start, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return ordered;
+    }
+
+    /**
+     * How the driver writes UUIDs, which decides their order on the server; Spring Boot's {@code java-legacy} unless
+     * the client was configured otherwise.
+     */
+    private UuidRepresentation uuidRepresentation() {
+        UuidRepresentation representation = uuidRepresentation;
+        if (representation == null) {
+            representation = UuidRepresentation.JAVA_LEGACY;
+            final var database = mongoTemplate.getDb();
+            if (database != null) {
+                final Codec<UUID> codec = database.getCodecRegistry().get(UUID.class);
+                if (codec instanceof UuidCodec uuidCodec && uuidCodec.getUuidRepresentation() != UuidRepresentation.UNSPECIFIED) {
+                    representation = uuidCodec.getUuidRepresentation();
+                }
+            }
+            uuidRepresentation = representation;
+        }
+        return representation;
+    }
+
+    /**
+     * Mirrors Mongo's ordering for the fields resumes are sorted by; other fields leave documents tied, as they
+     * would be on the server when the field is missing. Ids compare as the server compares binary values, byte by
+     * byte unsigned in their stored representation, not as {@link UUID#compareTo} does with signed halves.
+     */
+    private static Comparator<ResumeDocument> comparator(Sort sort, UuidRepresentation representation) {
+        final Comparator<UUID> binary = (a, b) -> Arrays.compareUnsigned(
+            new BsonBinary(a, representation).getData(), new BsonBinary(b, representation).getData());
+        Comparator<ResumeDocument> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<ResumeDocument> next = switch (order.getProperty()) {
+                case "createdAt" -> Comparator.comparing(ResumeDocument::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "updatedAt" -> Comparator.comparing(ResumeDocument::getUpdatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "topic" -> Comparator.comparing(ResumeDocument::getTopic, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "content" -> Comparator.comparing(ResumeDocument::getContent, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "id", "_id" -> Comparator.comparing(ResumeDocument::getId, Comparator.nullsFirst(binary));
+                default -> (a, b) -> 0;
+            };
+            comparator = comparator.thenComparing(order.isDescending() ? next.reversed() : next);
+        }
+        return comparator;
+    }
+
+    private static final class Cursor {
+
+        private final List<ResumeDocument> documents;
+        private final int partition;
+        private int index;
+
+        Cursor(List<ResumeDocument> documents, int partition) {
+            this.documents = documents;
+            this.partition = partition;
+        }
+
+        int partition() {
+            return partition;
+        }
+
+        ResumeDocument head() {
+            return documents.get(index);
+        }
+
+        boolean advance() {
+            return ++index < documents.size();
+        }
+    }
+}
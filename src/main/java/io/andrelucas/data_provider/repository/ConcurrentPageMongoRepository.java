@@ -0,0 +1,43 @@
+package io.andrelucas.data_provider.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.query.MongoEntityInformation;
+import org.springframework.data.mongodb.repository.support.SimpleMongoRepository;
+
+/**
+ * Base class of the Spring Data Mongo repositories, adding {@link #findPage}. The
+ * {@link ConcurrentPageMongoRepositoryFactoryBean} hands each one the shared {@link ConcurrentPageQuery}.
+ */
+public class ConcurrentPageMongoRepository<T, ID> extends SimpleMongoRepository<T, ID> implements PageQueryMongoRepository<T, ID> {
+
+    private final MongoEntityInformation<T, ID> entityInformation;
+    private final MongoOperations mongoOperations;
+    private ConcurrentPageQuery pageQuery;
+
+    public ConcurrentPageMongoRepository(final MongoEntityInformation<T, ID> entityInformation,
+                                         final MongoOperations mongoOperations) {
+        super(entityInformation, mongoOperations);
+        this.entityInformation = entityInformation;
+        this.mongoOperations = mongoOperations;
+    }
+
+    void setPageQuery(ConcurrentPageQuery pageQuery) {
+        this.pageQuery = pageQuery;
+    }
+
+    @Override
+    public Page<T> findPage(Query query, Pageable pageable) {
+        // Query.of leaves the read preference behind
+        final Query count = Query.of(query).skip(0).limit(0);
+        if (query.hasReadPreference()) {
+            count.withReadPreference(query.getReadPreference());
+        }
+        final Query page = query.with(pageable);
+        return pageQuery.fetch(pageable,
+            () -> mongoOperations.find(page, entityInformation.getJavaType(), entityInformation.getCollectionName()),
+            () -> mongoOperations.count(count, entityInformation.getJavaType(), entityInformation.getCollectionName()));
+    }
+}
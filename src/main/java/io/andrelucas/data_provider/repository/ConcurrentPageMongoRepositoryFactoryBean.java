@@ -0,0 +1,44 @@
+package io.andrelucas.data_provider.repository;
+
+import java.io.Serializable;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+/**
+ * Creates the Spring Data Mongo repositories as {@link ConcurrentPageMongoRepository}s sharing the
+ * {@link ConcurrentPageQuery} bean, which Spring Data cannot pass to a repository base class itself.
+ */
+public class ConcurrentPageMongoRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+    extends MongoRepositoryFactoryBean<T, S, ID> {
+
+    private ConcurrentPageQuery pageQuery;
+
+    public ConcurrentPageMongoRepositoryFactoryBean(final Class<? extends T> repositoryInterface) {
+        super(repositoryInterface);
+    }
+
+    @Autowired
+    public void setPageQuery(ConcurrentPageQuery pageQuery) {
+        this.pageQuery = pageQuery;
+    }
+
+    @Override
+    protected RepositoryFactorySupport getFactoryInstance(MongoOperations operations) {
+        return new MongoRepositoryFactory(operations) {
+            @Override
+            protected Object getTargetRepository(RepositoryInformation information) {
+                final Object repository = super.getTargetRepository(information);
+                if (repository instanceof ConcurrentPageMongoRepository<?, ?> concurrent) {
+                    concurrent.setPageQuery(pageQuery);
+                }
+                return repository;
+            }
+        };
+    }
+}
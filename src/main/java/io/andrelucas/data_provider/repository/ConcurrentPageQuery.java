@@ -0,0 +1,131 @@
+package io.andrelucas.data_provider.repository;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.data_provider.routing.CallerSession;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs a page query and its count at the same time, so a page costs the slower of the two round trips rather
+ * than both.
+ *
+ * <p>The count is handed to a pool of {@code MAX_COUNTS} threads and starts once one is free. When the page itself
+ * tells the total, as a first page shorter than requested or any last page does, a count that has not started is
+ * skipped; one already running is left to finish unobserved, since interrupting it would close its pooled
+ * connection. When the page is done and still needs a count no thread has picked up, the caller runs it, so a busy
+ * pool costs no more than counting after the page.
+ */
+@Component
+@Profile("!embedded")
+public class ConcurrentPageQuery {
+
+    private static final int MAX_COUNTS = 64;
+    private static final int MAX_QUEUED = 1024;
+
+    private final AtomicInteger threads = new AtomicInteger();
+    private final ThreadPoolExecutor counts;
+
+    public ConcurrentPageQuery() {
+        // Counts the queue cannot take are left to the caller, who runs them only if the page needs them
+        this.counts = new ThreadPoolExecutor(MAX_COUNTS, MAX_COUNTS, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(MAX_QUEUED),
+            task -> {
+                final Thread thread = new Thread(task, "page-count-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy());
+        this.counts.allowCoreThreadTimeOut(true);
+    }
+
+    public <T> Page<T> fetch(Pageable pageable, Supplier<List<T>> content, LongSupplier count) {
+        if (pageable.isUnpaged()) {
+            final List<T> all = content.get();
+            return new PageImpl<>(all, pageable, all.size());
+        }
+
+        // The count runs on behalf of the same caller, for read routing and telemetry
+        final Object caller = CallerSession.current();
+        final String tool = CallerSession.currentTool();
+        final Count total = new Count(() -> CallerSession.callAs(caller, tool, count::getAsLong));
+        counts.execute(total);
+
+        final List<T> page;
+        try {
+            page = content.get();
+        } catch (RuntimeException e) {
+            total.skip();
+            throw e;
+        }
+
+        final Page<T> result = PageableExecutionUtils.getPage(page, pageable, total::get);
+        total.skip();
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        counts.shutdown();
+    }
+
+    /**
+     * A count run by whichever of the pool and the caller claims it first, or by neither once skipped.
+     */
+    private static final class Count implements Runnable {
+
+        private final Callable<Long> task;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+
+        Count(Callable<Long> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                try {
+                    result.complete(task.call());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        }
+
+        void skip() {
+            claimed.set(true);
+        }
+
+        long get() {
+            run();
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while counting", e);
+            }
+        }
+    }
+}
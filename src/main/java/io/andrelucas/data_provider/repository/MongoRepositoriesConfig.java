@@ -0,0 +1,12 @@
+package io.andrelucas.data_provider.repository;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+
+@Configuration
+@Profile("!embedded")
+@EnableMongoRepositories(repositoryBaseClass = ConcurrentPageMongoRepository.class,
+    repositoryFactoryBeanClass = ConcurrentPageMongoRepositoryFactoryBean.class)
+public class MongoRepositoriesConfig {
+}
@@ -0,0 +1,88 @@
+package io.andrelucas.data_provider.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bson.Document;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.repositories.ResumeDrafts;
+import io.andrelucas.data_provider.document.ResumeDocument;
+import io.andrelucas.data_provider.partition.ResumePartitions;
+
+/**
+ * {@link ResumeDrafts} written in place in the resume's partition and flagged {@code draft}. Each append is a
+ * single pipeline update that concatenates the text on the server, so a draft costs one write per batch however
+ * long it grows.
+ */
+@Repository
+@Profile("!embedded")
+public class MongoResumeDrafts implements ResumeDrafts {
+
+    private final MongoTemplate mongoTemplate;
+    private final ResumePartitions partitions;
+    private final Map<UUID, String> collections = new ConcurrentHashMap<>();
+
+    public MongoResumeDrafts(final MongoTemplate mongoTemplate, final ResumePartitions partitions) {
+        this.mongoTemplate = mongoTemplate;
+        this.partitions = partitions;
+    }
+
+    @Override
+    public void start(UUID id, String topic) {
+        final LocalDateTime now = LocalDateTime.now();
+        final String collection = partitions.collectionFor(now);
+        mongoTemplate.upsert(byId(id), new Update()
+            .set("topic", topic)
+            .set("content", "")
+            .set("contentLength", 0L)
+            .set("createdAt", now)
+            .set("updatedAt", now)
+            .set("draft", true)
+            .unset("contentRef")
+            .unset("contentPrefix")
+            .unset("embedding"), ResumeDocument.class, collection);
+        collections.put(id, collection);
+    }
+
+    @Override
+    public void append(UUID id, String text) {
+        // $literal keeps text starting with '$' from being read as a field path
+        final AggregationOperation concat = context -> new Document("$set", new Document()
+            .append("content", new Document("$concat", List.of("$content", new Document("$literal", text))))
+            .append("contentLength", new Document("$add", List.of("$contentLength", (long) text.length())))
+            .append("updatedAt", LocalDateTime.now()));
+        mongoTemplate.updateFirst(byId(id), AggregationUpdate.from(List.of(concat)), ResumeDocument.class, collection(id));
+    }
+
+    @Override
+    public void finish(UUID id) {
+        // Saving the finished resume replaced the draft, unless it went to another partition in the meantime
+        final String collection = collections.remove(id);
+        if (collection != null) {
+            mongoTemplate.remove(byId(id).addCriteria(Criteria.where("draft").is(true)), ResumeDocument.class, collection);
+        }
+    }
+
+    private String collection(UUID id) {
+        final String collection = collections.get(id);
+        if (collection == null) {
+            throw new IllegalStateException("No draft started for " + id);
+        }
+        return collection;
+    }
+
+    private static Query byId(UUID id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
@@ -1,69 +1,194 @@
 package io.andrelucas.data_provider.repository;
 
 import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeContentBatch;
+import io.andrelucas.business.ResumeContentSlice;
 import io.andrelucas.business.ResumeMapper;
 import io.andrelucas.business.repositories.ResumeRepository;
 import io.andrelucas.business.ResumeSearchQuery;
 import io.andrelucas.business.SortDirection;
+import io.andrelucas.data_provider.content.ResumeContentStore;
 import io.andrelucas.data_provider.document.ResumeDocument;
+import io.andrelucas.data_provider.partition.ResumePartition;
+import io.andrelucas.data_provider.partition.ResumePartitions;
+import io.andrelucas.data_provider.routing.ReadRouting;
+import com.mongodb.ReadPreference;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 @Repository
+@Profile("!embedded")
 public class MongoResumeRepository implements ResumeRepository {
     
     private final SpringDataMongoResumeRepository repository;
     private final MongoTemplate mongoTemplate;
+    private final ResumeContentStore contentStore;
+    private final ResumePartitions partitions;
+    private final ReadRouting readRouting;
 
-    public MongoResumeRepository(final SpringDataMongoResumeRepository repository, final MongoTemplate mongoTemplate) {
+    public MongoResumeRepository(final SpringDataMongoResumeRepository repository,
+                                 final MongoTemplate mongoTemplate,
+                                 final ResumeContentStore contentStore,
+                                 final ResumePartitions partitions,
+                                 final ReadRouting readRouting) {
         this.repository = repository;
         this.mongoTemplate = mongoTemplate;
+        this.contentStore = contentStore;
+        this.partitions = partitions;
+        this.readRouting = readRouting;
     }
 
     @Override
     public Resume save(Resume resume) {
-        ResumeDocument document = ResumeMapper.toDocument(resume);
-        ResumeDocument savedDocument = repository.save(document);
-        return ResumeMapper.toDomain(savedDocument);
+        String contentRef = contentStore.shouldOffload(resume.content())
+            ? contentStore.store(resume.id(), resume.content())
+            : null;
+        ResumeDocument document = contentRef != null
+            ? ResumeMapper.toOffloadedDocument(resume, contentRef)
+                .withContentPrefix(contentStore.searchablePrefix(resume.content()))
+            : ResumeMapper.toDocument(resume);
+
+        // Set the fields a save owns and get the previous version back in one round trip, so a body that was
+        // offloaded before can be dropped; the embedding and thumbnail stay until their own writers replace them
+        String collection = partitions.collectionFor(resume.createdAt());
+        Query byId = Query.query(Criteria.where("_id").is(resume.id()));
+        byId.fields().include("contentRef");
+        ResumeDocument previous = mongoTemplate.findAndModify(
+            byId, savedFields(document), FindAndModifyOptions.options().upsert(true), ResumeDocument.class, collection);
+
+        if (previous == null) {
+            // Saved before partitioning was turned on, or before it was archived: move what the save does not own
+            // from the copy left behind, and drop it
+            Query formerById = Query.query(Criteria.where("_id").is(resume.id()));
+            formerById.fields().include("contentRef", "embedding", "thumbnailRef");
+            for (String former : partitions.formerCollectionsFor(resume.createdAt())) {
+                ResumeDocument removed = mongoTemplate.findAndRemove(formerById, ResumeDocument.class, former);
+                if (removed != null && previous == null) {
+                    previous = removed;
+                    keepUnsavedFields(removed, byId, collection);
+                }
+            }
+        }
+
+        if (previous != null && previous.isContentOffloaded() && !previous.getContentRef().equals(contentRef)) {
+            contentStore.delete(previous.getContentRef());
+        }
+        readRouting.recordWrite();
+
+        return ResumeMapper.toDomain(document, resume.content());
     }
     
+    /**
+     * Every field a save writes; {@code embedding} and {@code thumbnailRef} are left to the semantic index and the
+     * thumbnail pipeline, and a saved resume is no longer a draft.
+     */
+    private static Update savedFields(ResumeDocument document) {
+        Update update = new Update()
+            .set("topic", document.getTopic())
+            .set("contentLength", document.getContentLength())
+            .set("createdAt", document.getCreatedAt())
+            .set("updatedAt", document.getUpdatedAt())
+            .unset("draft");
+        setOrUnset(update, "content", document.getContent());
+        setOrUnset(update, "contentRef", document.getContentRef());
+        setOrUnset(update, "contentPrefix", document.getContentPrefix());
+        setOrUnset(update, "groupId", document.getGroupId());
+        setOrUnset(update, "platform", document.getPlatform());
+        return update;
+    }
+
+    private static void setOrUnset(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        } else {
+            update.unset(field);
+        }
+    }
+
+    private void keepUnsavedFields(ResumeDocument former, Query byId, String collection) {
+        Update update = new Update();
+        if (former.getEmbedding() != null) {
+            update.set("embedding", former.getEmbedding());
+        }
+        if (former.getThumbnailRef() != null) {
+            update.set("thumbnailRef", former.getThumbnailRef());
+        }
+        if (!update.getUpdateObject().isEmpty()) {
+            mongoTemplate.updateFirst(byId, update, ResumeDocument.class, collection);
+        }
+    }
+
     @Override
     public Page<Resume> findByTopic(String topic, Pageable pageable) {
+        ReadPreference preference = readRouting.preferenceFor(ReadRouting.FIND_BY_TOPIC);
+        if (partitions.spansCollections() || preference != null) {
+            return findInPartitions(partitions.all(), routed(Query.query(Criteria.where("topic").is(topic)), preference),
+                pageable.getSort(), pageable);
+        }
         Page<ResumeDocument> documents = repository.findByTopic(topic, pageable);
-        return documents.map(ResumeMapper::toDomain);
+        return toDomainPage(documents);
     }
     
     @Override
     public Page<Resume> findByCreatedAtBetween(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        ReadPreference preference = readRouting.preferenceFor(ReadRouting.FIND_BY_DATE_RANGE);
+        if (partitions.spansCollections() || preference != null) {
+            return findInPartitions(partitions.overlapping(from, to),
+                routed(Query.query(Criteria.where("createdAt").gt(from).lt(to)), preference), pageable.getSort(), pageable);
+        }
         Page<ResumeDocument> documents = repository.findByCreatedAtBetween(from, to, pageable);
-        return documents.map(ResumeMapper::toDomain);
+        return toDomainPage(documents);
     }
     
     @Override
     public Page<Resume> findByContentContainingIgnoreCase(String keyword, Pageable pageable) {
+        ReadPreference preference = readRouting.preferenceFor(ReadRouting.FIND_BY_CONTENT_KEYWORD);
+        if (partitions.spansCollections() || preference != null) {
+            return findInPartitions(partitions.all(),
+                routed(Query.query(SpringDataMongoResumeRepository.contentMatches(Pattern.quote(keyword))), preference), pageable.getSort(), pageable);
+        }
         Page<ResumeDocument> documents = repository.findByContentContainingIgnoreCase(keyword, pageable);
-        return documents.map(ResumeMapper::toDomain);
+        return toDomainPage(documents);
     }
     
     @Override
     public Page<Resume> findAllByOrderByCreatedAtDesc(Pageable pageable) {
+        ReadPreference preference = readRouting.preferenceFor(ReadRouting.GET_LATEST);
+        if (partitions.spansCollections() || preference != null) {
+            return findInPartitions(partitions.all(), routed(new Query(), preference),
+                Sort.by(Sort.Direction.DESC, "createdAt").and(pageable.getSort()), pageable);
+        }
         Page<ResumeDocument> documents = repository.findAllByOrderByCreatedAtDesc(pageable);
-        return documents.map(ResumeMapper::toDomain);
+        return toDomainPage(documents);
     }
     
     @Override
     public Page<Resume> findByCustomCriteria(ResumeSearchQuery query, Pageable pageable) {
-        Query mongoQuery = new Query();
+        ReadPreference preference = readRouting.preferenceFor(ReadRouting.FIND_BY_CUSTOM_CRITERIA);
+        Query mongoQuery = routed(new Query(), preference);
         
         if (query.topic() != null && !query.topic().isEmpty()) {
             mongoQuery.addCriteria(Criteria.where("topic").is(query.topic()));
@@ -78,26 +203,160 @@ public class MongoResumeRepository implements ResumeRepository {
         }
         
         if (query.contentKeyword() != null && !query.contentKeyword().isEmpty()) {
-            mongoQuery.addCriteria(Criteria.where("content").regex(query.contentKeyword(), "i"));
+            mongoQuery.addCriteria(SpringDataMongoResumeRepository.contentMatches(query.contentKeyword()));
         }
         
         // Apply sorting if provided
+        Sort sort = pageable.getSort();
         if (query.sortBy() != null && !query.sortBy().isEmpty()) {
             Sort.Direction direction = (query.sortDirection() == SortDirection.ASC) ? Sort.Direction.ASC : Sort.Direction.DESC;
-            mongoQuery.with(Sort.by(direction, query.sortBy()));
+            sort = Sort.by(direction, query.sortBy()).and(sort);
+        }
+
+        if (partitions.spansCollections()) {
+            return findInPartitions(partitions.overlapping(query.fromDate(), query.toDate()), mongoQuery, sort, pageable);
         }
         
-        // Apply pagination
-        mongoQuery.with(pageable);
-        
-        // Execute query
-        List<ResumeDocument> documents = mongoTemplate.find(mongoQuery, ResumeDocument.class, "resumes");
-        List<Resume> resumes = documents.stream().map(ResumeMapper::toDomain).collect(Collectors.toList());
-        
-        // Get total count for pagination
-        long count = mongoTemplate.count(mongoQuery.skip(0).limit(0), ResumeDocument.class, "resumes");
-        
-        return PageableExecutionUtils.getPage(resumes, pageable, () -> count);
+        // Fetch the page and count the matches at the same time
+        mongoQuery.with(sort);
+        mongoQuery.fields().exclude("content", "contentPrefix", "embedding");
+        return toDomainPage(repository.findPage(mongoQuery, pageable), preference);
+    }
+
+    @Override
+    public Optional<ResumeContentSlice> readContent(UUID id, long offset, int length) {
+        Query byId = Query.query(Criteria.where("_id").is(id));
+        byId.fields().exclude("contentPrefix", "embedding");
+        return newestFirst(partitions.all()).stream()
+            .map(partition -> mongoTemplate.findOne(byId, ResumeDocument.class, partition.collection()))
+            .filter(document -> document != null)
+            .findFirst()
+            .map(document -> {
+                if (!document.isContentOffloaded()) {
+                    return ResumeContentSlice.slice(id, document.getContent(), offset, length);
+                }
+
+                long totalLength = document.getContentLength();
+                String slice = offset >= totalLength ? "" : contentStore.read(document.getContentRef(), offset, length);
+                return ResumeContentSlice.of(id, offset, slice, totalLength);
+            });
+    }
+
+    @Override
+    public List<Resume> findAllByIds(Collection<UUID> ids) {
+        List<ResumeDocument> documents = new ArrayList<>();
+        Set<UUID> remaining = new HashSet<>(ids);
+        for (ResumePartition partition : newestFirst(partitions.all())) {
+            if (remaining.isEmpty()) {
+                break;
+            }
+            Query byIds = Query.query(Criteria.where("_id").in(remaining));
+            byIds.fields().exclude("content", "contentPrefix", "embedding");
+            for (ResumeDocument document : mongoTemplate.find(byIds, ResumeDocument.class, partition.collection())) {
+                remaining.remove(document.getId());
+                documents.add(document);
+            }
+        }
+
+        ResumeContentBatch batch = new ResumeContentBatch(contentIds -> loadContents(contentIds, partitions.all(), null));
+        return documents.stream()
+            .map(document -> ResumeMapper.toDomain(document, batch.defer(document.getId())))
+            .toList();
+    }
+
+    @Override
+    public List<Resume> findByGroupId(UUID groupId) {
+        // Variants are generated together, so they almost always sit in the same partition
+        Query byGroup = Query.query(Criteria.where("groupId").is(groupId)).with(Sort.by(Sort.Direction.ASC, "createdAt"));
+        byGroup.fields().exclude("contentPrefix", "embedding");
+        List<Resume> variants = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+        for (ResumePartition partition : partitions.all()) {
+            for (ResumeDocument document : mongoTemplate.find(byGroup, ResumeDocument.class, partition.collection())) {
+                // A variant being archived may be in both tiers for a moment
+                if (!seen.add(document.getId())) {
+                    continue;
+                }
+                variants.add(ResumeMapper.toDomain(document, document.isContentOffloaded()
+                    ? contentStore.read(document.getContentRef())
+                    : document.getContent()));
+            }
+        }
+        return variants;
+    }
+
+    @Override
+    public void forEach(Consumer<Resume> action) {
+        Query all = new Query();
+        all.fields().exclude("contentPrefix", "embedding");
+        // Only while an archiver run may have a resume in both tiers is it worth remembering every id
+        Set<UUID> seen = partitions.archiving() ? new HashSet<>() : null;
+        for (ResumePartition partition : partitions.all()) {
+            try (Stream<ResumeDocument> documents = mongoTemplate.stream(all, ResumeDocument.class, partition.collection())) {
+                documents.filter(document -> seen == null || seen.add(document.getId())).forEach(document -> action.accept(ResumeMapper.toDomain(document, document.isContentOffloaded()
+                    ? contentStore.read(document.getContentRef())
+                    : document.getContent())));
+            }
+        }
+    }
+
+    private Page<Resume> findInPartitions(List<ResumePartition> candidates, Query query, Sort sort, Pageable pageable) {
+        // Merging by content needs it in hand; every other order only needs the metadata
+        if (sort.getOrderFor("content") != null) {
+            query.fields().exclude("contentPrefix", "embedding");
+        } else {
+            query.fields().exclude("content", "contentPrefix", "embedding");
+        }
+        return toDomainPage(partitions.find(candidates, query, sort, pageable), query.getReadPreference());
+    }
+
+    private Page<Resume> toDomainPage(Page<ResumeDocument> documents) {
+        return toDomainPage(documents, null);
+    }
+
+    private Page<Resume> toDomainPage(Page<ResumeDocument> documents, ReadPreference preference) {
+        // Only the partitions whose range covers the page can hold its bodies
+        Set<LocalDateTime> createdAts = new HashSet<>();
+        documents.forEach(document -> createdAts.add(document.getCreatedAt()));
+        List<ResumePartition> candidates = partitions.all().stream()
+            .filter(partition -> createdAts.stream().anyMatch(createdAt -> partition.overlaps(createdAt, createdAt)))
+            .toList();
+
+        ResumeContentBatch batch = new ResumeContentBatch(ids -> loadContents(ids, candidates, preference));
+        return documents.map(document -> ResumeMapper.toDomain(document, batch.defer(document.getId())));
+    }
+
+    /**
+     * Loads the bodies of a whole page with one query per partition, reading offloaded bodies from the content store.
+     */
+    private Map<UUID, String> loadContents(Collection<UUID> ids, List<ResumePartition> candidates, ReadPreference preference) {
+        Map<UUID, String> contents = new HashMap<>();
+        Set<UUID> remaining = new HashSet<>(ids);
+        for (ResumePartition partition : newestFirst(candidates)) {
+            if (remaining.isEmpty()) {
+                break;
+            }
+            Query byIds = Query.query(Criteria.where("_id").in(remaining));
+            byIds.fields().include("content", "contentRef");
+            routed(byIds, preference);
+            for (ResumeDocument document : mongoTemplate.find(byIds, ResumeDocument.class, partition.collection())) {
+                remaining.remove(document.getId());
+                contents.put(document.getId(), document.isContentOffloaded()
+                    ? contentStore.read(document.getContentRef())
+                    : document.getContent());
+            }
+        }
+        return contents;
+    }
+
+    private static Query routed(Query query, ReadPreference preference) {
+        return preference != null ? query.withReadPreference(preference) : query;
+    }
+
+    private static List<ResumePartition> newestFirst(List<ResumePartition> partitions) {
+        List<ResumePartition> reversed = new ArrayList<>(partitions);
+        Collections.reverse(reversed);
+        return reversed;
     }
 
-} 
\ No newline at end of file
+}
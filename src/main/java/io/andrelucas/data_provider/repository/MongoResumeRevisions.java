@@ -0,0 +1,100 @@
+package io.andrelucas.data_provider.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.ResumeRevision;
+import io.andrelucas.business.repositories.ResumeRevisions;
+import io.andrelucas.data_provider.content.ResumeContentStore;
+import io.andrelucas.data_provider.document.ResumeRevisionDocument;
+
+/**
+ * {@link ResumeRevisions} in the {@code resume_revisions} collection, one document per revision, read in the
+ * order of the unique {@code resumeId, number} index. Rebuilding a version reads one range of it, from the
+ * snapshot to the version.
+ *
+ * <p>Snapshots the {@link ResumeContentStore} would offload from a resume are offloaded the same way, each under a
+ * key of its own, so a revision stays well under the document size limit. Deltas are at most half of their version,
+ * {@code ResumeHistory} storing a snapshot otherwise.
+ */
+@Repository
+@Profile("!embedded")
+public class MongoResumeRevisions implements ResumeRevisions {
+
+    private final MongoTemplate mongoTemplate;
+    private final ResumeContentStore contentStore;
+
+    public MongoResumeRevisions(final MongoTemplate mongoTemplate, final ResumeContentStore contentStore) {
+        this.mongoTemplate = mongoTemplate;
+        this.contentStore = contentStore;
+    }
+
+    @Override
+    public boolean append(ResumeRevision revision) {
+        final ResumeRevisionDocument document = ResumeRevisionDocument.from(revision);
+        final String snapshot = revision.snapshot();
+        // A key of its own, so neither the resume's body nor another instance's attempt at this number shares it
+        final String snapshotRef = snapshot != null && contentStore.shouldOffload(snapshot)
+            ? contentStore.store(UUID.randomUUID(), snapshot)
+            : null;
+        if (snapshotRef != null) {
+            document.offloadSnapshot(snapshotRef);
+        }
+        try {
+            mongoTemplate.insert(document);
+            return true;
+        } catch (DuplicateKeyException e) {
+            if (snapshotRef != null) {
+                contentStore.delete(snapshotRef);
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<ResumeRevision> latest(UUID resumeId) {
+        final Query query = Query.query(Criteria.where("resumeId").is(resumeId))
+            .with(Sort.by(Sort.Direction.DESC, "number"))
+            .limit(1);
+        query.fields().exclude("snapshot", "edits");
+        return Optional.ofNullable(mongoTemplate.findOne(query, ResumeRevisionDocument.class))
+            .map(ResumeRevisionDocument::toRevision);
+    }
+
+    @Override
+    public List<ResumeRevision> list(UUID resumeId) {
+        final Query query = Query.query(Criteria.where("resumeId").is(resumeId))
+            .with(Sort.by("number"));
+        query.fields().exclude("snapshot", "edits");
+        return mongoTemplate.find(query, ResumeRevisionDocument.class).stream()
+            .map(ResumeRevisionDocument::toRevision)
+            .toList();
+    }
+
+    @Override
+    public List<ResumeRevision> chain(UUID resumeId, int number) {
+        final Query target = Query.query(Criteria.where("resumeId").is(resumeId).and("number").is(number));
+        target.fields().include("snapshotNumber");
+        final ResumeRevisionDocument revision = mongoTemplate.findOne(target, ResumeRevisionDocument.class);
+        if (revision == null) {
+            return List.of();
+        }
+        final Query range = Query.query(Criteria.where("resumeId").is(resumeId)
+                .and("number").gte(revision.toRevision().snapshotNumber()).lte(number))
+            .with(Sort.by("number"));
+        return mongoTemplate.find(range, ResumeRevisionDocument.class).stream()
+            .map(document -> document.getSnapshotRef() != null
+                ? document.toRevision(contentStore.read(document.getSnapshotRef()))
+                : document.toRevision())
+            .toList();
+    }
+}
@@ -0,0 +1,69 @@
+package io.andrelucas.data_provider.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.repositories.ResumeThumbnails;
+import io.andrelucas.data_provider.document.ResumeDocument;
+import io.andrelucas.data_provider.partition.ResumePartition;
+import io.andrelucas.data_provider.partition.ResumePartitions;
+
+/**
+ * {@link ResumeThumbnails} kept as a {@code thumbnailRef} on the resume's own document, which saves leave in place
+ * until the thumbnail requested by the save replaces it.
+ */
+@Repository
+@Profile("!embedded")
+public class MongoResumeThumbnails implements ResumeThumbnails {
+
+    private final MongoTemplate mongoTemplate;
+    private final ResumePartitions partitions;
+
+    public MongoResumeThumbnails(final MongoTemplate mongoTemplate, final ResumePartitions partitions) {
+        this.mongoTemplate = mongoTemplate;
+        this.partitions = partitions;
+    }
+
+    @Override
+    public void attach(UUID resumeId, String thumbnailRef) {
+        for (ResumePartition partition : newestFirst()) {
+            if (mongoTemplate.updateFirst(byId(resumeId), new Update().set("thumbnailRef", thumbnailRef),
+                    ResumeDocument.class, partition.collection()).getMatchedCount() > 0) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Optional<String> find(UUID resumeId) {
+        final Query byId = byId(resumeId);
+        byId.fields().include("thumbnailRef");
+        for (ResumePartition partition : newestFirst()) {
+            final ResumeDocument document = mongoTemplate.findOne(byId, ResumeDocument.class, partition.collection());
+            if (document != null) {
+                return Optional.ofNullable(document.getThumbnailRef());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private List<ResumePartition> newestFirst() {
+        final List<ResumePartition> reversed = new ArrayList<>(partitions.all());
+        Collections.reverse(reversed);
+        return reversed;
+    }
+
+    private static Query byId(UUID id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
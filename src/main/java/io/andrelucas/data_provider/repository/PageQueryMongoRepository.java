@@ -0,0 +1,16 @@
+package io.andrelucas.data_provider.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Mongo repository that can page through any query, fetching the page and its count concurrently.
+ */
+@NoRepositoryBean
+public interface PageQueryMongoRepository<T, ID> extends MongoRepository<T, ID> {
+
+    Page<T> findPage(Query query, Pageable pageable);
+}
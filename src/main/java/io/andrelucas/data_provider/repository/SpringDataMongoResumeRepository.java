@@ -3,13 +3,47 @@ package io.andrelucas.data_provider.repository;
 import io.andrelucas.data_provider.document.ResumeDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
-public interface SpringDataMongoResumeRepository extends MongoRepository<ResumeDocument, UUID> {
-    Page<ResumeDocument> findByTopic(String topic, Pageable pageable);
-    Page<ResumeDocument> findByCreatedAtBetween(LocalDateTime from, LocalDateTime to, Pageable pageable);
-    Page<ResumeDocument> findByContentContainingIgnoreCase(String keyword, Pageable pageable);
-    Page<ResumeDocument> findAllByOrderByCreatedAtDesc(Pageable pageable);
-} 
\ No newline at end of file
+/**
+ * Page queries leave the body out of the projection; it is loaded afterwards for the whole page at once.
+ *
+ * <p>They are written out rather than derived so they go through {@link #findPage}, which counts while it fetches.
+ */
+public interface SpringDataMongoResumeRepository extends PageQueryMongoRepository<ResumeDocument, UUID> {
+
+    default Page<ResumeDocument> findByTopic(String topic, Pageable pageable) {
+        return findPage(withoutContent(Query.query(Criteria.where("topic").is(topic))), pageable);
+    }
+
+    default Page<ResumeDocument> findByCreatedAtBetween(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        return findPage(withoutContent(Query.query(Criteria.where("createdAt").gt(from).lt(to))), pageable);
+    }
+
+    default Page<ResumeDocument> findByContentContainingIgnoreCase(String keyword, Pageable pageable) {
+        return findPage(withoutContent(Query.query(contentMatches(Pattern.quote(keyword)))), pageable);
+    }
+
+    default Page<ResumeDocument> findAllByOrderByCreatedAtDesc(Pageable pageable) {
+        return findPage(withoutContent(new Query().with(Sort.by(Sort.Direction.DESC, "createdAt"))), pageable);
+    }
+
+    /**
+     * Matches {@code regex}, ignoring case, in an inline body or in the prefix an offloaded body keeps inline.
+     */
+    static Criteria contentMatches(String regex) {
+        return new Criteria().orOperator(
+            Criteria.where("content").regex(regex, "i"),
+            Criteria.where("contentPrefix").regex(regex, "i"));
+    }
+
+    private static Query withoutContent(Query query) {
+        query.fields().exclude("content", "contentPrefix", "embedding");
+        return query;
+    }
+}
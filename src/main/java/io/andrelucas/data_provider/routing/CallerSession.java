@@ -0,0 +1,53 @@
+package io.andrelucas.data_provider.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * The client a call is made on behalf of, such as an MCP session, and the tool it called, for as long as the
+ * call runs on this thread.
+ *
+ * <p>Callers are compared by identity, so any object that lives as long as the client's session will do.
+ */
+public final class CallerSession {
+
+    private static final ThreadLocal<Call> CURRENT = new ThreadLocal<>();
+
+    private CallerSession() {
+    }
+
+    public static <T> T callAs(Object caller, Supplier<T> call) {
+        return callAs(caller, null, call);
+    }
+
+    public static <T> T callAs(Object caller, String tool, Supplier<T> call) {
+        final Call previous = CURRENT.get();
+        CURRENT.set(new Call(caller, tool));
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * The caller of the running call, or {@code null} outside of one.
+     */
+    public static Object current() {
+        final Call call = CURRENT.get();
+        return call != null ? call.caller() : null;
+    }
+
+    /**
+     * The tool the running call was made through, or {@code null} outside of one.
+     */
+    public static String currentTool() {
+        final Call call = CURRENT.get();
+        return call != null ? call.tool() : null;
+    }
+
+    private record Call(Object caller, String tool) {}
+}
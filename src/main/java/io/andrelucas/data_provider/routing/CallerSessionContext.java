@@ -0,0 +1,45 @@
+package io.andrelucas.data_provider.routing;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.repositories.CallContext;
+
+/**
+ * Carries the {@link CallerSession} of the submitting thread over to the task.
+ */
+@Component
+public class CallerSessionContext implements CallContext {
+
+    @Override
+    public <T> Callable<T> propagate(Callable<T> task) {
+        final Object caller = CallerSession.current();
+        final String tool = CallerSession.currentTool();
+        return () -> {
+            try {
+                return CallerSession.callAs(caller, tool, () -> {
+                    try {
+                        return task.call();
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new Checked(e);
+                    }
+                });
+            } catch (Checked e) {
+                throw (Exception) e.getCause();
+            }
+        };
+    }
+
+    /**
+     * Takes a checked exception of the task through {@link CallerSession#callAs}, which only takes a supplier.
+     */
+    private static final class Checked extends RuntimeException {
+
+        private Checked(Exception cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.andrelucas.data_provider.routing;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import com.mongodb.ReadPreference;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
+
+/**
+ * Picks the read preference of each read use case, sending callers to the primary for a short while after they
+ * write so they always see their own writes.
+ */
+@Component
+@Profile("!embedded")
+public class ReadRouting implements ReadPreferencePolicy {
+
+    private static final Set<String> USE_CASES = Set.of(
+        FIND_BY_TOPIC, FIND_BY_DATE_RANGE, FIND_BY_CONTENT_KEYWORD, FIND_BY_CUSTOM_CRITERIA, GET_LATEST);
+
+    private final boolean enabled;
+    private final long readYourWritesNanos;
+    private final Map<String, ReadPreference> preferences = new HashMap<>();
+    private final Map<Object, Long> lastWrites = new IdentityHashMap<>();
+
+    public ReadRouting(final ReadRoutingProperties properties) {
+        if (properties.enabled() && properties.readYourWritesWindow().compareTo(properties.maxStaleness()) < 0) {
+            throw new IllegalArgumentException("Read-your-writes window " + properties.readYourWritesWindow()
+                + " is shorter than the max staleness " + properties.maxStaleness());
+        }
+        this.enabled = properties.enabled();
+        this.readYourWritesNanos = properties.readYourWritesWindow().toNanos();
+        if (properties.useCases() != null) {
+            properties.useCases().forEach((useCase, name) -> {
+                if (!USE_CASES.contains(useCase)) {
+                    throw new IllegalArgumentException("Unknown read use case: " + useCase);
+                }
+                final ReadPreference preference = ReadPreference.valueOf(name);
+                preferences.put(useCase, preference.equals(ReadPreference.primary())
+                    ? preference
+                    : ReadPreference.valueOf(name, List.of(), properties.maxStaleness().toMillis(), TimeUnit.MILLISECONDS));
+            });
+        }
+    }
+
+    /**
+     * The read preference for {@code useCase} on behalf of the current caller, or {@code null} to keep the
+     * connection's.
+     */
+    @Override
+    public ReadPreference preferenceFor(String useCase) {
+        if (!enabled) {
+            return null;
+        }
+        final Object caller = CallerSession.current();
+        if (caller != null && wroteRecently(caller)) {
+            return ReadPreference.primary();
+        }
+        return preferences.get(useCase);
+    }
+
+    /**
+     * Sends the current caller's reads to the primary until its write has had time to reach the secondaries.
+     */
+    public void recordWrite() {
+        final Object caller = CallerSession.current();
+        if (!enabled || caller == null) {
+            return;
+        }
+        final long now = System.nanoTime();
+        synchronized (lastWrites) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt > readYourWritesNanos);
+            lastWrites.put(caller, now);
+        }
+    }
+
+    private boolean wroteRecently(Object caller) {
+        final Long writtenAt;
+        synchronized (lastWrites) {
+            writtenAt = lastWrites.get(caller);
+        }
+        return writtenAt != null && System.nanoTime() - writtenAt <= readYourWritesNanos;
+    }
+}
@@ -0,0 +1,25 @@
+package io.andrelucas.data_provider.routing;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Which replica set members read use cases are sent to.
+ *
+ * @param enabled route reads by use case instead of using the connection's read preference
+ * @param maxStaleness how far behind the primary a secondary may be to serve a read; at least 90 seconds
+ * @param readYourWritesWindow after a write, reads from the same caller go to the primary for this long; at least
+ *                             {@code maxStaleness}, since a secondary that far behind may still serve the read
+ * @param useCases read preference by use case, e.g. {@code find-resumes-by-content-keyword: secondaryPreferred};
+ *                 use cases left out keep the connection's read preference
+ */
+@ConfigurationProperties(prefix = "content-generator.read-routing")
+public record ReadRoutingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("PT90S") Duration maxStaleness,
+    @DefaultValue("PT90S") Duration readYourWritesWindow,
+    Map<String, String> useCases
+) {}
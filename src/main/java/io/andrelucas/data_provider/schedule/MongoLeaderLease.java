@@ -0,0 +1,52 @@
+package io.andrelucas.data_provider.schedule;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.repositories.LeaderLease;
+import io.andrelucas.data_provider.document.LeaseDocument;
+
+/**
+ * {@link LeaderLease} as documents of the {@code leases} collection, one per lease name.
+ *
+ * <p>A lease is taken with one upsert matching the document only if {@code owner} holds it or it expired. When
+ * another instance holds it the upsert tries to insert a second document with the same name and fails on the
+ * {@code _id}, so of several instances racing for a free lease exactly one gets it. Expiry is compared with the
+ * instances' own clocks, which must agree to well within the lease.
+ */
+@Repository
+@Profile("!embedded")
+public class MongoLeaderLease implements LeaderLease {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoLeaderLease(final MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public boolean acquire(String name, String owner, Duration ttl) {
+        final LocalDateTime now = LocalDateTime.now();
+        final Query free = Query.query(Criteria.where("_id").is(name)
+            .orOperator(Criteria.where("owner").is(owner), Criteria.where("expiresAt").lt(now)));
+        try {
+            mongoTemplate.upsert(free, new Update().set("owner", owner).set("expiresAt", now.plus(ttl)), LeaseDocument.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void release(String name, String owner) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(name).and("owner").is(owner)), LeaseDocument.class);
+    }
+}
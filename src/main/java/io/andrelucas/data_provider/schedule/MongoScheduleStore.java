@@ -0,0 +1,97 @@
+package io.andrelucas.data_provider.schedule;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import io.andrelucas.business.ScheduleStatus;
+import io.andrelucas.business.ScheduledPost;
+import io.andrelucas.business.repositories.ScheduleStore;
+import io.andrelucas.data_provider.document.ScheduledPostDocument;
+
+/**
+ * {@link ScheduleStore} in the {@code schedules} collection. Scheduled posts are read through cursors, in the
+ * order of the {@code status, nextAttemptAt} and {@code updatedAt} indexes, so reloading hundreds of thousands
+ * of them never holds more than a batch in memory.
+ */
+@Repository
+@Profile("!embedded")
+public class MongoScheduleStore implements ScheduleStore {
+
+    private final MongoTemplate mongoTemplate;
+
+    public MongoScheduleStore(final MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public ScheduledPost save(ScheduledPost post) {
+        return mongoTemplate.insert(ScheduledPostDocument.from(post)).toPost();
+    }
+
+    @Override
+    public Optional<ScheduledPost> findById(UUID id) {
+        return Optional.ofNullable(mongoTemplate.findById(id, ScheduledPostDocument.class))
+            .map(ScheduledPostDocument::toPost);
+    }
+
+    @Override
+    public void forEachScheduled(Consumer<ScheduledPost> action) {
+        stream(Query.query(Criteria.where("status").is(ScheduleStatus.SCHEDULED)), action);
+    }
+
+    @Override
+    public void forEachUpdatedSince(LocalDateTime since, Consumer<ScheduledPost> action) {
+        stream(Query.query(Criteria.where("updatedAt").gte(since)), action);
+    }
+
+    @Override
+    public boolean cancel(UUID id) {
+        return update(id, new Update().set("status", ScheduleStatus.CANCELLED));
+    }
+
+    @Override
+    public void published(UUID id, String postId) {
+        update(id, new Update()
+            .set("status", ScheduleStatus.PUBLISHED)
+            .set("postId", postId)
+            .unset("error"));
+    }
+
+    @Override
+    public void retry(UUID id, String error, LocalDateTime retryAt) {
+        update(id, new Update()
+            .inc("attempts", 1)
+            .set("error", error)
+            .set("nextAttemptAt", retryAt));
+    }
+
+    @Override
+    public void fail(UUID id, String error) {
+        update(id, new Update()
+            .inc("attempts", 1)
+            .set("status", ScheduleStatus.FAILED)
+            .set("error", error));
+    }
+
+    private void stream(Query query, Consumer<ScheduledPost> action) {
+        try (Stream<ScheduledPostDocument> documents = mongoTemplate.stream(query, ScheduledPostDocument.class)) {
+            documents.map(ScheduledPostDocument::toPost).forEach(action);
+        }
+    }
+
+    private boolean update(UUID id, Update update) {
+        // A post that was published, failed or cancelled meanwhile keeps that outcome
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(id).and("status").is(ScheduleStatus.SCHEDULED)),
+            update.set("updatedAt", LocalDateTime.now()), ScheduledPostDocument.class).getModifiedCount() > 0;
+    }
+}
@@ -0,0 +1,191 @@
+package io.andrelucas.data_provider.telemetry;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+
+import io.andrelucas.data_provider.routing.CallerSession;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Splits the time a tool spends in MongoDB into waiting for a pooled connection and running commands, tagging
+ * both with the tool that caused them.
+ *
+ * <ul>
+ *   <li>{@code mongodb.command.duration}: round trip of each command by command, collection, tool and outcome</li>
+ *   <li>{@code mongodb.pool.wait}: time to check a connection out by server, tool and outcome</li>
+ *   <li>{@code mongodb.pool.size}, {@code mongodb.pool.checked-out}, {@code mongodb.pool.available}: connections
+ *       per server, for sizing {@code spring.data.mongodb} pool settings</li>
+ * </ul>
+ *
+ * <p>The synchronous driver raises these events on the calling thread, which is what ties them to the tool.
+ */
+@Component
+@Profile("!embedded")
+public class MongoDriverTelemetry implements MongoClientSettingsBuilderCustomizer, CommandListener, ConnectionPoolListener {
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry registry;
+    private final Map<Integer, String> collectionsByRequest = new ConcurrentHashMap<>();
+    private final Map<ServerId, Pool> pools = new ConcurrentHashMap<>();
+    private final Map<List<String>, Timer> commandTimers = new ConcurrentHashMap<>();
+    private final Map<List<String>, Timer> waitTimers = new ConcurrentHashMap<>();
+
+    public MongoDriverTelemetry(final MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void customize(MongoClientSettings.Builder builder) {
+        builder.addCommandListener(this)
+            .applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(this));
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        final String collection = collection(event.getCommandName(), event.getCommand());
+        if (collection != null) {
+            collectionsByRequest.put(event.getRequestId(), collection);
+        }
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        recordCommand(event.getRequestId(), event.getCommandName(), "success", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        recordCommand(event.getRequestId(), event.getCommandName(), "failure", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        // Connection events can create the pool first; its counts must survive registering the gauges
+        final Pool pool = pool(event.getServerId());
+        final Tags tags = Tags.of("server", server(event.getServerId()));
+        pool.meters = List.of(
+            Gauge.builder("mongodb.pool.size", pool.size, AtomicInteger::get)
+                .description("Open connections").tags(tags).register(registry),
+            Gauge.builder("mongodb.pool.checked-out", pool.checkedOut, AtomicInteger::get)
+                .description("Connections in use").tags(tags).register(registry),
+            Gauge.builder("mongodb.pool.available", pool, Pool::available)
+                .description("Open connections not in use").tags(tags).register(registry));
+    }
+
+    @Override
+    public void connectionPoolClosed(ConnectionPoolClosedEvent event) {
+        final Pool pool = pools.remove(event.getServerId());
+        if (pool != null) {
+            pool.meters.forEach(registry::remove);
+        }
+    }
+
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        pool(event.getConnectionId().getServerId()).size.incrementAndGet();
+    }
+
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        pool(event.getConnectionId().getServerId()).size.decrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        pool(event.getConnectionId().getServerId()).checkedOut.incrementAndGet();
+        recordWait(event.getConnectionId().getServerId(), "success", event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        recordWait(event.getServerId(), event.getReason().name().toLowerCase(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        pool(event.getConnectionId().getServerId()).checkedOut.decrementAndGet();
+    }
+
+    private void recordCommand(int requestId, String command, String outcome, long nanos) {
+        final String collection = collectionsByRequest.remove(requestId);
+        final List<String> key = List.of(command, collection != null ? collection : NONE, tool(), outcome);
+        commandTimers.computeIfAbsent(key, k -> Timer.builder("mongodb.command.duration")
+                .description("Round trip of MongoDB commands")
+                .tags("command", k.get(0), "collection", k.get(1), "tool", k.get(2), "outcome", k.get(3))
+                .publishPercentileHistogram()
+                .register(registry))
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void recordWait(ServerId serverId, String outcome, long nanos) {
+        final List<String> key = List.of(server(serverId), tool(), outcome);
+        waitTimers.computeIfAbsent(key, k -> Timer.builder("mongodb.pool.wait")
+                .description("Time to check a connection out of the pool")
+                .tags("server", k.get(0), "tool", k.get(1), "outcome", k.get(2))
+                .publishPercentileHistogram()
+                .register(registry))
+            .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The pool of a server, for events that arrive before the pool's own, as they can while the driver starts.
+     */
+    private Pool pool(ServerId serverId) {
+        return pools.computeIfAbsent(serverId, id -> new Pool());
+    }
+
+    private static String collection(String command, BsonDocument document) {
+        // Most commands name their collection as the command's value; getMore names it separately
+        final BsonValue value = document.containsKey(command) ? document.get(command) : document.get("collection");
+        return value != null && value.isString() ? value.asString().getValue() : null;
+    }
+
+    private static String server(ServerId serverId) {
+        return serverId.getAddress().toString();
+    }
+
+    private static String tool() {
+        final String tool = CallerSession.currentTool();
+        return tool != null ? tool : NONE;
+    }
+
+    private static final class Pool {
+
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger checkedOut = new AtomicInteger();
+        private volatile List<Meter> meters = List.of();
+
+        private int available() {
+            return Math.max(0, size.get() - checkedOut.get());
+        }
+    }
+}
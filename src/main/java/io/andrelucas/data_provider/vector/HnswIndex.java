@@ -0,0 +1,546 @@
+package io.andrelucas.data_provider.vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * In-process Hierarchical Navigable Small World graph (Malkov &amp; Yashunin) for approximate nearest
+ * neighbour search over L2-normalized vectors, where similarity is the dot product.
+ *
+ * <p>Vectors and adjacency lists live in plain arrays indexed by an internal node number, so a query only
+ * touches primitive data. Searches run concurrently under a read lock; inserts take the write lock.
+ * Re-adding a key tombstones its previous node, which keeps serving as a routing point but is never returned.
+ * Once tombstones make up {@link #MAX_DELETED_SHARE} of the nodes a new graph is built from the live ones on the
+ * {@code rebuilds} executor, outside the lock, so resumes saved over and over do not grow it without bound and
+ * searches and inserts carry on meanwhile. Inserts made during the build are replayed into the new graph before
+ * it replaces the old one.</p>
+ */
+public class HnswIndex {
+
+    public record Match(UUID key, float similarity) {}
+
+    static final double MAX_DELETED_SHARE = 0.25;
+    private static final int MIN_NODES_TO_REBUILD = 64;
+
+    private static final Logger logger = LoggerFactory.getLogger(HnswIndex.class);
+
+    private final int dimensions;
+    private final int maxConnections;
+    private final int maxConnectionsLevelZero;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final Executor rebuilds;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ThreadLocal<VisitedMarks> visitedMarks = ThreadLocal.withInitial(VisitedMarks::new);
+
+    private Graph graph = new Graph(64, new SplittableRandom(42));
+    // Inserts since the running rebuild took its snapshot, or null while none is running
+    private List<Pending> pending;
+
+    /**
+     * An index that rebuilds on the thread whose insert called for it, once that insert has released the lock.
+     */
+    public HnswIndex(final int dimensions, final int maxConnections, final int efConstruction) {
+        this(dimensions, maxConnections, efConstruction, Runnable::run);
+    }
+
+    public HnswIndex(final int dimensions, final int maxConnections, final int efConstruction, final Executor rebuilds) {
+        if (dimensions < 1 || maxConnections < 2 || efConstruction < 1) {
+            throw new IllegalArgumentException("dimensions, maxConnections and efConstruction must be positive");
+        }
+        this.dimensions = dimensions;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsLevelZero = maxConnections * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1 / Math.log(maxConnections);
+        this.rebuilds = rebuilds;
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return graph.nodesByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(UUID key) {
+        lock.readLock().lock();
+        try {
+            return graph.nodesByKey.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void add(UUID key, float[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("expected " + dimensions + " dimensions but got " + vector.length);
+        }
+
+        final float[] copy = vector.clone();
+        final Runnable rebuild;
+        lock.writeLock().lock();
+        try {
+            graph.add(key, copy);
+            if (pending != null) {
+                pending.add(new Pending(key, copy));
+                return;
+            }
+            if (graph.nodeCount < MIN_NODES_TO_REBUILD || graph.deletedCount < graph.nodeCount * MAX_DELETED_SHARE) {
+                return;
+            }
+            pending = new ArrayList<>();
+            rebuild = snapshot();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            rebuilds.execute(rebuild);
+        } catch (RejectedExecutionException e) {
+            abandonRebuild(e);
+        }
+    }
+
+    /**
+     * Nodes in the graph, tombstones included.
+     */
+    int nodes() {
+        lock.readLock().lock();
+        try {
+            return graph.nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Takes what the rebuild reads while holding the write lock: nodes are only ever appended, so the arrays
+     * captured here keep the first {@code count} nodes unchanged even as inserts go on or grow the graph.
+     */
+    private Runnable snapshot() {
+        final int count = graph.nodeCount;
+        final float[][] vectors = graph.vectors;
+        final UUID[] keys = graph.keys;
+        final BitSet deleted = (BitSet) graph.deleted.clone();
+        final SplittableRandom random = graph.random.split();
+        final int capacity = Math.max(64, Integer.highestOneBit(Math.max(1, graph.nodesByKey.size())) * 2);
+        return () -> {
+            try {
+                final Graph rebuilt = new Graph(capacity, random);
+                for (int old = 0; old < count; old++) {
+                    if (!deleted.get(old)) {
+                        rebuilt.add(keys[old], vectors[old]);
+                    }
+                }
+                swap(rebuilt);
+            } catch (RuntimeException e) {
+                abandonRebuild(e);
+            }
+        };
+    }
+
+    /**
+     * Replays the inserts made while {@code rebuilt} was built, in order, and puts it in place of the graph.
+     */
+    private void swap(Graph rebuilt) {
+        lock.writeLock().lock();
+        try {
+            for (Pending insert : pending) {
+                rebuilt.add(insert.key(), insert.vector());
+            }
+            graph = rebuilt;
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void abandonRebuild(Exception e) {
+        logger.warn("Semantic index rebuild failed, keeping the graph with its tombstones", e);
+        lock.writeLock().lock();
+        try {
+            pending = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Match> search(float[] query, int limit, int ef) {
+        if (query.length != dimensions) {
+            throw new IllegalArgumentException("expected " + dimensions + " dimensions but got " + query.length);
+        }
+
+        lock.readLock().lock();
+        try {
+            return graph.search(query, limit, ef);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private record Pending(UUID key, float[] vector) {}
+
+    /**
+     * One graph and the nodes it holds. The index reads and changes the live one under its lock; a rebuild fills
+     * a new one that no other thread sees until it is swapped in.
+     */
+    private final class Graph {
+
+        private float[][] vectors;
+        // links[node][level][0] holds the neighbour count, followed by the neighbour node numbers
+        private int[][][] links;
+        private UUID[] keys;
+        private final BitSet deleted = new BitSet();
+        private final Map<UUID, Integer> nodesByKey = new HashMap<>();
+        private final SplittableRandom random;
+        private int deletedCount;
+        private int nodeCount;
+        private int entryPoint = -1;
+        private int maxLevel = -1;
+
+        Graph(int capacity, SplittableRandom random) {
+            this.vectors = new float[capacity][];
+            this.links = new int[capacity][][];
+            this.keys = new UUID[capacity];
+            this.random = random;
+        }
+
+        void add(UUID key, float[] vector) {
+            final Integer previous = nodesByKey.get(key);
+            if (previous != null && !deleted.get(previous)) {
+                deleted.set(previous);
+                deletedCount++;
+            }
+
+            final int node = allocate(key, vector);
+            nodesByKey.put(key, node);
+            link(node);
+        }
+
+        List<Match> search(float[] query, int limit, int ef) {
+            if (entryPoint < 0 || limit < 1) {
+                return List.of();
+            }
+
+            int current = greedyDescent(query, entryPoint, maxLevel, 0);
+            final NodeHeap results = searchLevel(query, current, Math.max(ef, limit), 0);
+
+            final int[] nodes = new int[results.size()];
+            final float[] distances = new float[results.size()];
+            for (int i = nodes.length - 1; i >= 0; i--) {
+                distances[i] = results.peekDistance();
+                nodes[i] = results.pop();
+            }
+
+            final List<Match> matches = new ArrayList<>(Math.min(limit, nodes.length));
+            for (int i = 0; i < nodes.length && matches.size() < limit; i++) {
+                if (!deleted.get(nodes[i])) {
+                    matches.add(new Match(keys[nodes[i]], 1 - distances[i]));
+                }
+            }
+            return matches;
+        }
+
+        private int allocate(UUID key, float[] vector) {
+            if (nodeCount == vectors.length) {
+                final int capacity = vectors.length * 2;
+                vectors = Arrays.copyOf(vectors, capacity);
+                links = Arrays.copyOf(links, capacity);
+                keys = Arrays.copyOf(keys, capacity);
+            }
+
+            final int node = nodeCount++;
+            final int level = randomLevel();
+            vectors[node] = vector;
+            keys[node] = key;
+            links[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                links[node][l] = new int[maxConnections(l) + 1];
+            }
+            return node;
+        }
+
+        private void link(int node) {
+            final int level = links[node].length - 1;
+            if (entryPoint < 0) {
+                entryPoint = node;
+                maxLevel = level;
+                return;
+            }
+
+            final float[] vector = vectors[node];
+            int current = greedyDescent(vector, entryPoint, maxLevel, level + 1);
+            for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+                final NodeHeap candidates = searchLevel(vector, current, efConstruction, l);
+                final int[] selected = selectNeighbours(candidates, maxConnections);
+
+                final int[] own = links[node][l];
+                own[0] = selected.length;
+                System.arraycopy(selected, 0, own, 1, selected.length);
+                for (int neighbour : selected) {
+                    connect(neighbour, node, l);
+                }
+                current = selected[0];
+            }
+
+            if (level > maxLevel) {
+                entryPoint = node;
+                maxLevel = level;
+            }
+        }
+
+        private void connect(int from, int to, int level) {
+            final int[] neighbours = links[from][level];
+            final int count = neighbours[0];
+            if (count < neighbours.length - 1) {
+                neighbours[count + 1] = to;
+                neighbours[0] = count + 1;
+                return;
+            }
+
+            // Full adjacency list: re-select among the current neighbours plus the new node
+            final NodeHeap candidates = new NodeHeap(count + 1, true);
+            final float[] origin = vectors[from];
+            candidates.push(distance(origin, vectors[to]), to);
+            for (int i = 1; i <= count; i++) {
+                candidates.push(distance(origin, vectors[neighbours[i]]), neighbours[i]);
+            }
+            final int[] selected = selectNeighbours(candidates, neighbours.length - 1);
+            neighbours[0] = selected.length;
+            System.arraycopy(selected, 0, neighbours, 1, selected.length);
+        }
+
+        /**
+         * Neighbour selection heuristic: a candidate is kept only if it is closer to the base than to every
+         * neighbour already kept, which preserves links towards distinct regions of the graph.
+         * Consumes the max-heap and returns the kept nodes closest first.
+         */
+        private int[] selectNeighbours(NodeHeap candidates, int limit) {
+            final int size = candidates.size();
+            final int[] nodes = new int[size];
+            final float[] distances = new float[size];
+            for (int i = size - 1; i >= 0; i--) {
+                distances[i] = candidates.peekDistance();
+                nodes[i] = candidates.pop();
+            }
+
+            final int[] selected = new int[Math.min(limit, size)];
+            int kept = 0;
+            for (int i = 0; i < size && kept < selected.length; i++) {
+                boolean diverse = true;
+                for (int j = 0; j < kept && diverse; j++) {
+                    diverse = distance(vectors[nodes[i]], vectors[selected[j]]) > distances[i];
+                }
+                if (diverse) {
+                    selected[kept++] = nodes[i];
+                }
+            }
+            return kept == selected.length ? selected : Arrays.copyOf(selected, kept);
+        }
+
+        private int greedyDescent(float[] query, int start, int fromLevel, int toLevel) {
+            int current = start;
+            float currentDistance = distance(query, vectors[current]);
+            for (int l = fromLevel; l >= toLevel; l--) {
+                boolean improved = true;
+                while (improved) {
+                    improved = false;
+                    final int[] neighbours = links[current][l];
+                    for (int i = 1; i <= neighbours[0]; i++) {
+                        final float d = distance(query, vectors[neighbours[i]]);
+                        if (d < currentDistance) {
+                            currentDistance = d;
+                            current = neighbours[i];
+                            improved = true;
+                        }
+                    }
+                }
+            }
+            return current;
+        }
+
+        /**
+         * Best-first search of one level. Returns a max-heap holding at most {@code ef} closest nodes.
+         */
+        private NodeHeap searchLevel(float[] query, int start, int ef, int level) {
+            final VisitedMarks visited = visitedMarks.get();
+            visited.reset(nodeCount);
+
+            final NodeHeap candidates = new NodeHeap(ef * 2, false);
+            final NodeHeap results = new NodeHeap(ef + 1, true);
+            final float startDistance = distance(query, vectors[start]);
+            visited.visit(start);
+            candidates.push(startDistance, start);
+            results.push(startDistance, start);
+
+            while (candidates.size() > 0) {
+                final float candidateDistance = candidates.peekDistance();
+                if (results.size() >= ef && candidateDistance > results.peekDistance()) {
+                    break;
+                }
+
+                final int[] neighbours = links[candidates.pop()][level];
+                for (int i = 1; i <= neighbours[0]; i++) {
+                    final int neighbour = neighbours[i];
+                    if (!visited.visit(neighbour)) {
+                        continue;
+                    }
+
+                    final float d = distance(query, vectors[neighbour]);
+                    if (results.size() < ef || d < results.peekDistance()) {
+                        candidates.push(d, neighbour);
+                        results.push(d, neighbour);
+                        if (results.size() > ef) {
+                            results.pop();
+                        }
+                    }
+                }
+            }
+            return results;
+        }
+
+        private int randomLevel() {
+            return (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+        }
+    }
+
+    private int maxConnections(int level) {
+        return level == 0 ? maxConnectionsLevelZero : maxConnections;
+    }
+
+    private static float distance(float[] a, float[] b) {
+        float s0 = 0;
+        float s1 = 0;
+        float s2 = 0;
+        float s3 = 0;
+        int i = 0;
+        for (; i + 3 < a.length; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+        for (; i < a.length; i++) {
+            s0 += a[i] * b[i];
+        }
+        return 1 - (s0 + s1 + s2 + s3);
+    }
+
+    /**
+     * Binary heap of (distance, node) pairs on primitive arrays; a max-heap keeps the farthest node on top.
+     */
+    private static final class NodeHeap {
+        private float[] distances;
+        private int[] nodes;
+        private int size;
+        private final boolean max;
+
+        NodeHeap(int capacity, boolean max) {
+            this.distances = new float[Math.max(capacity, 4)];
+            this.nodes = new int[Math.max(capacity, 4)];
+            this.max = max;
+        }
+
+        int size() {
+            return size;
+        }
+
+        float peekDistance() {
+            return distances[0];
+        }
+
+        void push(float distance, int node) {
+            if (size == nodes.length) {
+                distances = Arrays.copyOf(distances, size * 2);
+                nodes = Arrays.copyOf(nodes, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (!before(distance, distances[parent])) {
+                    break;
+                }
+                distances[i] = distances[parent];
+                nodes[i] = nodes[parent];
+                i = parent;
+            }
+            distances[i] = distance;
+            nodes[i] = node;
+        }
+
+        int pop() {
+            final int top = nodes[0];
+            final float lastDistance = distances[--size];
+            final int lastNode = nodes[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && before(distances[child + 1], distances[child])) {
+                    child++;
+                }
+                if (!before(distances[child], lastDistance)) {
+                    break;
+                }
+                distances[i] = distances[child];
+                nodes[i] = nodes[child];
+                i = child;
+            }
+            distances[i] = lastDistance;
+            nodes[i] = lastNode;
+            return top;
+        }
+
+        private boolean before(float a, float b) {
+            return max ? a > b : a < b;
+        }
+    }
+
+    /**
+     * Per-thread visited set that is cleared in O(1) by bumping a generation stamp.
+     */
+    private static final class VisitedMarks {
+        private int[] marks = new int[0];
+        private int generation;
+
+        void reset(int capacity) {
+            if (marks.length < capacity) {
+                marks = new int[Math.max(capacity, marks.length * 2)];
+                generation = 0;
+            }
+            if (++generation == Integer.MAX_VALUE) {
+                Arrays.fill(marks, 0);
+                generation = 1;
+            }
+        }
+
+        boolean visit(int node) {
+            if (marks[node] == generation) {
+                return false;
+            }
+            marks[node] = generation;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package io.andrelucas.data_provider.vector;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.SemanticMatch;
+import io.andrelucas.business.repositories.ResumeSemanticIndex;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * {@link ResumeSemanticIndex} backed by an in-process {@link HnswIndex}. Embeddings come from the configured
+ * {@link EmbeddingModel}, are persisted in the {@link ResumeEmbeddingStore} and are loaded back into the graph
+ * when the application starts. Resumes stored before the index existed are embedded then. The graph sheds its
+ * tombstones on a background thread of its own.
+ */
+@Component
+public class HnswResumeSemanticIndex implements ResumeSemanticIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(HnswResumeSemanticIndex.class);
+
+    private final EmbeddingModel embeddingModel;
+    private final ResumeEmbeddingStore embeddingStore;
+    private final SemanticIndexProperties properties;
+    private final ExecutorService rebuilds = Executors.newSingleThreadExecutor(task -> {
+        final Thread thread = new Thread(task, "semantic-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final HnswIndex index;
+
+    public HnswResumeSemanticIndex(final EmbeddingModel embeddingModel,
+                                   final ResumeEmbeddingStore embeddingStore,
+                                   final SemanticIndexProperties properties) {
+        this.embeddingModel = embeddingModel;
+        this.embeddingStore = embeddingStore;
+        this.properties = properties;
+        this.index = new HnswIndex(embeddingModel.dimensions(), properties.maxConnections(), properties.efConstruction(),
+            rebuilds);
+    }
+
+    @Override
+    public void index(Resume resume) {
+        index(resume.id(), resume.content());
+    }
+
+    @Override
+    public List<SemanticMatch> search(String query, int limit) {
+        return index.search(embed(query), limit, properties.efSearch()).stream()
+            .map(match -> new SemanticMatch(match.key(), match.similarity()))
+            .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        embeddingStore.forEachEmbedding(index.dimensions(), index::add);
+        embeddingStore.forEachMissing(index.dimensions(), this::index);
+
+        logger.info("Semantic index loaded with {} resumes", index.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilds.shutdownNow();
+    }
+
+    private void index(UUID id, String content) {
+        final float[] embedding = embed(content);
+        embeddingStore.save(id, embedding);
+        index.add(id, embedding);
+    }
+
+    private float[] embed(String text) {
+        final float[] embedding = embeddingModel.embed(text);
+        double norm = 0;
+        for (float value : embedding) {
+            norm += value * value;
+        }
+        if (norm > 0 && Math.abs(norm - 1) > 1e-6) {
+            final float inverse = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < embedding.length; i++) {
+                embedding[i] *= inverse;
+            }
+        }
+        return embedding;
+    }
+}
@@ -0,0 +1,82 @@
+package io.andrelucas.data_provider.vector;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+
+import com.mongodb.client.result.UpdateResult;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.data_provider.content.ResumeContentStore;
+import io.andrelucas.data_provider.document.ResumeDocument;
+import io.andrelucas.data_provider.partition.ResumePartition;
+import io.andrelucas.data_provider.partition.ResumePartitions;
+
+/**
+ * Keeps each embedding in the {@code embedding} field of its resume document, in whichever partition holds it.
+ */
+@Component
+@Profile("!embedded")
+public class MongoResumeEmbeddingStore implements ResumeEmbeddingStore {
+
+    private final MongoTemplate mongoTemplate;
+    private final ResumeContentStore contentStore;
+    private final ResumePartitions partitions;
+
+    public MongoResumeEmbeddingStore(final MongoTemplate mongoTemplate,
+                                     final ResumeContentStore contentStore,
+                                     final ResumePartitions partitions) {
+        this.mongoTemplate = mongoTemplate;
+        this.contentStore = contentStore;
+        this.partitions = partitions;
+    }
+
+    @Override
+    public void forEachEmbedding(int dimensions, BiConsumer<UUID, float[]> action) {
+        final Query withEmbedding = Query.query(Criteria.where("embedding").size(dimensions));
+        withEmbedding.fields().include("embedding");
+        for (ResumePartition partition : partitions.all()) {
+            try (Stream<ResumeDocument> documents = mongoTemplate.stream(withEmbedding, ResumeDocument.class, partition.collection())) {
+                documents.forEach(document -> action.accept(document.getId(), document.getEmbedding()));
+            }
+        }
+    }
+
+    @Override
+    public void forEachMissing(int dimensions, BiConsumer<UUID, String> action) {
+        // Resumes created before the index existed or embedded by a model with other dimensions
+        final Query toEmbed = Query.query(Criteria.where("embedding").not().size(dimensions));
+        toEmbed.fields().include("content", "contentRef");
+        for (ResumePartition partition : partitions.all()) {
+            try (Stream<ResumeDocument> documents = mongoTemplate.stream(toEmbed, ResumeDocument.class, partition.collection())) {
+                documents.forEach(document -> action.accept(document.getId(), document.isContentOffloaded()
+                    ? contentStore.read(document.getContentRef())
+                    : document.getContent()));
+            }
+        }
+    }
+
+    @Override
+    public void save(UUID resumeId, float[] embedding) {
+        // New resumes are embedded right after they are written, so the newest partition is nearly always the one
+        final List<ResumePartition> candidates = partitions.all();
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+            final UpdateResult result = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(resumeId)),
+                new Update().set("embedding", embedding),
+                ResumeDocument.class,
+                candidates.get(i).collection()
+            );
+            if (result.getMatchedCount() > 0) {
+                return;
+            }
+        }
+    }
+}
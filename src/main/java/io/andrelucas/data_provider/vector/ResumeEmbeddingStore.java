@@ -0,0 +1,22 @@
+package io.andrelucas.data_provider.vector;
+
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * Where the semantic index keeps embeddings between restarts, so resumes are only embedded once.
+ */
+public interface ResumeEmbeddingStore {
+
+    /**
+     * Visits the stored embeddings that have the given number of dimensions.
+     */
+    void forEachEmbedding(int dimensions, BiConsumer<UUID, float[]> action);
+
+    /**
+     * Visits the content of resumes with no stored embedding of the given number of dimensions.
+     */
+    void forEachMissing(int dimensions, BiConsumer<UUID, String> action);
+
+    void save(UUID resumeId, float[] embedding);
+}
@@ -0,0 +1,18 @@
+package io.andrelucas.data_provider.vector;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning of the HNSW graph behind semantic search.
+ *
+ * @param maxConnections neighbours kept per node on the upper levels (twice as many on level zero)
+ * @param efConstruction candidate list size while inserting; higher builds a better graph, slower
+ * @param efSearch candidate list size while querying; higher improves recall, slower
+ */
+@ConfigurationProperties(prefix = "content-generator.semantic-index")
+public record SemanticIndexProperties(
+    @DefaultValue("16") int maxConnections,
+    @DefaultValue("100") int efConstruction,
+    @DefaultValue("64") int efSearch
+) {}
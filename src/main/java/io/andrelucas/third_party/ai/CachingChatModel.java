@@ -0,0 +1,262 @@
+package io.andrelucas.third_party.ai;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import io.andrelucas.business.CachedGeneration;
+import io.andrelucas.business.GenerationCacheProperties;
+import io.andrelucas.business.Sha256;
+import io.andrelucas.business.repositories.GenerationCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+
+/**
+ * {@link ChatModel} that answers prompts it has already seen from a cache instead of calling the model again.
+ *
+ * <p>Answers are keyed by a SHA-256 of the model, its sampling options and the prompt's messages with whitespace
+ * collapsed, so any change to the topic, the instructions or the parameters is a different prompt. They are kept
+ * in a byte-weighted LRU in memory and, when there is one, in the persistent {@link GenerationCache} shared by
+ * every instance. Both tiers expire an answer {@code ttl} after it was generated, so memory never serves one the
+ * persistent tier has already dropped.
+ *
+ * <ul>
+ *   <li>{@code generation.cache.requests}: prompts by the tier that answered them, {@code memory},
+ *       {@code persistent} or {@code model}</li>
+ *   <li>{@code generation.cache.tokens.saved}: tokens the cached answers cost when they were generated</li>
+ *   <li>{@code generation.cache.latency.saved}: how long the model took to produce each answer served from cache</li>
+ * </ul>
+ */
+public class CachingChatModel implements ChatModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingChatModel.class);
+    private static final long ENTRY_OVERHEAD_BYTES = 200;
+
+    private final ChatModel delegate;
+    private final GenerationCache persistent;
+    private final long memoryMaxBytes;
+    private final Duration ttl;
+    private final Map<String, Entry> memory = new LinkedHashMap<>(16, 0.75f, true);
+    private final MeterRegistry registry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Counter tokensSaved;
+    private final Timer latencySaved;
+    private long memoryBytes;
+
+    public CachingChatModel(final ChatModel delegate,
+                            final GenerationCache persistent,
+                            final GenerationCacheProperties properties,
+                            final MeterRegistry registry) {
+        this.delegate = delegate;
+        this.persistent = persistent;
+        this.memoryMaxBytes = properties.memoryMaxBytes();
+        this.ttl = properties.ttl();
+        this.registry = registry;
+        this.tokensSaved = Counter.builder("generation.cache.tokens.saved")
+            .description("Tokens not spent thanks to cached answers")
+            .register(registry);
+        this.latencySaved = Timer.builder("generation.cache.latency.saved")
+            .description("Model time not spent thanks to cached answers")
+            .register(registry);
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        final String key = key(prompt);
+        final CachedGeneration cached = cached(key);
+        if (cached != null) {
+            return response(cached.content());
+        }
+
+        count("model");
+        final long start = System.nanoTime();
+        final ChatResponse response = delegate.call(prompt);
+        store(key, text(response), tokens(response), Duration.ofNanos(System.nanoTime() - start));
+        return response;
+    }
+
+    /**
+     * Streams the cached answer as a single chunk, or the model's answer, caching it once it is complete.
+     */
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Flux.defer(() -> {
+            final String key = key(prompt);
+            final CachedGeneration cached = cached(key);
+            if (cached != null) {
+                return Flux.just(response(cached.content()));
+            }
+
+            count("model");
+            final long start = System.nanoTime();
+            final StringBuilder content = new StringBuilder();
+            final AtomicLong tokens = new AtomicLong();
+            return delegate.stream(prompt)
+                .doOnNext(chunk -> {
+                    final String text = text(chunk);
+                    if (text != null) {
+                        content.append(text);
+                    }
+                    // Providers report usage on the last chunk, if at all
+                    tokens.accumulateAndGet(tokens(chunk), Math::max);
+                })
+                .doOnComplete(() -> store(key, content.toString(), tokens.get(), Duration.ofNanos(System.nanoTime() - start)));
+        });
+    }
+
+    @Override
+    public ChatOptions getDefaultOptions() {
+        return delegate.getDefaultOptions();
+    }
+
+    String key(Prompt prompt) {
+        final ChatOptions options = prompt.getOptions() != null ? prompt.getOptions() : delegate.getDefaultOptions();
+        final StringBuilder text = new StringBuilder();
+        if (options != null && options.getModel() != null) {
+            text.append(options.getModel());
+        } else {
+            text.append(delegate.getClass().getName());
+        }
+        if (options != null) {
+            text.append('\u0000').append(options.getTemperature())
+                .append('\u0000').append(options.getTopP())
+                .append('\u0000').append(options.getTopK())
+                .append('\u0000').append(options.getMaxTokens())
+                .append('\u0000').append(options.getFrequencyPenalty())
+                .append('\u0000').append(options.getPresencePenalty())
+                .append('\u0000').append(options.getStopSequences());
+        }
+        for (Message message : prompt.getInstructions()) {
+            text.append('\u0000').append(message.getMessageType())
+                .append('\u0000').append(normalize(message.getText()));
+        }
+        return Sha256.hex(text.toString());
+    }
+
+    /**
+     * The answer cached under {@code key}, counting the hit and what it saved, or {@code null}.
+     */
+    private CachedGeneration cached(String key) {
+        CachedGeneration cached = fromMemory(key);
+        String tier = "memory";
+        if (cached == null && persistent != null) {
+            cached = fromPersistent(key);
+            tier = "persistent";
+            if (cached != null) {
+                toMemory(key, cached);
+            }
+        }
+        if (cached != null) {
+            count(tier);
+            tokensSaved.increment(cached.tokens());
+            latencySaved.record(cached.latency());
+        }
+        return cached;
+    }
+
+    private void store(String key, String content, long tokens, Duration latency) {
+        if (content != null && !content.isBlank()) {
+            final CachedGeneration generation = new CachedGeneration(content, tokens, latency, LocalDateTime.now());
+            toMemory(key, generation);
+            toPersistent(key, generation);
+        }
+    }
+
+    // The persistent tier only saves cost, so a failing one is worked around rather than failing generations
+    private CachedGeneration fromPersistent(String key) {
+        try {
+            return persistent.find(key).orElse(null);
+        } catch (RuntimeException e) {
+            logger.warn("Generation cache lookup failed, calling the model", e);
+            return null;
+        }
+    }
+
+    private void toPersistent(String key, CachedGeneration generation) {
+        if (persistent == null) {
+            return;
+        }
+        try {
+            persistent.put(key, generation);
+        } catch (RuntimeException e) {
+            logger.warn("Generation cache write failed", e);
+        }
+    }
+
+    private synchronized CachedGeneration fromMemory(String key) {
+        final Entry entry = memory.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!entry.expiresAt().isAfter(LocalDateTime.now())) {
+            memory.remove(key);
+            memoryBytes -= weight(entry.generation());
+            return null;
+        }
+        return entry.generation();
+    }
+
+    private synchronized void toMemory(String key, CachedGeneration generation) {
+        final Entry previous = memory.put(key, new Entry(generation, generation.createdAt().plus(ttl)));
+        if (previous != null) {
+            memoryBytes -= weight(previous.generation());
+        }
+        memoryBytes += weight(generation);
+        final var eldest = memory.entrySet().iterator();
+        while (memoryBytes > memoryMaxBytes && eldest.hasNext()) {
+            memoryBytes -= weight(eldest.next().getValue().generation());
+            eldest.remove();
+        }
+    }
+
+    private void count(String tier) {
+        counters.computeIfAbsent(tier, key -> Counter.builder("generation.cache.requests")
+                .description("Prompts by the tier that answered them")
+                .tag("tier", key)
+                .register(registry))
+            .increment();
+    }
+
+    private static ChatResponse response(String content) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(content))));
+    }
+
+    private static String text(ChatResponse response) {
+        return response.getResult() != null ? response.getResult().getOutput().getText() : null;
+    }
+
+    private static long weight(CachedGeneration generation) {
+        return ENTRY_OVERHEAD_BYTES + 2L * generation.content().length();
+    }
+
+    private static long tokens(ChatResponse response) {
+        final Usage usage = Optional.ofNullable(response.getMetadata()).map(ChatResponseMetadata::getUsage).orElse(null);
+        final Integer total = usage != null ? usage.getTotalTokens() : null;
+        return total != null ? total : 0;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.strip().replaceAll("\\s+", " ");
+    }
+
+    private record Entry(CachedGeneration generation, LocalDateTime expiresAt) {}
+}
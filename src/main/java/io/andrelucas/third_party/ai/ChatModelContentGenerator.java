@@ -0,0 +1,64 @@
+package io.andrelucas.third_party.ai;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.ai.chat.messages.SystemMessage;
+import org.springframework.ai.chat.messages.UserMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import io.andrelucas.business.repositories.ContentGenerator;
+
+/**
+ * {@link ContentGenerator} asking a Spring AI {@link ChatModel} for a blog-style resume of the topic.
+ */
+public class ChatModelContentGenerator implements ContentGenerator {
+
+    private static final String SYSTEM = "You write concise, well structured blog posts in Markdown. "
+        + "Answer with the post only, starting with its title.";
+
+    private final ChatModel chatModel;
+
+    public ChatModelContentGenerator(final ChatModel chatModel) {
+        this.chatModel = chatModel;
+    }
+
+    @Override
+    public String generate(String topic, String instructions) {
+        return requireContent(text(chatModel.call(prompt(topic, instructions))), topic);
+    }
+
+    @Override
+    public String generate(String topic, String instructions, Consumer<String> onText) {
+        final StringBuilder content = new StringBuilder();
+        for (ChatResponse chunk : chatModel.stream(prompt(topic, instructions)).toIterable()) {
+            final String text = text(chunk);
+            if (text != null && !text.isEmpty()) {
+                content.append(text);
+                onText.accept(text);
+            }
+        }
+        return requireContent(content.toString(), topic);
+    }
+
+    private static Prompt prompt(String topic, String instructions) {
+        final String request = instructions == null || instructions.isBlank()
+            ? "Write a post about " + topic + "."
+            : "Write a post about " + topic + ".\n\n" + instructions;
+        return new Prompt(List.of(new SystemMessage(SYSTEM), new UserMessage(request)));
+    }
+
+    private static String text(ChatResponse response) {
+        return response.getResult() != null ? response.getResult().getOutput().getText() : null;
+    }
+
+    private static String requireContent(String content, String topic) {
+        if (content == null || content.isBlank()) {
+            // Empty answers are usually transient, e.g. a filtered or cut off completion, so worth retrying
+            throw new IllegalStateException("The model returned no content for " + topic);
+        }
+        return content;
+    }
+}
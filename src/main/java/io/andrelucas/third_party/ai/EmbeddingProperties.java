@@ -0,0 +1,15 @@
+package io.andrelucas.third_party.ai;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param provider {@code hashing} for the offline {@link HashingEmbeddingModel}; any other value leaves the
+ *                 {@code EmbeddingModel} bean to a Spring AI provider starter
+ * @param dimensions size of the vectors produced by the hashing model
+ */
+@ConfigurationProperties(prefix = "content-generator.embedding")
+public record EmbeddingProperties(
+    @DefaultValue("hashing") String provider,
+    @DefaultValue("256") int dimensions
+) {}
@@ -0,0 +1,122 @@
+package io.andrelucas.third_party.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.ai.document.Document;
+import org.springframework.ai.embedding.Embedding;
+import org.springframework.ai.embedding.EmbeddingModel;
+import org.springframework.ai.embedding.EmbeddingRequest;
+import org.springframework.ai.embedding.EmbeddingResponse;
+
+/**
+ * Offline {@link EmbeddingModel} based on feature hashing. Words and word bigrams are hashed into a fixed
+ * number of signed buckets with sub-linear term weighting, and the result is L2-normalized, so the dot
+ * product of two embeddings is their cosine similarity. It is deterministic across JVMs and needs no
+ * network or model files, which makes it the default until a real provider is configured.
+ */
+public class HashingEmbeddingModel implements EmbeddingModel {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final float BIGRAM_WEIGHT = 0.5f;
+
+    private final int dimensions;
+
+    public HashingEmbeddingModel(final int dimensions) {
+        if (dimensions < 1) {
+            throw new IllegalArgumentException("dimensions must be greater than zero");
+        }
+        this.dimensions = dimensions;
+    }
+
+    @Override
+    public EmbeddingResponse call(EmbeddingRequest request) {
+        final List<String> texts = request.getInstructions();
+        final List<Embedding> embeddings = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            embeddings.add(new Embedding(embed(texts.get(i)), i));
+        }
+        return new EmbeddingResponse(embeddings);
+    }
+
+    @Override
+    public float[] embed(Document document) {
+        return embed(document.getText());
+    }
+
+    @Override
+    public float[] embed(String text) {
+        final float[] counts = new float[dimensions];
+        final float[] signs = new float[dimensions];
+        if (text == null || text.isEmpty()) {
+            return counts;
+        }
+
+        final String normalized = text.toLowerCase(Locale.ROOT);
+        long previous = 0;
+        boolean hasPrevious = false;
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            final boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                final long token = hash(normalized, start, i, FNV_OFFSET);
+                add(counts, signs, token, 1f);
+                if (hasPrevious) {
+                    add(counts, signs, mix(previous, token), BIGRAM_WEIGHT);
+                }
+                previous = token;
+                hasPrevious = true;
+                start = -1;
+            }
+        }
+
+        final float[] vector = new float[dimensions];
+        double norm = 0;
+        for (int i = 0; i < dimensions; i++) {
+            if (counts[i] != 0) {
+                // Sub-linear weighting keeps very frequent words from dominating long drafts
+                vector[i] = (float) (Math.signum(signs[i]) * (1 + Math.log(counts[i])));
+                norm += vector[i] * vector[i];
+            }
+        }
+        if (norm > 0) {
+            final float inverse = (float) (1 / Math.sqrt(norm));
+            for (int i = 0; i < dimensions; i++) {
+                vector[i] *= inverse;
+            }
+        }
+        return vector;
+    }
+
+    @Override
+    public int dimensions() {
+        return dimensions;
+    }
+
+    private void add(float[] counts, float[] signs, long hash, float weight) {
+        final int bucket = (int) Long.remainderUnsigned(hash, dimensions);
+        counts[bucket] += weight;
+        signs[bucket] += (hash >>> 63) == 0 ? weight : -weight;
+    }
+
+    private static long hash(String text, int from, int to, long seed) {
+        long hash = seed;
+        for (int i = from; i < to; i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long first, long second) {
+        long hash = first * 31 + second;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
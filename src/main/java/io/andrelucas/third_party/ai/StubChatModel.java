@@ -0,0 +1,97 @@
+package io.andrelucas.third_party.ai;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.messages.MessageType;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Offline {@link ChatModel} that answers with placeholder paragraphs picked by a hash of the last user message.
+ * The same prompt always gets the same answer, on any JVM and without network or credentials, which makes it the
+ * default until a real provider is configured and keeps tests reproducible.
+ */
+public class StubChatModel implements ChatModel {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final String[] SENTENCES = {
+        "This draft was written by the offline stub model.",
+        "It stands in for a real model until a provider is configured.",
+        "Each paragraph is assembled from a fixed set of sentences.",
+        "The same request always produces the same text.",
+        "Replace it by setting content-generator.generation.provider to a Spring AI provider.",
+        "The structure mirrors a short blog post with an introduction, a body and a conclusion.",
+        "Nothing in this text was researched or checked.",
+        "It is long enough to exercise search, snippets and paging."
+    };
+
+    private final int paragraphs;
+
+    public StubChatModel(final int paragraphs) {
+        if (paragraphs < 1) {
+            throw new IllegalArgumentException("paragraphs must be greater than zero");
+        }
+        this.paragraphs = paragraphs;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        return response(answer(lastUserText(prompt)));
+    }
+
+    /**
+     * Streams the same answer as {@link #call(Prompt)}, a word at a time.
+     */
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Flux.defer(() -> Flux.fromArray(answer(lastUserText(prompt)).split("(?<=\\s)(?=\\S)")))
+            .map(StubChatModel::response);
+    }
+
+    private static ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    private String answer(String request) {
+        final SplittableRandom random = new SplittableRandom(hash(request));
+        final StringBuilder text = new StringBuilder(request.strip());
+        for (int paragraph = 0; paragraph < paragraphs; paragraph++) {
+            text.append("\n\n");
+            for (int sentence = 0; sentence < 3; sentence++) {
+                if (sentence > 0) {
+                    text.append(' ');
+                }
+                text.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+            }
+        }
+        return text.toString();
+    }
+
+    private static String lastUserText(Prompt prompt) {
+        final List<Message> messages = prompt.getInstructions();
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if (messages.get(i).getMessageType() == MessageType.USER) {
+                return messages.get(i).getText();
+            }
+        }
+        return "";
+    }
+
+    private static long hash(String text) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
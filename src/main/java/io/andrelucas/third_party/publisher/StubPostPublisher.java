@@ -0,0 +1,31 @@
+package io.andrelucas.third_party.publisher;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ScheduledPost;
+import io.andrelucas.business.TitleCard;
+import io.andrelucas.business.repositories.PostPublisher;
+
+/**
+ * Offline {@link PostPublisher} that logs each post instead of sending it, and names it after the scheduled post,
+ * so publishing the same post again gives the same id as the platform's idempotency would. It is the default
+ * until a real publisher is configured.
+ */
+@Component
+@ConditionalOnProperty(prefix = "content-generator.scheduling", name = "publisher", havingValue = "stub", matchIfMissing = true)
+public class StubPostPublisher implements PostPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubPostPublisher.class);
+
+    @Override
+    public String publish(ScheduledPost post, Resume resume) {
+        final String postId = "stub:" + post.platform().name().toLowerCase() + ":" + post.id();
+        logger.info("Published resume {} to {} as {}: {}", resume.id(), post.platform(), postId,
+            TitleCard.headline(resume.content()));
+        return postId;
+    }
+}
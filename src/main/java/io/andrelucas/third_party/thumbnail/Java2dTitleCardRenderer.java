@@ -0,0 +1,124 @@
+package io.andrelucas.third_party.thumbnail;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.stereotype.Component;
+
+import io.andrelucas.business.TitleCard;
+import io.andrelucas.business.repositories.TitleCardRenderer;
+
+/**
+ * Draws title cards as PNGs with Java2D: the topic above the headline, wrapped to at most four lines, on a
+ * gradient whose hue is picked from the topic so cards of one topic look alike.
+ */
+@Component
+public class Java2dTitleCardRenderer implements TitleCardRenderer {
+
+    private static final String VERSION = "1";
+    private static final int MAX_HEADLINE_LINES = 4;
+
+    @Override
+    public String version() {
+        return VERSION;
+    }
+
+    @Override
+    public String contentType() {
+        return "image/png";
+    }
+
+    @Override
+    public byte[] render(TitleCard card) {
+        final int width = card.width();
+        final int height = card.height();
+        final int margin = width / 15;
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            final float hue = (Math.floorMod(String.valueOf(card.topic()).hashCode(), 360)) / 360f;
+            graphics.setPaint(new GradientPaint(0, 0, Color.getHSBColor(hue, 0.55f, 0.35f),
+                width, height, Color.getHSBColor(hue + 0.08f, 0.65f, 0.15f)));
+            graphics.fillRect(0, 0, width, height);
+
+            final Font topicFont = new Font(Font.SANS_SERIF, Font.PLAIN, height / 16);
+            graphics.setFont(topicFont);
+            graphics.setColor(new Color(255, 255, 255, 180));
+            int baseline = margin + graphics.getFontMetrics().getAscent();
+            graphics.drawString(fit(card.topic() != null ? card.topic().toUpperCase() : "", graphics.getFontMetrics(), width - 2 * margin), margin, baseline);
+
+            final Font headlineFont = new Font(Font.SANS_SERIF, Font.BOLD, height / 9);
+            graphics.setFont(headlineFont);
+            graphics.setColor(Color.WHITE);
+            final FontMetrics metrics = graphics.getFontMetrics();
+            baseline += margin / 2 + metrics.getHeight();
+            for (String line : wrap(card.headline(), metrics, width - 2 * margin)) {
+                graphics.drawString(line, margin, baseline);
+                baseline += metrics.getHeight();
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        final ByteArrayOutputStream png = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", png);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode title card", e);
+        }
+        return png.toByteArray();
+    }
+
+    private static List<String> wrap(String text, FontMetrics metrics, int maxWidth) {
+        final List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : text == null ? new String[0] : text.split("\\s+")) {
+            final String candidate = line.isEmpty() ? word : line + " " + word;
+            if (metrics.stringWidth(candidate) <= maxWidth || line.isEmpty()) {
+                line = new StringBuilder(candidate);
+                continue;
+            }
+            lines.add(line.toString());
+            line = new StringBuilder(word);
+            if (lines.size() == MAX_HEADLINE_LINES) {
+                break;
+            }
+        }
+        if (lines.size() < MAX_HEADLINE_LINES && !line.isEmpty()) {
+            lines.add(line.toString());
+        } else if (lines.size() == MAX_HEADLINE_LINES && !line.isEmpty()) {
+            // Text is left over, so the last line says so
+            lines.set(MAX_HEADLINE_LINES - 1, fit(lines.get(MAX_HEADLINE_LINES - 1) + " …", metrics, maxWidth));
+        }
+        return lines.stream().map(wrapped -> fit(wrapped, metrics, maxWidth)).toList();
+    }
+
+    /**
+     * {@code text} shortened with an ellipsis until it fits in {@code maxWidth}.
+     */
+    private static String fit(String text, FontMetrics metrics, int maxWidth) {
+        if (metrics.stringWidth(text) <= maxWidth) {
+            return text;
+        }
+        String shortened = text;
+        while (!shortened.isEmpty() && metrics.stringWidth(shortened + "…") > maxWidth) {
+            shortened = shortened.substring(0, shortened.length() - 1);
+        }
+        return shortened.stripTrailing() + "…";
+    }
+}
@@ -71,7 +71,7 @@ class ResumeToolsE2ETest extends AbstractIntegrationTest {
             logger.info("Testing resume creation with topic: {}", topic);
 
             // When
-            Resume actualResume = resumeTools.createResume(topic, content);
+            Resume actualResume = resumeTools.createResume(topic, content).resume();
 
             // Then
             assertThat(actualResume).isNotNull();
@@ -102,7 +102,7 @@ class ResumeToolsE2ETest extends AbstractIntegrationTest {
             logger.info("Testing resume creation with long content (length: {})", content.length());
 
             // When
-            Resume actualResume = resumeTools.createResume(topic, content);
+            Resume actualResume = resumeTools.createResume(topic, content).resume();
 
             // Then
             assertThat(actualResume).isNotNull();
@@ -195,7 +195,7 @@ class ResumeToolsE2ETest extends AbstractIntegrationTest {
             int size = 10;
             
             // Create and persist a resume with the specified topic
-            Resume createdResume = resumeTools.createResume(topic, content);
+            Resume createdResume = resumeTools.createResume(topic, content).resume();
             logger.info("Created test resume with ID: {}", createdResume.id());
             
             // When
@@ -259,7 +259,7 @@ class ResumeToolsE2ETest extends AbstractIntegrationTest {
             String content = "Content about Java";
             
             // Create test data
-            Resume createdResume = resumeTools.createResume(topic, content);
+            Resume createdResume = resumeTools.createResume(topic, content).resume();
             logger.info("Created test resume with ID: {} at timestamp: {}", 
                     createdResume.id(), createdResume.createdAt());
             
@@ -293,7 +293,7 @@ class ResumeToolsE2ETest extends AbstractIntegrationTest {
             String content = "Content about Java";
             
             // Create test data
-            Resume createdResume = resumeTools.createResume(topic, content);
+            Resume createdResume = resumeTools.createResume(topic, content).resume();
             logger.info("Created test resume with ID: {} at timestamp: {}", 
                     createdResume.id(), createdResume.createdAt());
             
@@ -388,17 +388,17 @@ class ResumeToolsE2ETest extends AbstractIntegrationTest {
             List<Resume> createdResumes = new ArrayList<>();
             
             // Create multiple resumes with slight delays to ensure different timestamps
-            createdResumes.add(resumeTools.createResume("First Resume", "Content of first resume"));
+            createdResumes.add(resumeTools.createResume("First Resume", "Content of first resume").resume());
             logger.info("Created first resume: {}", createdResumes.get(0).id());
             
             try { Thread.sleep(100); } catch (InterruptedException e) { /* ignore */ }
             
-            createdResumes.add(resumeTools.createResume("Second Resume", "Content of second resume"));
+            createdResumes.add(resumeTools.createResume("Second Resume", "Content of second resume").resume());
             logger.info("Created second resume: {}", createdResumes.get(1).id());
             
             try { Thread.sleep(100); } catch (InterruptedException e) { /* ignore */ }
             
-            createdResumes.add(resumeTools.createResume("Third Resume", "Content of third resume"));
+            createdResumes.add(resumeTools.createResume("Third Resume", "Content of third resume").resume());
             logger.info("Created third resume: {}", createdResumes.get(2).id());
             
             int page = 0;
@@ -459,13 +459,13 @@ class ResumeToolsE2ETest extends AbstractIntegrationTest {
             String fromDate = baseTime.minusDays(2).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
             String toDate = baseTime.plusDays(2).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
             
-            Resume firstResume = resumeTools.createResume("Java Programming", "Advanced Java content for search");
+            Resume firstResume = resumeTools.createResume("Java Programming", "Advanced Java content for search").resume();
             logger.info("Created first test resume: id={}, createdAt={}, topic={}, content={}", 
                 firstResume.id(), firstResume.createdAt(), firstResume.topic(), firstResume.content());
             
             try { Thread.sleep(100); } catch (InterruptedException e) { /* ignore */ }
             
-            Resume secondResume = resumeTools.createResume("Python Programming", "Basic Python content");
+            Resume secondResume = resumeTools.createResume("Python Programming", "Basic Python content").resume();
             logger.info("Created second test resume: id={}, createdAt={}, topic={}, content={}", 
                 secondResume.id(), secondResume.createdAt(), secondResume.topic(), secondResume.content());
             
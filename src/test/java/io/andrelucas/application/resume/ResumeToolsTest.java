@@ -14,18 +14,27 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import io.andrelucas.business.CreateResumeResponse;
 import io.andrelucas.business.DateRangeQuery;
+import io.andrelucas.business.DuplicateCluster;
+import io.andrelucas.business.DuplicateClusterMember;
 import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeContentSlice;
 import io.andrelucas.business.ResumeRequest;
 import io.andrelucas.business.ResumeResponse;
 import io.andrelucas.business.ResumeSearchQuery;
+import io.andrelucas.business.SemanticSearchHit;
 import io.andrelucas.business.usecases.CreateResumeUseCase;
+import io.andrelucas.business.usecases.BatchSearchUseCase;
+import io.andrelucas.business.usecases.FindDuplicateClustersUseCase;
 import io.andrelucas.business.usecases.FindResumesByContentKeywordUseCase;
 import io.andrelucas.business.usecases.FindResumesByCustomCriteriaUseCase;
 import io.andrelucas.business.usecases.FindResumesByDateRangeUseCase;
 import io.andrelucas.business.usecases.FindResumesByTopicUseCase;
 import io.andrelucas.business.usecases.GetLatestResumesUseCase;
+import io.andrelucas.business.usecases.ReadResumeContentRangeUseCase;
+import io.andrelucas.business.usecases.SemanticSearchResumesUseCase;
 
 class ResumeToolsTest {
     
@@ -35,6 +44,10 @@ class ResumeToolsTest {
     private FindResumesByContentKeywordUseCase findResumesByContentKeywordUseCase;
     private GetLatestResumesUseCase getLatestResumesUseCase;
     private FindResumesByCustomCriteriaUseCase findResumesByCustomCriteriaUseCase;
+    private ReadResumeContentRangeUseCase readResumeContentRangeUseCase;
+    private SemanticSearchResumesUseCase semanticSearchResumesUseCase;
+    private FindDuplicateClustersUseCase findDuplicateClustersUseCase;
+    private BatchSearchUseCase batchSearchUseCase;
     
     private ResumeTools resumeTools;
     
@@ -46,6 +59,10 @@ class ResumeToolsTest {
         findResumesByContentKeywordUseCase = mock(FindResumesByContentKeywordUseCase.class);
         getLatestResumesUseCase = mock(GetLatestResumesUseCase.class);
         findResumesByCustomCriteriaUseCase = mock(FindResumesByCustomCriteriaUseCase.class);
+        readResumeContentRangeUseCase = mock(ReadResumeContentRangeUseCase.class);
+        semanticSearchResumesUseCase = mock(SemanticSearchResumesUseCase.class);
+        findDuplicateClustersUseCase = mock(FindDuplicateClustersUseCase.class);
+        batchSearchUseCase = mock(BatchSearchUseCase.class);
         
         resumeTools = new ResumeTools(
             createResumeUseCase,
@@ -53,7 +70,11 @@ class ResumeToolsTest {
             findResumesByDateRangeUseCase,
             findResumesByContentKeywordUseCase,
             getLatestResumesUseCase,
-            findResumesByCustomCriteriaUseCase
+            findResumesByCustomCriteriaUseCase,
+            readResumeContentRangeUseCase,
+            semanticSearchResumesUseCase,
+            findDuplicateClustersUseCase,
+            batchSearchUseCase
         );
     }
     
@@ -64,14 +85,15 @@ class ResumeToolsTest {
         String content = "Test Content";
         
         Resume resume = new Resume(UUID.randomUUID(), topic, content, LocalDateTime.now(), LocalDateTime.now());
+        CreateResumeResponse response = new CreateResumeResponse(resume, List.of());
         
-        when(createResumeUseCase.create(any(ResumeRequest.class))).thenReturn(resume);
+        when(createResumeUseCase.create(any(ResumeRequest.class))).thenReturn(response);
         
         // Act
-        Resume result = resumeTools.createResume(topic, content);
+        CreateResumeResponse result = resumeTools.createResume(topic, content);
         
         // Assert
-        assertThat(result).isEqualTo(resume);
+        assertThat(result).isEqualTo(response);
         verify(createResumeUseCase).create(any(ResumeRequest.class));
     }
     
@@ -181,13 +203,68 @@ class ResumeToolsTest {
         verify(findResumesByCustomCriteriaUseCase).findByCustomCriteria(any(ResumeSearchQuery.class));
     }
     
+    @Test
+    void shouldReadResumeContent() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        ResumeContentSlice expected = ResumeContentSlice.of(id, 0, "Java", 100);
+
+        when(readResumeContentRangeUseCase.read(eq(id), eq(0L), eq(4)))
+            .thenReturn(expected);
+
+        // Act
+        ResumeContentSlice result = resumeTools.readResumeContent(id.toString(), 0, 4);
+
+        // Assert
+        assertThat(result).isEqualTo(expected);
+        verify(readResumeContentRangeUseCase).read(eq(id), eq(0L), eq(4));
+    }
+    
+    @Test
+    void shouldSemanticSearch() {
+        // Arrange
+        String query = "posts about backpressure";
+        List<SemanticSearchHit> expected = List.of(
+            new SemanticSearchHit(createPagedResponse().content().get(0), 0.87));
+
+        when(semanticSearchResumesUseCase.search(eq(query), eq(5)))
+            .thenReturn(expected);
+
+        // Act
+        List<SemanticSearchHit> result = resumeTools.semanticSearch(query, 5);
+
+        // Assert
+        assertThat(result).isEqualTo(expected);
+        verify(semanticSearchResumesUseCase).search(eq(query), eq(5));
+    }
+    
+    @Test
+    void shouldListDuplicateClusters() {
+        // Arrange
+        List<DuplicateCluster> expected = List.of(new DuplicateCluster(List.of(
+            new DuplicateClusterMember(UUID.randomUUID(), "Java", LocalDateTime.now().minusDays(1)),
+            new DuplicateClusterMember(UUID.randomUUID(), "Java again", LocalDateTime.now()))));
+
+        when(findDuplicateClustersUseCase.findClusters()).thenReturn(expected);
+
+        // Act
+        List<DuplicateCluster> result = resumeTools.listDuplicateClusters();
+
+        // Assert
+        assertThat(result).isEqualTo(expected);
+        verify(findDuplicateClustersUseCase).findClusters();
+    }
+    
     private PagedResumeResponse createPagedResponse() {
         ResumeResponse response = new ResumeResponse(
             UUID.randomUUID(),
             "Java Programming",
             "Java is a programming language",
             LocalDateTime.now(),
-            LocalDateTime.now()
+            LocalDateTime.now(),
+            null,
+            null,
+            false
         );
         
         return new PagedResumeResponse(
@@ -0,0 +1,32 @@
+package io.andrelucas.application.resume.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+class BulkheadPropertiesTest {
+
+    @Test
+    @DisplayName("Should give long-running tools their own compartment and limits")
+    void shouldBindLongRunningCompartmentWhenToolIsMappedToIt() {
+        // Arrange
+        Binder binder = new Binder(new MapConfigurationPropertySource(Map.of(
+            "content-generator.bulkhead.long-running.latency-target", "PT30S",
+            "content-generator.bulkhead.tools.[publishToBlog]", "long-running",
+            "content-generator.bulkhead.tools.[createResume]", "write")));
+
+        // Act
+        BulkheadProperties properties = binder.bind("content-generator.bulkhead", BulkheadProperties.class).get();
+
+        // Assert
+        assertThat(properties.compartmentOf("publishToBlog")).isEqualTo(ToolCompartment.LONG_RUNNING);
+        assertThat(properties.compartmentOf("createResume")).isEqualTo(ToolCompartment.WRITE);
+        assertThat(properties.limitsOf(ToolCompartment.LONG_RUNNING).latencyTarget()).isEqualTo(Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,118 @@
+package io.andrelucas.application.resume.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BulkheadTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(5).toNanos();
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Should turn calls away at once when no slot and no place in the queue is free")
+    void shouldTurnCallsAwayWhenQueueIsFull() {
+        // Arrange
+        Bulkhead bulkhead = bulkhead(1, 0, Duration.ofSeconds(10));
+        bulkhead.acquire();
+
+        // Act & Assert
+        assertThatThrownBy(bulkhead::acquire)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("retry later");
+        assertThat(registry.get("mcp.bulkhead.rejected").tag("reason", "queue-full").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should turn a waiting call away when no slot frees up in time")
+    void shouldTurnWaitingCallAwayWhenNoSlotFreesUp() {
+        // Arrange
+        Bulkhead bulkhead = bulkhead(1, 1, Duration.ofMillis(50));
+        bulkhead.acquire();
+
+        // Act & Assert
+        assertThatThrownBy(bulkhead::acquire).hasMessageContaining("retry later");
+        assertThat(registry.get("mcp.bulkhead.rejected").tag("reason", "timed-out").counter().count()).isEqualTo(1);
+        assertThat(registry.get("mcp.bulkhead.waiting").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit on slow calls and grow it again on fast ones while full")
+    void shouldAdaptLimitToLatency() {
+        // Arrange
+        Bulkhead bulkhead = bulkhead(4, 16, Duration.ofMillis(50));
+
+        // Act
+        for (int i = 0; i < 10; i++) {
+            bulkhead.release(bulkhead.acquire(), SLOW, false);
+        }
+        int shrunk = bulkhead.limit();
+        for (int i = 0; i < 40; i++) {
+            List<Long> admitted = new ArrayList<>();
+            for (int slot = 0; slot < bulkhead.limit(); slot++) {
+                admitted.add(bulkhead.acquire());
+            }
+            admitted.forEach(start -> bulkhead.release(start, FAST, false));
+        }
+
+        // Assert
+        assertThat(shrunk).isEqualTo(1);
+        assertThat(bulkhead.limit()).isGreaterThan(4).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit once for a burst of slow calls that ran together")
+    void shouldShrinkOnceWhenSlowCallsRanTogether() {
+        // Arrange
+        Bulkhead bulkhead = bulkhead(8, 0, Duration.ofMillis(50));
+        List<Long> admitted = new ArrayList<>();
+        for (int slot = 0; slot < 8; slot++) {
+            admitted.add(bulkhead.acquire());
+        }
+
+        // Act
+        admitted.forEach(start -> bulkhead.release(start, SLOW, false));
+
+        // Assert
+        assertThat(bulkhead.limit()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit on calls that failed, however fast")
+    void shouldNotGrowLimitWhenCallsFail() {
+        // Arrange
+        Bulkhead bulkhead = bulkhead(2, 0, Duration.ofMillis(50));
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            long first = bulkhead.acquire();
+            long second = bulkhead.acquire();
+            bulkhead.release(first, FAST, true);
+            bulkhead.release(second, FAST, true);
+        }
+
+        // Assert
+        assertThat(bulkhead.limit()).isEqualTo(2);
+    }
+
+    private Bulkhead bulkhead(int initialLimit, int maxQueue, Duration maxWait) {
+        return new Bulkhead(ToolCompartment.SEARCH,
+            new BulkheadProperties.Limits(initialLimit, 1, 8, maxQueue, maxWait, Duration.ofSeconds(1)), registry);
+    }
+}
@@ -0,0 +1,31 @@
+package io.andrelucas.application.resume.configs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+
+class McpSessionToolCallbackTest {
+
+    @Test
+    @DisplayName("Should tell sessions of the same client apart and keep one identity per session across calls")
+    void shouldKeepOneIdentityPerSessionWhenClientsShareTheirInfo() {
+        // Arrange
+        final McpSchema.Implementation client = new McpSchema.Implementation("same-client", "1.0");
+        final McpAsyncServerExchange first = new McpAsyncServerExchange(null, null, client);
+        final McpAsyncServerExchange second = new McpAsyncServerExchange(null, null, client);
+
+        // Act
+        final Object firstCall = McpSessionToolCallback.session(new McpSyncServerExchange(first));
+        final Object secondCall = McpSessionToolCallback.session(new McpSyncServerExchange(first));
+        final Object otherSession = McpSessionToolCallback.session(new McpSyncServerExchange(second));
+
+        // Assert
+        assertThat(firstCall).isNotNull().isSameAs(secondCall);
+        assertThat(otherSession).isNotNull().isNotSameAs(firstCall);
+    }
+}
@@ -0,0 +1,66 @@
+package io.andrelucas.business;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class MinHashSignatureTest {
+
+    private static final String POST = "Backpressure lets a slow consumer signal a fast producer to slow down. "
+        + "Reactive streams make this explicit through demand requests, so buffers stay bounded and memory "
+        + "usage stays predictable even when the downstream service stalls for a while.";
+
+    @Test
+    void shouldBeIdenticalWhenContentIsIdentical() {
+        // Act
+        MinHashSignature first = MinHashSignature.of(POST);
+        MinHashSignature second = MinHashSignature.of(POST);
+
+        // Assert
+        assertThat(first).isEqualTo(second);
+        assertThat(first.similarity(second)).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldIgnoreCaseAndPunctuationWhenBuildingShingles() {
+        // Act
+        MinHashSignature first = MinHashSignature.of("Hello, World! Spring Boot rocks");
+        MinHashSignature second = MinHashSignature.of("hello world spring boot ROCKS");
+
+        // Assert
+        assertThat(first.similarity(second)).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldBeHighlySimilarWhenContentIsSlightlyEdited() {
+        // Arrange
+        String edited = POST.replace("for a while", "for a few seconds");
+
+        // Act
+        double similarity = MinHashSignature.of(POST).similarity(MinHashSignature.of(edited));
+
+        // Assert
+        assertThat(similarity).isGreaterThan(0.7);
+    }
+
+    @Test
+    void shouldBeDissimilarWhenContentIsUnrelated() {
+        // Act
+        double similarity = MinHashSignature.of(POST)
+            .similarity(MinHashSignature.of("Sourdough bread needs a lively starter, patience and a very hot oven."));
+
+        // Assert
+        assertThat(similarity).isLessThan(0.1);
+    }
+
+    @Test
+    void shouldShareBandHashWhenBandValuesAreEqual() {
+        // Act
+        MinHashSignature first = MinHashSignature.of(POST);
+        MinHashSignature second = MinHashSignature.of(POST);
+
+        // Assert
+        assertThat(first.bandHash(3, 8)).isEqualTo(second.bandHash(3, 8));
+        assertThat(first.bandHash(3, 8)).isNotEqualTo(first.bandHash(4, 8));
+    }
+}
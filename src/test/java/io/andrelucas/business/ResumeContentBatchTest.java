@@ -0,0 +1,159 @@
+package io.andrelucas.business;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResumeContentBatchTest {
+
+    @Test
+    @DisplayName("Should load every body of the page with a single call when any body is accessed")
+    void shouldLoadWholePageOnceWhenAnyBodyIsAccessed() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        ResumeContentBatch batch = new ResumeContentBatch(countingLoader(calls));
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        List<ResumeContent> contents = ids.stream().map(batch::defer).toList();
+
+        // Act
+        String first = contents.get(0).get();
+
+        // Assert
+        assertThat(first).isEqualTo("body-" + ids.get(0));
+        assertThat(calls).hasValue(1);
+        assertThat(contents).allSatisfy(content -> assertThat(content.isLoaded()).isTrue());
+        assertThat(contents.get(2).get()).isEqualTo("body-" + ids.get(2));
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should not load anything when no body is accessed")
+    void shouldNotLoadWhenNoBodyIsAccessed() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        ResumeContentBatch batch = new ResumeContentBatch(countingLoader(calls));
+
+        // Act
+        ResumeContent content = batch.defer(UUID.randomUUID());
+
+        // Assert
+        assertThat(content.isLoaded()).isFalse();
+        assertThat(content).hasToString("<deferred>");
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should not load any body when resumes of the page are hashed or compared by id")
+    void shouldNotLoadWhenResumesAreHashedOrComparedById() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        ResumeContentBatch batch = new ResumeContentBatch(countingLoader(calls));
+        LocalDateTime now = LocalDateTime.now();
+        List<Resume> resumes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            UUID id = UUID.randomUUID();
+            resumes.add(new Resume(id, "Java", batch.defer(id), now, now));
+        }
+
+        // Act
+        Set<Resume> unique = new HashSet<>(resumes);
+        unique.addAll(resumes);
+        boolean equal = resumes.get(0).equals(resumes.get(1));
+
+        // Assert
+        assertThat(unique).hasSize(3);
+        assertThat(equal).isFalse();
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should load once when many threads access the page concurrently")
+    void shouldLoadOnceWhenAccessedConcurrently() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        ResumeContentBatch batch = new ResumeContentBatch(countingLoader(calls));
+        List<UUID> ids = new ArrayList<>();
+        List<ResumeContent> contents = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            contents.add(batch.defer(id));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<String>> reads = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < contents.size(); i++) {
+            ResumeContent content = contents.get(i);
+            reads.add(CompletableFuture.supplyAsync(() -> {
+                await(start);
+                return content.get();
+            }, executor));
+        }
+        start.countDown();
+        CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+
+        // Assert
+        assertThat(calls).hasValue(1);
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(reads.get(i).get()).isEqualTo("body-" + ids.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should retry the load when the previous attempt failed")
+    void shouldRetryLoadWhenPreviousAttemptFailed() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        UUID id = UUID.randomUUID();
+        ResumeContentBatch batch = new ResumeContentBatch(ids -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return Map.of(id, "recovered");
+        });
+        ResumeContent content = batch.defer(id);
+
+        // Act & Assert
+        assertThatThrownBy(content::get).isInstanceOf(IllegalStateException.class);
+        assertThat(content.get()).isEqualTo("recovered");
+        assertThat(calls).hasValue(2);
+    }
+
+    private static Function<Collection<UUID>, Map<UUID, String>> countingLoader(AtomicInteger calls) {
+        return ids -> {
+            calls.incrementAndGet();
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> "body-" + id));
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
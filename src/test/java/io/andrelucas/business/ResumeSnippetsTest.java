@@ -0,0 +1,80 @@
+package io.andrelucas.business;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResumeSnippetsTest {
+
+    @Test
+    @DisplayName("Should cut a window around a match with its highlight offsets")
+    void shouldCutWindowAroundMatchWithHighlightOffsets() {
+        // Arrange
+        String content = "x".repeat(500) + "Backpressure" + "y".repeat(500);
+
+        // Act
+        List<ResumeSnippet> snippets = ResumeSnippets.extract(content, ResumeSnippets.literal("backpressure"));
+
+        // Assert
+        assertThat(snippets).hasSize(1);
+        ResumeSnippet snippet = snippets.get(0);
+        assertThat(snippet.offset()).isEqualTo(500 - ResumeSnippets.RADIUS);
+        assertThat(snippet.text()).hasSize(2 * ResumeSnippets.RADIUS + "Backpressure".length());
+        ResumeSnippet.Highlight highlight = snippet.highlights().get(0);
+        assertThat(snippet.text().substring(highlight.start(), highlight.end())).isEqualTo("Backpressure");
+    }
+
+    @Test
+    @DisplayName("Should share a window between nearby matches and cap the number of windows")
+    void shouldShareWindowBetweenNearbyMatchesAndCapWindows() {
+        // Arrange
+        String gap = " ".repeat(1000);
+        String content = "java and java" + gap + "java" + gap + "java" + gap + "java";
+
+        // Act
+        List<ResumeSnippet> snippets = ResumeSnippets.extract(content, ResumeSnippets.literal("JAVA"));
+
+        // Assert
+        assertThat(snippets).hasSize(ResumeSnippets.MAX_SNIPPETS);
+        assertThat(snippets.get(0).highlights()).containsExactly(
+            new ResumeSnippet.Highlight(0, 4), new ResumeSnippet.Highlight(9, 13));
+        assertThat(snippets).allSatisfy(snippet -> assertThat(snippet.text().length()).isLessThanOrEqualTo(ResumeSnippets.MAX_LENGTH));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the opening of the content when nothing matches")
+    void shouldFallBackToOpeningWhenNothingMatches() {
+        // Arrange
+        String content = "z".repeat(1000);
+
+        // Act
+        List<ResumeSnippet> snippets = ResumeSnippets.extract(content, ResumeSnippets.regex("kotlin|scala"));
+
+        // Assert
+        assertThat(snippets).singleElement().satisfies(snippet -> {
+            assertThat(snippet.offset()).isZero();
+            assertThat(snippet.text()).hasSize(2 * ResumeSnippets.RADIUS);
+            assertThat(snippet.highlights()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should cut a match that spans the whole body down to one window")
+    void shouldCutWindowWhenMatchSpansWholeBody() {
+        // Arrange
+        String content = "intro " + "x".repeat(5000);
+
+        // Act
+        List<ResumeSnippet> snippets = ResumeSnippets.extract(content, ResumeSnippets.regex("[\\s\\S]+"));
+
+        // Assert
+        assertThat(snippets).singleElement().satisfies(snippet -> {
+            assertThat(snippet.offset()).isZero();
+            assertThat(snippet.text()).hasSize(ResumeSnippets.MAX_LENGTH);
+            assertThat(snippet.highlights()).containsExactly(new ResumeSnippet.Highlight(0, ResumeSnippets.MAX_LENGTH));
+        });
+    }
+}
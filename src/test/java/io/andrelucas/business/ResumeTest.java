@@ -1,8 +1,13 @@
 package io.andrelucas.business;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.assertj.core.api.Assertions;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 class ResumeTest {
 
     @Test
@@ -70,4 +75,37 @@ class ResumeTest {
         Assertions.assertThat(updatedResume.id()).isEqualTo(resume.id());
         Assertions.assertThat(updatedResume.createdAt()).isEqualTo(resume.createdAt());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldNotLoadContentWhenUpdatingDeferredResume() {
+        // Arrange
+        ResumeContentBatch batch = new ResumeContentBatch(ids -> {
+            throw new AssertionError("content should not be loaded");
+        });
+        Resume resume = new Resume(
+            java.util.UUID.randomUUID(), "Topic", batch.defer(java.util.UUID.randomUUID()),
+            java.time.LocalDateTime.now(), java.time.LocalDateTime.now());
+
+        // Act
+        Resume updatedResume = resume.withUpdatedAt(resume.updatedAt().plusHours(1));
+
+        // Assert
+        Assertions.assertThat(updatedResume.body().isLoaded()).isFalse();
+    }
+
+    @Test
+    void shouldSerializeContentWhenWritingResumeAsJson() throws Exception {
+        // Arrange
+        Resume resume = Resume.create("Valid Topic", "Valid Content");
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        // Act
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(resume));
+
+        // Assert
+        Assertions.assertThat(json.get("content").asText()).isEqualTo("Valid Content");
+        Assertions.assertThat(json.has("body")).isFalse();
+        Assertions.assertThat(objectMapper.convertValue(json, Map.class))
+            .containsKeys("id", "topic", "content", "createdAt", "updatedAt");
+    }
+}
\ No newline at end of file
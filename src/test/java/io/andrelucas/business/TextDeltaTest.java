@@ -0,0 +1,88 @@
+package io.andrelucas.business;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class TextDeltaTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "''|''",
+        "''|new text",
+        "old text|''",
+        "a\\nb\\nc\\n|a\\nc\\n",
+        "a\\nb\\nc\\n|a\\nB\\nc\\nd\\n",
+        "one\\ntwo\\nthree|three\\ntwo\\none",
+        "caf😀 x|caf😁 x"
+    })
+    @DisplayName("Should rebuild the new text when applying the delta to the old one")
+    void shouldRebuildNewTextWhenApplyingDelta(String from, String to) {
+        // Arrange
+        String base = from.replace("\\n", "\n");
+        String target = to.replace("\\n", "\n");
+
+        // Act
+        TextDelta delta = TextDelta.between(base, target);
+
+        // Assert
+        assertThat(delta.applyTo(base)).isEqualTo(target);
+    }
+
+    @Test
+    @DisplayName("Should store only the changed lines when a long text is edited in a few places")
+    void shouldStoreOnlyChangedLinesWhenLongTextIsEdited() {
+        // Arrange
+        String base = paragraph(0, 500);
+        String target = base.replace("Line 100 of the draft.\n", "Line 100, reworded.\n")
+            .replace("Line 400 of the draft.\n", "")
+            + "A closing line.\n";
+
+        // Act
+        TextDelta delta = TextDelta.between(base, target);
+
+        // Assert
+        assertThat(delta.applyTo(base)).isEqualTo(target);
+        assertThat(delta.edits()).hasSize(3);
+        assertThat(delta.size()).isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("Should still rebuild the new text when it differs in more lines than the diff follows")
+    void shouldRebuildNewTextWhenTooManyLinesDiffer() {
+        // Arrange
+        String base = paragraph(0, TextDelta.MAX_LINE_EDITS);
+        String target = paragraph(TextDelta.MAX_LINE_EDITS, TextDelta.MAX_LINE_EDITS);
+
+        // Act
+        TextDelta delta = TextDelta.between(base, target);
+
+        // Assert
+        assertThat(delta.edits()).hasSize(1);
+        assertThat(delta.applyTo(base)).isEqualTo(target);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when applying a delta to a text of another length")
+    void shouldThrowExceptionWhenApplyingDeltaToAnotherText() {
+        // Arrange
+        TextDelta delta = TextDelta.between("abc", "abd");
+
+        // Act & Assert
+        assertThatThrownBy(() -> delta.applyTo("abcd"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String paragraph(int from, int lines) {
+        return IntStream.range(from, from + lines)
+            .mapToObj(i -> "Line " + i + " of the draft.\n")
+            .collect(Collectors.joining());
+    }
+}
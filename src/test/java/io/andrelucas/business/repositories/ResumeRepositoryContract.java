@@ -0,0 +1,202 @@
+package io.andrelucas.business.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import io.andrelucas.business.Platform;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeContentSlice;
+import io.andrelucas.business.ResumeSearchQuery;
+import io.andrelucas.business.SortDirection;
+
+/**
+ * Behaviour every {@link ResumeRepository} adapter has to provide. Implementations supply an empty repository.
+ */
+public interface ResumeRepositoryContract {
+
+    ResumeRepository repository();
+
+    /**
+     * Called before each test to start from an empty store.
+     */
+    void clear();
+
+    @BeforeEach
+    default void seed() {
+        clear();
+        repository().save(Resume.create("Java Programming", "Java is a programming language. It is widely used in enterprise applications."));
+        repository().save(Resume.create("Python Basics", "Python is a versatile programming language suitable for beginners."));
+        repository().save(Resume.create("Spring Framework", "Spring Framework is built on Java and provides tools for enterprise applications."));
+    }
+
+    @Test
+    default void shouldFindByTopic() {
+        // Act
+        Page<Resume> results = repository().findByTopic("Java Programming", PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(results.getContent()).hasSize(1);
+        assertThat(results.getContent().get(0).topic()).isEqualTo("Java Programming");
+    }
+
+    @Test
+    default void shouldFindByDateRange() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.now().minusDays(1);
+        LocalDateTime to = LocalDateTime.now().plusDays(1);
+
+        // Act
+        Page<Resume> results = repository().findByCreatedAtBetween(from, to, PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(results.getContent()).hasSize(3);
+    }
+
+    @Test
+    default void shouldFindByContentKeyword() {
+        // Act
+        Page<Resume> results = repository().findByContentContainingIgnoreCase("java", PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(results.getContent()).hasSize(2);
+        assertThat(results.getContent().stream().map(Resume::topic).toList())
+            .containsExactlyInAnyOrder("Java Programming", "Spring Framework");
+    }
+
+    @Test
+    default void shouldFindLatestResumes() {
+        // Act
+        Page<Resume> results = repository().findAllByOrderByCreatedAtDesc(PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(results.getContent()).hasSize(3);
+    }
+
+    @Test
+    default void shouldFindByCustomCriteria() {
+        // Arrange
+        ResumeSearchQuery query = new ResumeSearchQuery(
+            null, // no topic filter
+            LocalDateTime.now().minusDays(1),
+            LocalDateTime.now().plusDays(1),
+            "programming", // content keyword
+            "createdAt",
+            SortDirection.DESC,
+            0,
+            10
+        );
+
+        // Act
+        Page<Resume> results = repository().findByCustomCriteria(query, PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(results.getContent()).hasSize(2);
+        assertThat(results.getContent().stream().map(Resume::topic).toList())
+            .containsExactlyInAnyOrder("Java Programming", "Python Basics");
+    }
+
+    @Test
+    default void shouldFindByContentKeywordWhenBodyIsLarge() {
+        // Arrange
+        // Past the default offload threshold, so a store that moves large bodies out of line still has to match it
+        repository().save(Resume.create("Kafka Internals", "Kafka replicates partitions. " + "x".repeat(1_100_000)));
+        ResumeSearchQuery query = new ResumeSearchQuery(null, null, null, "replicates", null, null, 0, 10);
+
+        // Act
+        Page<Resume> byKeyword = repository().findByContentContainingIgnoreCase("REPLICATES", PageRequest.of(0, 10));
+        Page<Resume> byCriteria = repository().findByCustomCriteria(query, PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(byKeyword.getContent()).extracting(Resume::topic).containsExactly("Kafka Internals");
+        assertThat(byCriteria.getContent()).extracting(Resume::topic).containsExactly("Kafka Internals");
+    }
+
+    @Test
+    default void shouldPageLatestResumesNewestFirstWhenMoreThanOnePage() {
+        // Arrange
+        clear();
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 9, 0);
+        for (int i = 0; i < 5; i++) {
+            repository().save(new Resume(UUID.randomUUID(), "Paging", "Resume " + i, base.plusHours(i), base.plusHours(i)));
+        }
+
+        // Act
+        Page<Resume> results = repository().findAllByOrderByCreatedAtDesc(PageRequest.of(1, 2));
+
+        // Assert
+        assertThat(results.getTotalElements()).isEqualTo(5);
+        assertThat(results.getContent()).extracting(Resume::content).containsExactly("Resume 2", "Resume 1");
+    }
+
+    @Test
+    default void shouldReplaceResumeWhenSavingSameIdAgain() {
+        // Arrange
+        Resume resume = Resume.create("Kafka", "Partitions");
+        repository().save(resume);
+
+        // Act
+        repository().save(new Resume(resume.id(), "Kafka Streams", "Partitions and state stores", resume.createdAt(), LocalDateTime.now()));
+
+        // Assert
+        assertThat(repository().findByTopic("Kafka", PageRequest.of(0, 10)).getContent()).isEmpty();
+        assertThat(repository().findAllByIds(List.of(resume.id()))).singleElement()
+            .satisfies(saved -> {
+                assertThat(saved.topic()).isEqualTo("Kafka Streams");
+                assertThat(saved.content()).isEqualTo("Partitions and state stores");
+            });
+    }
+
+    @Test
+    default void shouldReadContentRange() {
+        // Arrange
+        Resume resume = repository().save(Resume.create("Ranges", "0123456789"));
+
+        // Act
+        ResumeContentSlice slice = repository().readContent(resume.id(), 4, 3).orElseThrow();
+
+        // Assert
+        assertThat(slice.content()).isEqualTo("456");
+        assertThat(slice.totalLength()).isEqualTo(10);
+        assertThat(slice.hasMore()).isTrue();
+        assertThat(repository().readContent(UUID.randomUUID(), 0, 3)).isEmpty();
+    }
+
+    @Test
+    default void shouldVisitEveryResume() {
+        // Act
+        List<Resume> visited = new ArrayList<>();
+        repository().forEach(visited::add);
+
+        // Assert
+        assertThat(visited).extracting(Resume::topic)
+            .containsExactlyInAnyOrder("Java Programming", "Python Basics", "Spring Framework");
+    }
+
+    @Test
+    default void shouldFindEveryVariantOfGroup() {
+        // Arrange
+        UUID groupId = UUID.randomUUID();
+        Resume blog = repository().save(Resume.create("Records", "A long post about records").inGroup(groupId, Platform.BLOG));
+        Resume linkedin = repository().save(Resume.create("Records", "A short post about records").inGroup(groupId, Platform.LINKEDIN));
+        repository().save(Resume.create("Records", "Another group").inGroup(UUID.randomUUID(), Platform.BLOG));
+
+        // Act
+        List<Resume> variants = repository().findByGroupId(groupId);
+
+        // Assert
+        assertThat(variants).extracting(Resume::id).containsExactlyInAnyOrder(blog.id(), linkedin.id());
+        assertThat(variants).extracting(Resume::platform).containsExactlyInAnyOrder(Platform.BLOG, Platform.LINKEDIN);
+        assertThat(variants).extracting(Resume::content)
+            .containsExactlyInAnyOrder("A long post about records", "A short post about records");
+        assertThat(repository().findByGroupId(UUID.randomUUID())).isEmpty();
+    }
+}
@@ -0,0 +1,114 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import io.andrelucas.business.BatchSearchProperties;
+import io.andrelucas.business.BatchSearchQuery;
+import io.andrelucas.business.BatchSearchResponse;
+import io.andrelucas.business.BatchSearchResult;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeResponse;
+import io.andrelucas.business.SearchType;
+import io.andrelucas.business.repositories.CallContext;
+import io.andrelucas.business.repositories.ResumeRepository;
+
+class BatchSearchUseCaseTest {
+
+    private ResumeRepository repository;
+    private BatchSearchUseCase useCase;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ResumeRepository.class);
+        useCase = new BatchSearchUseCase(repository, CallContext.NONE, new BatchSearchProperties(3, 2, Duration.ofMillis(300)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        useCase.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should list a resume found by several searches once")
+    void shouldListResumeFoundBySeveralSearchesOnce() {
+        // Arrange
+        Resume shared = resume("Java");
+        Resume latest = resume("Go");
+        when(repository.findByTopic(eq("Java"), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(shared)));
+        when(repository.findAllByOrderByCreatedAtDesc(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(latest, shared)));
+
+        // Act
+        BatchSearchResponse response = useCase.search(List.of(
+            query(SearchType.TOPIC, "Java", null),
+            query(SearchType.LATEST, null, null)));
+
+        // Assert
+        assertThat(response.results()).extracting(BatchSearchResult::status).containsExactly("OK", "OK");
+        assertThat(response.results().get(1).resumeIds()).containsExactly(latest.id(), shared.id());
+        assertThat(response.resumes()).extracting(ResumeResponse::id).containsExactly(shared.id(), latest.id());
+    }
+
+    @Test
+    @DisplayName("Should report a failing or slow search without losing the others")
+    void shouldReportFailingOrSlowSearchWithoutLosingOthers() {
+        // Arrange
+        when(repository.findByContentContainingIgnoreCase(eq("slow"), any(Pageable.class))).thenAnswer(invocation -> {
+            release.await();
+            return new PageImpl<>(Collections.<Resume>emptyList());
+        });
+        when(repository.findByTopic(eq("Java"), any(Pageable.class))).thenReturn(new PageImpl<>(List.of(resume("Java"))));
+
+        // Act
+        BatchSearchResponse response = useCase.search(List.of(
+            query(SearchType.KEYWORD, null, "slow"),
+            query(SearchType.TOPIC, null, null),
+            query(SearchType.TOPIC, "Java", null)));
+
+        // Assert
+        assertThat(response.results()).extracting(BatchSearchResult::status).containsExactly("TIMED_OUT", "FAILED", "OK");
+        assertThat(response.results().get(1).error()).contains("topic");
+        assertThat(response.resumes()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a batch larger than allowed")
+    void shouldRejectBatchLargerThanAllowed() {
+        // Arrange
+        List<BatchSearchQuery> queries = Collections.nCopies(4, query(SearchType.LATEST, null, null));
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.search(queries))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("at most 3");
+    }
+
+    private static BatchSearchQuery query(SearchType type, String topic, String keyword) {
+        return new BatchSearchQuery(type, topic, keyword, null, null, null, null, null, null);
+    }
+
+    private static Resume resume(String topic) {
+        LocalDateTime now = LocalDateTime.now();
+        return new Resume(UUID.randomUUID(), topic, "About " + topic, now, now);
+    }
+}
@@ -4,11 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,19 +20,33 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 
+import io.andrelucas.business.CreateResumeResponse;
+import io.andrelucas.business.MinHashSignature;
+import io.andrelucas.business.NearDuplicate;
 import io.andrelucas.business.Resume;
 import io.andrelucas.business.ResumeRequest;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
+import io.andrelucas.business.repositories.ResumeDuplicateIndex;
 import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ResumeSemanticIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class CreateResumeUseCaseTest {
 
     private ResumeRepository repository;
+    private ResumeSemanticIndex semanticIndex;
+    private ResumeDuplicateIndex duplicateIndex;
+    private ThumbnailPipeline thumbnails;
     private CreateResumeUseCase useCase;
     
     @BeforeEach
     void setUp() {
         repository = mock(ResumeRepository.class);
-        useCase = new CreateResumeUseCase(repository);
+        semanticIndex = mock(ResumeSemanticIndex.class);
+        duplicateIndex = mock(ResumeDuplicateIndex.class);
+        thumbnails = mock(ThumbnailPipeline.class);
+        useCase = new CreateResumeUseCase(repository, semanticIndex, duplicateIndex,
+            new SingleFlight(new SimpleMeterRegistry(), (ReadPreferencePolicy) null), thumbnails);
     }
     
     @Test
@@ -49,7 +66,7 @@ class CreateResumeUseCaseTest {
         when(repository.save(any(Resume.class))).thenReturn(savedResume);
         
         // Act
-        Resume result = useCase.create(request);
+        Resume result = useCase.create(request).resume();
         
         // Assert
         assertThat(result)
@@ -63,8 +80,48 @@ class CreateResumeUseCaseTest {
             });
         
         verify(repository).save(any(Resume.class));
+        verify(semanticIndex).index(savedResume);
+        verify(duplicateIndex).add(eq(id), any(MinHashSignature.class));
+        verify(thumbnails).request(savedResume);
+    }
+
+    @Test
+    @DisplayName("Should return near duplicates when index finds similar resumes")
+    void shouldReturnNearDuplicatesWhenIndexFindsSimilarResumes() {
+        // Arrange
+        ResumeRequest request = new ResumeRequest("Test Topic", "Test Content");
+        NearDuplicate nearDuplicate = new NearDuplicate(UUID.randomUUID(), 0.92);
+
+        when(duplicateIndex.findNearDuplicates(MinHashSignature.of("Test Content")))
+            .thenReturn(List.of(nearDuplicate));
+        when(repository.save(any(Resume.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        CreateResumeResponse response = useCase.create(request);
+
+        // Assert
+        assertThat(response.nearDuplicates()).containsExactly(nearDuplicate);
+        assertThat(response.resume().topic()).isEqualTo("Test Topic");
     }
     
+    @Test
+    @DisplayName("Should not report the resume as its own near duplicate when it is created again under its id")
+    void shouldExcludeItselfFromNearDuplicatesWhenRecreatedUnderSameId() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        NearDuplicate other = new NearDuplicate(UUID.randomUUID(), 0.9);
+
+        when(duplicateIndex.findNearDuplicates(MinHashSignature.of("Test Content")))
+            .thenReturn(List.of(new NearDuplicate(id, 1.0), other));
+        when(repository.save(any(Resume.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        CreateResumeResponse response = useCase.create(id, new ResumeRequest("Test Topic", "Test Content"));
+
+        // Assert
+        assertThat(response.nearDuplicates()).containsExactly(other);
+    }
+
     @Test
     @DisplayName("Should create resume with automatically generated ID and timestamps")
     void shouldCreateResumeWithCorrectData() {
@@ -77,7 +134,7 @@ class CreateResumeUseCaseTest {
         when(repository.save(any(Resume.class))).thenAnswer(invocation -> invocation.getArgument(0));
         
         // Act
-        Resume result = useCase.create(request);
+        Resume result = useCase.create(request).resume();
         
         // Assert
         assertThat(result)
@@ -106,6 +163,8 @@ class CreateResumeUseCaseTest {
         assertThatExceptionOfType(IllegalArgumentException.class)
             .isThrownBy(() -> useCase.create(invalidRequest))
             .withMessage("Topic cannot be null or empty");
+
+        verifyNoInteractions(repository, semanticIndex, duplicateIndex, thumbnails);
     }
     
     @ParameterizedTest
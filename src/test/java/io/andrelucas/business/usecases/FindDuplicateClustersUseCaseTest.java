@@ -0,0 +1,82 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.andrelucas.business.DuplicateCluster;
+import io.andrelucas.business.DuplicateClusterMember;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.ResumeDuplicateIndex;
+import io.andrelucas.business.repositories.ResumeRepository;
+
+class FindDuplicateClustersUseCaseTest {
+
+    private ResumeDuplicateIndex duplicateIndex;
+    private ResumeRepository repository;
+    private FindDuplicateClustersUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        duplicateIndex = mock(ResumeDuplicateIndex.class);
+        repository = mock(ResumeRepository.class);
+        useCase = new FindDuplicateClustersUseCase(duplicateIndex, repository);
+    }
+
+    @Test
+    @DisplayName("Should return clusters ordered by creation date when duplicates exist")
+    void shouldReturnClustersOrderedByCreationDateWhenDuplicatesExist() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.now();
+        Resume newer = new Resume(UUID.randomUUID(), "Virtual threads v2", "content", now, now);
+        Resume older = new Resume(UUID.randomUUID(), "Virtual threads", "content", now.minusDays(2), now.minusDays(2));
+
+        when(duplicateIndex.findClusters()).thenReturn(List.of(new LinkedHashSet<>(List.of(newer.id(), older.id()))));
+        when(repository.findAllByIds(anyCollection())).thenReturn(List.of(newer, older));
+
+        // Act
+        List<DuplicateCluster> clusters = useCase.findClusters();
+
+        // Assert
+        assertThat(clusters).singleElement()
+            .satisfies(cluster -> assertThat(cluster.members())
+                .extracting(DuplicateClusterMember::topic)
+                .containsExactly("Virtual threads", "Virtual threads v2"));
+    }
+
+    @Test
+    @DisplayName("Should drop members that no longer exist when building clusters")
+    void shouldDropMissingMembersWhenBuildingClusters() {
+        // Arrange
+        Resume remaining = new Resume(UUID.randomUUID(), "Topic", "content", LocalDateTime.now(), LocalDateTime.now());
+
+        when(duplicateIndex.findClusters()).thenReturn(List.of(Set.of(remaining.id(), UUID.randomUUID())));
+        when(repository.findAllByIds(anyCollection())).thenReturn(List.of(remaining));
+
+        // Act & Assert
+        assertThat(useCase.findClusters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not query the repository when there are no clusters")
+    void shouldNotQueryRepositoryWhenThereAreNoClusters() {
+        // Arrange
+        when(duplicateIndex.findClusters()).thenReturn(List.of());
+
+        // Act & Assert
+        assertThat(useCase.findClusters()).isEmpty();
+        verifyNoInteractions(repository);
+    }
+}
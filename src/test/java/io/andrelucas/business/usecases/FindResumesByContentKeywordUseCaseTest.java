@@ -24,9 +24,12 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import io.andrelucas.business.PagedResumeHitResponse;
 import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
 import io.andrelucas.business.repositories.ResumeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class FindResumesByContentKeywordUseCaseTest {
 
@@ -36,7 +39,7 @@ class FindResumesByContentKeywordUseCaseTest {
     @BeforeEach
     void setUp() {
         repository = mock(ResumeRepository.class);
-        useCase = new FindResumesByContentKeywordUseCase(repository);
+        useCase = new FindResumesByContentKeywordUseCase(repository, new SingleFlight(new SimpleMeterRegistry(), (ReadPreferencePolicy) null));
     }
     
     @Test
@@ -132,4 +135,25 @@ class FindResumesByContentKeywordUseCaseTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessageContaining("keyword cannot be null or empty");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return windows around the keyword instead of whole contents")
+    void shouldReturnWindowsAroundKeywordInsteadOfWholeContents() {
+        // Arrange
+        String content = "a".repeat(2000) + " Java " + "b".repeat(2000);
+        Resume resume = new Resume(UUID.randomUUID(), "Programming", content, LocalDateTime.now(), LocalDateTime.now());
+        when(repository.findByContentContainingIgnoreCase(eq("java"), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(resume)));
+
+        // Act
+        PagedResumeHitResponse response = useCase.findSnippetsByContentKeyword("java", 0, 10);
+
+        // Assert
+        assertThat(response.content()).singleElement().satisfies(hit -> {
+            assertThat(hit.id()).isEqualTo(resume.id());
+            assertThat(hit.contentLength()).isEqualTo(content.length());
+            assertThat(hit.snippets()).singleElement()
+                .satisfies(snippet -> assertThat(snippet.text()).contains("Java").hasSizeLessThan(content.length() / 10));
+        });
+    }
+}
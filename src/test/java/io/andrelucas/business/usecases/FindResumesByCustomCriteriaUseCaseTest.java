@@ -24,7 +24,9 @@ import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
 import io.andrelucas.business.ResumeSearchQuery;
 import io.andrelucas.business.SortDirection;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
 import io.andrelucas.business.repositories.ResumeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class FindResumesByCustomCriteriaUseCaseTest {
 
@@ -34,7 +36,7 @@ class FindResumesByCustomCriteriaUseCaseTest {
     @BeforeEach
     void setUp() {
         repository = mock(ResumeRepository.class);
-        useCase = new FindResumesByCustomCriteriaUseCase(repository);
+        useCase = new FindResumesByCustomCriteriaUseCase(repository, new SingleFlight(new SimpleMeterRegistry(), (ReadPreferencePolicy) null));
     }
     
     @Test
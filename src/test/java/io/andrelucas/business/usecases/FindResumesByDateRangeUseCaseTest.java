@@ -23,7 +23,9 @@ import org.springframework.data.domain.Pageable;
 import io.andrelucas.business.DateRangeQuery;
 import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
 import io.andrelucas.business.repositories.ResumeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class FindResumesByDateRangeUseCaseTest {
 
@@ -33,7 +35,7 @@ class FindResumesByDateRangeUseCaseTest {
     @BeforeEach
     void setUp() {
         repository = mock(ResumeRepository.class);
-        useCase = new FindResumesByDateRangeUseCase(repository);
+        useCase = new FindResumesByDateRangeUseCase(repository, new SingleFlight(new SimpleMeterRegistry(), (ReadPreferencePolicy) null));
     }
     
     @Test
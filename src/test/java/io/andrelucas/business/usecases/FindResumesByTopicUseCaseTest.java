@@ -25,7 +25,9 @@ import org.springframework.data.domain.Pageable;
 
 import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
 import io.andrelucas.business.repositories.ResumeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class FindResumesByTopicUseCaseTest {
 
@@ -35,7 +37,7 @@ class FindResumesByTopicUseCaseTest {
     @BeforeEach
     void setUp() {
         repository = mock(ResumeRepository.class);
-        useCase = new FindResumesByTopicUseCase(repository);
+        useCase = new FindResumesByTopicUseCase(repository, new SingleFlight(new SimpleMeterRegistry(), (ReadPreferencePolicy) null));
     }
     
     @Test
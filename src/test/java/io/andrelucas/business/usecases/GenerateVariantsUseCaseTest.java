@@ -0,0 +1,91 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.andrelucas.business.GenerationJob;
+import io.andrelucas.business.GenerationStatus;
+import io.andrelucas.business.Platform;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.VariantGenerationResponse;
+import io.andrelucas.business.VariantProperties;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.data_provider.memory.InMemoryGenerationJobQueue;
+
+class GenerateVariantsUseCaseTest {
+
+    private InMemoryGenerationJobQueue queue;
+    private GenerationWorkers workers;
+    private ResumeRepository repository;
+    private GenerateVariantsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        queue = new InMemoryGenerationJobQueue();
+        workers = mock(GenerationWorkers.class);
+        repository = mock(ResumeRepository.class);
+        useCase = new GenerateVariantsUseCase(queue, workers, repository,
+            new VariantProperties("Blog template", "LinkedIn template"));
+    }
+
+    @Test
+    @DisplayName("Should queue one job per platform in the same group with the platform's template")
+    void shouldQueueOneJobPerPlatformWhenGeneratingVariants() {
+        // Act
+        VariantGenerationResponse response = useCase.generate("Virtual threads", null, null, "Keep it friendly");
+
+        // Assert
+        assertThat(response.jobs()).hasSize(2)
+            .allSatisfy(job -> {
+                assertThat(job.groupId()).isEqualTo(response.groupId());
+                assertThat(job.topic()).isEqualTo("Virtual threads");
+                assertThat(job.status()).isEqualTo(GenerationStatus.QUEUED);
+                assertThat(queue.findById(job.id())).isPresent();
+            });
+        assertThat(response.jobs()).extracting(GenerationJob::platform).containsExactly(Platform.BLOG, Platform.LINKEDIN);
+        assertThat(response.jobs()).extracting(GenerationJob::instructions)
+            .containsExactly("Blog template\n\nKeep it friendly", "LinkedIn template\n\nKeep it friendly");
+        verify(workers).wakeUp();
+    }
+
+    @Test
+    @DisplayName("Should adapt the source resume and join its group when it is already a variant")
+    void shouldAdaptSourceResumeWhenSourceResumeIdIsGiven() {
+        // Arrange
+        UUID groupId = UUID.randomUUID();
+        Resume source = Resume.create("Records", "Records are transparent carriers of data").inGroup(groupId, Platform.BLOG);
+        when(repository.findAllByIds(List.of(source.id()))).thenReturn(List.of(source));
+
+        // Act
+        VariantGenerationResponse response = useCase.generate(null, source.id(), List.of(Platform.LINKEDIN), null);
+
+        // Assert
+        assertThat(response.groupId()).isEqualTo(groupId);
+        assertThat(response.jobs()).singleElement()
+            .satisfies(job -> {
+                assertThat(job.topic()).isEqualTo("Records");
+                assertThat(job.platform()).isEqualTo(Platform.LINKEDIN);
+                assertThat(job.instructions()).startsWith("LinkedIn template")
+                    .endsWith("Records are transparent carriers of data");
+            });
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when neither a topic nor a source resume is given")
+    void shouldThrowWhenTopicAndSourceAreMissing() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.generate("", null, null, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("topic or sourceResumeId is required");
+    }
+}
@@ -0,0 +1,285 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import io.andrelucas.business.GenerationJob;
+import io.andrelucas.business.GenerationProperties;
+import io.andrelucas.business.GenerationStatus;
+import io.andrelucas.business.ResumeRequest;
+import io.andrelucas.business.repositories.ContentGenerator;
+import io.andrelucas.business.repositories.ResumeDrafts;
+import io.andrelucas.data_provider.memory.InMemoryGenerationJobQueue;
+
+class GenerationWorkersTest {
+
+    private InMemoryGenerationJobQueue queue;
+    private ContentGenerator generator;
+    private ResumeDrafts drafts;
+    private CreateResumeUseCase createResumeUseCase;
+    private GenerationWorkers workers;
+
+    @BeforeEach
+    void setUp() {
+        queue = new InMemoryGenerationJobQueue();
+        generator = mock(ContentGenerator.class);
+        createResumeUseCase = mock(CreateResumeUseCase.class);
+        drafts = mock(ResumeDrafts.class);
+        workers = new GenerationWorkers(queue, generator, drafts, createResumeUseCase,
+            new GenerationProperties("stub", 2, Duration.ofSeconds(10), Duration.ofMinutes(5), 3, Duration.ZERO, Duration.ZERO,
+                false, 10, Duration.ofMinutes(1)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.stop();
+    }
+
+    @Test
+    @DisplayName("Should save the generated content as a resume under the job id")
+    void shouldSaveGeneratedContentUnderJobId() {
+        // Arrange
+        GenerationJob job = queue.enqueue(GenerationJob.queue("Virtual threads", "Keep it short"));
+        when(generator.generate("Virtual threads", "Keep it short")).thenReturn("# Virtual threads");
+
+        // Act
+        boolean ran = workers.runNext();
+
+        // Assert
+        assertThat(ran).isTrue();
+        verify(createResumeUseCase)
+            .create(eq(job.id()), eq(new ResumeRequest("Virtual threads", "# Virtual threads")), isNull(), isNull());
+        assertThat(queue.findById(job.id())).get()
+            .satisfies(done -> {
+                assertThat(done.status()).isEqualTo(GenerationStatus.SUCCEEDED);
+                assertThat(done.resumeId()).isEqualTo(job.id());
+                assertThat(done.attempts()).isOne();
+            });
+        assertThat(workers.runNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should retry a failing generation and fail the job after its last attempt")
+    void shouldRetryFailingGenerationUntilLastAttempt() {
+        // Arrange
+        GenerationJob job = queue.enqueue(GenerationJob.queue("Backpressure", null));
+        when(generator.generate(any(), any())).thenThrow(new IllegalStateException("model overloaded"));
+
+        // Act
+        workers.runNext();
+        GenerationJob afterFirst = queue.findById(job.id()).orElseThrow();
+        workers.runNext();
+        workers.runNext();
+
+        // Assert
+        assertThat(afterFirst.status()).isEqualTo(GenerationStatus.QUEUED);
+        assertThat(afterFirst.error()).isEqualTo("model overloaded");
+        assertThat(queue.findById(job.id())).get()
+            .satisfies(failed -> {
+                assertThat(failed.status()).isEqualTo(GenerationStatus.FAILED);
+                assertThat(failed.attempts()).isEqualTo(3);
+            });
+        assertThat(workers.runNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should write streamed text to the draft in batches and save the finished resume over it")
+    void shouldWriteStreamedTextToDraftInBatches() {
+        // Arrange
+        GenerationWorkers streaming = new GenerationWorkers(queue, generator, drafts, createResumeUseCase,
+            new GenerationProperties("stub", 1, Duration.ofSeconds(10), Duration.ofMinutes(5), 3, Duration.ZERO, Duration.ZERO,
+                true, 10, Duration.ofMinutes(1)));
+        GenerationJob job = queue.enqueue(GenerationJob.queue("Virtual threads", null));
+        when(generator.generate(eq("Virtual threads"), isNull(), any())).thenAnswer(invocation -> {
+            Consumer<String> onText = invocation.getArgument(2);
+            List.of("aaaa", "bbbb", "cccc", "dd", "e").forEach(onText);
+            return "aaaabbbbccccdde";
+        });
+
+        // Act
+        streaming.runNext();
+
+        // Assert
+        InOrder inOrder = inOrder(drafts, createResumeUseCase);
+        inOrder.verify(drafts).start(job.id(), "Virtual threads");
+        // The first text is saved at once, the rest once enough of it is pending, and the remainder at the end
+        inOrder.verify(drafts).append(job.id(), "aaaa");
+        inOrder.verify(drafts).append(job.id(), "bbbbccccdd");
+        inOrder.verify(drafts).append(job.id(), "e");
+        inOrder.verify(createResumeUseCase).create(job.id(), new ResumeRequest("Virtual threads", "aaaabbbbccccdde"), null, null);
+        inOrder.verify(drafts).finish(job.id());
+        assertThat(queue.findById(job.id()).orElseThrow().status()).isEqualTo(GenerationStatus.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("Should discard the draft when the generation fails for good")
+    void shouldDiscardDraftWhenGenerationFailsForGood() {
+        // Arrange
+        GenerationWorkers streaming = new GenerationWorkers(queue, generator, drafts, createResumeUseCase,
+            new GenerationProperties("stub", 1, Duration.ofSeconds(10), Duration.ofMinutes(5), 1, Duration.ZERO, Duration.ZERO,
+                true, 10, Duration.ofMinutes(1)));
+        GenerationJob job = queue.enqueue(GenerationJob.queue("Virtual threads", null));
+        when(generator.generate(eq("Virtual threads"), isNull(), any())).thenAnswer(invocation -> {
+            Consumer<String> onText = invocation.getArgument(2);
+            onText.accept("aaaa");
+            throw new IllegalStateException("model overloaded");
+        });
+
+        // Act
+        streaming.runNext();
+
+        // Assert
+        InOrder inOrder = inOrder(drafts);
+        inOrder.verify(drafts).append(job.id(), "aaaa");
+        inOrder.verify(drafts).finish(job.id());
+        verify(createResumeUseCase, never()).create(any(), any(), any(), any());
+        assertThat(queue.findById(job.id()).orElseThrow().status()).isEqualTo(GenerationStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("Should extend the lease while streaming and stop once another worker took the job over")
+    void shouldStopStreamingWhenJobWasTakenOver() {
+        // Arrange
+        GenerationWorkers streaming = new GenerationWorkers(queue, generator, drafts, createResumeUseCase,
+            new GenerationProperties("stub", 1, Duration.ofSeconds(10), Duration.ofMillis(10), 3, Duration.ZERO, Duration.ZERO,
+                true, 1, Duration.ZERO));
+        GenerationJob job = queue.enqueue(GenerationJob.queue("Virtual threads", null));
+        List<LocalDateTime> leases = new ArrayList<>();
+        when(generator.generate(eq("Virtual threads"), isNull(), any())).thenAnswer(invocation -> {
+            Consumer<String> onText = invocation.getArgument(2);
+            LocalDateTime claimedUntil = queue.findById(job.id()).orElseThrow().nextAttemptAt();
+            Thread.sleep(20);
+            onText.accept("aaaa");
+            leases.add(claimedUntil);
+            leases.add(queue.findById(job.id()).orElseThrow().nextAttemptAt());
+            LocalDateTime later = LocalDateTime.now().plusHours(1);
+            queue.claimNext(later, later.plusMinutes(5));
+            Thread.sleep(20);
+            onText.accept("bbbb");
+            return "aaaabbbb";
+        });
+
+        // Act
+        streaming.runNext();
+
+        // Assert
+        assertThat(leases.get(1)).isAfter(leases.get(0));
+        verify(drafts).append(job.id(), "aaaa");
+        verify(drafts, never()).append(job.id(), "bbbb");
+        verify(createResumeUseCase, never()).create(any(), any(), any(), any());
+        // The worker that took over owns the job; the stopped one's outcome is ignored
+        assertThat(queue.findById(job.id())).get()
+            .satisfies(taken -> {
+                assertThat(taken.status()).isEqualTo(GenerationStatus.RUNNING);
+                assertThat(taken.attempts()).isEqualTo(2);
+                assertThat(taken.error()).isNull();
+            });
+    }
+
+    @Test
+    @DisplayName("Should extend the lease while generating without streaming")
+    void shouldExtendLeaseWhenGeneratingWithoutStreaming() {
+        // Arrange
+        GenerationWorkers slow = new GenerationWorkers(queue, generator, drafts, createResumeUseCase,
+            new GenerationProperties("stub", 1, Duration.ofSeconds(10), Duration.ofMillis(20), 3, Duration.ZERO, Duration.ZERO,
+                false, 10, Duration.ofMinutes(1)));
+        GenerationJob job = queue.enqueue(GenerationJob.queue("Virtual threads", null));
+        List<LocalDateTime> leases = new ArrayList<>();
+        when(generator.generate("Virtual threads", null)).thenAnswer(invocation -> {
+            leases.add(queue.findById(job.id()).orElseThrow().nextAttemptAt());
+            Thread.sleep(100);
+            leases.add(queue.findById(job.id()).orElseThrow().nextAttemptAt());
+            return "# Virtual threads";
+        });
+
+        // Act
+        slow.runNext();
+        slow.stop();
+
+        // Assert
+        assertThat(leases.get(1)).isAfter(leases.get(0).plusNanos(Duration.ofMillis(50).toNanos()));
+        verify(createResumeUseCase).create(job.id(), new ResumeRequest("Virtual threads", "# Virtual threads"), null, null);
+        assertThat(queue.findById(job.id()).orElseThrow().status()).isEqualTo(GenerationStatus.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("Should leave the resume and the draft to the new owner when the job was taken over while generating")
+    void shouldNotSaveWhenJobWasTakenOverWhileGenerating() {
+        // Arrange
+        GenerationWorkers streaming = new GenerationWorkers(queue, generator, drafts, createResumeUseCase,
+            new GenerationProperties("stub", 1, Duration.ofSeconds(10), Duration.ofMinutes(5), 1, Duration.ZERO, Duration.ZERO,
+                true, 10, Duration.ofMinutes(1)));
+        GenerationJob job = queue.enqueue(GenerationJob.queue("Virtual threads", null));
+        when(generator.generate(eq("Virtual threads"), isNull(), any())).thenAnswer(invocation -> {
+            LocalDateTime later = LocalDateTime.now().plusHours(1);
+            queue.claimNext(later, later.plusMinutes(5));
+            return "# Virtual threads";
+        });
+
+        // Act
+        streaming.runNext();
+        streaming.stop();
+
+        // Assert
+        verify(createResumeUseCase, never()).create(any(), any(), any(), any());
+        verify(drafts, never()).finish(any());
+        assertThat(queue.findById(job.id())).get()
+            .satisfies(taken -> {
+                assertThat(taken.status()).isEqualTo(GenerationStatus.RUNNING);
+                assertThat(taken.attempts()).isEqualTo(2);
+            });
+    }
+
+    @Test
+    @DisplayName("Should generate submitted jobs in the background")
+    void shouldGenerateSubmittedJobsInBackground() throws Exception {
+        // Arrange
+        GenerateResumeUseCase useCase = new GenerateResumeUseCase(queue, workers);
+        when(generator.generate(any(), any())).thenReturn("Generated");
+        workers.start();
+
+        // Act
+        GenerationJob job = useCase.submit("Structured concurrency", null);
+
+        // Assert
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (useCase.getStatus(job.id()).status() != GenerationStatus.SUCCEEDED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(useCase.getStatus(job.id()).status()).isEqualTo(GenerationStatus.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("Should back off exponentially with jitter up to the maximum")
+    void shouldBackOffExponentiallyWithJitter() {
+        // Arrange
+        GenerationWorkers backingOff = new GenerationWorkers(queue, generator, drafts, createResumeUseCase,
+            new GenerationProperties("stub", 1, Duration.ofSeconds(1), Duration.ofMinutes(5), 10,
+                Duration.ofSeconds(2), Duration.ofSeconds(30), false, 10, Duration.ofMinutes(1)));
+
+        // Act & Assert
+        assertThat(backingOff.backoff(1)).isBetween(Duration.ofSeconds(1), Duration.ofSeconds(2));
+        assertThat(backingOff.backoff(3)).isBetween(Duration.ofSeconds(4), Duration.ofSeconds(8));
+        assertThat(backingOff.backoff(9)).isBetween(Duration.ofSeconds(15), Duration.ofSeconds(30));
+    }
+}
@@ -25,7 +25,9 @@ import org.springframework.data.domain.Pageable;
 
 import io.andrelucas.business.PagedResumeResponse;
 import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
 import io.andrelucas.business.repositories.ResumeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 class GetLatestResumesUseCaseTest {
 
@@ -35,7 +37,7 @@ class GetLatestResumesUseCaseTest {
     @BeforeEach
     void setUp() {
         repository = mock(ResumeRepository.class);
-        useCase = new GetLatestResumesUseCase(repository);
+        useCase = new GetLatestResumesUseCase(repository, new SingleFlight(new SimpleMeterRegistry(), (ReadPreferencePolicy) null));
     }
     
     @Test
@@ -0,0 +1,64 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.andrelucas.business.ThumbnailResponse;
+import io.andrelucas.business.repositories.BlobStore;
+import io.andrelucas.business.repositories.ResumeThumbnails;
+import io.andrelucas.business.repositories.TitleCardRenderer;
+
+class GetThumbnailUseCaseTest {
+
+    private ResumeThumbnails thumbnails;
+    private BlobStore blobs;
+    private GetThumbnailUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        thumbnails = mock(ResumeThumbnails.class);
+        blobs = mock(BlobStore.class);
+        TitleCardRenderer renderer = mock(TitleCardRenderer.class);
+        when(renderer.contentType()).thenReturn("image/png");
+        useCase = new GetThumbnailUseCase(thumbnails, blobs, renderer);
+    }
+
+    @Test
+    @DisplayName("Should return the stored image of the resume's thumbnail")
+    void shouldReturnStoredImageWhenResumeHasThumbnail() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(thumbnails.find(id)).thenReturn(Optional.of("thumbnails/abc.png"));
+        when(blobs.get("thumbnails/abc.png")).thenReturn(Optional.of(new byte[] {1, 2, 3}));
+
+        // Act
+        ThumbnailResponse response = useCase.get(id);
+
+        // Assert
+        assertThat(response.thumbnailRef()).isEqualTo("thumbnails/abc.png");
+        assertThat(response.contentType()).isEqualTo("image/png");
+        assertThat(response.data()).isEqualTo("AQID");
+    }
+
+    @Test
+    @DisplayName("Should report no thumbnail yet when the resume has none")
+    void shouldFailWhenResumeHasNoThumbnail() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(thumbnails.find(id)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.get(id))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("No thumbnail");
+    }
+}
@@ -0,0 +1,172 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.andrelucas.business.Platform;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ScheduleStatus;
+import io.andrelucas.business.ScheduledPost;
+import io.andrelucas.business.SchedulingProperties;
+import io.andrelucas.business.repositories.LeaderLease;
+import io.andrelucas.business.repositories.PostPublisher;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.data_provider.memory.InMemoryScheduleStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PostSchedulerTest {
+
+    private InMemoryScheduleStore store;
+    private LeaderLease lease;
+    private PostPublisher publisher;
+    private ResumeRepository repository;
+    private PostScheduler scheduler;
+    private Resume resume;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryScheduleStore();
+        lease = mock(LeaderLease.class);
+        publisher = mock(PostPublisher.class);
+        repository = mock(ResumeRepository.class);
+        resume = Resume.create("Virtual threads", "# Virtual threads");
+        when(repository.findAllByIds(List.of(resume.id()))).thenReturn(List.of(resume));
+        when(lease.acquire(eq(PostScheduler.LEASE), anyString(), any())).thenReturn(true);
+        scheduler = new PostScheduler(store, lease, publisher, repository,
+            new SchedulingProperties(true, "stub", Duration.ofMillis(100), 64, 4, Duration.ofSeconds(15), Duration.ofSeconds(5),
+                2, 3, Duration.ZERO, Duration.ZERO),
+            new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("Should reload scheduled posts on taking the lease and publish them once due")
+    void shouldReloadAndPublishDuePostsWhenLeader() throws InterruptedException {
+        // Arrange
+        LocalDateTime publishAt = LocalDateTime.now().plus(Duration.ofMillis(300));
+        ScheduledPost post = store.save(ScheduledPost.schedule(resume.id(), Platform.LINKEDIN, publishAt));
+        when(publisher.publish(any(), eq(resume))).thenReturn("urn:li:share:1");
+
+        // Act
+        boolean leader = scheduler.keepLeadership();
+        scheduler.tick(millis(publishAt) - 200);
+        verify(publisher, never()).publish(any(), any());
+        Thread.sleep(300);
+        // Deadlines are rounded up to the next tick
+        scheduler.tick(millis(publishAt) + 100);
+
+        // Assert
+        assertThat(leader).isTrue();
+        verify(publisher, timeout(5_000)).publish(any(), eq(resume));
+        awaitStatus(post.id(), ScheduleStatus.PUBLISHED);
+        assertThat(store.findById(post.id())).get().extracting(ScheduledPost::postId).isEqualTo("urn:li:share:1");
+    }
+
+    @Test
+    @DisplayName("Should not publish anything while another instance holds the lease")
+    void shouldNotPublishWhenNotLeader() {
+        // Arrange
+        when(lease.acquire(eq(PostScheduler.LEASE), anyString(), any())).thenReturn(false);
+        ScheduledPost post = store.save(ScheduledPost.schedule(resume.id(), Platform.LINKEDIN, LocalDateTime.now().minusMinutes(1)));
+
+        // Act
+        boolean leader = scheduler.keepLeadership();
+        scheduler.schedule(post);
+        scheduler.tick(System.currentTimeMillis() + 60_000);
+
+        // Assert
+        assertThat(leader).isFalse();
+        assertThat(scheduler.isLeader()).isFalse();
+        verify(publisher, never()).publish(any(), any());
+        assertThat(store.findById(post.id())).get().extracting(ScheduledPost::status).isEqualTo(ScheduleStatus.SCHEDULED);
+    }
+
+    @Test
+    @DisplayName("Should retry a failing publish and fail the post after its last attempt")
+    void shouldRetryFailingPublishUntilLastAttempt() {
+        // Arrange
+        when(publisher.publish(any(), any())).thenThrow(new IllegalStateException("LinkedIn unavailable"));
+        scheduler.keepLeadership();
+        ScheduledPost post = store.save(ScheduledPost.schedule(resume.id(), Platform.LINKEDIN, LocalDateTime.now()));
+        scheduler.schedule(post);
+
+        // Act
+        awaitUntil(() -> {
+            scheduler.tick(System.currentTimeMillis() + 1_000);
+            return store.findById(post.id()).orElseThrow().status() == ScheduleStatus.FAILED;
+        });
+
+        // Assert
+        verify(publisher, times(3)).publish(any(), eq(resume));
+        assertThat(store.findById(post.id())).get()
+            .satisfies(failed -> {
+                assertThat(failed.attempts()).isEqualTo(3);
+                assertThat(failed.error()).isEqualTo("LinkedIn unavailable");
+            });
+    }
+
+    @Test
+    @DisplayName("Should pick up posts cancelled on another instance when syncing")
+    void shouldDropPostsCancelledElsewhereWhenSyncing() throws InterruptedException {
+        // Arrange
+        LocalDateTime publishAt = LocalDateTime.now().plus(Duration.ofMillis(200));
+        ScheduledPost post = store.save(ScheduledPost.schedule(resume.id(), Platform.LINKEDIN, publishAt));
+        scheduler.keepLeadership();
+
+        // Act
+        store.cancel(post.id());
+        scheduler.sync();
+        Thread.sleep(200);
+        scheduler.tick(millis(publishAt) + 100);
+        Thread.sleep(100);
+
+        // Assert
+        verify(publisher, never()).publish(any(), any());
+        assertThat(store.findById(post.id())).get().extracting(ScheduledPost::status).isEqualTo(ScheduleStatus.CANCELLED);
+    }
+
+    private void awaitStatus(UUID id, ScheduleStatus status) {
+        awaitUntil(() -> store.findById(id).orElseThrow().status() == status);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        final long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private static long millis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
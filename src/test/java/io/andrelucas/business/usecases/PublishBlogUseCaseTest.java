@@ -0,0 +1,155 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.andrelucas.business.BlogProperties;
+import io.andrelucas.business.BlogPublishResponse;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.CallContext;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.data_provider.blog.FileSystemBlogSite;
+
+class PublishBlogUseCaseTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @TempDir
+    Path directory;
+
+    private final Map<UUID, Resume> resumes = new LinkedHashMap<>();
+    private ResumeRepository repository;
+    private PublishBlogUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ResumeRepository.class);
+        when(repository.findAllByIds(any())).thenAnswer(invocation -> {
+            final Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().filter(resumes::containsKey).map(resumes::get).toList();
+        });
+        final BlogProperties properties = new BlogProperties(directory.toString(), "Notes", 2, 2);
+        useCase = new PublishBlogUseCase(repository, new FileSystemBlogSite(properties, new ObjectMapper().findAndRegisterModules()),
+            CallContext.NONE, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useCase.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should render a post per resume with the index and topic pages when publishing")
+    void shouldRenderPostsAndListingsWhenPublishing() throws IOException {
+        // Arrange
+        Resume java = save("Java", "# Virtual threads\n\nThey are **cheap**.", CREATED);
+        Resume go = save("Go", "Goroutines & channels", CREATED.plusDays(1));
+
+        // Act
+        BlogPublishResponse response = useCase.publish(List.of(java.id(), go.id()));
+
+        // Assert
+        assertThat(response.published()).isEqualTo(2);
+        assertThat(response.rendered()).isEqualTo(2);
+        assertThat(response.listingPagesRendered()).isEqualTo(3);
+        String slug = "java-" + java.id().toString().substring(0, 8);
+        assertThat(read("posts/" + slug + ".html"))
+            .contains("<h1>Virtual threads</h1>", "<p>They are <strong>cheap</strong>.</p>", "../topics/java.html");
+        assertThat(read("posts/" + slug + ".md")).startsWith("---\ntitle: \"Virtual threads\"").endsWith("They are **cheap**.\n");
+        assertThat(read("index.html")).containsSubsequence("Goroutines &amp; channels", "Virtual threads");
+        assertThat(read("topics/go.html")).contains("Goroutines &amp; channels").doesNotContain("Virtual threads");
+    }
+
+    @Test
+    @DisplayName("Should render only the changed post and the listings it appears on when publishing again")
+    void shouldRenderOnlyChangedPostWhenPublishingAgain() throws IOException {
+        // Arrange
+        Resume java = save("Java", "Virtual threads", CREATED);
+        Resume go = save("Go", "Goroutines", CREATED);
+        Resume rust = save("Rust", "Ownership", CREATED);
+        useCase.publish(List.of(java.id(), go.id(), rust.id()));
+        Object goInode = Files.getAttribute(post(go), "unix:ino");
+        Object rustInode = Files.getAttribute(post(rust), "unix:ino");
+
+        // Act
+        resumes.put(java.id(), new Resume(java.id(), "Java", "Structured concurrency", CREATED, CREATED.plusHours(1)));
+        resumes.put(go.id(), new Resume(go.id(), "Go", "Goroutines", CREATED, CREATED.plusHours(1)));
+        BlogPublishResponse response = useCase.publish(null);
+
+        // Assert
+        assertThat(response.rendered()).isEqualTo(1);
+        assertThat(response.unchanged()).isEqualTo(2);
+        assertThat(response.listingPagesRendered()).isEqualTo(2);
+        assertThat(read("topics/java.html")).contains("Structured concurrency");
+        // Posts that were not rendered again are the same files, linked into the new version
+        assertThat(Files.getAttribute(post(go), "unix:ino")).isEqualTo(goInode);
+        assertThat(Files.getAttribute(post(rust), "unix:ino")).isEqualTo(rustInode);
+        // Rust's updatedAt did not move, so only Java and Go had their bodies loaded again
+        verify(repository).findAllByIds(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(java.id(), go.id()))));
+    }
+
+    @Test
+    @DisplayName("Should remove the post and its topic page when unpublishing the last resume of a topic")
+    void shouldRemovePostAndTopicPageWhenUnpublishing() throws IOException {
+        // Arrange
+        Resume java = save("Java", "Virtual threads", CREATED);
+        Resume go = save("Go", "Goroutines", CREATED);
+        useCase.publish(List.of(java.id(), go.id()));
+
+        // Act
+        BlogPublishResponse response = useCase.unpublish(List.of(go.id()));
+
+        // Assert
+        assertThat(response.published()).isEqualTo(1);
+        assertThat(response.removed()).isEqualTo(1);
+        assertThat(post(go)).doesNotExist();
+        assertThat(directory.resolve("current/topics/go.html")).doesNotExist();
+        assertThat(read("index.html")).contains("Virtual threads").doesNotContain("Goroutines");
+    }
+
+    @Test
+    @DisplayName("Should throw exception when publishing resumes that do not exist")
+    void shouldThrowExceptionWhenPublishingUnknownResumes() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.publish(List.of(UUID.randomUUID())))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("resumes not found");
+    }
+
+    private Resume save(String topic, String content, LocalDateTime createdAt) {
+        final Resume resume = new Resume(UUID.randomUUID(), topic, content, createdAt, createdAt);
+        resumes.put(resume.id(), resume);
+        return resume;
+    }
+
+    private Path post(Resume resume) {
+        return directory.resolve("current/posts/" + resume.topic().toLowerCase() + "-" + resume.id().toString().substring(0, 8) + ".html");
+    }
+
+    private String read(String path) throws IOException {
+        return Files.readString(directory.resolve("current").resolve(path));
+    }
+}
@@ -0,0 +1,107 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.andrelucas.business.ResumeContentSlice;
+import io.andrelucas.business.repositories.ResumeRepository;
+
+class ReadResumeContentRangeUseCaseTest {
+
+    private ResumeRepository repository;
+    private ReadResumeContentRangeUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ResumeRepository.class);
+        useCase = new ReadResumeContentRangeUseCase(repository);
+    }
+
+    @Test
+    @DisplayName("Should return the requested slice when resume exists")
+    void shouldReturnSliceWhenResumeExists() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        ResumeContentSlice slice = ResumeContentSlice.of(id, 10, "0123456789", 100);
+
+        when(repository.readContent(id, 10, 10)).thenReturn(Optional.of(slice));
+
+        // Act
+        ResumeContentSlice result = useCase.read(id, 10, 10);
+
+        // Assert
+        assertThat(result)
+            .isNotNull()
+            .satisfies(s -> {
+                assertThat(s.content()).isEqualTo("0123456789");
+                assertThat(s.length()).isEqualTo(10);
+                assertThat(s.totalLength()).isEqualTo(100);
+                assertThat(s.hasMore()).isTrue();
+            });
+
+        verify(repository).readContent(id, 10, 10);
+    }
+
+    @Test
+    @DisplayName("Should report no more content when slice reaches the end")
+    void shouldReportNoMoreContentWhenSliceReachesTheEnd() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+
+        // Act
+        ResumeContentSlice slice = ResumeContentSlice.of(id, 95, "56789", 100);
+
+        // Assert
+        assertThat(slice.hasMore()).isFalse();
+        assertThat(slice.length()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when resume does not exist")
+    void shouldThrowExceptionWhenResumeDoesNotExist() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        when(repository.readContent(id, 0, 10)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.read(id, 0, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("not found");
+    }
+
+    @Test
+    @DisplayName("Should throw exception when offset is negative")
+    void shouldThrowExceptionWhenOffsetIsNegative() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.read(UUID.randomUUID(), -1, 10))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("offset must not be less than zero");
+
+        verifyNoInteractions(repository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, ReadResumeContentRangeUseCase.MAX_SLICE_LENGTH + 1})
+    @DisplayName("Should throw exception when length is out of bounds")
+    void shouldThrowExceptionWhenLengthIsOutOfBounds(int invalidLength) {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.read(UUID.randomUUID(), 0, invalidLength))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("length must be between 1 and");
+
+        verifyNoInteractions(repository);
+    }
+}
@@ -0,0 +1,96 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.SemanticMatch;
+import io.andrelucas.business.SemanticSearchHit;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ResumeSemanticIndex;
+
+class SemanticSearchResumesUseCaseTest {
+
+    private ResumeSemanticIndex semanticIndex;
+    private ResumeRepository repository;
+    private SemanticSearchResumesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        semanticIndex = mock(ResumeSemanticIndex.class);
+        repository = mock(ResumeRepository.class);
+        useCase = new SemanticSearchResumesUseCase(semanticIndex, repository);
+    }
+
+    @Test
+    @DisplayName("Should return hits in similarity order when index finds matches")
+    void shouldReturnHitsInSimilarityOrderWhenIndexFindsMatches() {
+        // Arrange
+        Resume closest = new Resume(UUID.randomUUID(), "Backpressure", "Reactive streams", LocalDateTime.now(), LocalDateTime.now());
+        Resume second = new Resume(UUID.randomUUID(), "Queues", "Bounded queues", LocalDateTime.now(), LocalDateTime.now());
+
+        when(semanticIndex.search("backpressure", 2)).thenReturn(List.of(
+            new SemanticMatch(closest.id(), 0.9),
+            new SemanticMatch(second.id(), 0.4)));
+        when(repository.findAllByIds(anyCollection())).thenReturn(List.of(second, closest));
+
+        // Act
+        List<SemanticSearchHit> hits = useCase.search("backpressure", 2);
+
+        // Assert
+        assertThat(hits).extracting(hit -> hit.resume().topic()).containsExactly("Backpressure", "Queues");
+        assertThat(hits).extracting(SemanticSearchHit::score).containsExactly(0.9, 0.4);
+        verify(repository).findAllByIds(List.of(closest.id(), second.id()));
+    }
+
+    @Test
+    @DisplayName("Should not query the repository when index finds nothing")
+    void shouldNotQueryRepositoryWhenIndexFindsNothing() {
+        // Arrange
+        when(semanticIndex.search("anything", 5)).thenReturn(List.of());
+
+        // Act
+        List<SemanticSearchHit> hits = useCase.search("anything", 5);
+
+        // Assert
+        assertThat(hits).isEmpty();
+        verifyNoInteractions(repository);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   "})
+    @DisplayName("Should throw exception when query is blank")
+    void shouldThrowExceptionWhenQueryIsBlank(String invalidQuery) {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.search(invalidQuery, 5))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("query cannot be null or empty");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, SemanticSearchResumesUseCase.MAX_LIMIT + 1})
+    @DisplayName("Should throw exception when limit is out of bounds")
+    void shouldThrowExceptionWhenLimitIsOutOfBounds(int invalidLimit) {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.search("query", invalidLimit))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("limit must be between 1 and");
+    }
+}
@@ -0,0 +1,126 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry registry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(registry, (ReadPreferencePolicy) null);
+    }
+
+    @Test
+    @DisplayName("Should run identical concurrent reads once and share the result")
+    void shouldRunIdenticalConcurrentReadsOnce() throws Exception {
+        // Arrange
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() ->
+            singleFlight.execute("latest", List.of(0, 20), () -> {
+                executions.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "page";
+            }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // Act
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() ->
+            singleFlight.execute("latest", List.of(0, 20), () -> {
+                executions.incrementAndGet();
+                return "another page";
+            }));
+        while (registry.find("resume.reads").tag("outcome", "joined").counter() == null) {
+            Thread.sleep(5);
+        }
+        release.countDown();
+
+        // Assert
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("page");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("page");
+        assertThat(executions).hasValue(1);
+        assertThat(registry.get("resume.reads").tag("outcome", "queried").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not share a read that started before a write completed")
+    void shouldNotShareReadStartedBeforeWrite() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> before = CompletableFuture.supplyAsync(() ->
+            singleFlight.execute("latest", List.of(0, 20), () -> {
+                started.countDown();
+                await(release);
+                return "before the write";
+            }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // Act
+        singleFlight.writeCompleted();
+        String after = singleFlight.execute("latest", List.of(0, 20), () -> "after the write");
+        release.countDown();
+
+        // Assert
+        assertThat(after).isEqualTo("after the write");
+        assertThat(before.get(5, TimeUnit.SECONDS)).isEqualTo("before the write");
+    }
+
+    @Test
+    @DisplayName("Should fail every waiting caller when the shared read fails and keep nothing afterwards")
+    void shouldFailWaitingCallersWhenSharedReadFails() throws Exception {
+        // Arrange
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() ->
+            singleFlight.execute("topic", List.of("Java"), () -> {
+                started.countDown();
+                await(release);
+                throw new IllegalStateException("connection reset");
+            }));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() ->
+            singleFlight.execute("topic", List.of("Java"), () -> "unused"));
+        while (registry.find("resume.reads").tag("outcome", "joined").counter() == null) {
+            Thread.sleep(5);
+        }
+
+        // Act
+        release.countDown();
+
+        // Assert
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasRootCauseMessage("connection reset");
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThat(singleFlight.execute("topic", List.of("Java"), () -> "retried")).isEqualTo("retried");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
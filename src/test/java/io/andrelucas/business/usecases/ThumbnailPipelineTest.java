@@ -0,0 +1,107 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ThumbnailProperties;
+import io.andrelucas.business.TitleCard;
+import io.andrelucas.business.repositories.ResumeThumbnails;
+import io.andrelucas.business.repositories.TitleCardRenderer;
+import io.andrelucas.data_provider.blob.LocalBlobStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ThumbnailPipelineTest {
+
+    @TempDir
+    Path directory;
+
+    private TitleCardRenderer renderer;
+    private ResumeThumbnails thumbnails;
+    private SimpleMeterRegistry registry;
+    private ThumbnailPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        renderer = mock(TitleCardRenderer.class);
+        when(renderer.version()).thenReturn("1");
+        when(renderer.contentType()).thenReturn("image/png");
+        when(renderer.render(any(TitleCard.class))).thenReturn(new byte[] {1, 2, 3});
+        thumbnails = mock(ResumeThumbnails.class);
+        registry = new SimpleMeterRegistry();
+        pipeline = new ThumbnailPipeline(new LocalBlobStore(directory), renderer, thumbnails,
+            new ThumbnailProperties(true, 1200, 630, 1, 1), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should render a card once and reuse the image for every resume with the same topic and headline")
+    void shouldReuseImageWhenRenderInputsAreEqual() {
+        // Arrange
+        Resume first = Resume.create("Records", "# Records in Java\n\nTransparent carriers of data.");
+        Resume second = Resume.create("Records", "Records in Java\nA different body under the same headline.");
+
+        // Act
+        String firstRef = pipeline.render(first.id(), TitleCard.of(first, 1200, 630));
+        String secondRef = pipeline.render(second.id(), TitleCard.of(second, 1200, 630));
+
+        // Assert
+        assertThat(secondRef).isEqualTo(firstRef).startsWith("thumbnails/").endsWith(".png");
+        verify(renderer, times(1)).render(any(TitleCard.class));
+        verify(thumbnails).attach(first.id(), firstRef);
+        verify(thumbnails).attach(second.id(), secondRef);
+        assertThat(registry.get("thumbnail.renders").tag("outcome", "cached").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should drop thumbnails instead of blocking the caller when the queue is full")
+    void shouldDropThumbnailWhenQueueIsFull() throws Exception {
+        // Arrange
+        CountDownLatch rendering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(renderer.render(any(TitleCard.class))).thenAnswer(invocation -> {
+            rendering.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new byte[] {1};
+        });
+        pipeline.request(Resume.create("Busy", "Takes the only thread"));
+        rendering.await(5, TimeUnit.SECONDS);
+        pipeline.request(Resume.create("Queued", "Takes the only queue slot"));
+
+        // Act
+        pipeline.request(Resume.create("Dropped", "Finds no room"));
+        release.countDown();
+
+        // Assert
+        assertThat(registry.get("thumbnail.renders").tag("outcome", "rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should key a card by its headline, the first non-blank line without Markdown markers")
+    void shouldTakeHeadlineFromFirstLine() {
+        // Act
+        TitleCard card = TitleCard.of(Resume.create("Kafka", "\n\n## Partitions explained  \nBody"), 1200, 630);
+
+        // Assert
+        assertThat(card.headline()).isEqualTo("Partitions explained");
+        assertThat(pipeline.key(card)).isNotEqualTo(pipeline.key(new TitleCard("Kafka", "Other", 1200, 630)));
+    }
+}
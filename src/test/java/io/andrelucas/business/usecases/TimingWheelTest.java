@@ -0,0 +1,115 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    private static final long START = 1_000_000;
+
+    private TimingWheel<String> wheel;
+    private List<String> expired;
+
+    @BeforeEach
+    void setUp() {
+        // 10 ms ticks, 4 slots per level, 3 levels: 40 ms, 160 ms and 640 ms per rotation
+        wheel = new TimingWheel<>(10, 4, 3, START);
+        expired = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("Should expire each key at the first tick at or after its deadline, across levels")
+    void shouldExpireKeysAtTheirDeadlineAcrossLevels() {
+        // Arrange
+        wheel.schedule("level 0", START + 25);
+        wheel.schedule("level 1", START + 95);
+        wheel.schedule("level 2", START + 600);
+
+        // Act & Assert
+        wheel.advance(START + 29, expired::add);
+        assertThat(expired).isEmpty();
+        wheel.advance(START + 30, expired::add);
+        assertThat(expired).containsExactly("level 0");
+        wheel.advance(START + 99, expired::add);
+        assertThat(expired).containsExactly("level 0");
+        wheel.advance(START + 100, expired::add);
+        assertThat(expired).containsExactly("level 0", "level 1");
+        wheel.advance(START + 599, expired::add);
+        assertThat(expired).hasSize(2);
+        wheel.advance(START + 600, expired::add);
+        assertThat(expired).containsExactly("level 0", "level 1", "level 2");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should expire keys beyond the top level once they come within range")
+    void shouldExpireKeysBeyondTopLevelWhenInRange() {
+        // Arrange
+        wheel.schedule("far", START + 2_000);
+
+        // Act
+        wheel.advance(START + 1_990, expired::add);
+        List<String> early = List.copyOf(expired);
+        wheel.advance(START + 2_000, expired::add);
+
+        // Assert
+        assertThat(early).isEmpty();
+        assertThat(expired).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("Should not expire cancelled keys and use the latest deadline of rescheduled ones")
+    void shouldSkipCancelledAndRescheduledKeys() {
+        // Arrange
+        wheel.schedule("cancelled", START + 20);
+        wheel.schedule("moved", START + 20);
+        wheel.schedule("moved", START + 300);
+
+        // Act
+        boolean cancelled = wheel.cancel("cancelled");
+        wheel.advance(START + 290, expired::add);
+        List<String> early = List.copyOf(expired);
+        wheel.advance(START + 300, expired::add);
+
+        // Assert
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.cancel("cancelled")).isFalse();
+        assertThat(early).isEmpty();
+        assertThat(expired).containsExactly("moved");
+    }
+
+    @Test
+    @DisplayName("Should expire keys scheduled in the past at the next advance, and many keys in deadline order")
+    void shouldExpirePastKeysAndManyKeysInOrder() {
+        // Arrange
+        wheel.schedule("overdue", START - 500);
+        IntStream.range(0, 1_000).map(i -> 999 - i).forEach(i -> wheel.schedule("key-" + i, START + 10 + i * 10L));
+
+        // Act
+        wheel.advance(START, expired::add);
+        List<String> overdue = List.copyOf(expired);
+        expired.clear();
+        wheel.advance(START + 10_000, expired::add);
+
+        // Assert
+        assertThat(overdue).containsExactly("overdue");
+        assertThat(expired).containsExactlyElementsOf(IntStream.range(0, 1_000).mapToObj(i -> "key-" + i).toList());
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the wheel size is not a power of two")
+    void shouldThrowExceptionWhenWheelSizeIsNotPowerOfTwo() {
+        // Act & Assert
+        assertThatThrownBy(() -> new TimingWheel<String>(10, 6, 3, START))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("wheelSize must be a power of two");
+    }
+}
@@ -0,0 +1,268 @@
+package io.andrelucas.business.usecases;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeResponse;
+import io.andrelucas.business.ResumeRevision;
+import io.andrelucas.business.ResumeRevisionResponse;
+import io.andrelucas.business.RevisionProperties;
+import io.andrelucas.business.repositories.ReadPreferencePolicy;
+import io.andrelucas.business.repositories.ResumeDuplicateIndex;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ResumeRevisions;
+import io.andrelucas.business.repositories.ResumeSemanticIndex;
+import io.andrelucas.data_provider.memory.InMemoryResumeRevisions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UpdateResumeUseCaseTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    private final Map<UUID, Resume> resumes = new LinkedHashMap<>();
+    private ResumeRepository repository;
+    private ResumeHistory history;
+    private UpdateResumeUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ResumeRepository.class);
+        when(repository.findAllByIds(any())).thenAnswer(invocation -> {
+            final Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().filter(resumes::containsKey).map(resumes::get).toList();
+        });
+        when(repository.save(any())).thenAnswer(invocation -> {
+            final Resume resume = invocation.getArgument(0);
+            resumes.put(resume.id(), resume);
+            return resume;
+        });
+        history = new ResumeHistory(new InMemoryResumeRevisions(), new RevisionProperties(5));
+        useCase = useCase(history);
+    }
+
+    @Test
+    @DisplayName("Should keep the replaced version as the first revision when updating a resume without history")
+    void shouldKeepReplacedVersionWhenUpdatingResumeWithoutHistory() {
+        // Arrange
+        Resume resume = save("Java", "Virtual threads are cheap.\n");
+
+        // Act
+        ResumeResponse response = useCase.update(resume.id(), "Concurrency", "Virtual threads are cheap.\nUse them.\n");
+
+        // Assert
+        assertThat(response.topic()).isEqualTo("Concurrency");
+        assertThat(response.createdAt()).isEqualTo(CREATED);
+        assertThat(history.list(resume.id()))
+            .extracting(ResumeRevisionResponse::number, ResumeRevisionResponse::topic, ResumeRevisionResponse::snapshot)
+            .containsExactly(
+                tuple(1, "Java", true),
+                tuple(2, "Concurrency", false));
+        assertThat(history.materialize(resume.id(), 1).content()).isEqualTo("Virtual threads are cheap.\n");
+        assertThat(history.materialize(resume.id(), 2).content()).isEqualTo("Virtual threads are cheap.\nUse them.\n");
+    }
+
+    @Test
+    @DisplayName("Should store edits rather than whole versions and a snapshot every snapshotEvery revisions")
+    void shouldStoreEditsAndPeriodicSnapshotsWhenEditingRepeatedly() {
+        // Arrange
+        String content = draft(300);
+        Resume resume = save("Java", content);
+        List<String> versions = new ArrayList<>(List.of(content));
+
+        // Act
+        for (int edit = 1; edit <= 12; edit++) {
+            content = content.replace("Paragraph " + edit * 10 + " ", "Paragraph " + edit * 10 + " (edited) ");
+            versions.add(content);
+            useCase.update(resume.id(), null, content);
+        }
+
+        // Assert
+        List<ResumeRevisionResponse> revisions = history.list(resume.id());
+        assertThat(revisions).hasSize(13);
+        assertThat(revisions).filteredOn(ResumeRevisionResponse::snapshot)
+            .extracting(ResumeRevisionResponse::number)
+            .containsExactly(1, 6, 11);
+        int stored = revisions.stream().mapToInt(ResumeRevisionResponse::storedChars).sum();
+        assertThat(stored).isLessThan(4 * content.length());
+        for (int number = 1; number <= versions.size(); number++) {
+            assertThat(history.materialize(resume.id(), number).content()).isEqualTo(versions.get(number - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Should not add a revision when saving the same topic and content again")
+    void shouldNotAddRevisionWhenNothingChanged() {
+        // Arrange
+        Resume resume = save("Java", "Virtual threads");
+        useCase.update(resume.id(), null, "Structured concurrency");
+
+        // Act
+        useCase.update(resume.id(), "Java", "Structured concurrency");
+
+        // Assert
+        assertThat(history.list(resume.id())).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should record the update after the other revision when another instance takes its number first")
+    void shouldRetryRecordingWhenAnotherInstanceTookRevisionNumber() {
+        // Arrange
+        Resume resume = save("Java", "Virtual threads are cheap.\n");
+        InMemoryResumeRevisions store = new InMemoryResumeRevisions();
+        ResumeHistory otherInstance = new ResumeHistory(store, new RevisionProperties(5));
+        Resume concurrent = new Resume(resume.id(), "Java", "Virtual threads are cheap.\nPin less.\n", CREATED,
+            CREATED.plusMinutes(1));
+        ResumeRevisions racing = new ResumeRevisions() {
+            private boolean raced;
+
+            @Override
+            public boolean append(ResumeRevision revision) {
+                if (revision.number() == 2 && !raced) {
+                    raced = true;
+                    otherInstance.record(concurrent, resume);
+                }
+                return store.append(revision);
+            }
+
+            @Override
+            public Optional<ResumeRevision> latest(UUID resumeId) {
+                return store.latest(resumeId);
+            }
+
+            @Override
+            public List<ResumeRevision> list(UUID resumeId) {
+                return store.list(resumeId);
+            }
+
+            @Override
+            public List<ResumeRevision> chain(UUID resumeId, int number) {
+                return store.chain(resumeId, number);
+            }
+        };
+        history = new ResumeHistory(racing, new RevisionProperties(5));
+
+        // Act
+        ResumeResponse response = useCase(history).update(resume.id(), null, "Virtual threads are cheap.\nUse them.\n");
+
+        // Assert
+        assertThat(response.content()).isEqualTo("Virtual threads are cheap.\nUse them.\n");
+        assertThat(history.list(resume.id())).extracting(ResumeRevisionResponse::number).containsExactly(1, 2, 3);
+        assertThat(history.materialize(resume.id(), 2).content()).isEqualTo("Virtual threads are cheap.\nPin less.\n");
+        assertThat(history.materialize(resume.id(), 3).content()).isEqualTo("Virtual threads are cheap.\nUse them.\n");
+    }
+
+    @Test
+    @DisplayName("Should keep the update when its revision cannot be recorded")
+    void shouldKeepUpdateWhenHistoryFails() {
+        // Arrange
+        Resume resume = save("Java", "Virtual threads are cheap.\n");
+        ResumeRevisions failing = mock(ResumeRevisions.class);
+        when(failing.latest(resume.id())).thenThrow(new IllegalStateException("revisions unavailable"));
+
+        // Act
+        ResumeResponse response = useCase(new ResumeHistory(failing, new RevisionProperties(5)))
+            .update(resume.id(), null, "Virtual threads are cheap.\nUse them.\n");
+
+        // Assert
+        assertThat(response.content()).isEqualTo("Virtual threads are cheap.\nUse them.\n");
+        assertThat(resumes.get(resume.id()).content()).isEqualTo("Virtual threads are cheap.\nUse them.\n");
+    }
+
+    @Test
+    @DisplayName("Should give up recording after a bounded number of attempts when other instances keep taking the number")
+    void shouldGiveUpRecordingWhenNumbersKeepBeingTaken() {
+        // Arrange
+        Resume resume = save("Java", "Virtual threads are cheap.\n");
+        ResumeRevisions contended = mock(ResumeRevisions.class);
+        when(contended.latest(resume.id())).thenReturn(Optional.empty());
+        when(contended.append(any())).thenReturn(false);
+
+        // Act
+        ResumeResponse response = useCase(new ResumeHistory(contended, new RevisionProperties(5)))
+            .update(resume.id(), null, "Virtual threads are cheap.\nUse them.\n");
+
+        // Assert
+        assertThat(response.content()).isEqualTo("Virtual threads are cheap.\nUse them.\n");
+        verify(contended, times(5)).append(any());
+    }
+
+    @Test
+    @DisplayName("Should leave out a save recorded after a later one")
+    void shouldLeaveOutSaveWhenLaterOneWasRecordedFirst() {
+        // Arrange
+        Resume resume = save("Java", "Virtual threads are cheap.\n");
+        Resume later = new Resume(resume.id(), "Java", "Virtual threads are cheap.\nPin less.\n", CREATED,
+            CREATED.plusMinutes(2));
+        Resume earlier = new Resume(resume.id(), "Java", "Virtual threads are cheap.\nUse them.\n", CREATED,
+            CREATED.plusMinutes(1));
+        history.record(later, resume);
+
+        // Act
+        history.record(earlier, resume);
+
+        // Assert
+        assertThat(history.list(resume.id())).extracting(ResumeRevisionResponse::number).containsExactly(1, 2);
+        assertThat(history.materialize(resume.id(), 2).content()).isEqualTo("Virtual threads are cheap.\nPin less.\n");
+    }
+
+    @Test
+    @DisplayName("Should throw exception when materializing a revision that does not exist")
+    void shouldThrowExceptionWhenMaterializingUnknownRevision() {
+        // Arrange
+        Resume resume = save("Java", "Virtual threads");
+        useCase.update(resume.id(), null, "Structured concurrency");
+
+        // Act & Assert
+        assertThatThrownBy(() -> history.materialize(resume.id(), 3))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Revision not found");
+    }
+
+    @Test
+    @DisplayName("Should throw exception when updating a resume that does not exist")
+    void shouldThrowExceptionWhenUpdatingUnknownResume() {
+        // Act & Assert
+        assertThatThrownBy(() -> useCase.update(UUID.randomUUID(), null, "content"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("Resume not found");
+    }
+
+    private UpdateResumeUseCase useCase(ResumeHistory history) {
+        return new UpdateResumeUseCase(repository, mock(ResumeSemanticIndex.class), mock(ResumeDuplicateIndex.class),
+            new SingleFlight(new SimpleMeterRegistry(), (ReadPreferencePolicy) null), mock(ThumbnailPipeline.class), history);
+    }
+
+    private Resume save(String topic, String content) {
+        final Resume resume = new Resume(UUID.randomUUID(), topic, content, CREATED, CREATED);
+        resumes.put(resume.id(), resume);
+        return resume;
+    }
+
+    private static String draft(int paragraphs) {
+        return IntStream.range(0, paragraphs)
+            .mapToObj(i -> "Paragraph " + i + " of a draft that is being edited over and over.\n")
+            .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,74 @@
+package io.andrelucas.data_provider.blob;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LocalBlobStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private LocalBlobStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalBlobStore(directory);
+    }
+
+    @Test
+    @DisplayName("Should read back, replace and delete a blob under a nested key")
+    void shouldStoreReplaceAndDeleteBlob() {
+        // Arrange
+        store.put("thumbnails/abc.png", bytes("first"), "image/png");
+
+        // Act
+        store.put("thumbnails/abc.png", bytes("second"), "image/png");
+
+        // Assert
+        assertThat(store.exists("thumbnails/abc.png")).isTrue();
+        assertThat(store.get("thumbnails/abc.png")).get().isEqualTo(bytes("second"));
+        store.delete("thumbnails/abc.png");
+        assertThat(store.exists("thumbnails/abc.png")).isFalse();
+        assertThat(store.get("thumbnails/abc.png")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should transfer only the requested byte range to the target channel")
+    void shouldTransferRequestedRange() {
+        // Arrange
+        store.put("resume-content/body.txt", bytes("0123456789"), "text/plain");
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+        // Act
+        long transferred = store.transferTo("resume-content/body.txt", 7, 10, Channels.newChannel(target));
+
+        // Assert
+        assertThat(transferred).isEqualTo(3);
+        assertThat(target.toString(StandardCharsets.UTF_8)).isEqualTo("789");
+        assertThatThrownBy(() -> store.transferTo("missing.txt", 0, 1, Channels.newChannel(target)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("Should throw IllegalArgumentException when the key escapes the store directory")
+    void shouldThrowWhenKeyEscapesDirectory() {
+        // Act & Assert
+        assertThatThrownBy(() -> store.put("../outside.png", bytes("x"), "image/png"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid blob key: ../outside.png");
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
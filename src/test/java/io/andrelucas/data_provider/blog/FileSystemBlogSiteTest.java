@@ -0,0 +1,123 @@
+package io.andrelucas.data_provider.blog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.andrelucas.business.BlogEntry;
+import io.andrelucas.business.BlogProperties;
+
+class FileSystemBlogSiteTest {
+
+    @TempDir
+    Path directory;
+
+    private FileSystemBlogSite site;
+
+    @BeforeEach
+    void setUp() {
+        site = new FileSystemBlogSite(new BlogProperties(directory.toString(), "Notes", 1, 2), new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("Should swap current to each new version and keep only the newest ones")
+    void shouldSwapCurrentAndPruneOldVersionsWhenPublishing() throws IOException {
+        // Arrange
+        BlogEntry entry = new BlogEntry(UUID.randomUUID(), "java-1", "Virtual threads", "Java", "java", "hash",
+            LocalDateTime.of(2025, 3, 1, 10, 0), LocalDateTime.of(2025, 3, 1, 10, 0));
+        site.publish(List.of(entry), Map.of("index.html", "first", "posts/java-1.html", "post"), Set.of());
+
+        // Act
+        site.publish(List.of(entry), Map.of("index.html", "second"), Set.of());
+        String version = site.publish(List.of(), Map.of("index.html", "third"), Set.of("posts/java-1.html"));
+
+        // Assert
+        assertThat(version).isEqualTo("3");
+        assertThat(directory.resolve("current").toRealPath()).isEqualTo(directory.resolve("versions/3").toRealPath());
+        assertThat(Files.readString(directory.resolve("current/index.html"))).isEqualTo("third");
+        assertThat(directory.resolve("current/posts/java-1.html")).doesNotExist();
+        assertThat(directory.resolve("versions/2/index.html")).hasContent("second");
+        assertThat(directory.resolve("versions/1")).doesNotExist();
+        assertThat(site.load()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should write only the changed pages and share the rest with the previous version")
+    void shouldWriteOnlyChangedPagesWhenPublishing() throws IOException {
+        // Arrange
+        site.publish(List.of(), Map.of("index.html", "first", "posts/java-1.html", "one", "posts/java-2.html", "two"), Set.of());
+        Object unchanged = fileKey(directory.resolve("pages/posts/java-1.html"));
+
+        // Act
+        site.publish(List.of(), Map.of("index.html", "second", "posts/java-2.html", "two again"), Set.of());
+
+        // Assert
+        assertThat(fileKey(directory.resolve("pages/posts/java-1.html"))).isEqualTo(unchanged);
+        assertThat(directory.resolve("versions/2/posts")).isSymbolicLink();
+        assertThat(directory.resolve("current/posts/java-1.html")).hasContent("one");
+        assertThat(directory.resolve("current/posts/java-2.html")).hasContent("two again");
+        assertThat(directory.resolve("versions/1/index.html")).hasContent("first");
+        assertThat(directory.resolve("current/index.html")).hasContent("second");
+    }
+
+    @Test
+    @DisplayName("Should share the directories of a live version that holds its own copy of them")
+    void shouldAdoptLiveDirectoriesWhenLiveVersionHoldsCopies() throws IOException {
+        // Arrange
+        Files.createDirectories(directory.resolve("versions/1/posts"));
+        Files.writeString(directory.resolve("versions/1/posts/java-1.html"), "post");
+        Files.writeString(directory.resolve("versions/1/index.html"), "first");
+        Files.createSymbolicLink(directory.resolve("current"), Path.of("versions/1"));
+
+        // Act
+        site.publish(List.of(), Map.of("index.html", "second"), Set.of());
+
+        // Assert
+        assertThat(directory.resolve("versions/2/posts")).isSymbolicLink();
+        assertThat(directory.resolve("current/posts/java-1.html")).hasContent("post");
+        assertThat(directory.resolve("pages/posts/java-1.html")).hasContent("post");
+    }
+
+    @Test
+    @DisplayName("Should load the entries listed by the live version")
+    void shouldLoadEntriesOfLiveVersion() {
+        // Arrange
+        BlogEntry entry = new BlogEntry(UUID.randomUUID(), "java-1", "Virtual threads", "Java", "java", "hash",
+            LocalDateTime.of(2025, 3, 1, 10, 0), LocalDateTime.of(2025, 3, 2, 8, 30));
+
+        // Act
+        site.publish(List.of(entry), Map.of("index.html", "index"), Set.of());
+
+        // Assert
+        assertThat(site.load()).containsExactly(entry);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when a page path leaves the site")
+    void shouldThrowExceptionWhenPagePathLeavesSite() {
+        // Act & Assert
+        assertThatThrownBy(() -> site.publish(List.of(), Map.of("../outside.html", "nope"), Set.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid page path: ../outside.html");
+    }
+
+    private static Object fileKey(Path file) throws IOException {
+        return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+    }
+}
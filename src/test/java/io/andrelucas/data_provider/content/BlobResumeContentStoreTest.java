@@ -0,0 +1,93 @@
+package io.andrelucas.data_provider.content;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.andrelucas.data_provider.blob.LocalBlobStore;
+
+class BlobResumeContentStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private LocalBlobStore blobs;
+    private GridFsResumeContentStore legacy;
+    private BlobResumeContentStore store;
+
+    @BeforeEach
+    void setUp() {
+        blobs = new LocalBlobStore(directory);
+        legacy = mock(GridFsResumeContentStore.class);
+        store = new BlobResumeContentStore(blobs, new ResumeContentProperties(16, "blob"), legacy);
+    }
+
+    @Test
+    @DisplayName("Should keep inline only the leading chars that fit in the threshold when a body is offloaded")
+    void shouldCutPrefixAtThresholdWhenBodyIsOffloaded() {
+        // Arrange
+        String content = "héllo wörld, this body is over the threshold";
+
+        // Act
+        String prefix = store.searchablePrefix(content);
+
+        // Assert
+        assertThat(prefix).isEqualTo("héllo wörld, t");
+    }
+
+    @Test
+    @DisplayName("Should keep the same reference when the same body is stored again")
+    void shouldKeepReferenceWhenBodyIsUnchanged() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        String content = "Résumé body ".repeat(100);
+
+        // Act
+        String first = store.store(id, content);
+        String second = store.store(id, content);
+        String changed = store.store(id, content + "!");
+
+        // Assert
+        assertThat(second).isEqualTo(first).startsWith("resume-content/" + id + "/");
+        assertThat(changed).isNotEqualTo(first);
+        assertThat(store.read(first)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("Should read a char range of a body with multi-byte characters")
+    void shouldReadCharRangeWhenBodyHasMultiByteChars() {
+        // Arrange
+        String ref = store.store(UUID.randomUUID(), "ação".repeat(10));
+
+        // Act
+        String slice = store.read(ref, 38, 10);
+
+        // Assert
+        assertThat(slice).isEqualTo("ão");
+    }
+
+    @Test
+    @DisplayName("Should read and delete bodies offloaded to GridFS before the blob store")
+    void shouldDelegateToGridFsWhenReferenceIsLegacy() {
+        // Arrange
+        String legacyRef = "65f1c0ffee0000000000abcd";
+        when(legacy.read(legacyRef)).thenReturn("from GridFS");
+
+        // Act
+        String content = store.read(legacyRef);
+        store.delete(legacyRef);
+
+        // Assert
+        assertThat(content).isEqualTo("from GridFS");
+        verify(legacy).delete(legacyRef);
+    }
+}
@@ -0,0 +1,98 @@
+package io.andrelucas.data_provider.duplicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.andrelucas.business.MinHashSignature;
+import io.andrelucas.business.NearDuplicate;
+import io.andrelucas.business.repositories.ResumeRepository;
+
+class InMemoryLshResumeDuplicateIndexTest {
+
+    private static final String POST = "Virtual threads make blocking code cheap again. A request handler can "
+        + "call the database, wait for the result and carry on, while the JVM parks the virtual thread and "
+        + "reuses the carrier for other work instead of holding an expensive platform thread.";
+
+    private InMemoryLshResumeDuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryLshResumeDuplicateIndex(
+            mock(ResumeRepository.class),
+            new DuplicateDetectionProperties(0.7, 16, 8));
+    }
+
+    @Test
+    @DisplayName("Should find near duplicate when a slightly edited variant is indexed")
+    void shouldFindNearDuplicateWhenEditedVariantIsIndexed() {
+        // Arrange
+        UUID original = UUID.randomUUID();
+        index.add(original, MinHashSignature.of(POST));
+        index.add(UUID.randomUUID(), MinHashSignature.of("Completely unrelated text about gardening and tomatoes in spring."));
+
+        // Act
+        List<NearDuplicate> nearDuplicates = index.findNearDuplicates(
+            MinHashSignature.of(POST.replace("expensive platform thread", "costly platform thread")));
+
+        // Assert
+        assertThat(nearDuplicates).singleElement()
+            .satisfies(nearDuplicate -> {
+                assertThat(nearDuplicate.resumeId()).isEqualTo(original);
+                assertThat(nearDuplicate.similarity()).isGreaterThanOrEqualTo(0.7);
+            });
+    }
+
+    @Test
+    @DisplayName("Should return nothing when no similar resume is indexed")
+    void shouldReturnNothingWhenNoSimilarResumeIsIndexed() {
+        // Arrange
+        index.add(UUID.randomUUID(), MinHashSignature.of(POST));
+
+        // Act & Assert
+        assertThat(index.findNearDuplicates(MinHashSignature.of("Sourdough needs a lively starter and a hot oven.")))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should group near duplicates into clusters when listing the corpus")
+    void shouldGroupNearDuplicatesIntoClusters() {
+        // Arrange
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        UUID unrelated = UUID.randomUUID();
+        index.add(first, MinHashSignature.of(POST));
+        index.add(second, MinHashSignature.of(POST + " Give it a try."));
+        index.add(third, MinHashSignature.of(POST));
+        index.add(unrelated, MinHashSignature.of("Sourdough needs a lively starter and a hot oven."));
+
+        // Act
+        List<Set<UUID>> clusters = index.findClusters();
+
+        // Assert
+        assertThat(clusters).singleElement()
+            .satisfies(cluster -> assertThat(cluster).containsExactlyInAnyOrder(first, second, third));
+    }
+
+    @Test
+    @DisplayName("Should forget the previous signature when a resume is indexed again")
+    void shouldForgetPreviousSignatureWhenResumeIsIndexedAgain() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        index.add(id, MinHashSignature.of(POST));
+
+        // Act
+        index.add(id, MinHashSignature.of("Sourdough needs a lively starter and a hot oven."));
+
+        // Assert
+        assertThat(index.findNearDuplicates(MinHashSignature.of(POST))).isEmpty();
+    }
+}
@@ -0,0 +1,66 @@
+package io.andrelucas.data_provider.embedded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.andrelucas.business.Resume;
+
+class EmbeddedResumeDraftsTest {
+
+    private final List<Resume> saved = new ArrayList<>();
+    private EmbeddedResumeDrafts drafts;
+
+    @BeforeEach
+    void setUp() {
+        EmbeddedResumeRepository repository = mock(EmbeddedResumeRepository.class);
+        when(repository.save(any())).thenAnswer(invocation -> {
+            saved.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        drafts = new EmbeddedResumeDrafts(repository);
+    }
+
+    @Test
+    @DisplayName("Should save the draft on its first text so searches see it at once")
+    void shouldSaveDraftWhenFirstTextIsAppended() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        drafts.start(id, "Virtual threads");
+
+        // Act
+        drafts.append(id, "# Virtual");
+
+        // Assert
+        assertThat(saved).last().extracting(Resume::content).isEqualTo("# Virtual");
+    }
+
+    @Test
+    @DisplayName("Should write a long draft to the log a bounded number of times rather than once per append")
+    void shouldWriteLinearBytesWhenDraftIsStreamed() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        drafts.start(id, "Virtual threads");
+        String chunk = "0123456789";
+
+        // Act
+        for (int i = 0; i < 2000; i++) {
+            drafts.append(id, chunk);
+        }
+
+        // Assert
+        int length = 2000 * chunk.length();
+        long written = saved.stream().mapToLong(resume -> resume.content().length()).sum();
+        assertThat(written).isLessThanOrEqualTo((long) (length * (1 + 1 / EmbeddedResumeDrafts.GROWTH)));
+        assertThat(saved.get(saved.size() - 1).content().length()).isGreaterThanOrEqualTo((int) (length / (1 + EmbeddedResumeDrafts.GROWTH)));
+    }
+}
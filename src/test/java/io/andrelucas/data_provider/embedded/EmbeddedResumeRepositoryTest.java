@@ -0,0 +1,236 @@
+package io.andrelucas.data_provider.embedded;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.PageRequest;
+
+import io.andrelucas.business.Platform;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ResumeRepositoryContract;
+
+class EmbeddedResumeRepositoryTest implements ResumeRepositoryContract {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    private EmbeddedResumeRepository repository;
+
+    @Override
+    public ResumeRepository repository() {
+        return repository;
+    }
+
+    @Override
+    public void clear() {
+        repository = open(directory.resolve(UUID.randomUUID().toString()));
+    }
+
+    @Test
+    @DisplayName("Should restore every resume when the store is reopened")
+    void shouldRestoreEveryResumeWhenReopened() {
+        // Arrange
+        Path store = directory.resolve("reopen");
+        EmbeddedResumeRepository first = open(store);
+        Resume resume = first.save(Resume.create("Kafka", "Partitions and consumer groups"));
+        first.save(new Resume(resume.id(), "Kafka", "Partitions, consumer groups and rebalancing", resume.createdAt(), LocalDateTime.now()));
+        first.close();
+
+        // Act
+        EmbeddedResumeRepository reopened = open(store);
+
+        // Assert
+        assertThat(reopened.findAllByIds(List.of(resume.id()))).singleElement()
+            .extracting(Resume::content).isEqualTo("Partitions, consumer groups and rebalancing");
+    }
+
+    @Test
+    @DisplayName("Should restore variant groups when the store is reopened")
+    void shouldRestoreVariantGroupsWhenReopened() {
+        // Arrange
+        Path store = directory.resolve("groups");
+        EmbeddedResumeRepository first = open(store);
+        UUID groupId = UUID.randomUUID();
+        Resume single = first.save(Resume.create("Kafka", "Not a variant"));
+        Resume variant = first.save(Resume.create("Kafka", "Kafka for LinkedIn").inGroup(groupId, Platform.LINKEDIN));
+        first.close();
+
+        // Act
+        EmbeddedResumeRepository reopened = open(store);
+
+        // Assert
+        assertThat(reopened.findByGroupId(groupId)).singleElement()
+            .satisfies(restored -> {
+                assertThat(restored.id()).isEqualTo(variant.id());
+                assertThat(restored.platform()).isEqualTo(Platform.LINKEDIN);
+            });
+        assertThat(reopened.findAllByIds(List.of(single.id()))).singleElement()
+            .extracting(Resume::groupId).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop a torn record when recovering after a crash")
+    void shouldDropTornRecordWhenRecoveringAfterCrash() throws IOException {
+        // Arrange
+        Path store = directory.resolve("torn");
+        EmbeddedResumeRepository first = open(store);
+        Resume kept = first.save(Resume.create("Kept", "Written completely"));
+        Resume torn = first.save(Resume.create("Torn", "Only half of this record reached the disk"));
+        first.close();
+        corruptLastRecord(segmentFiles(store).get(0));
+
+        // Act
+        EmbeddedResumeRepository recovered = open(store);
+        Resume afterRecovery = recovered.save(Resume.create("After", "Written after recovery"));
+
+        // Assert
+        assertThat(recovered.findAllByIds(List.of(kept.id(), torn.id(), afterRecovery.id())))
+            .extracting(Resume::id)
+            .containsExactly(kept.id(), afterRecovery.id());
+        assertThat(open(store).findAllByIds(List.of(afterRecovery.id()))).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should delete sealed segments when their resumes were all overwritten")
+    void shouldDeleteSealedSegmentsWhenResumesWereOverwritten() throws IOException {
+        // Arrange
+        Path store = directory.resolve("compaction");
+        EmbeddedResumeRepository repository = open(store);
+        Resume resume = Resume.create("Compaction", "x".repeat(1000));
+        for (int i = 0; i < 20; i++) {
+            repository.save(new Resume(resume.id(), "Compaction", "version " + i + " " + "x".repeat(1000),
+                resume.createdAt(), LocalDateTime.now()));
+        }
+
+        // Act
+        repository.compact();
+
+        // Assert
+        assertThat(segmentFiles(store)).hasSize(1);
+        assertThat(repository.findByTopic("Compaction", PageRequest.of(0, 10)).getContent()).singleElement()
+            .extracting(Resume::content).asString().startsWith("version 19 ");
+        assertThat(open(store).findAllByIds(List.of(resume.id()))).singleElement()
+            .extracting(Resume::content).asString().startsWith("version 19 ");
+    }
+
+    @Test
+    @DisplayName("Should compact sparse segments in the background when resumes are overwritten")
+    void shouldCompactSparseSegmentsInBackgroundWhenResumesAreOverwritten() throws Exception {
+        // Arrange
+        Path store = directory.resolve("background");
+        EmbeddedResumeRepository repository = open(store);
+        Resume resume = Resume.create("Compaction", "x".repeat(1000));
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            repository.save(new Resume(resume.id(), "Compaction", "version " + i + " " + "x".repeat(1000),
+                resume.createdAt(), LocalDateTime.now()));
+        }
+
+        // Assert
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (segmentFiles(store).size() > 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(segmentFiles(store)).hasSizeLessThanOrEqualTo(2);
+        assertThat(repository.findAllByIds(List.of(resume.id()))).singleElement()
+            .extracting(Resume::content).asString().startsWith("version 19 ");
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Should keep a removed draft out of the store after compaction and reopening, and keep finished resumes")
+    void shouldKeepDraftRemovedWhenCompactedAndReopened() {
+        // Arrange
+        Path store = directory.resolve("drafts");
+        EmbeddedResumeRepository repository = open(store);
+        Resume draft = repository.save(Resume.create("Draft", "draft " + "x".repeat(1000)).asDraft());
+        Resume finished = Resume.create("Finished", "finished " + "x".repeat(1000));
+        repository.save(finished.asDraft());
+        repository.save(finished);
+        boolean savedAsDraft = repository.findAllByIds(List.of(draft.id())).get(0).draft();
+
+        // Act
+        repository.removeDraft(draft.id());
+        repository.removeDraft(finished.id());
+        Resume filler = Resume.create("Filler", "x".repeat(1000));
+        for (int i = 0; i < 10; i++) {
+            repository.save(new Resume(filler.id(), "Filler", "version " + i + " " + "x".repeat(1000),
+                filler.createdAt(), LocalDateTime.now()));
+        }
+        repository.compact();
+        repository.close();
+
+        // Assert
+        assertThat(savedAsDraft).isTrue();
+        assertThat(repository.findAllByIds(List.of(draft.id(), finished.id())))
+            .extracting(Resume::id).containsExactly(finished.id());
+        assertThat(open(store).findAllByIds(List.of(draft.id(), finished.id())))
+            .singleElement()
+            .satisfies(kept -> {
+                assertThat(kept.id()).isEqualTo(finished.id());
+                assertThat(kept.draft()).isFalse();
+            });
+    }
+
+    @Test
+    @DisplayName("Should give a large resume a segment of its own when it does not fit the segment size")
+    void shouldStoreLargeResumeWhenLargerThanSegmentSize() {
+        // Arrange
+        Path store = directory.resolve("large");
+        String content = "large ".repeat(SEGMENT_SIZE);
+
+        // Act
+        Resume resume = open(store).save(Resume.create("Large", content));
+
+        // Assert
+        assertThat(open(store).readContent(resume.id(), 0, Integer.MAX_VALUE).orElseThrow().content()).isEqualTo(content);
+    }
+
+    private static EmbeddedResumeRepository open(Path store) {
+        return new EmbeddedResumeRepository(new EmbeddedStoreProperties(store.toString(), SEGMENT_SIZE, 0.5, false));
+    }
+
+    private static List<Path> segmentFiles(Path store) throws IOException {
+        try (Stream<Path> files = Files.list(store)) {
+            return files.sorted().toList();
+        }
+    }
+
+    /**
+     * Flips a byte in the payload of the last record, as if the write had been cut short.
+     */
+    private static void corruptLastRecord(Path segment) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            int position = 0;
+            int last = 0;
+            while (true) {
+                file.seek(position);
+                int length = file.readInt();
+                if (length == 0) {
+                    break;
+                }
+                last = position;
+                position += Segment.HEADER_BYTES + length;
+            }
+            file.seek(last + Segment.HEADER_BYTES + 20);
+            int value = file.read();
+            file.seek(last + Segment.HEADER_BYTES + 20);
+            file.write(value ^ 0xFF);
+        }
+    }
+}
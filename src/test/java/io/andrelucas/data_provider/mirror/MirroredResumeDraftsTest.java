@@ -0,0 +1,93 @@
+package io.andrelucas.data_provider.mirror;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.PageRequest;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.data_provider.repository.MongoResumeDrafts;
+import io.andrelucas.data_provider.repository.MongoResumeRepository;
+
+class MirroredResumeDraftsTest {
+
+    private MongoResumeDrafts mongoDrafts;
+    private MongoResumeRepository mongoRepository;
+    private MirroredResumeRepository mirror;
+    private MirroredResumeDrafts drafts;
+
+    @BeforeEach
+    void setUp() {
+        mongoDrafts = mock(MongoResumeDrafts.class);
+        mongoRepository = mock(MongoResumeRepository.class);
+        when(mongoRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        mirror = new MirroredResumeRepository(mongoRepository, new MirrorProperties(true, 1 << 20));
+        mirror.load();
+        drafts = new MirroredResumeDrafts(mongoDrafts, mirror);
+    }
+
+    @Test
+    @DisplayName("Should show a draft in mirrored reads as it grows, after Mongo has each write")
+    void shouldShowGrowingDraftWhenReadsAreServedFromMirror() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+
+        // Act
+        drafts.start(id, "Virtual threads");
+        drafts.append(id, "# Virtual ");
+        drafts.append(id, "threads");
+
+        // Assert
+        InOrder inOrder = inOrder(mongoDrafts);
+        inOrder.verify(mongoDrafts).start(id, "Virtual threads");
+        inOrder.verify(mongoDrafts).append(id, "# Virtual ");
+        inOrder.verify(mongoDrafts).append(id, "threads");
+        assertThat(mirror.findByTopic("Virtual threads", PageRequest.of(0, 10)).getContent())
+            .singleElement()
+            .extracting(Resume::content)
+            .isEqualTo("# Virtual threads");
+    }
+
+    @Test
+    @DisplayName("Should keep the finished resume when the draft is finished after it was saved")
+    void shouldKeepFinishedResumeWhenDraftIsFinished() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        drafts.start(id, "Virtual threads");
+        drafts.append(id, "# Virtual");
+        mirror.save(Resume.create(id, "Virtual threads", "# Virtual threads, finished"));
+
+        // Act
+        drafts.finish(id);
+
+        // Assert
+        assertThat(mirror.findAllByIds(List.of(id)))
+            .singleElement()
+            .extracting(Resume::content)
+            .isEqualTo("# Virtual threads, finished");
+    }
+
+    @Test
+    @DisplayName("Should drop a draft that is finished without a resume saved over it")
+    void shouldDropDraftWhenNothingWasSavedOverIt() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        drafts.start(id, "Virtual threads");
+
+        // Act
+        drafts.finish(id);
+
+        // Assert
+        assertThat(mirror.findByTopic("Virtual threads", PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+}
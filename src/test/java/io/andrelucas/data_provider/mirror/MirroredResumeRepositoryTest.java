@@ -0,0 +1,145 @@
+package io.andrelucas.data_provider.mirror;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeSearchQuery;
+import io.andrelucas.business.SortDirection;
+import io.andrelucas.data_provider.repository.MongoResumeRepository;
+
+class MirroredResumeRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    private MongoResumeRepository delegate;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(MongoResumeRepository.class);
+    }
+
+    @Test
+    @DisplayName("Should serve latest resumes from memory when the mirror is loaded")
+    void shouldServeLatestResumesFromMemoryWhenMirrorIsLoaded() {
+        // Arrange
+        MirroredResumeRepository repository = loadedMirror(536870912L,
+            resume("Java", "Records and sealed types", NOW.minusDays(2)),
+            resume("Spring", "Spring AI tools", NOW.minusDays(1)),
+            resume("Java", "Virtual threads", NOW));
+
+        // Act
+        Page<Resume> page = repository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(Resume::content)
+            .containsExactly("Virtual threads", "Spring AI tools");
+        verifyNoMoreInteractions(delegate);
+    }
+
+    @Test
+    @DisplayName("Should filter and sort custom criteria in memory when the mirror is loaded")
+    void shouldFilterAndSortCustomCriteriaWhenMirrorIsLoaded() {
+        // Arrange
+        MirroredResumeRepository repository = loadedMirror(536870912L,
+            resume("Java", "Records and sealed types", NOW.minusDays(10)),
+            resume("Java", "Virtual THREADS in production", NOW.minusDays(3)),
+            resume("Java", "Threads and pools", NOW.minusDays(1)),
+            resume("Spring", "Threads in WebFlux", NOW.minusDays(2)));
+        ResumeSearchQuery query = new ResumeSearchQuery(
+            "Java", NOW.minusDays(5), NOW, "thread", "createdAt", SortDirection.ASC, 0, 10);
+
+        // Act
+        Page<Resume> page = repository.findByCustomCriteria(query, PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(page.getContent()).extracting(Resume::content)
+            .containsExactly("Virtual THREADS in production", "Threads and pools");
+    }
+
+    @Test
+    @DisplayName("Should exclude range bounds when finding by creation date between")
+    void shouldExcludeRangeBoundsWhenFindingByCreatedAtBetween() {
+        // Arrange
+        MirroredResumeRepository repository = loadedMirror(536870912L,
+            resume("Java", "At the lower bound", NOW.minusDays(2)),
+            resume("Java", "Inside", NOW.minusDays(1)),
+            resume("Java", "At the upper bound", NOW));
+
+        // Act
+        Page<Resume> page = repository.findByCreatedAtBetween(NOW.minusDays(2), NOW, PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(page.getContent()).extracting(Resume::content).containsExactly("Inside");
+    }
+
+    @Test
+    @DisplayName("Should write through to Mongo and mirror the saved resume when saving")
+    void shouldWriteThroughAndMirrorWhenSaving() {
+        // Arrange
+        MirroredResumeRepository repository = loadedMirror(536870912L);
+        Resume resume = new Resume(UUID.randomUUID(), "Kafka", "Partitions and consumer groups", NOW, NOW);
+        when(delegate.save(resume)).thenReturn(resume);
+
+        // Act
+        repository.save(resume);
+        Page<Resume> page = repository.findByTopic("Kafka", PageRequest.of(0, 10));
+
+        // Assert
+        verify(delegate).save(resume);
+        assertThat(page.getContent()).containsExactly(resume);
+        assertThat(repository.findAllByIds(List.of(resume.id()))).containsExactly(resume);
+    }
+
+    @Test
+    @DisplayName("Should fall back to Mongo when the memory budget is exceeded")
+    void shouldFallBackToMongoWhenMemoryBudgetIsExceeded() {
+        // Arrange
+        MirroredResumeRepository repository = loadedMirror(1024L,
+            resume("Java", "x".repeat(2048), NOW));
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(delegate.findAllByOrderByCreatedAtDesc(pageable)).thenReturn(Page.empty(pageable));
+
+        // Act
+        repository.findAllByOrderByCreatedAtDesc(pageable);
+
+        // Assert
+        assertThat(repository.isMirroring()).isFalse();
+        verify(delegate).findAllByOrderByCreatedAtDesc(pageable);
+    }
+
+    private MirroredResumeRepository loadedMirror(long memoryBudgetBytes, Resume... resumes) {
+        doAnswer(invocation -> {
+            Consumer<Resume> action = invocation.getArgument(0);
+            Stream.of(resumes).forEach(action);
+            return null;
+        }).when(delegate).forEach(any());
+        MirroredResumeRepository repository = new MirroredResumeRepository(
+            delegate, new MirrorProperties(true, memoryBudgetBytes));
+        repository.load();
+        verify(delegate).forEach(any());
+        return repository;
+    }
+
+    private static Resume resume(String topic, String content, LocalDateTime createdAt) {
+        return new Resume(UUID.randomUUID(), topic, content, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,152 @@
+package io.andrelucas.data_provider.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.mongodb.bulk.BulkWriteError;
+
+import io.andrelucas.business.repositories.LeaderLease;
+import io.andrelucas.data_provider.document.ResumeDocument;
+import io.andrelucas.data_provider.repository.ConcurrentPageQuery;
+
+class ResumeArchiverTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private MongoTemplate mongoTemplate;
+    private BulkOperations copies;
+    private BulkOperations removals;
+    private LeaderLease lease;
+    private ResumePartitions partitions;
+    private ResumeArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        copies = mock(BulkOperations.class);
+        removals = mock(BulkOperations.class);
+        lease = mock(LeaderLease.class);
+        when(lease.acquire(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(mongoTemplate.indexOps(any(String.class))).thenReturn(mock(IndexOperations.class));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ResumeDocument.class, ResumePartitions.ARCHIVE))
+            .thenReturn(copies);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ResumeDocument.class, "resumes"))
+            .thenReturn(removals);
+        when(copies.replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class))).thenReturn(copies);
+        when(removals.remove(any(Query.class))).thenReturn(removals);
+
+        ArchiveProperties properties = new ArchiveProperties(true, Duration.ofDays(90), Duration.ofHours(1), 2, "zstd");
+        partitions = new ResumePartitions(mongoTemplate, new ConcurrentPageQuery(), new PartitioningProperties(false, Duration.ofSeconds(30)), properties);
+        archiver = new ResumeArchiver(mongoTemplate, partitions, properties, lease);
+    }
+
+    @Test
+    @DisplayName("Should copy expired resumes to the archive in batches before removing them")
+    void shouldCopyExpiredResumesToArchiveBeforeRemovingThem() {
+        // Arrange
+        List<ResumeDocument> first = List.of(document(2024, 10), document(2024, 11));
+        List<ResumeDocument> second = List.of(document(2024, 12));
+        when(mongoTemplate.find(argThat(ResumeArchiverTest::expiredQuery), eq(ResumeDocument.class), eq("resumes")))
+            .thenReturn(first, second, List.of());
+
+        // Act
+        long moved = archiver.archive(CUTOFF);
+
+        // Assert
+        assertThat(moved).isEqualTo(3);
+        verify(copies, times(3)).replaceOne(any(Query.class), any(), any(FindAndReplaceOptions.class));
+        verify(removals, times(3)).remove(argThat((Query query) -> query.getQueryObject().containsKey("updatedAt")));
+        assertThat(partitions.archiving()).isFalse();
+        assertThat(partitions.overlapping(CUTOFF, null)).extracting(ResumePartition::collection).containsExactly("resumes");
+    }
+
+    @Test
+    @DisplayName("Should keep the archived copy when it is newer than the hot one")
+    void shouldKeepArchivedCopyWhenItIsNewer() {
+        // Arrange
+        List<ResumeDocument> batch = List.of(document(2024, 10));
+        when(mongoTemplate.find(argThat(ResumeArchiverTest::expiredQuery), eq(ResumeDocument.class), eq("resumes")))
+            .thenReturn(batch, List.of());
+        BulkOperationException duplicate = mock(BulkOperationException.class);
+        when(duplicate.getErrors()).thenReturn(List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0)));
+        when(copies.execute()).thenThrow(duplicate);
+
+        // Act
+        long moved = archiver.archive(CUTOFF);
+
+        // Assert
+        assertThat(moved).isEqualTo(1);
+        verify(removals).execute();
+    }
+
+    @Test
+    @DisplayName("Should copy a resume again when it was saved between the copy and the removal")
+    void shouldCopyAgainWhenResumeChangedWhileBeingMoved() {
+        // Arrange
+        ResumeDocument read = document(2024, 10);
+        ResumeDocument saved = new ResumeDocument(read.getId(), "Java", "edited", read.getCreatedAt(), read.getUpdatedAt().plusDays(1));
+        when(mongoTemplate.find(argThat(ResumeArchiverTest::expiredQuery), eq(ResumeDocument.class), eq("resumes")))
+            .thenReturn(List.of(read), List.of());
+        when(mongoTemplate.find(argThat(ResumeArchiverTest::byIdQuery), eq(ResumeDocument.class), eq("resumes")))
+            .thenReturn(List.of(saved), List.of());
+
+        // Act
+        long moved = archiver.archive(CUTOFF);
+
+        // Assert
+        assertThat(moved).isEqualTo(1);
+        verify(copies).replaceOne(any(Query.class), eq(read), any(FindAndReplaceOptions.class));
+        verify(copies).replaceOne(any(Query.class), eq(saved), any(FindAndReplaceOptions.class));
+    }
+
+    @Test
+    @DisplayName("Should not archive when another instance holds the lease")
+    void shouldNotArchiveWhenAnotherInstanceHoldsLease() {
+        // Arrange
+        when(lease.acquire(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // Act
+        archiver.archiveExpired();
+
+        // Assert
+        verify(mongoTemplate, never()).find(any(Query.class), eq(ResumeDocument.class), anyString());
+        verify(lease, never()).release(anyString(), anyString());
+    }
+
+    private static boolean expiredQuery(Query query) {
+        return query != null && query.getQueryObject().containsKey("createdAt");
+    }
+
+    private static boolean byIdQuery(Query query) {
+        return query != null && query.getQueryObject().containsKey("_id");
+    }
+
+    private static ResumeDocument document(int year, int month) {
+        LocalDateTime createdAt = LocalDateTime.of(year, month, 15, 9, 0);
+        return new ResumeDocument(UUID.randomUUID(), "Java", "content", createdAt, createdAt);
+    }
+}
@@ -0,0 +1,239 @@
+package io.andrelucas.data_provider.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import io.andrelucas.data_provider.document.ResumeDocument;
+import io.andrelucas.data_provider.repository.ConcurrentPageQuery;
+
+class ResumePartitionsTest {
+
+    private MongoTemplate mongoTemplate;
+    private ResumePartitions partitions;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.getCollectionNames()).thenReturn(Set.of("resumes_2025_01", "resumes_2025_02", "resumes_2025_03", "fs.files"));
+        partitions = new ResumePartitions(mongoTemplate, new ConcurrentPageQuery(), new PartitioningProperties(true, Duration.ofSeconds(30)), archive(false));
+    }
+
+    @Test
+    @DisplayName("Should route a date range only to the months it overlaps")
+    void shouldRouteDateRangeToOverlappingMonths() {
+        // Act
+        List<ResumePartition> overlapping = partitions.overlapping(
+            LocalDateTime.of(2025, 1, 20, 0, 0), LocalDateTime.of(2025, 2, 3, 0, 0));
+
+        // Assert
+        assertThat(overlapping).extracting(ResumePartition::collection)
+            .containsExactly("resumes_2025_01", "resumes_2025_02");
+        assertThat(partitions.collectionFor(LocalDateTime.of(2025, 3, 31, 23, 59))).isEqualTo("resumes_2025_03");
+    }
+
+    @Test
+    @DisplayName("Should skip whole partitions by count when walking newest first")
+    void shouldSkipWholePartitionsWhenWalkingNewestFirst() {
+        // Arrange
+        ResumeDocument newer = document("Java", LocalDateTime.of(2025, 2, 20, 9, 0));
+        ResumeDocument older = document("Java", LocalDateTime.of(2025, 2, 10, 9, 0));
+        when(mongoTemplate.estimatedCount("resumes_2025_03")).thenReturn(2L);
+        when(mongoTemplate.estimatedCount("resumes_2025_02")).thenReturn(2L);
+        when(mongoTemplate.estimatedCount("resumes_2025_01")).thenReturn(5L);
+        when(mongoTemplate.find(any(Query.class), eq(ResumeDocument.class), eq("resumes_2025_02"))).thenReturn(List.of(newer, older));
+
+        // Act
+        Page<ResumeDocument> page = partitions.find(partitions.all(), new Query(),
+            Sort.by(Sort.Direction.DESC, "createdAt"), PageRequest.of(1, 2));
+
+        // Assert
+        assertThat(page.getContent()).containsExactly(newer, older);
+        assertThat(page.getTotalElements()).isEqualTo(9);
+        verify(mongoTemplate, never()).find(any(Query.class), eq(ResumeDocument.class), eq("resumes_2025_03"));
+        verify(mongoTemplate, never()).find(any(Query.class), eq(ResumeDocument.class), eq("resumes_2025_01"));
+    }
+
+    @Test
+    @DisplayName("Should merge partitions in sort order when sorting by another field")
+    void shouldMergePartitionsInSortOrderWhenSortingByTopic() {
+        // Arrange
+        ResumeDocument go = document("Go", LocalDateTime.of(2025, 1, 5, 9, 0));
+        ResumeDocument rust = document("Rust", LocalDateTime.of(2025, 1, 6, 9, 0));
+        ResumeDocument java = document("Java", LocalDateTime.of(2025, 2, 5, 9, 0));
+        ResumeDocument kotlin = document("Kotlin", LocalDateTime.of(2025, 3, 5, 9, 0));
+        when(mongoTemplate.find(any(Query.class), eq(ResumeDocument.class), eq("resumes_2025_01"))).thenReturn(List.of(go, rust));
+        when(mongoTemplate.find(any(Query.class), eq(ResumeDocument.class), eq("resumes_2025_02"))).thenReturn(List.of(java));
+        when(mongoTemplate.find(any(Query.class), eq(ResumeDocument.class), eq("resumes_2025_03"))).thenReturn(List.of(kotlin));
+        when(mongoTemplate.count(any(Query.class), eq(ResumeDocument.class), any(String.class))).thenReturn(1L);
+
+        // Act
+        Page<ResumeDocument> page = partitions.find(partitions.all(),
+            Query.query(Criteria.where("content").regex("code", "i")),
+            Sort.by(Sort.Direction.ASC, "topic"), PageRequest.of(0, 3));
+
+        // Assert
+        assertThat(page.getContent()).extracting(ResumeDocument::getTopic).containsExactly("Go", "Java", "Kotlin");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should merge partitions in the server's binary order when sorting by id")
+    void shouldMergeByUnsignedBinaryOrderWhenSortingById() {
+        // Arrange
+        ResumeDocument low = document(UUID.fromString("00000000-0000-0000-0000-000000000001"), LocalDateTime.of(2025, 1, 5, 9, 0));
+        ResumeDocument high = document(UUID.fromString("ff000000-0000-0000-0000-000000000001"), LocalDateTime.of(2025, 2, 5, 9, 0));
+        when(mongoTemplate.find(any(Query.class), eq(ResumeDocument.class), eq("resumes_2025_01"))).thenReturn(List.of(low));
+        when(mongoTemplate.find(any(Query.class), eq(ResumeDocument.class), eq("resumes_2025_02"))).thenReturn(List.of(high));
+        when(mongoTemplate.count(any(Query.class), eq(ResumeDocument.class), any(String.class))).thenReturn(1L);
+
+        // Act
+        Page<ResumeDocument> page = partitions.find(partitions.all(), new Query(),
+            Sort.by(Sort.Direction.ASC, "id"), PageRequest.of(0, 3));
+
+        // Assert
+        assertThat(high.getId().compareTo(low.getId())).as("signed order puts it first").isNegative();
+        assertThat(page.getContent()).containsExactly(low, high);
+    }
+
+    @Test
+    @DisplayName("Should count the partitions while the page is read rather than after it")
+    void shouldCountOnAnotherThreadWhenPageIsFull() {
+        // Arrange
+        Set<String> countingThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch counting = new CountDownLatch(1);
+        when(mongoTemplate.find(any(Query.class), eq(ResumeDocument.class), any(String.class))).thenAnswer(invocation -> {
+            // A page read slower than the count starts, as a real query is
+            counting.await(5, TimeUnit.SECONDS);
+            return List.of(document("Java", LocalDateTime.of(2025, 2, 5, 9, 0)));
+        });
+        when(mongoTemplate.count(any(Query.class), eq(ResumeDocument.class), any(String.class))).thenAnswer(invocation -> {
+            countingThreads.add(Thread.currentThread().getName());
+            counting.countDown();
+            return 4L;
+        });
+
+        // Act
+        Page<ResumeDocument> page = partitions.find(partitions.all(),
+            Query.query(Criteria.where("content").regex("code", "i")),
+            Sort.by(Sort.Direction.ASC, "topic"), PageRequest.of(0, 2));
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(4L * partitions.all().size());
+        assertThat(countingThreads).singleElement().asString().startsWith("page-count-");
+    }
+
+    @Test
+    @DisplayName("Should reach the archive only when the date range does")
+    void shouldReachArchiveOnlyWhenDateRangeDoes() {
+        // Arrange
+        when(mongoTemplate.indexOps(any(String.class))).thenReturn(mock(IndexOperations.class));
+        ResumePartitions tiered = new ResumePartitions(mongoTemplate, new ConcurrentPageQuery(), new PartitioningProperties(false, Duration.ofSeconds(30)), archive(true));
+        LocalDateTime cutoff = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        // Act
+        tiered.startArchiving(cutoff);
+        tiered.finishArchiving(cutoff);
+
+        // Assert
+        assertThat(tiered.overlapping(LocalDateTime.of(2025, 2, 1, 0, 0), LocalDateTime.of(2025, 3, 1, 0, 0)))
+            .extracting(ResumePartition::collection).containsExactly("resumes");
+        assertThat(tiered.overlapping(LocalDateTime.of(2024, 12, 1, 0, 0), null))
+            .extracting(ResumePartition::collection).containsExactly("resumes_archive", "resumes");
+        assertThat(tiered.collectionFor(LocalDateTime.of(2024, 6, 1, 0, 0))).isEqualTo("resumes_archive");
+        assertThat(tiered.collectionFor(LocalDateTime.of(2025, 6, 1, 0, 0))).isEqualTo("resumes");
+        verify(mongoTemplate).executeCommand(new Document("create", "resumes_archive")
+            .append("storageEngine", new Document("wiredTiger", new Document("configString", "block_compressor=zstd"))));
+    }
+
+    @Test
+    @DisplayName("Should look in the hot collection for resumes being archived")
+    void shouldLookInHotCollectionForResumesBeingArchived() {
+        // Arrange
+        when(mongoTemplate.indexOps(any(String.class))).thenReturn(mock(IndexOperations.class));
+        ResumePartitions tiered = new ResumePartitions(mongoTemplate, new ConcurrentPageQuery(), new PartitioningProperties(true, Duration.ofSeconds(30)), archive(true));
+        LocalDateTime cutoff = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+        // Act
+        tiered.startArchiving(cutoff);
+
+        // Assert
+        assertThat(tiered.overlapping(LocalDateTime.of(2025, 1, 10, 0, 0), LocalDateTime.of(2025, 1, 20, 0, 0)))
+            .extracting(ResumePartition::collection).containsExactly("resumes_archive", "resumes_2025_01");
+        assertThat(tiered.collectionFor(LocalDateTime.of(2025, 1, 15, 0, 0))).isEqualTo("resumes_archive");
+        assertThat(tiered.formerCollectionsFor(LocalDateTime.of(2025, 1, 15, 0, 0))).containsExactly("resumes_2025_01");
+    }
+
+    @Test
+    @DisplayName("Should list a resume once when it is in both tiers while being archived")
+    void shouldListResumeOnceWhenItIsInBothTiersWhileBeingArchived() {
+        // Arrange
+        when(mongoTemplate.indexOps(any(String.class))).thenReturn(mock(IndexOperations.class));
+        ResumePartitions tiered = new ResumePartitions(mongoTemplate, new ConcurrentPageQuery(), new PartitioningProperties(true, Duration.ofSeconds(30)), archive(true));
+        tiered.startArchiving(LocalDateTime.of(2025, 2, 1, 0, 0));
+        ResumeDocument go = document("Go", LocalDateTime.of(2025, 1, 5, 9, 0));
+        ResumeDocument java = document("Java", LocalDateTime.of(2025, 1, 6, 9, 0));
+        when(mongoTemplate.find(any(Query.class), eq(ResumeDocument.class), eq("resumes_archive"))).thenReturn(List.of(go));
+        when(mongoTemplate.find(any(Query.class), eq(ResumeDocument.class), eq("resumes_2025_01"))).thenReturn(List.of(go, java));
+
+        // Act
+        Page<ResumeDocument> page = tiered.find(tiered.all(), new Query(), Sort.by(Sort.Direction.ASC, "topic"), PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(tiered.archiving()).isTrue();
+        assertThat(page.getContent()).containsExactly(go, java);
+    }
+
+    @Test
+    @DisplayName("Should read a month another instance created once the partitions are listed again")
+    void shouldReadMonthCreatedElsewhereWhenPartitionsAreRefreshed() {
+        // Arrange
+        ResumePartitions refreshing = new ResumePartitions(mongoTemplate, new ConcurrentPageQuery(), new PartitioningProperties(true, Duration.ZERO), archive(false));
+        when(mongoTemplate.getCollectionNames())
+            .thenReturn(Set.of("resumes_2025_01", "resumes_2025_02", "resumes_2025_03", "resumes_2025_04"));
+
+        // Act
+        List<ResumePartition> all = refreshing.all();
+
+        // Assert
+        assertThat(all).extracting(ResumePartition::collection)
+            .containsExactly("resumes_2025_01", "resumes_2025_02", "resumes_2025_03", "resumes_2025_04");
+    }
+
+    private static ArchiveProperties archive(boolean enabled) {
+        return new ArchiveProperties(enabled, Duration.ofDays(90), Duration.ofHours(1), 500, "zstd");
+    }
+
+    private static ResumeDocument document(String topic, LocalDateTime createdAt) {
+        return new ResumeDocument(UUID.randomUUID(), topic, null, createdAt, createdAt);
+    }
+
+    private static ResumeDocument document(UUID id, LocalDateTime createdAt) {
+        return new ResumeDocument(id, "Java", null, createdAt, createdAt);
+    }
+}
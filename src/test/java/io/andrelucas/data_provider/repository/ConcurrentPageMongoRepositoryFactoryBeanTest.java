@@ -0,0 +1,70 @@
+package io.andrelucas.data_provider.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+
+import io.andrelucas.data_provider.document.ResumeDocument;
+
+class ConcurrentPageMongoRepositoryFactoryBeanTest {
+
+    @Test
+    @DisplayName("Should give the repositories the page query bean to count with")
+    void shouldPageThroughSharedPageQueryWhenRepositoryIsCreatedBySpringData() {
+        // Arrange
+        try (var context = new AnnotationConfigApplicationContext(Repositories.class)) {
+            MongoTemplate mongoTemplate = context.getBean(MongoTemplate.class);
+            when(mongoTemplate.find(any(Query.class), eq(ResumeDocument.class), any(String.class)))
+                .thenReturn(List.of(new ResumeDocument(UUID.randomUUID(), "Java", null, null, null)));
+            when(mongoTemplate.count(any(Query.class), eq(ResumeDocument.class), any(String.class))).thenReturn(9L);
+
+            // Act
+            Page<ResumeDocument> page = context.getBean(SpringDataMongoResumeRepository.class)
+                .findByTopic("Java", PageRequest.of(0, 1));
+
+            // Assert
+            assertThat(page.getTotalElements()).isEqualTo(9);
+        }
+    }
+
+    @Configuration
+    @EnableMongoRepositories(basePackageClasses = SpringDataMongoResumeRepository.class,
+        repositoryBaseClass = ConcurrentPageMongoRepository.class,
+        repositoryFactoryBeanClass = ConcurrentPageMongoRepositoryFactoryBean.class)
+    static class Repositories {
+
+        @Bean
+        MongoTemplate mongoTemplate() {
+            final MongoMappingContext mappingContext = new MongoMappingContext();
+            mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+            final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+            when(mongoTemplate.getConverter()).thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+            return mongoTemplate;
+        }
+
+        @Bean
+        ConcurrentPageQuery concurrentPageQuery() {
+            return new ConcurrentPageQuery();
+        }
+    }
+}
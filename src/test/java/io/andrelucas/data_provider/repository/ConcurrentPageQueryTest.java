@@ -0,0 +1,136 @@
+package io.andrelucas.data_provider.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+class ConcurrentPageQueryTest {
+
+    private final ConcurrentPageQuery query = new ConcurrentPageQuery();
+
+    @AfterEach
+    void tearDown() {
+        query.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should fetch the page and the count at the same time")
+    void shouldFetchPageAndCountAtSameTime() {
+        // Arrange
+        CyclicBarrier bothRunning = new CyclicBarrier(2);
+
+        // Act
+        Page<String> page = query.fetch(PageRequest.of(0, 2),
+            () -> {
+                await(bothRunning);
+                return List.of("a", "b");
+            },
+            () -> {
+                await(bothRunning);
+                return 7;
+            });
+
+        // Assert
+        assertThat(page.getContent()).containsExactly("a", "b");
+        assertThat(page.getTotalElements()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should not wait for the count when the page is the last one")
+    void shouldNotWaitForCountWhenPageIsLast() {
+        // Arrange
+        CountDownLatch never = new CountDownLatch(1);
+
+        // Act
+        Page<String> page = query.fetch(PageRequest.of(3, 10),
+            () -> List.of("a", "b"),
+            () -> {
+                await(never);
+                return 0;
+            });
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(32);
+        never.countDown();
+    }
+
+    @Test
+    @DisplayName("Should leave a running count to finish rather than interrupt it when the page query fails")
+    void shouldNotInterruptCountWhenPageQueryFails() throws InterruptedException {
+        // Arrange
+        CountDownLatch counting = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        // Act & Assert
+        assertThatThrownBy(() -> query.<String>fetch(PageRequest.of(0, 10),
+            () -> {
+                await(counting);
+                throw new IllegalStateException("page failed");
+            },
+            () -> {
+                counting.countDown();
+                try {
+                    Thread.sleep(Duration.ofMillis(200).toMillis());
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+                finished.countDown();
+                return 0;
+            }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("page failed");
+        assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should count on the caller's thread once the pool is shut down")
+    void shouldCountOnCallerWhenPoolTakesNoCounts() {
+        // Arrange
+        query.shutdown();
+        String caller = Thread.currentThread().getName();
+        AtomicReference<String> countedOn = new AtomicReference<>();
+
+        // Act
+        Page<String> page = query.fetch(PageRequest.of(0, 2),
+            () -> List.of("a", "b"),
+            () -> {
+                countedOn.set(Thread.currentThread().getName());
+                return 5;
+            });
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(countedOn).hasValue(caller);
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
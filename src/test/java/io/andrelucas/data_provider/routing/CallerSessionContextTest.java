@@ -0,0 +1,58 @@
+package io.andrelucas.data_provider.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CallerSessionContextTest {
+
+    private final CallerSessionContext context = new CallerSessionContext();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run the task on behalf of the caller that submitted it")
+    void shouldRunOnBehalfOfCallerWhenTaskRunsOnAnotherThread() throws Exception {
+        // Arrange
+        final Object session = new Object();
+        final Callable<List<Object>> task = CallerSession.callAs(session, "batchSearch",
+            () -> context.propagate(() -> List.of(CallerSession.current(), CallerSession.currentTool())));
+
+        // Act
+        final List<Object> seen = executor.submit(task).get();
+
+        // Assert
+        assertThat(seen).containsExactly(session, "batchSearch");
+        assertThat(executor.submit(CallerSession::current).get()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should rethrow a checked exception of the task as it is")
+    void shouldRethrowCheckedExceptionWhenTaskFails() {
+        // Arrange
+        final Callable<Object> task = context.propagate(() -> {
+            throw new IOException("disk full");
+        });
+
+        // Act & Assert
+        assertThatThrownBy(() -> executor.submit(task).get())
+            .isInstanceOf(ExecutionException.class)
+            .cause()
+            .isInstanceOf(IOException.class)
+            .hasMessage("disk full");
+    }
+}
@@ -0,0 +1,95 @@
+package io.andrelucas.data_provider.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.TaggableReadPreference;
+
+class ReadRoutingTest {
+
+    @Test
+    @DisplayName("Should send searches to secondaries with a staleness bound")
+    void shouldSendSearchesToSecondariesWithStalenessBound() {
+        // Arrange
+        ReadRouting routing = routing(true, Duration.ofMinutes(2));
+
+        // Act
+        ReadPreference preference = routing.preferenceFor(ReadRouting.FIND_BY_CONTENT_KEYWORD);
+
+        // Assert
+        assertThat(preference.getName()).isEqualTo("secondaryPreferred");
+        assertThat(((TaggableReadPreference) preference).getMaxStaleness(TimeUnit.SECONDS)).isEqualTo(120);
+        assertThat(routing.preferenceFor(ReadRouting.GET_LATEST)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should send a caller to the primary right after it writes")
+    void shouldSendCallerToPrimaryRightAfterItWrites() {
+        // Arrange
+        ReadRouting routing = routing(true, Duration.ofMinutes(2));
+        Object writer = new Object();
+        Object reader = new Object();
+
+        // Act
+        CallerSession.callAs(writer, () -> {
+            routing.recordWrite();
+            return null;
+        });
+
+        // Assert
+        assertThat(CallerSession.callAs(writer, () -> routing.preferenceFor(ReadRouting.FIND_BY_TOPIC)))
+            .isEqualTo(ReadPreference.primary());
+        assertThat(CallerSession.callAs(reader, () -> routing.preferenceFor(ReadRouting.FIND_BY_TOPIC)).getName())
+            .isEqualTo("secondaryPreferred");
+    }
+
+    @Test
+    @DisplayName("Should keep the connection's read preference when routing is disabled")
+    void shouldKeepConnectionReadPreferenceWhenDisabled() {
+        // Arrange
+        ReadRouting routing = routing(false, Duration.ofMinutes(1));
+
+        // Act & Assert
+        assertThat(routing.preferenceFor(ReadRouting.FIND_BY_TOPIC)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown use case")
+    void shouldRejectUnknownUseCase() {
+        // Arrange
+        ReadRoutingProperties properties = new ReadRoutingProperties(true, Duration.ofSeconds(120), Duration.ofSeconds(120),
+            Map.of("find-resumes-by-color", "secondary"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> new ReadRouting(properties))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("find-resumes-by-color");
+    }
+
+    @Test
+    @DisplayName("Should reject a read-your-writes window shorter than the max staleness")
+    void shouldRejectReadYourWritesWindowWhenShorterThanMaxStaleness() {
+        // Arrange
+        ReadRoutingProperties properties = new ReadRoutingProperties(true, Duration.ofSeconds(120), Duration.ofSeconds(10),
+            Map.of());
+
+        // Act & Assert
+        assertThatThrownBy(() -> new ReadRouting(properties))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("max staleness");
+    }
+
+    private static ReadRouting routing(boolean enabled, Duration readYourWritesWindow) {
+        return new ReadRouting(new ReadRoutingProperties(enabled, Duration.ofSeconds(120), readYourWritesWindow, Map.of(
+            ReadRouting.FIND_BY_TOPIC, "secondaryPreferred",
+            ReadRouting.FIND_BY_CONTENT_KEYWORD, "secondaryPreferred")));
+    }
+}
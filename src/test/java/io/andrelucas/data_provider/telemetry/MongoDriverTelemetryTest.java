@@ -0,0 +1,100 @@
+package io.andrelucas.data_provider.telemetry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+
+import io.andrelucas.data_provider.routing.CallerSession;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MongoDriverTelemetryTest {
+
+    private final ServerId serverId = new ServerId(new ClusterId(), new ServerAddress("localhost", 27017));
+    private final ConnectionId connectionId = new ConnectionId(serverId);
+
+    private SimpleMeterRegistry registry;
+    private MongoDriverTelemetry telemetry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        telemetry = new MongoDriverTelemetry(registry);
+    }
+
+    @Test
+    @DisplayName("Should time commands by collection and the tool that issued them")
+    void shouldTimeCommandsByCollectionAndTool() {
+        // Arrange
+        ConnectionDescription connection = new ConnectionDescription(serverId);
+        BsonDocument find = new BsonDocument("find", new BsonString("resumes"));
+
+        // Act
+        CallerSession.callAs(new Object(), "findResumesByTopic", () -> {
+            telemetry.commandStarted(new CommandStartedEvent(null, 1, 7, connection, "content-generator", "find", find));
+            telemetry.commandSucceeded(new CommandSucceededEvent(null, 1, 7, connection, "content-generator", "find",
+                new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(12)));
+            return null;
+        });
+
+        // Assert
+        Timer timer = registry.get("mongodb.command.duration")
+            .tags("command", "find", "collection", "resumes", "tool", "findResumesByTopic", "outcome", "success")
+            .timer();
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should track checkout waits and connections in use per server")
+    void shouldTrackCheckoutWaitsAndConnectionsInUse() {
+        // Arrange
+        telemetry.connectionPoolCreated(new ConnectionPoolCreatedEvent(serverId, ConnectionPoolSettings.builder().build()));
+        telemetry.connectionCreated(new ConnectionCreatedEvent(connectionId));
+        telemetry.connectionCreated(new ConnectionCreatedEvent(new ConnectionId(serverId)));
+
+        // Act
+        telemetry.connectionCheckedOut(new ConnectionCheckedOutEvent(connectionId, 1, TimeUnit.MILLISECONDS.toNanos(3)));
+
+        // Assert
+        assertThat(registry.get("mongodb.pool.wait").tags("server", "localhost:27017", "tool", "none").timer().count())
+            .isEqualTo(1);
+        assertThat(registry.get("mongodb.pool.checked-out").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("mongodb.pool.available").gauge().value()).isEqualTo(1);
+
+        telemetry.connectionCheckedIn(new ConnectionCheckedInEvent(connectionId, 1));
+        assertThat(registry.get("mongodb.pool.available").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should keep connections counted before the pool announced itself")
+    void shouldKeepConnectionCountsWhenPoolIsCreatedAfterConnections() {
+        // Arrange
+        telemetry.connectionCreated(new ConnectionCreatedEvent(connectionId));
+
+        // Act
+        telemetry.connectionPoolCreated(new ConnectionPoolCreatedEvent(serverId, ConnectionPoolSettings.builder().build()));
+
+        // Assert
+        assertThat(registry.get("mongodb.pool.size").gauge().value()).isEqualTo(1);
+    }
+}
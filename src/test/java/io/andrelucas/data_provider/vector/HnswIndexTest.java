@@ -0,0 +1,220 @@
+package io.andrelucas.data_provider.vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HnswIndexTest {
+
+    private static final int DIMENSIONS = 32;
+
+    @Test
+    @DisplayName("Should return nothing when index is empty")
+    void shouldReturnNothingWhenIndexIsEmpty() {
+        // Arrange
+        HnswIndex index = new HnswIndex(DIMENSIONS, 16, 100);
+
+        // Act & Assert
+        assertThat(index.search(randomUnitVector(new Random(1)), 10, 50)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find the exact vector first when it was indexed")
+    void shouldFindExactVectorFirstWhenItWasIndexed() {
+        // Arrange
+        Random random = new Random(7);
+        HnswIndex index = new HnswIndex(DIMENSIONS, 16, 100);
+        List<UUID> keys = new ArrayList<>();
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            UUID key = UUID.randomUUID();
+            float[] vector = randomUnitVector(random);
+            keys.add(key);
+            vectors.add(vector);
+            index.add(key, vector);
+        }
+
+        // Act
+        List<HnswIndex.Match> matches = index.search(vectors.get(123), 3, 50);
+
+        // Assert
+        assertThat(matches).hasSize(3);
+        assertThat(matches.get(0).key()).isEqualTo(keys.get(123));
+        assertThat(matches.get(0).similarity()).isCloseTo(1f, org.assertj.core.data.Offset.offset(1e-4f));
+        assertThat(matches).extracting(HnswIndex.Match::similarity)
+            .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    @DisplayName("Should reach high recall when compared with brute force search")
+    void shouldReachHighRecallWhenComparedWithBruteForce() {
+        // Arrange
+        Random random = new Random(42);
+        HnswIndex index = new HnswIndex(DIMENSIONS, 16, 200);
+        List<UUID> keys = new ArrayList<>();
+        List<float[]> vectors = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            UUID key = UUID.randomUUID();
+            float[] vector = randomUnitVector(random);
+            keys.add(key);
+            vectors.add(vector);
+            index.add(key, vector);
+        }
+
+        // Act
+        int found = 0;
+        int expected = 0;
+        for (int q = 0; q < 50; q++) {
+            float[] query = randomUnitVector(random);
+            Set<UUID> exact = IntStream.range(0, vectors.size()).boxed()
+                .sorted(Comparator.comparingDouble(i -> -dot(query, vectors.get(i))))
+                .limit(10)
+                .map(keys::get)
+                .collect(Collectors.toSet());
+            Set<UUID> approximate = index.search(query, 10, 100).stream()
+                .map(HnswIndex.Match::key)
+                .collect(Collectors.toCollection(HashSet::new));
+
+            approximate.retainAll(exact);
+            found += approximate.size();
+            expected += exact.size();
+        }
+
+        // Assert
+        assertThat((double) found / expected).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("Should return only the latest vector when a key is indexed twice")
+    void shouldReturnLatestVectorWhenKeyIsIndexedTwice() {
+        // Arrange
+        Random random = new Random(3);
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50);
+        UUID key = UUID.randomUUID();
+        float[] original = randomUnitVector(random);
+        float[] replacement = randomUnitVector(random);
+        for (int i = 0; i < 100; i++) {
+            index.add(UUID.randomUUID(), randomUnitVector(random));
+        }
+        index.add(key, original);
+
+        // Act
+        index.add(key, replacement);
+
+        // Assert
+        assertThat(index.size()).isEqualTo(101);
+        assertThat(index.search(replacement, 1, 50)).singleElement()
+            .satisfies(match -> assertThat(match.key()).isEqualTo(key));
+        assertThat(index.search(original, 101, 200))
+            .filteredOn(match -> match.key().equals(key))
+            .singleElement()
+            .satisfies(match -> assertThat(match.similarity()).isLessThan(0.99f));
+    }
+
+    @Test
+    @DisplayName("Should keep the graph bounded and searchable when the same keys are indexed over and over")
+    void shouldKeepGraphBoundedWhenKeysAreReindexed() {
+        // Arrange
+        Random random = new Random(5);
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50);
+        List<UUID> keys = IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID()).toList();
+        List<float[]> latest = new ArrayList<>();
+        keys.forEach(key -> {
+            float[] vector = randomUnitVector(random);
+            index.add(key, vector);
+            latest.add(vector);
+        });
+
+        // Act
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < keys.size(); i++) {
+                latest.set(i, randomUnitVector(random));
+                index.add(keys.get(i), latest.get(i));
+            }
+        }
+
+        // Assert
+        assertThat(index.size()).isEqualTo(100);
+        assertThat(index.nodes()).isLessThan((int) (100 / (1 - HnswIndex.MAX_DELETED_SHARE)) + 1);
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(index.search(latest.get(i), 1, 50)).singleElement()
+                .extracting(HnswIndex.Match::key).isEqualTo(keys.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep searching and adding while the graph is rebuilt and keep those adds once it is swapped in")
+    void shouldKeepAddsMadeWhileGraphIsRebuilt() {
+        // Arrange
+        Random random = new Random(7);
+        List<Runnable> rebuilds = new ArrayList<>();
+        HnswIndex index = new HnswIndex(DIMENSIONS, 8, 50, rebuilds::add);
+        List<UUID> keys = IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID()).toList();
+        keys.forEach(key -> index.add(key, randomUnitVector(random)));
+        for (int i = 0; rebuilds.isEmpty(); i++) {
+            index.add(keys.get(i % keys.size()), randomUnitVector(random));
+        }
+        int nodesBefore = index.nodes();
+        UUID late = UUID.randomUUID();
+        float[] lateVector = randomUnitVector(random);
+        float[] replaced = randomUnitVector(random);
+
+        // Act
+        index.add(late, lateVector);
+        index.add(keys.get(0), replaced);
+        assertThat(index.search(lateVector, 1, 50)).singleElement().extracting(HnswIndex.Match::key).isEqualTo(late);
+        rebuilds.get(0).run();
+
+        // Assert
+        assertThat(rebuilds).hasSize(1);
+        assertThat(index.size()).isEqualTo(101);
+        assertThat(index.nodes()).isLessThan(nodesBefore).isEqualTo(102);
+        assertThat(index.search(lateVector, 1, 50)).singleElement().extracting(HnswIndex.Match::key).isEqualTo(late);
+        assertThat(index.search(replaced, 1, 50)).singleElement().extracting(HnswIndex.Match::key).isEqualTo(keys.get(0));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when vector dimensions do not match")
+    void shouldThrowExceptionWhenDimensionsDoNotMatch() {
+        // Arrange
+        HnswIndex index = new HnswIndex(DIMENSIONS, 16, 100);
+
+        // Act & Assert
+        assertThatThrownBy(() -> index.add(UUID.randomUUID(), new float[DIMENSIONS + 1]))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("dimensions");
+    }
+
+    private static float[] randomUnitVector(Random random) {
+        float[] vector = new float[DIMENSIONS];
+        double norm = 0;
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] /= (float) Math.sqrt(norm);
+        }
+        return vector;
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
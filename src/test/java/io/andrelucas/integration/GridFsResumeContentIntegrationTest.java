@@ -0,0 +1,129 @@
+package io.andrelucas.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.gridfs.GridFsTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeContentSlice;
+import io.andrelucas.data_provider.document.ResumeDocument;
+import io.andrelucas.data_provider.repository.MongoResumeRepository;
+import io.andrelucas.data_provider.repository.SpringDataMongoResumeRepository;
+
+@TestPropertySource(properties = {
+    "content-generator.resume.content.offload-threshold-bytes=1024",
+    "content-generator.resume.content.backend=gridfs"
+})
+class GridFsResumeContentIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MongoResumeRepository repository;
+
+    @Autowired
+    private SpringDataMongoResumeRepository springDataMongoResumeRepository;
+
+    @Autowired
+    private GridFsTemplate gridFsTemplate;
+
+    @BeforeEach
+    void setUp() {
+        springDataMongoResumeRepository.deleteAll();
+        gridFsTemplate.delete(new Query());
+    }
+
+    @Test
+    @DisplayName("Should offload content to GridFS when content is above the threshold")
+    void shouldOffloadContentWhenContentIsAboveThreshold() {
+        // Arrange
+        String content = "0123456789".repeat(500);
+        Resume resume = Resume.create("Large Draft", content);
+
+        // Act
+        repository.save(resume);
+
+        // Assert
+        ResumeDocument document = springDataMongoResumeRepository.findById(resume.id()).orElseThrow();
+        assertThat(document.getContent()).isNull();
+        assertThat(document.getContentRef()).isNotNull();
+        assertThat(document.getContentLength()).isEqualTo(content.length());
+
+        Page<Resume> results = repository.findByTopic("Large Draft", PageRequest.of(0, 10));
+        assertThat(results.getContent()).singleElement()
+            .satisfies(found -> assertThat(found.content()).isEqualTo(content));
+    }
+
+    @Test
+    @DisplayName("Should match keywords only in the part of an offloaded body kept inline")
+    void shouldMatchKeywordOnlyInPrefixWhenContentIsOffloaded() {
+        // Arrange
+        String content = "Kafka replicates partitions. " + "x".repeat(2000) + " compaction";
+        Resume resume = repository.save(Resume.create("Large Draft", content));
+
+        // Act
+        Page<Resume> inPrefix = repository.findByContentContainingIgnoreCase("replicates", PageRequest.of(0, 10));
+        Page<Resume> pastPrefix = repository.findByContentContainingIgnoreCase("compaction", PageRequest.of(0, 10));
+
+        // Assert
+        ResumeDocument document = springDataMongoResumeRepository.findById(resume.id()).orElseThrow();
+        assertThat(document.getContentPrefix()).hasSize(1024);
+        assertThat(inPrefix.getContent()).singleElement()
+            .satisfies(found -> assertThat(found.content()).isEqualTo(content));
+        assertThat(pastPrefix.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep content inline when content is below the threshold")
+    void shouldKeepContentInlineWhenContentIsBelowThreshold() {
+        // Arrange
+        Resume resume = Resume.create("Small Draft", "short body");
+
+        // Act
+        repository.save(resume);
+
+        // Assert
+        ResumeDocument document = springDataMongoResumeRepository.findById(resume.id()).orElseThrow();
+        assertThat(document.getContent()).isEqualTo("short body");
+        assertThat(document.getContentRef()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should read only the requested range when content is offloaded")
+    void shouldReadRequestedRangeWhenContentIsOffloaded() {
+        // Arrange
+        String content = "0123456789".repeat(500);
+        Resume resume = repository.save(Resume.create("Large Draft", content));
+
+        // Act
+        Optional<ResumeContentSlice> slice = repository.readContent(resume.id(), 4995, 10);
+
+        // Assert
+        assertThat(slice).hasValueSatisfying(s -> {
+            assertThat(s.content()).isEqualTo("56789");
+            assertThat(s.totalLength()).isEqualTo(5000);
+            assertThat(s.hasMore()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should drop the previous GridFS file when content shrinks below the threshold")
+    void shouldDropPreviousFileWhenContentShrinks() {
+        // Arrange
+        Resume large = repository.save(Resume.create("Draft", "x".repeat(4096)));
+
+        // Act
+        repository.save(new Resume(large.id(), large.topic(), "now small", large.createdAt(), large.updatedAt()));
+
+        // Assert
+        assertThat(gridFsTemplate.find(new Query())).isEmpty();
+    }
+}
@@ -0,0 +1,45 @@
+package io.andrelucas.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import io.andrelucas.data_provider.document.LeaseDocument;
+import io.andrelucas.data_provider.schedule.MongoLeaderLease;
+
+class MongoLeaderLeaseIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MongoLeaderLease lease;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate.remove(new Query(), LeaseDocument.class);
+    }
+
+    @Test
+    @DisplayName("Should let only one owner hold a lease until it expires or is released")
+    void shouldLetOneOwnerHoldLeaseUntilExpiredOrReleased() throws InterruptedException {
+        // Act & Assert
+        assertThat(lease.acquire("test", "first", Duration.ofMillis(500))).isTrue();
+        assertThat(lease.acquire("test", "second", Duration.ofMinutes(1))).isFalse();
+        assertThat(lease.acquire("test", "first", Duration.ofMillis(500))).isTrue();
+
+        Thread.sleep(600);
+        assertThat(lease.acquire("test", "second", Duration.ofMinutes(1))).isTrue();
+        assertThat(lease.acquire("test", "first", Duration.ofMinutes(1))).isFalse();
+
+        lease.release("test", "second");
+        assertThat(lease.acquire("test", "first", Duration.ofMinutes(1))).isTrue();
+    }
+}
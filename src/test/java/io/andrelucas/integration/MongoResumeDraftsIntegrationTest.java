@@ -0,0 +1,94 @@
+package io.andrelucas.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.data_provider.document.ResumeDocument;
+import io.andrelucas.data_provider.repository.MongoResumeDrafts;
+import io.andrelucas.data_provider.repository.MongoResumeRepository;
+import io.andrelucas.data_provider.repository.SpringDataMongoResumeRepository;
+
+class MongoResumeDraftsIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MongoResumeDrafts drafts;
+
+    @Autowired
+    private MongoResumeRepository repository;
+
+    @Autowired
+    private SpringDataMongoResumeRepository springDataMongoResumeRepository;
+
+    @BeforeEach
+    void setUp() {
+        springDataMongoResumeRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should make appended text readable while the draft is written")
+    void shouldMakeAppendedTextReadableWhileDraftIsWritten() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        drafts.start(id, "Streaming");
+
+        // Act
+        drafts.append(id, "# Streaming\n\n");
+        drafts.append(id, "$set is not a field path here.");
+
+        // Assert
+        ResumeDocument document = springDataMongoResumeRepository.findById(id).orElseThrow();
+        assertThat(document.getContent()).isEqualTo("# Streaming\n\n$set is not a field path here.");
+        assertThat(document.getContentLength()).isEqualTo(document.getContent().length());
+        assertThat(repository.findByContentContainingIgnoreCase("field path", PageRequest.of(0, 10)).getContent())
+            .singleElement()
+            .satisfies(draft -> {
+                assertThat(draft.id()).isEqualTo(id);
+                assertThat(draft.draft()).isTrue();
+            });
+    }
+
+    @Test
+    @DisplayName("Should keep the finished resume saved over the draft")
+    void shouldKeepFinishedResumeSavedOverDraft() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        drafts.start(id, "Streaming");
+        drafts.append(id, "Half of it");
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        repository.save(new Resume(id, "Streaming", "All of it", now, now));
+        drafts.finish(id);
+
+        // Assert
+        assertThat(springDataMongoResumeRepository.findById(id)).get()
+            .satisfies(finished -> {
+                assertThat(finished.getContent()).isEqualTo("All of it");
+                assertThat(finished.isDraft()).isFalse();
+            });
+    }
+
+    @Test
+    @DisplayName("Should remove the draft when it is finished without a resume saved over it")
+    void shouldRemoveDraftWhenFinishedWithoutResume() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        drafts.start(id, "Streaming");
+        drafts.append(id, "Half of it");
+
+        // Act
+        drafts.finish(id);
+
+        // Assert
+        assertThat(springDataMongoResumeRepository.findById(id)).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package io.andrelucas.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.ResumeSearchQuery;
+import io.andrelucas.business.SortDirection;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ResumeRepositoryContract;
+import io.andrelucas.data_provider.partition.ResumePartitions;
+import io.andrelucas.data_provider.repository.MongoResumeRepository;
+
+@TestPropertySource(properties = "content-generator.partitioning.enabled=true")
+class PartitionedMongoResumeRepositoryIntegrationTest extends AbstractIntegrationTest implements ResumeRepositoryContract {
+
+    @Autowired
+    private MongoResumeRepository repository;
+
+    @Autowired
+    private ResumePartitions partitions;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public ResumeRepository repository() {
+        return repository;
+    }
+
+    @Override
+    public void clear() {
+        partitions.all().forEach(partition -> mongoTemplate.remove(new Query(), partition.collection()));
+    }
+
+    @Test
+    @DisplayName("Should write a resume to the collection of its creation month")
+    void shouldWriteResumeToCollectionOfItsMonth() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 11, 5, 10, 0);
+
+        // Act
+        repository.save(new Resume(UUID.randomUUID(), "Partitioning", "Monthly collections", createdAt, createdAt));
+
+        // Assert
+        assertThat(mongoTemplate.count(new Query(), "resumes_2024_11")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should merge a date range across months in sort order when paging")
+    void shouldMergeDateRangeAcrossMonthsWhenPaging() {
+        // Arrange
+        for (int month = 10; month <= 12; month++) {
+            LocalDateTime createdAt = LocalDateTime.of(2024, month, 15, 10, 0);
+            repository.save(new Resume(UUID.randomUUID(), "Partitioning", "Month " + month, createdAt, createdAt));
+        }
+        ResumeSearchQuery query = new ResumeSearchQuery(
+            "Partitioning", LocalDateTime.of(2024, 11, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59),
+            null, "createdAt", SortDirection.DESC, 1, 1);
+
+        // Act
+        Page<Resume> page = repository.findByCustomCriteria(query, PageRequest.of(1, 1));
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(Resume::content).containsExactly("Month 11");
+    }
+}
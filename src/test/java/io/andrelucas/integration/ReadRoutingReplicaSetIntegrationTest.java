@@ -0,0 +1,166 @@
+package io.andrelucas.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.FixedHostPortGenericContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+
+import io.andrelucas.business.Resume;
+import io.andrelucas.data_provider.repository.MongoResumeRepository;
+import io.andrelucas.data_provider.routing.CallerSession;
+
+/**
+ * Runs against a three-member replica set. Members are registered under their network aliases, which the driver
+ * resolves to localhost where each member's port is published unchanged.
+ */
+@SpringBootTest(properties = {
+    "content-generator.read-routing.enabled=true",
+    "content-generator.read-routing.read-your-writes-window=PT1M"
+})
+@ActiveProfiles("test")
+class ReadRoutingReplicaSetIntegrationTest {
+
+    private static final String IMAGE = "mongo:6.0";
+    private static final int[] PORTS = {27101, 27102, 27103};
+
+    private static final Network network = Network.newNetwork();
+    private static final List<GenericContainer<?>> members = Stream.of(0, 1, 2)
+        .<GenericContainer<?>>map(ReadRoutingReplicaSetIntegrationTest::member)
+        .toList();
+
+    private static final Map<String, ServerAddress> findsByCollection = new ConcurrentHashMap<>();
+
+    @Autowired
+    private MongoResumeRepository repository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @BeforeAll
+    static void startReplicaSet() throws Exception {
+        members.forEach(GenericContainer::start);
+        members.get(0).execInContainer("mongosh", "--port", String.valueOf(PORTS[0]), "--quiet", "--eval",
+            "rs.initiate({_id: 'rs0', members: ["
+                + "{_id: 0, host: 'mongo0:" + PORTS[0] + "', priority: 2},"
+                + "{_id: 1, host: 'mongo1:" + PORTS[1] + "'},"
+                + "{_id: 2, host: 'mongo2:" + PORTS[2] + "'}]})");
+        final long deadline = System.nanoTime() + Duration.ofMinutes(1).toNanos();
+        while (System.nanoTime() < deadline) {
+            final String secondaries = members.get(0).execInContainer("mongosh", "--port", String.valueOf(PORTS[0]), "--quiet",
+                "--eval", "rs.status().members.filter(m => m.stateStr === 'SECONDARY').length").getStdout().trim();
+            if (secondaries.equals("2")) {
+                return;
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException("Replica set did not come up");
+    }
+
+    @AfterAll
+    static void stopReplicaSet() {
+        members.forEach(GenericContainer::stop);
+        network.close();
+    }
+
+    @DynamicPropertySource
+    static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", () -> "mongodb://mongo0:" + PORTS[0] + ",mongo1:" + PORTS[1]
+            + ",mongo2:" + PORTS[2] + "/content-generator-test?replicaSet=rs0");
+    }
+
+    @BeforeEach
+    void setUp() {
+        findsByCollection.clear();
+    }
+
+    @Test
+    @DisplayName("Should run keyword searches on a secondary")
+    void shouldRunKeywordSearchesOnSecondary() {
+        // Act
+        repository.findByContentContainingIgnoreCase("replica", PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(findsByCollection.get("resumes")).isNotNull().isNotEqualTo(primary());
+    }
+
+    @Test
+    @DisplayName("Should read from the primary right after a write from the same session")
+    void shouldReadFromPrimaryRightAfterWriteFromSameSession() {
+        // Arrange
+        Object session = new Object();
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act
+        List<Resume> found = CallerSession.callAs(session, () -> {
+            repository.save(new Resume(UUID.randomUUID(), "Routing", "Read your writes on a replica set", now, now));
+            return repository.findByContentContainingIgnoreCase("read your writes", PageRequest.of(0, 10)).getContent();
+        });
+
+        // Assert
+        assertThat(findsByCollection.get("resumes")).isEqualTo(primary());
+        assertThat(found).extracting(Resume::topic).contains("Routing");
+    }
+
+    private ServerAddress primary() {
+        return new ServerAddress("mongo0", PORTS[0]);
+    }
+
+    @SuppressWarnings({"resource", "deprecation"})
+    private static GenericContainer<?> member(int index) {
+        return new FixedHostPortGenericContainer<>(IMAGE)
+            .withFixedExposedPort(PORTS[index], PORTS[index])
+            .withNetwork(network)
+            .withNetworkAliases("mongo" + index)
+            .withCommand("mongod", "--replSet", "rs0", "--bind_ip_all", "--port", String.valueOf(PORTS[index]))
+            .waitingFor(Wait.forLogMessage(".*Waiting for connections.*", 1));
+    }
+
+    @TestConfiguration
+    static class ReplicaSetClientConfig {
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer replicaSetClientCustomizer() {
+            return builder -> builder
+                .inetAddressResolver(host -> List.of(InetAddress.getByName(host.startsWith("mongo") ? "localhost" : host)))
+                .addCommandListener(new CommandListener() {
+                    @Override
+                    public void commandStarted(CommandStartedEvent event) {
+                        if (event.getCommandName().equals("find")) {
+                            findsByCollection.put(event.getCommand().getString("find").getValue(),
+                                event.getConnectionDescription().getServerAddress());
+                        }
+                    }
+                });
+        }
+    }
+}
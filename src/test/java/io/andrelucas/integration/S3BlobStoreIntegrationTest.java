@@ -0,0 +1,81 @@
+package io.andrelucas.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.andrelucas.data_provider.blob.BlobStoreProperties;
+import io.andrelucas.data_provider.blob.S3BlobStore;
+
+@Testcontainers
+class S3BlobStoreIntegrationTest {
+
+    private static final String ACCESS_KEY = "content-generator";
+    private static final String SECRET_KEY = "content-generator-secret";
+
+    @Container
+    static final GenericContainer<?> minio = new GenericContainer<>("minio/minio:RELEASE.2024-10-13T13-34-11Z")
+        .withCommand("server", "/data")
+        .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+        .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+        .withExposedPorts(9000)
+        .waitingFor(Wait.forHttp("/minio/health/live").forPort(9000));
+
+    private S3BlobStore store;
+
+    @BeforeEach
+    void setUp() {
+        String endpoint = "http://" + minio.getHost() + ":" + minio.getMappedPort(9000);
+        store = new S3BlobStore(new BlobStoreProperties("s3", "unused",
+            new BlobStoreProperties.S3(endpoint, "us-east-1", "resumes", ACCESS_KEY, SECRET_KEY)));
+        store.createBucketIfMissing();
+    }
+
+    @Test
+    @DisplayName("Should store, read back and delete an object in MinIO")
+    void shouldStoreReadAndDeleteObject() {
+        // Arrange
+        byte[] image = {(byte) 0x89, 'P', 'N', 'G', 1, 2, 3};
+
+        // Act
+        store.put("thumbnails/a b+c.png", image, "image/png");
+
+        // Assert
+        assertThat(store.exists("thumbnails/a b+c.png")).isTrue();
+        assertThat(store.get("thumbnails/a b+c.png")).get().isEqualTo(image);
+        store.delete("thumbnails/a b+c.png");
+        assertThat(store.exists("thumbnails/a b+c.png")).isFalse();
+        assertThat(store.get("thumbnails/a b+c.png")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stream an upload and transfer only the requested range back")
+    void shouldStreamUploadAndTransferRange() throws Exception {
+        // Arrange
+        byte[] body = "0123456789".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        store.put("resume-content/large.txt", new ByteArrayInputStream(body), body.length, "text/plain; charset=utf-8");
+        ByteArrayOutputStream range = new ByteArrayOutputStream();
+
+        // Act
+        long transferred = store.transferTo("resume-content/large.txt", 9995, 100, Channels.newChannel(range));
+
+        // Assert
+        assertThat(transferred).isEqualTo(5);
+        assertThat(range.toString(StandardCharsets.UTF_8)).isEqualTo("56789");
+        try (InputStream in = store.open("resume-content/large.txt").orElseThrow()) {
+            assertThat(in.readAllBytes()).isEqualTo(body);
+        }
+    }
+}
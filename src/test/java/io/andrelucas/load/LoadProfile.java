@@ -0,0 +1,59 @@
+package io.andrelucas.load;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Shape of a load run, read from {@code load.*} system properties so it can be changed from the command line.
+ *
+ * @param sessions concurrent MCP SSE sessions
+ * @param ratePerSecond target tool calls per second across all sessions (open loop)
+ * @param warmup time during which calls are issued but not recorded
+ * @param duration recorded time
+ * @param corpusSize synthetic resumes seeded before the run
+ * @param mix relative weight of each tool, e.g. {@code getLatestResumes=4,createResume=1}
+ * @param targetUrl base URL of an already running server; {@code null} to run against the embedded one
+ */
+public record LoadProfile(
+    int sessions,
+    int ratePerSecond,
+    Duration warmup,
+    Duration duration,
+    int corpusSize,
+    Map<String, Integer> mix,
+    String targetUrl
+) {
+    static final String DEFAULT_MIX = "createResume=1,getLatestResumes=4,findResumesByTopic=2,"
+        + "searchResumesByKeyword=1,findResumesByDateRange=1,advancedSearch=2";
+
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+            Integer.getInteger("load.sessions", 8),
+            Integer.getInteger("load.rate", 50),
+            Duration.ofSeconds(Long.getLong("load.warmup", 5)),
+            Duration.ofSeconds(Long.getLong("load.duration", 30)),
+            Integer.getInteger("load.corpus", 2000),
+            parseMix(System.getProperty("load.mix", DEFAULT_MIX)),
+            System.getProperty("load.target")
+        );
+    }
+
+    static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + entry + "', expected tool=weight");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(parts[0].trim(), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("load.mix must contain at least one tool with a positive weight");
+        }
+        return weights;
+    }
+}
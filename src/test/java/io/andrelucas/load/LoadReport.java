@@ -0,0 +1,67 @@
+package io.andrelucas.load;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-tool latency percentiles, throughput and error counts of a finished load run.
+ */
+public record LoadReport(LoadProfile profile, Duration elapsed, Map<String, McpLoadGenerator.ToolStats> stats) {
+
+    private static final String ROW = "%-24s %8s %8s %10s %10s %10s %10s %10s %8s%n";
+
+    public long totalCalls() {
+        return stats.values().stream().mapToLong(s -> s.latencies().getTotalCount()).sum();
+    }
+
+    public long totalErrors() {
+        return stats.values().stream().mapToLong(McpLoadGenerator.ToolStats::errors).sum();
+    }
+
+    public String format() {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("sessions=%d offered=%d ops/s warmup=%ss duration=%ss achieved=%.1f ops/s%n",
+            profile.sessions(), profile.ratePerSecond(), profile.warmup().toSeconds(), profile.duration().toSeconds(),
+            totalCalls() / seconds()));
+        report.append(String.format(ROW, "tool", "calls", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms",
+            "max ms", "errors"));
+        new TreeMap<>(stats).forEach((tool, toolStats) -> {
+            final Histogram latencies = toolStats.latencies();
+            report.append(String.format(ROW,
+                tool,
+                latencies.getTotalCount(),
+                String.format("%.1f", latencies.getTotalCount() / seconds()),
+                millis(latencies.getValueAtPercentile(50)),
+                millis(latencies.getValueAtPercentile(90)),
+                millis(latencies.getValueAtPercentile(99)),
+                millis(latencies.getValueAtPercentile(99.9)),
+                millis(latencies.getMaxValue()),
+                toolStats.errors()));
+        });
+        return report.toString();
+    }
+
+    public void writeTo(Path path) {
+        try {
+            Files.createDirectories(path.getParent());
+            Files.writeString(path, format());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private double seconds() {
+        return Math.max(elapsed.toNanos(), 1) / 1e9;
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1e6);
+    }
+}
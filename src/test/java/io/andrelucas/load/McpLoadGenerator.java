@@ -0,0 +1,160 @@
+package io.andrelucas.load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.modelcontextprotocol.client.McpClient;
+import io.modelcontextprotocol.client.McpSyncClient;
+import io.modelcontextprotocol.client.transport.WebFluxSseClientTransport;
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+import io.modelcontextprotocol.spec.McpSchema.CallToolResult;
+
+/**
+ * Open-loop load generator for the MCP SSE endpoint.
+ *
+ * <p>Calls are scheduled at a fixed rate regardless of how fast the server answers and dispatched round-robin to
+ * one worker per session. Latency is measured from the time a call was <em>supposed</em> to start, so a stalled
+ * server shows up as queueing delay in the percentiles instead of silently lowering the offered load
+ * (coordinated omission).
+ */
+public final class McpLoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(McpLoadGenerator.class);
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final LoadProfile profile;
+    private final String baseUrl;
+    private final ToolMix mix;
+    private final Map<String, ToolStats> stats = new ConcurrentHashMap<>();
+    private volatile long recordFrom;
+
+    public McpLoadGenerator(LoadProfile profile, String baseUrl) {
+        this.profile = profile;
+        this.baseUrl = baseUrl;
+        this.mix = new ToolMix(profile.mix());
+        mix.tools().forEach(tool -> stats.put(tool, new ToolStats()));
+    }
+
+    public LoadReport run() throws InterruptedException {
+        final List<McpSyncClient> clients = openSessions();
+        final List<ExecutorService> workers = new ArrayList<>(clients.size());
+        for (int i = 0; i < clients.size(); i++) {
+            final String name = "load-session-" + i;
+            workers.add(Executors.newSingleThreadExecutor(task -> new Thread(task, name)));
+        }
+
+        try {
+            final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / profile.ratePerSecond();
+            final long start = System.nanoTime();
+            recordFrom = start + profile.warmup().toNanos();
+            final long end = recordFrom + profile.duration().toNanos();
+
+            long scheduled = 0;
+            for (long intended = start; intended < end; intended = start + ++scheduled * intervalNanos) {
+                parkUntil(intended);
+                final int session = (int) (scheduled % clients.size());
+                final McpSyncClient client = clients.get(session);
+                final CallToolRequest request = mix.next();
+                final long intendedStart = intended;
+                workers.get(session).execute(() -> call(client, request, intendedStart));
+            }
+
+            for (ExecutorService worker : workers) {
+                worker.shutdown();
+            }
+            for (ExecutorService worker : workers) {
+                worker.awaitTermination(1, TimeUnit.MINUTES);
+            }
+            final Duration elapsed = Duration.ofNanos(System.nanoTime() - recordFrom);
+            return new LoadReport(profile, elapsed, Map.copyOf(stats));
+        } finally {
+            workers.forEach(ExecutorService::shutdownNow);
+            clients.forEach(McpSyncClient::closeGracefully);
+        }
+    }
+
+    private List<McpSyncClient> openSessions() {
+        final List<McpSyncClient> clients = new ArrayList<>(profile.sessions());
+        for (int i = 0; i < profile.sessions(); i++) {
+            final McpSyncClient client = McpClient
+                .sync(new WebFluxSseClientTransport(WebClient.builder().baseUrl(baseUrl)))
+                .requestTimeout(Duration.ofSeconds(30))
+                .initializationTimeout(Duration.ofSeconds(30))
+                .build();
+            client.initialize();
+            clients.add(client);
+        }
+        return clients;
+    }
+
+    private void call(McpSyncClient client, CallToolRequest request, long intendedStart) {
+        final ToolStats toolStats = stats.get(request.name());
+        boolean failed;
+        try {
+            final CallToolResult result = client.callTool(request);
+            failed = Boolean.TRUE.equals(result.isError());
+        } catch (RuntimeException e) {
+            failed = true;
+        }
+        if (intendedStart >= recordFrom) {
+            toolStats.record(System.nanoTime() - intendedStart, failed);
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Latency histogram and error count for one tool.
+     */
+    static final class ToolStats {
+
+        private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, 3);
+        private final LongAdder errors = new LongAdder();
+
+        void record(long latencyNanos, boolean failed) {
+            latencies.recordValue(Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS));
+            if (failed) {
+                errors.increment();
+            }
+        }
+
+        Histogram latencies() {
+            return latencies;
+        }
+
+        long errors() {
+            return errors.sum();
+        }
+    }
+
+    /**
+     * Runs against an already running server, e.g.
+     * {@code java ... io.andrelucas.load.McpLoadGenerator -Dload.target=http://localhost:8080}.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        final LoadProfile profile = LoadProfile.fromSystemProperties();
+        final String target = profile.targetUrl() != null ? profile.targetUrl() : "http://localhost:8080";
+        final LoadReport report = new McpLoadGenerator(profile, target).run();
+        logger.info("Load report\n{}", report.format());
+    }
+}
@@ -0,0 +1,66 @@
+package io.andrelucas.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import io.andrelucas.business.repositories.ResumeDuplicateIndex;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ResumeSemanticIndex;
+import io.andrelucas.integration.AbstractIntegrationTest;
+
+/**
+ * Drives the MCP SSE endpoint with the profile from {@code load.*} system properties and writes the latency
+ * report to {@code target/load-report.txt}. Excluded from the default build; run with {@code ./mvnw test -Pload}.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class McpSseLoadTest extends AbstractIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    private static final Logger logger = LoggerFactory.getLogger(McpSseLoadTest.class);
+
+    @Autowired
+    private ResumeRepository repository;
+
+    @Autowired
+    private ResumeSemanticIndex semanticIndex;
+
+    @Autowired
+    private ResumeDuplicateIndex duplicateIndex;
+
+    private LoadProfile profile;
+
+    @BeforeEach
+    void setUp() {
+        profile = LoadProfile.fromSystemProperties();
+        SyntheticCorpus.seed(repository, semanticIndex, duplicateIndex, profile.corpusSize());
+    }
+
+    @Test
+    void shouldSustainOfferedLoadWhenDrivingToolsOverSse() throws InterruptedException {
+        // Arrange
+        final String target = profile.targetUrl() != null ? profile.targetUrl() : "http://localhost:" + port;
+        final McpLoadGenerator generator = new McpLoadGenerator(profile, target);
+
+        // Act
+        final LoadReport report = generator.run();
+
+        // Assert
+        logger.info("Load report\n{}", report.format());
+        report.writeTo(Path.of("target", "load-report.txt"));
+        assertThat(report.totalCalls()).isPositive();
+        assertThat(report.totalErrors()).isZero();
+    }
+}
@@ -0,0 +1,67 @@
+package io.andrelucas.load;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.andrelucas.business.MinHashSignature;
+import io.andrelucas.business.Resume;
+import io.andrelucas.business.repositories.ResumeDuplicateIndex;
+import io.andrelucas.business.repositories.ResumeRepository;
+import io.andrelucas.business.repositories.ResumeSemanticIndex;
+
+/**
+ * Deterministic-vocabulary corpus so generated queries actually match the seeded resumes.
+ */
+public final class SyntheticCorpus {
+
+    static final List<String> TOPICS = List.of(
+        "Java Programming", "Spring Boot", "MongoDB", "Kafka", "Reactive Streams", "Virtual Threads",
+        "Observability", "Kubernetes", "Testing", "Domain-Driven Design", "Performance", "Career");
+
+    static final List<String> WORDS = List.of(
+        "latency", "throughput", "backpressure", "index", "cache", "query", "thread", "pool", "buffer",
+        "heap", "garbage", "collector", "stream", "event", "partition", "replica", "shard", "aggregate",
+        "repository", "container", "deployment", "metric", "trace", "span", "histogram",
+        "percentile", "benchmark", "allocation", "serialization", "schema", "document", "cursor", "batch");
+
+    private SyntheticCorpus() {
+    }
+
+    /**
+     * Saves {@code size} resumes through the repository, so they land in their partitions with their bodies
+     * offloaded and mirrored as the application would store them, and adds them to the semantic and duplicate
+     * indexes, which were built from the collection before the corpus existed.
+     */
+    public static void seed(ResumeRepository repository, ResumeSemanticIndex semanticIndex,
+                            ResumeDuplicateIndex duplicateIndex, int size) {
+        final LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            final LocalDateTime createdAt = now.minusMinutes(ThreadLocalRandom.current().nextLong(60L * 24 * 90));
+            final Resume saved = repository.save(new Resume(UUID.randomUUID(), topic(), content(150, 400), createdAt, createdAt));
+            semanticIndex.index(saved);
+            duplicateIndex.add(saved.id(), MinHashSignature.of(saved.content()));
+        }
+    }
+
+    static String topic() {
+        return TOPICS.get(ThreadLocalRandom.current().nextInt(TOPICS.size()));
+    }
+
+    static String word() {
+        return WORDS.get(ThreadLocalRandom.current().nextInt(WORDS.size()));
+    }
+
+    static String content(int minWords, int maxWords) {
+        final int words = ThreadLocalRandom.current().nextInt(minWords, maxWords);
+        final StringBuilder content = new StringBuilder(words * 9);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                content.append(i % 12 == 0 ? ". " : " ");
+            }
+            content.append(word());
+        }
+        return content.append('.').toString();
+    }
+}
@@ -0,0 +1,89 @@
+package io.andrelucas.load;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.modelcontextprotocol.spec.McpSchema.CallToolRequest;
+
+/**
+ * Picks tools according to the configured weights and builds plausible arguments for each of them.
+ */
+final class ToolMix {
+
+    private final List<String> tools;
+    private final int[] cumulativeWeights;
+
+    ToolMix(Map<String, Integer> weights) {
+        this.tools = List.copyOf(weights.keySet());
+        this.cumulativeWeights = new int[tools.size()];
+        int total = 0;
+        for (int i = 0; i < tools.size(); i++) {
+            total += weights.get(tools.get(i));
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    List<String> tools() {
+        return tools;
+    }
+
+    CallToolRequest next() {
+        final int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = 0;
+        while (cumulativeWeights[index] <= pick) {
+            index++;
+        }
+        final String tool = tools.get(index);
+        return new CallToolRequest(tool, arguments(tool));
+    }
+
+    private static Map<String, Object> arguments(String tool) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Map<String, Object> arguments = new HashMap<>();
+        switch (tool) {
+            case "createResume" -> {
+                arguments.put("topic", SyntheticCorpus.topic());
+                arguments.put("content", SyntheticCorpus.content(150, 400));
+            }
+            case "getLatestResumes" -> page(arguments, random);
+            case "findResumesByTopic" -> {
+                arguments.put("topic", SyntheticCorpus.topic());
+                page(arguments, random);
+            }
+            case "searchResumesByKeyword" -> {
+                arguments.put("keyword", SyntheticCorpus.word());
+                page(arguments, random);
+            }
+            case "findResumesByDateRange" -> {
+                final LocalDateTime to = LocalDateTime.now().minusDays(random.nextInt(60));
+                arguments.put("fromDate", to.minusDays(7).withNano(0).toString());
+                arguments.put("toDate", to.withNano(0).toString());
+                page(arguments, random);
+            }
+            case "advancedSearch" -> {
+                final LocalDateTime to = LocalDateTime.now().minusDays(random.nextInt(30));
+                arguments.put("topic", random.nextBoolean() ? SyntheticCorpus.topic() : null);
+                arguments.put("fromDate", to.minusDays(30).withNano(0).toString());
+                arguments.put("toDate", to.withNano(0).toString());
+                arguments.put("keyword", SyntheticCorpus.word());
+                arguments.put("sortBy", "createdAt");
+                arguments.put("sortDirection", "DESC");
+                page(arguments, random);
+            }
+            case "semanticSearch" -> {
+                arguments.put("query", SyntheticCorpus.word() + " " + SyntheticCorpus.word());
+                arguments.put("limit", 10);
+            }
+            default -> throw new IllegalArgumentException("No argument generator for tool " + tool);
+        }
+        return arguments;
+    }
+
+    private static void page(Map<String, Object> arguments, ThreadLocalRandom random) {
+        arguments.put("page", random.nextInt(3));
+        arguments.put("size", 20);
+    }
+}
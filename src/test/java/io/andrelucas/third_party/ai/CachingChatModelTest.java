@@ -0,0 +1,153 @@
+package io.andrelucas.third_party.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.metadata.ChatResponseMetadata;
+import org.springframework.ai.chat.metadata.DefaultUsage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.chat.prompt.Prompt;
+
+import io.andrelucas.business.CachedGeneration;
+import io.andrelucas.business.GenerationCacheProperties;
+import io.andrelucas.business.repositories.GenerationCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CachingChatModelTest {
+
+    private ChatModel model;
+    private SimpleMeterRegistry registry;
+    private Map<String, CachedGeneration> persisted;
+    private GenerationCache persistent;
+
+    @BeforeEach
+    void setUp() {
+        model = mock(ChatModel.class);
+        when(model.call(any(Prompt.class))).thenAnswer(invocation -> new ChatResponse(
+            List.of(new Generation(new AssistantMessage("Answer to " + ((Prompt) invocation.getArgument(0)).getContents()))),
+            ChatResponseMetadata.builder().usage(new DefaultUsage(40, 60)).build()));
+        registry = new SimpleMeterRegistry();
+        persisted = new HashMap<>();
+        persistent = new GenerationCache() {
+            @Override
+            public Optional<CachedGeneration> find(String key) {
+                return Optional.ofNullable(persisted.get(key));
+            }
+
+            @Override
+            public void put(String key, CachedGeneration generation) {
+                persisted.put(key, generation);
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should answer a repeated prompt from memory without calling the model")
+    void shouldAnswerRepeatedPromptFromMemory() {
+        // Arrange
+        CachingChatModel cache = cache(1 << 20);
+        String first = cache.call("Write a post about  virtual threads.");
+
+        // Act
+        String second = cache.call(" Write a post about virtual threads.\n");
+
+        // Assert
+        assertThat(second).isEqualTo(first);
+        verify(model, times(1)).call(any(Prompt.class));
+        assertThat(registry.get("generation.cache.requests").tag("tier", "memory").counter().count()).isEqualTo(1);
+        assertThat(registry.get("generation.cache.tokens.saved").counter().count()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should call the model again when the prompt or its options differ")
+    void shouldCallModelWhenPromptOrOptionsDiffer() {
+        // Arrange
+        CachingChatModel cache = cache(1 << 20);
+        cache.call(new Prompt("Write a post about virtual threads.", ChatOptions.builder().temperature(0.2).build()));
+
+        // Act
+        cache.call(new Prompt("Write a post about virtual threads.", ChatOptions.builder().temperature(0.9).build()));
+        cache.call(new Prompt("Write a post about structured concurrency.", ChatOptions.builder().temperature(0.2).build()));
+
+        // Assert
+        verify(model, times(3)).call(any(Prompt.class));
+        assertThat(persisted).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should fall back to the persistent tier once an answer is evicted from memory")
+    void shouldFallBackToPersistentTierOnceEvictedFromMemory() {
+        // Arrange
+        CachingChatModel cache = cache(400);
+        cache.call("Write a post about virtual threads.");
+        cache.call("Write a post about structured concurrency.");
+
+        // Act
+        String answer = cache.call("Write a post about virtual threads.");
+
+        // Assert
+        assertThat(answer).isEqualTo("Answer to Write a post about virtual threads.");
+        verify(model, times(2)).call(any(Prompt.class));
+        assertThat(registry.get("generation.cache.requests").tag("tier", "persistent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should call the model again once the answer in memory is past its ttl")
+    void shouldCallModelAgainWhenMemoryEntryExpired() {
+        // Arrange
+        CachingChatModel cache = new CachingChatModel(model, null,
+            new GenerationCacheProperties(true, 1 << 20, Duration.ZERO), registry);
+        cache.call("Write a post about virtual threads.");
+
+        // Act
+        cache.call("Write a post about virtual threads.");
+
+        // Assert
+        verify(model, times(2)).call(any(Prompt.class));
+        assertThat(registry.find("generation.cache.requests").tag("tier", "memory").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should cache a streamed answer once the stream completes")
+    void shouldCacheStreamedAnswerOnceComplete() {
+        // Arrange
+        CachingChatModel cache = new CachingChatModel(new StubChatModel(2), persistent,
+            new GenerationCacheProperties(true, 1 << 20, Duration.ofDays(7)), registry);
+        Prompt prompt = new Prompt("Write a post about virtual threads.");
+        String streamed = String.join("", cache.stream(prompt)
+            .map(response -> response.getResult().getOutput().getText())
+            .collectList()
+            .block());
+
+        // Act
+        List<ChatResponse> again = cache.stream(prompt).collectList().block();
+
+        // Assert
+        assertThat(again).singleElement()
+            .extracting(response -> response.getResult().getOutput().getText())
+            .isEqualTo(streamed);
+        assertThat(persisted).hasSize(1);
+    }
+
+    private CachingChatModel cache(long memoryMaxBytes) {
+        return new CachingChatModel(model, persistent,
+            new GenerationCacheProperties(true, memoryMaxBytes, Duration.ofDays(7)), registry);
+    }
+}
@@ -0,0 +1,65 @@
+package io.andrelucas.third_party.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashingEmbeddingModelTest {
+
+    private final HashingEmbeddingModel model = new HashingEmbeddingModel(256);
+
+    @Test
+    @DisplayName("Should produce the same vector when embedding the same text twice")
+    void shouldProduceSameVectorWhenEmbeddingSameText() {
+        // Act
+        float[] first = model.embed("Reactive streams and backpressure");
+        float[] second = new HashingEmbeddingModel(256).embed("Reactive streams and backpressure");
+
+        // Assert
+        assertThat(first).containsExactly(second);
+    }
+
+    @Test
+    @DisplayName("Should produce a unit vector when text has words")
+    void shouldProduceUnitVectorWhenTextHasWords() {
+        // Act
+        float[] vector = model.embed("Java virtual threads in Spring Boot");
+
+        // Assert
+        assertThat(vector).hasSize(256);
+        assertThat(dot(vector, vector)).isCloseTo(1.0, within(1e-5));
+    }
+
+    @Test
+    @DisplayName("Should rank related text above unrelated text when comparing embeddings")
+    void shouldRankRelatedTextAboveUnrelatedText() {
+        // Arrange
+        float[] query = model.embed("backpressure in reactive streams");
+        float[] related = model.embed("Handling backpressure when reactive streams overflow their buffers");
+        float[] unrelated = model.embed("A recipe for chocolate cake with strawberries");
+
+        // Act & Assert
+        assertThat(dot(query, related)).isGreaterThan(dot(query, unrelated));
+    }
+
+    @Test
+    @DisplayName("Should produce a zero vector when text is empty")
+    void shouldProduceZeroVectorWhenTextIsEmpty() {
+        // Act
+        float[] vector = model.embed("");
+
+        // Assert
+        assertThat(dot(vector, vector)).isZero();
+        assertThat(model.dimensions()).isEqualTo(256);
+    }
+
+    private static double dot(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
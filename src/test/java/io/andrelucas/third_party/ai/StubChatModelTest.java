@@ -0,0 +1,70 @@
+package io.andrelucas.third_party.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.prompt.Prompt;
+
+class StubChatModelTest {
+
+    @Test
+    @DisplayName("Should answer the same prompt with the same text")
+    void shouldAnswerSamePromptWithSameText() {
+        // Arrange
+        StubChatModel first = new StubChatModel(3);
+        StubChatModel second = new StubChatModel(3);
+
+        // Act
+        String answer = first.call("Write a post about virtual threads.");
+
+        // Assert
+        assertThat(answer)
+            .isEqualTo(second.call("Write a post about virtual threads."))
+            .startsWith("Write a post about virtual threads.")
+            .isNotEqualTo(first.call("Write a post about structured concurrency."));
+        assertThat(answer.split("\n\n")).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("Should generate content through the content generator")
+    void shouldGenerateContentThroughContentGenerator() {
+        // Arrange
+        ChatModelContentGenerator generator = new ChatModelContentGenerator(new StubChatModel(2));
+
+        // Act
+        String content = generator.generate("Backpressure", "Aim it at beginners");
+
+        // Assert
+        assertThat(content).startsWith("Write a post about Backpressure.").contains("Aim it at beginners");
+    }
+
+    @Test
+    @DisplayName("Should stream the same answer a word at a time")
+    void shouldStreamSameAnswerWordByWord() {
+        // Arrange
+        StubChatModel model = new StubChatModel(3);
+
+        // Act
+        List<String> chunks = model.stream(new Prompt("Write a post about virtual threads."))
+            .map(response -> response.getResult().getOutput().getText())
+            .collectList()
+            .block();
+
+        // Assert
+        assertThat(chunks).hasSizeGreaterThan(10);
+        assertThat(String.join("", chunks)).isEqualTo(model.call("Write a post about virtual threads."));
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive paragraph count")
+    void shouldRejectNonPositiveParagraphCount() {
+        // Act & Assert
+        assertThatThrownBy(() -> new StubChatModel(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("paragraphs");
+    }
+}
@@ -0,0 +1,32 @@
+package io.andrelucas.third_party.thumbnail;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.andrelucas.business.TitleCard;
+
+class Java2dTitleCardRendererTest {
+
+    @Test
+    @DisplayName("Should draw a PNG of the card's size even when the headline is too long to fit")
+    void shouldDrawPngOfCardSize() throws Exception {
+        // Arrange
+        Java2dTitleCardRenderer renderer = new Java2dTitleCardRenderer();
+        TitleCard card = new TitleCard("Virtual threads", "Why blocking code scales again ".repeat(20), 600, 315);
+
+        // Act
+        byte[] png = renderer.render(card);
+
+        // Assert
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        assertThat(image.getWidth()).isEqualTo(600);
+        assertThat(image.getHeight()).isEqualTo(315);
+    }
+}